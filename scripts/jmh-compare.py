@@ -0,0 +1,98 @@
+#!/usr/bin/env python3
+"""
+두 JMH JSON 결과(-rf json)를 비교해 성능 회귀를 표시합니다.
+
+    python3 scripts/jmh-compare.py baseline.json candidate.json [--threshold 10]
+
+- 벤치마크는 (이름, @Param 조합)으로 짝지어 비교합니다.
+- thrpt/ops 계열은 점수가 높을수록, avgt/sample/ss는 낮을수록 좋은 것으로 봅니다.
+- 변화율이 임계값(%)보다 나쁘고, 두 결과의 오차 구간(scoreError)이 겹치지 않으면 회귀로 표시합니다.
+- 회귀가 하나라도 있으면 종료 코드 1 (CI에서 사용).
+"""
+import argparse
+import json
+import math
+import sys
+
+HIGHER_IS_BETTER = {"thrpt"}
+
+
+def score_error(metric):
+    # 측정 반복이 적으면 JMH는 오차를 "NaN"으로 기록
+    try:
+        error = float(metric.get("scoreError", 0.0))
+    except (TypeError, ValueError):
+        return 0.0
+    return 0.0 if math.isnan(error) else error
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        results = {}
+        for entry in json.load(f):
+            params = entry.get("params") or {}
+            key = entry["benchmark"] + "".join(f" {k}={v}" for k, v in sorted(params.items()))
+            metric = entry["primaryMetric"]
+            results[key] = {
+                "mode": entry["mode"],
+                "score": float(metric["score"]),
+                "error": score_error(metric),
+                "unit": metric["scoreUnit"],
+            }
+        return results
+
+
+def short_name(key):
+    name, _, params = key.partition(" ")
+    parts = name.split(".")
+    return ".".join(parts[-2:]) + (" " + params if params else "")
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Flag JMH regressions between two JSON result files")
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=10.0, help="regression threshold in percent (default 10)")
+    parser.add_argument("--ignore-error", action="store_true", help="flag regressions even when error bars overlap")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    candidate = load(args.candidate)
+
+    regressions = 0
+    rows = []
+    for key in sorted(baseline.keys() | candidate.keys()):
+        base, cand = baseline.get(key), candidate.get(key)
+        if base is None or cand is None:
+            rows.append((short_name(key), "-", "-", "-", "only in " + ("candidate" if base is None else "baseline")))
+            continue
+        if base["mode"] != cand["mode"] or base["unit"] != cand["unit"]:
+            rows.append((short_name(key), "-", "-", "-", "mode/unit changed"))
+            continue
+
+        higher_better = base["mode"] in HIGHER_IS_BETTER
+        change = (cand["score"] - base["score"]) / base["score"] * 100 if base["score"] else 0.0
+        worse_by = -change if higher_better else change
+        overlap = (abs(cand["score"] - base["score"]) <= base["error"] + cand["error"])
+
+        status = "ok"
+        if worse_by > args.threshold and (args.ignore_error or not overlap):
+            status = "REGRESSION"
+            regressions += 1
+        elif -worse_by > args.threshold and not overlap:
+            status = "improved"
+        rows.append((short_name(key), f"{base['score']:.3f}", f"{cand['score']:.3f}",
+                     f"{change:+.1f}% {base['unit']}", status))
+
+    widths = [max(len(str(r[i])) for r in rows + [("benchmark", "baseline", "candidate", "change", "status")])
+              for i in range(5)]
+    header = ("benchmark", "baseline", "candidate", "change", "status")
+    for row in [header] + rows:
+        print("  ".join(str(v).ljust(w) for v, w in zip(row, widths)))
+
+    print(f"\n{regressions} regression(s) beyond {args.threshold:.0f}%")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
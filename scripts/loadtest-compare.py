@@ -0,0 +1,90 @@
+#!/usr/bin/env python3
+"""
+두 부하 테스트 리포트(target/loadtest/report.json)를 엔드포인트별로 비교합니다.
+
+    python3 scripts/loadtest-compare.py baseline.json candidate.json [--threshold 10]
+
+- 지연 시간(p50/p99/p999)은 낮을수록, 처리량은 높을수록 좋은 것으로 봅니다.
+- p99 또는 처리량이 임계값(%)보다 나빠지거나 오류율이 늘면 회귀로 표시합니다.
+- 의도한 부하 차단(503 + Retry-After, shed)은 오류와 따로 비교하며, 차단 비율이 늘어도 회귀로 봅니다.
+- 두 리포트의 실행 조건(config)이 다르면 먼저 경고합니다.
+- 회귀가 하나라도 있으면 종료 코드 1 (CI에서 사용).
+"""
+import argparse
+import json
+import sys
+
+LATENCY_KEYS = ("p50", "p99", "p999")
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        return json.load(f)
+
+
+def change(base, cand):
+    return (cand - base) / base * 100 if base else 0.0
+
+
+def error_rate(entry):
+    return entry["errors"] / entry["requests"] if entry["requests"] else 0.0
+
+
+def shed_rate(entry):
+    # shed가 없는 이전 리포트는 0으로 봄
+    return entry.get("shed", 0) / entry["requests"] if entry["requests"] else 0.0
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Flag load test regressions between two report.json files")
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=10.0, help="regression threshold in percent (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    candidate = load(args.candidate)
+
+    for key in sorted(baseline["config"].keys() | candidate["config"].keys()):
+        if key == "duration" or baseline["config"].get(key) == candidate["config"].get(key):
+            continue
+        print(f"warning: config {key} differs: {baseline['config'].get(key)} -> {candidate['config'].get(key)}")
+
+    base_endpoints = dict(baseline["endpoints"], total=baseline["total"])
+    cand_endpoints = dict(candidate["endpoints"], total=candidate["total"])
+
+    regressions = 0
+    header = ("endpoint", "req/s", *LATENCY_KEYS, "errors", "shed", "status")
+    rows = []
+    for name in list(base_endpoints) + [n for n in cand_endpoints if n not in base_endpoints]:
+        base, cand = base_endpoints.get(name), cand_endpoints.get(name)
+        if base is None or cand is None:
+            rows.append((name, "-", "-", "-", "-", "-", "-", "only in " + ("candidate" if base is None else "baseline")))
+            continue
+
+        throughput = change(base["throughputPerSecond"], cand["throughputPerSecond"])
+        latencies = [change(base["latencyMs"][k], cand["latencyMs"][k]) for k in LATENCY_KEYS]
+        base_errors, cand_errors = error_rate(base), error_rate(cand)
+        base_shed, cand_shed = shed_rate(base), shed_rate(cand)
+
+        status = "ok"
+        if latencies[1] > args.threshold or -throughput > args.threshold or cand_errors > base_errors \
+                or cand_shed > base_shed:
+            status = "REGRESSION"
+            regressions += 1
+        elif -latencies[1] > args.threshold:
+            status = "improved"
+        rows.append((name, f"{throughput:+.1f}%",
+                     *(f"{cand['latencyMs'][k]:.2f}ms ({c:+.1f}%)" for k, c in zip(LATENCY_KEYS, latencies)),
+                     f"{base_errors:.2%} -> {cand_errors:.2%}", f"{base_shed:.2%} -> {cand_shed:.2%}", status))
+
+    widths = [max(len(str(r[i])) for r in rows + [header]) for i in range(len(header))]
+    for row in [header] + rows:
+        print("  ".join(str(v).ljust(w) for v, w in zip(row, widths)))
+
+    print(f"\n{regressions} regression(s) beyond {args.threshold:.0f}%")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
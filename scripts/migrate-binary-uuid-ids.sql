@@ -0,0 +1,84 @@
+-- 기존 MySQL(8.0.13+) 데이터의 상품/변형/사용자 id를 VARCHAR(36) 문자열에서 BINARY(16)으로 바꿉니다.
+-- ddl-auto=create-drop이 아닌 DB(update/validate/none)에서 새 버전을 띄우기 전에 한 번 실행합니다.
+--
+-- - 기존 id(UUIDv4 문자열)는 같은 UUID의 16바이트로 그대로 옮김 (API에 보이는 id 문자열은 바뀌지 않음, 북마크/외부 참조 유지)
+-- - UUID_TO_BIN(id)는 swap 플래그 없이 표준 바이트 순서로 변환 (앱의 Uuids.toBytes와 같은 순서)
+-- - 새로 생기는 id만 시간순 UUIDv7이므로, 기존 행은 인덱스에 흩어진 채로 남고 새 행부터 오른쪽 끝에 붙음
+-- - 컬럼을 VARBINARY(36)로 바꿔 내용을 변환한 뒤 BINARY(16)으로 줄이므로 PK/유니크/보조 인덱스는 그대로 유지됨
+-- - 상품을 참조하는 외래 키는 타입이 맞아야 하므로 먼저 지우고 마지막에 이름을 붙여 다시 만듦
+--
+-- 실행: mysql -u root -p stepby_db < scripts/migrate-binary-uuid-ids.sql
+-- DDL은 문마다 자동 커밋되고 테이블마다 복사 방식 ALTER가 돌기 때문에, 백업 후 점검 시간에 실행합니다.
+
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS drop_foreign_keys_to //
+CREATE PROCEDURE drop_foreign_keys_to(IN referenced VARCHAR(64))
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE child VARCHAR(64);
+    DECLARE fk VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT table_name, constraint_name FROM information_schema.referential_constraints
+        WHERE constraint_schema = DATABASE() AND referenced_table_name = referenced;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO child, fk;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE `', child, '` DROP FOREIGN KEY `', fk, '`');
+        PREPARE statement FROM @ddl;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END LOOP;
+    CLOSE fks;
+END //
+
+DROP PROCEDURE IF EXISTS uuid_column_to_binary //
+CREATE PROCEDURE uuid_column_to_binary(IN target VARCHAR(64), IN col VARCHAR(64))
+BEGIN
+    SET @ddl = CONCAT('ALTER TABLE `', target, '` MODIFY `', col, '` VARBINARY(36) NOT NULL');
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+
+    SET @dml = CONCAT('UPDATE `', target, '` SET `', col, '` = UUID_TO_BIN(`', col, '`) WHERE LENGTH(`', col, '`) = 36');
+    PREPARE statement FROM @dml;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+
+    SET @ddl = CONCAT('ALTER TABLE `', target, '` MODIFY `', col, '` BINARY(16) NOT NULL');
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+END //
+
+DELIMITER ;
+
+CALL drop_foreign_keys_to('products');
+
+CALL uuid_column_to_binary('products', 'id');
+CALL uuid_column_to_binary('product_variants', 'id');
+CALL uuid_column_to_binary('product_variants', 'product_id');
+CALL uuid_column_to_binary('product_image_urls', 'product_id');
+CALL uuid_column_to_binary('product_materials', 'product_id');
+CALL uuid_column_to_binary('product_colors', 'product_id');
+CALL uuid_column_to_binary('product_available_sizes', 'product_id');
+CALL uuid_column_to_binary('users', 'id');
+
+ALTER TABLE product_variants ADD CONSTRAINT fk_product_variants_product FOREIGN KEY (product_id) REFERENCES products (id);
+ALTER TABLE product_image_urls ADD CONSTRAINT fk_product_image_urls_product FOREIGN KEY (product_id) REFERENCES products (id);
+ALTER TABLE product_materials ADD CONSTRAINT fk_product_materials_product FOREIGN KEY (product_id) REFERENCES products (id);
+ALTER TABLE product_colors ADD CONSTRAINT fk_product_colors_product FOREIGN KEY (product_id) REFERENCES products (id);
+ALTER TABLE product_available_sizes ADD CONSTRAINT fk_product_available_sizes_product FOREIGN KEY (product_id) REFERENCES products (id);
+
+DROP PROCEDURE drop_foreign_keys_to;
+DROP PROCEDURE uuid_column_to_binary;
+
+-- 확인: 모두 16이어야 함
+SELECT 'products' AS table_name, MIN(LENGTH(id)), MAX(LENGTH(id)) FROM products
+UNION ALL SELECT 'product_variants', MIN(LENGTH(product_id)), MAX(LENGTH(product_id)) FROM product_variants
+UNION ALL SELECT 'users', MIN(LENGTH(id)), MAX(LENGTH(id)) FROM users;
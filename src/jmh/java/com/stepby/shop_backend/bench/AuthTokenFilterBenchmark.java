@@ -0,0 +1,95 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.security.AuthTokenFilter;
+import com.stepby.shop_backend.service.cache.UserSecurityVersionCache;
+import com.stepby.shop_backend.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청마다 실행되는 AuthTokenFilter 경로 (헤더 파싱 parseJwt → 토큰 검증 → 클레임으로 인증 객체 구성).
+ * - withToken: 같은 토큰 반복 (검증 토큰 캐시 적중, 실제 사용자 요청과 같은 형태)
+ * - anonymous: Authorization 헤더 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthTokenFilterBenchmark {
+
+    private static final String SECRET = "YourSuperSecretKeyThatIsAtLeast32BytesLongAndBase64EncodedForProductionEnvironment";
+
+    // doFilterInternal(protected)을 직접 호출해 OncePerRequestFilter의 요청 속성 처리를 제외
+    static final class ExposedFilter extends AuthTokenFilter {
+        ExposedFilter(JwtUtil jwtUtil, UserSecurityVersionCache cache, AuditLog auditLog) {
+            super(jwtUtil, cache, auditLog);
+        }
+
+        void run(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            doFilterInternal(request, response, chain);
+        }
+    }
+
+    private ExposedFilter filter;
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000, 10_000);
+        // 보안 버전 조회는 사용자당 한 번만 일어나므로 고정 값을 돌려주는 리포지토리로 대체
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) ->
+                        method.getName().equals("findSecurityVersionById") ? Optional.of(0) : null);
+        // 측정 대상 요청은 모두 유효한 토큰이거나 토큰이 없으므로 감사 기록은 끈 채로 둠
+        AuditLog auditLog = new AuditLog(false, "audit", DataSize.ofMegabytes(1), Duration.ofHours(24), 1024,
+                Duration.ofSeconds(1));
+        filter = new ExposedFilter(jwtUtil, new UserSecurityVersionCache(repository, 1_000, Duration.ofHours(1)),
+                auditLog);
+
+        User user = new User();
+        user.setId("bench-user");
+        user.setEmail("bench@stepby.com");
+        user.setPassword("{noop}unused");
+
+        authenticated = new MockHttpServletRequest("GET", "/api/user/me");
+        authenticated.addHeader("Authorization", "Bearer " + jwtUtil.generateJwtToken(user));
+        anonymous = new MockHttpServletRequest("GET", "/api/products");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void withToken(Blackhole bh) throws Exception {
+        filter.run(authenticated, response, chain);
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void anonymous(Blackhole bh) throws Exception {
+        filter.run(anonymous, response, chain);
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
@@ -0,0 +1,67 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.SeedProduct;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 카탈로그. 시드 생성기(CatalogGenerator)를 고정 시드로 사용해 실행 간 입력이 같도록 합니다.
+ */
+final class BenchmarkCatalog {
+
+    static final long SEED = 42;
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private BenchmarkCatalog() {
+    }
+
+    static List<SeedProduct> products(int size) {
+        CatalogGenerator generator = new CatalogGenerator(SEED, BASE_TIME);
+        List<SeedProduct> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(generator.product(i));
+        }
+        return products;
+    }
+
+    static List<ProductResponseDto> summaries(int size) {
+        return products(size).stream().map(BenchmarkCatalog::summary).toList();
+    }
+
+    static ProductResponseDto summary(SeedProduct p) {
+        return new ProductResponseDto(p.id(), p.name(), p.brand(), p.price(), p.discountPrice(), p.category(), p.gender(),
+                p.description(), p.mainImageUrl(), p.averageRating(), p.reviewCount(), p.bestSeller(), p.newArrival(),
+                p.kids(), p.createdAt());
+    }
+
+    // 컬렉션까지 채운 (영속성 컨텍스트 밖의) 엔티티
+    static Product entity(SeedProduct p) {
+        Product product = new Product();
+        product.setId(p.id());
+        product.setName(p.name());
+        product.setBrand(p.brand());
+        product.setPrice(p.price());
+        product.setDiscountPrice(p.discountPrice());
+        product.setDetails(p.details());
+        product.setCategory(p.category());
+        product.setGender(p.gender());
+        product.setDescription(p.description());
+        product.setMainImageUrl(p.mainImageUrl());
+        product.setImageUrls(new ArrayList<>(p.imageUrls()));
+        product.setMaterials(new ArrayList<>(p.materials()));
+        product.setColors(new ArrayList<>(p.colors()));
+        product.setAvailableSizes(new ArrayList<>(p.availableSizes()));
+        product.setAverageRating(p.averageRating());
+        product.setReviewCount(p.reviewCount());
+        product.setBestSeller(p.bestSeller());
+        product.setNewArrival(p.newArrival());
+        product.setKids(p.kids());
+        product.setCreatedAt(p.createdAt());
+        return product;
+    }
+}
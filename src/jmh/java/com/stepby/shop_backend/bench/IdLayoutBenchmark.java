@@ -0,0 +1,132 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 변형 테이블 모양(PK + 상품 FK 보조 인덱스)에서 id 저장 형식별 INSERT 처리량과 인덱스 크기.
+ * - VARCHAR36_V4: 기존 형식, 무작위 UUIDv4 문자열 36바이트 (새 행이 B-트리 전체에 흩어져 페이지 분할)
+ * - BINARY16_V7: 시간순 UUIDv7을 BINARY(16)으로 (새 행이 항상 인덱스 오른쪽 끝에 붙음)
+ * 점수는 초당 행 수, 크기는 Trial 종료 시 출력합니다.
+ * 기본은 target 아래 H2 파일 DB이고, 실제 InnoDB 수치는 -p jdbcUrl=jdbc:mysql://...?user=..&password=.. 로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdLayoutBenchmark {
+
+    private static final int BATCH = 100;
+    private static final int VARIANTS_PER_PRODUCT = 5;
+
+    public enum Layout {
+        VARCHAR36_V4("varchar(36)"),
+        BINARY16_V7("binary(16)");
+
+        private final String columnType;
+
+        Layout(String columnType) {
+            this.columnType = columnType;
+        }
+    }
+
+    @Param({"VARCHAR36_V4", "BINARY16_V7"})
+    public Layout layout;
+
+    @Param({"200000"})
+    public int initialRows;
+
+    @Param({""})
+    public String jdbcUrl;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Object productId;
+    private long rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = jdbcUrl.isEmpty() ? "jdbc:h2:./target/id-layout-bench/" + layout.name().toLowerCase() : jdbcUrl;
+        connection = DriverManager.getConnection(url);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists id_layout_bench");
+            ddl.execute("create table id_layout_bench (id " + layout.columnType + " not null primary key, "
+                    + "product_id " + layout.columnType + " not null, color varchar(255) not null, "
+                    + "size integer not null, stock_quantity integer not null)");
+            ddl.execute("create index idx_id_layout_bench_product on id_layout_bench (product_id)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("insert into id_layout_bench values (?, ?, '블랙', 260, 10)");
+        for (int i = 0; i < initialRows; i += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        long bytes = sizeInBytes();
+        System.out.printf("%n%s: %,d rows, table + indexes %,d bytes (%.1f bytes/row)%n", layout, rows, bytes,
+                (double) bytes / rows);
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("drop table id_layout_bench");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * 100행 배치 하나를 한 트랜잭션으로 (카탈로그 가져오기/가입 일괄 처리와 같은 모양).
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            if (rows % VARIANTS_PER_PRODUCT == 0) {
+                productId = newId();
+            }
+            insert.setObject(1, newId());
+            insert.setObject(2, productId);
+            insert.addBatch();
+            rows++;
+        }
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+
+    // 앱과 같은 경로: 문자열 id를 만들고 BINARY 형식은 저장할 때 16바이트로 변환
+    private Object newId() {
+        return layout == Layout.VARCHAR36_V4
+                ? UUID.randomUUID().toString()
+                : Uuids.toBytes(Uuids.timeOrdered().toString());
+    }
+
+    private long sizeInBytes() throws SQLException {
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        try (Statement statement = connection.createStatement()) {
+            if (mysql) {
+                // 통계를 갱신한 뒤 인덱스별 페이지 수 × 페이지 크기 (PRIMARY = 클러스터드 인덱스 = 테이블)
+                statement.execute("analyze table id_layout_bench");
+                try (ResultSet rs = statement.executeQuery("select sum(stat_value) * @@innodb_page_size "
+                        + "from mysql.innodb_index_stats where database_name = database() "
+                        + "and table_name = 'id_layout_bench' and stat_name = 'size'")) {
+                    return rs.next() ? rs.getLong(1) : -1;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("call disk_space_used('ID_LAYOUT_BENCH')")) {
+                return rs.next() ? rs.getLong(1) : -1;
+            }
+        }
+    }
+}
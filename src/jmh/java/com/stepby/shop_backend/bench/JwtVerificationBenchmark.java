@@ -0,0 +1,83 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthTokenFilter의 요청당 JWT 처리 비용 비교 (단일 스레드 = 코어당 처리량).
+ * - legacyValidateThenParse: 기존 방식. 요청마다 파서를 두 번 만들고 서명을 두 번 검증
+ * - singlePassVerify: 재사용 파서로 한 번만 검증 (JwtUtil 캐시 미스 경로와 동일)
+ * - cachedVerify: 같은 토큰 반복 요청 (검증 토큰 캐시 적중 경로)
+ * - generateToken: 로그인 시 토큰 발급 (JwtUtil.generateJwtToken)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YourSuperSecretKeyThatIsAtLeast32BytesLongAndBase64EncodedForProductionEnvironment";
+
+    private SecretKey key;
+    private JwtParser sharedParser;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        sharedParser = Jwts.parser().verifyWith(key).build();
+        cachedJwtUtil = new JwtUtil(SECRET, 3_600_000, 10_000);
+        Date now = new Date();
+        token = Jwts.builder()
+                .subject("benchmark-user@stepby.com")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000))
+                .signWith(key)
+                .compact();
+        cachedJwtUtil.verifyJwtToken(token);
+
+        user = new User();
+        user.setId("benchmark-user");
+        user.setEmail("benchmark-user@stepby.com");
+        user.setPassword("{noop}unused");
+    }
+
+    @Benchmark
+    public void legacyValidateThenParse(Blackhole bh) {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        bh.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Benchmark
+    public void singlePassVerify(Blackhole bh) {
+        Claims claims = sharedParser.parseSignedClaims(token).getPayload();
+        bh.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public void cachedVerify(Blackhole bh) {
+        Claims claims = cachedJwtUtil.verifyJwtToken(token);
+        bh.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtUtil.generateJwtToken(user);
+    }
+}
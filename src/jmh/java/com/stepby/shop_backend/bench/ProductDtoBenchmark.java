@@ -0,0 +1,50 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.service.seed.SeedProduct;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 DTO 생성 비용: 엔티티 → DTO 변환(ProductResponseDto.fromEntity, 기존 ProductService.convertToDto와 같은 빌더 경로)
+ * vs JPQL 생성자 프로젝션이 호출하는 전체 인자 생성자.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductDtoBenchmark {
+
+    private static final int SIZE = 100;
+
+    private List<SeedProduct> rows;
+    private List<Product> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = BenchmarkCatalog.products(SIZE);
+        entities = rows.stream().map(BenchmarkCatalog::entity).toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fromEntity(Blackhole bh) {
+        for (Product product : entities) {
+            bh.consume(ProductResponseDto.fromEntity(product));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void projectionConstructor(Blackhole bh) {
+        for (SeedProduct row : rows) {
+            bh.consume(BenchmarkCatalog.summary(row));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.dto.product.ProductFacetResponse;
+import com.stepby.shop_backend.repository.ProductFacetRepository.ProductFacetRow;
+import com.stepby.shop_backend.service.facet.Facet;
+import com.stepby.shop_backend.service.facet.FacetQuery;
+import com.stepby.shop_backend.service.facet.ProductFacetIndex;
+import com.stepby.shop_backend.service.seed.SeedProduct;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 패싯 필터 한 번(교집합 + 전체 패싯 개수 + 상위 20개)의 지연 시간.
+ * - none: 필터 없음 (전체 개수만 셈)
+ * - category: 카테고리 하나
+ * - combined: 카테고리 2개 + 색상 + 사이즈 + 가격 범위 (가격대 경계에 걸치는 범위)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductFacetBenchmark {
+
+    private static final int[] PRICE_BANDS = {50_000, 100_000, 150_000, 200_000};
+
+    @Param({"10000", "100000"})
+    public int catalogSize;
+
+    private ProductFacetIndex index;
+    private FacetQuery none;
+    private FacetQuery category;
+    private FacetQuery combined;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductFacetIndex(PRICE_BANDS);
+        for (SeedProduct p : BenchmarkCatalog.products(catalogSize)) {
+            index.upsert(new ProductFacetRow(BenchmarkCatalog.summary(p), p.effectivePrice(), p.colors(),
+                    p.availableSizes(), p.variants().stream().anyMatch(v -> v.stockQuantity() > 0)));
+        }
+        index.optimize();
+        none = FacetQuery.of(Map.of(), null, null);
+        category = FacetQuery.of(Map.of(Facet.CATEGORY, List.of("running")), null, null);
+        combined = FacetQuery.of(Map.of(
+                Facet.CATEGORY, List.of("running", "sneakers"),
+                Facet.COLOR, List.of("블랙"),
+                Facet.SIZE, List.of("260")), 70_000, 160_000);
+    }
+
+    @Benchmark
+    public ProductFacetResponse none() {
+        return index.query(none, 20);
+    }
+
+    @Benchmark
+    public ProductFacetResponse category() {
+        return index.query(category, 20);
+    }
+
+    @Benchmark
+    public ProductFacetResponse combined() {
+        return index.query(combined, 20);
+    }
+}
@@ -0,0 +1,38 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 직렬화 비용 (ProductResponseDto 리스트 → JSON 바이트). 한 페이지/베스트셀러/검색 최대 크기 수준.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductJsonBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<ProductResponseDto> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = JsonMapper.builder().build().writerFor(List.class);
+        products = BenchmarkCatalog.summaries(size);
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return writer.writeValueAsBytes(products);
+    }
+}
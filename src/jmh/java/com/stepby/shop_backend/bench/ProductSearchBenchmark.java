@@ -0,0 +1,151 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.service.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 n-gram 인덱스 vs 기존 리포지토리 검색 쿼리
+ * (findByNameContainingIgnoreCaseOrBrandContainingIgnoreCase → lower(..) like '%q%' 두 개) 비교.
+ * 리포지토리 쪽은 H2 인메모리 DB에 같은 카탈로그를 넣고 Hibernate가 생성하는 것과 같은 SQL을 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ProductSearchBenchmark {
+
+    private static final String[] BRANDS = {"스텝바이브랜드", "SOBOOM 슈즈", "워커월드", "스피드런", "스텝바이키즈", "나이키", "아디다스"};
+    private static final String[] CATEGORIES = {"sneakers", "sports", "shoes", "sandles", "boots"};
+    private static final String[] MODELS = {"에어", "러너", "클래식", "트레일", "컴포트", "워커", "스피드", "Air Max", "Boost", "Ultra"};
+    private static final String[] QUERIES = {"러너", "air", "스텝바이", "트레일 1", "나ㅇ", "boots"};
+
+    private static final String LIKE_SQL = "select p.id, p.name, p.brand, p.price, p.discount_price, p.category, p.gender, "
+            + "p.description, p.main_image_url, p.average_rating, p.review_count, p.is_best_seller, p.is_new_arrival, p.is_kids "
+            + "from products p where lower(p.name) like ? escape '\\' or lower(p.brand) like ? escape '\\'";
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private ProductSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+    private int queryCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<ProductResponseDto> catalog = generateCatalog(catalogSize);
+
+        index = new ProductSearchIndex();
+        catalog.forEach(index::upsert);
+        index.trimToSize();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-bench-" + catalogSize + ";DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create table products (id varchar(255) primary key, name varchar(100) not null, "
+                    + "brand varchar(50) not null, price integer not null, discount_price integer, category varchar(255) not null, "
+                    + "gender varchar(20) not null, description clob not null, main_image_url varchar(255) not null, "
+                    + "average_rating double not null, review_count integer not null, is_best_seller boolean not null, "
+                    + "is_new_arrival boolean not null, is_kids boolean not null)");
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into products values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (ProductResponseDto p : catalog) {
+                insert.setString(1, p.getId());
+                insert.setString(2, p.getName());
+                insert.setString(3, p.getBrand());
+                insert.setInt(4, p.getPrice());
+                insert.setObject(5, p.getDiscountPrice());
+                insert.setString(6, p.getCategory());
+                insert.setString(7, p.getGender());
+                insert.setString(8, p.getDescription());
+                insert.setString(9, p.getMainImageUrl());
+                insert.setDouble(10, p.getAverageRating());
+                insert.setInt(11, p.getReviewCount());
+                insert.setBoolean(12, p.isBestSeller());
+                insert.setBoolean(13, p.isNewArrival());
+                insert.setBoolean(14, p.isKids());
+                insert.addBatch();
+                if (++pending % 5000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        likeQuery = connection.prepareStatement(LIKE_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void ngramIndex(Blackhole bh) {
+        bh.consume(index.search(nextQuery(), 100));
+    }
+
+    @Benchmark
+    public void repositoryLikeQuery(Blackhole bh) throws SQLException {
+        String pattern = "%" + nextQuery().toLowerCase() + "%";
+        likeQuery.setString(1, pattern);
+        likeQuery.setString(2, pattern);
+        List<ProductResponseDto> results = new ArrayList<>();
+        try (ResultSet rs = likeQuery.executeQuery()) {
+            while (rs.next()) {
+                results.add(new ProductResponseDto(rs.getString(1), rs.getString(2), rs.getString(3), rs.getInt(4),
+                        (Integer) rs.getObject(5), rs.getString(6), rs.getString(7), rs.getString(8), rs.getString(9),
+                        rs.getDouble(10), rs.getInt(11), rs.getBoolean(12), rs.getBoolean(13), rs.getBoolean(14), null));
+            }
+        }
+        bh.consume(results);
+    }
+
+    private String nextQuery() {
+        return QUERIES[(queryCursor++ & Integer.MAX_VALUE) % QUERIES.length];
+    }
+
+    static List<ProductResponseDto> generateCatalog(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<ProductResponseDto> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            int price = random.nextInt(100) * 1000 + 50000;
+            catalog.add(ProductResponseDto.builder()
+                    .id(String.format("%08d-bench", i))
+                    .name(MODELS[random.nextInt(MODELS.length)] + " " + (i % 500) + " StepBy " + (i + 1) + "번 제품")
+                    .brand(brand)
+                    .price(price)
+                    .discountPrice(random.nextBoolean() ? price * 8 / 10 : null)
+                    .category(category)
+                    .gender("공용")
+                    .description("최고급 소재로 제작된 " + brand + "의 " + category + "입니다. 착화감이 뛰어나며 스타일을 완성해줍니다.")
+                    .mainImageUrl("https://cdn.example.com/" + i + ".jpg")
+                    .averageRating(1 + random.nextInt(40) / 10.0)
+                    .reviewCount(random.nextInt(200))
+                    .build());
+        }
+        return catalog;
+    }
+}
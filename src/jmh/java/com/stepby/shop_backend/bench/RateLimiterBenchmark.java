@@ -0,0 +1,68 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 RateLimitFilter가 더하는 시간 (규칙 비교 + 버킷 조회 + CAS).
+ * - allowed: 한도 안의 요청 (버킷이 모자라지 않을 만큼 큰 한도), 스레드 8개가 각자 다른 IP
+ * - sharedBucket: 스레드 8개가 같은 IP (한 AtomicLong에 CAS 경합)
+ * - unmatched: 규칙이 없는 경로 (규칙 비교만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private RateLimiter rateLimiter;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        MockHttpServletRequest own;
+        MockHttpServletRequest shared;
+        MockHttpServletRequest unmatched;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            own = new MockHttpServletRequest("GET", "/api/products/search");
+            own.setRemoteAddr("10.0.0." + Thread.currentThread().threadId() % 250);
+            shared = new MockHttpServletRequest("GET", "/api/products/search");
+            shared.setRemoteAddr("10.9.9.9");
+            unmatched = new MockHttpServletRequest("GET", "/api/user/me");
+            unmatched.setRemoteAddr("10.9.9.9");
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = new RateLimiter(true, new String[]{
+                "POST /api/auth/login=1000000000/1s",
+                "/api/auth/**=1000000000/1s",
+                "GET /api/products/search=1000000000/1s",
+                "/api/products/**=1000000000/1s"
+        }, "", 100_000, Duration.ZERO);
+    }
+
+    @Benchmark
+    public long allowed(Requests requests) {
+        return rateLimiter.acquire(requests.own);
+    }
+
+    @Benchmark
+    public long sharedBucket(Requests requests) {
+        return rateLimiter.acquire(requests.shared);
+    }
+
+    @Benchmark
+    public long unmatched(Requests requests) {
+        return rateLimiter.acquire(requests.unmatched);
+    }
+}
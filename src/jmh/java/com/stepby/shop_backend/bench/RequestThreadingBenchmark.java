@@ -0,0 +1,118 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.datasource.AdmissionControlDataSource;
+import com.stepby.shop_backend.datasource.DatabaseAdmissionGate;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 클라이언트 clients명이 한꺼번에 보낸 요청을 모두 처리하는 데 걸리는 시간.
+ * 요청 하나 = DB 밖 블로킹(ioMillis, 요청 본문 읽기/응답 쓰기/외부 호출) + 커넥션을 잡고 쿼리(dbMillis 동안 보유).
+ * <p>
+ * - platform: Tomcat 기본값과 같은 200개 고정 스레드 풀 (스레드 수가 동시 처리 상한)
+ * - virtual: 요청당 가상 스레드, 커넥션 대기는 Hikari에 맡김
+ * - virtualGated: 요청당 가상 스레드 + DatabaseAdmissionGate (풀 크기만큼 FIFO 입장)
+ * <p>
+ * DB(Hikari 풀 poolSize개, H2)는 세 경우 모두 같으므로, 차이는 DB 밖 대기 중에 스레드가 묶이는지에서 나옵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RequestThreadingBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"1000", "10000"})
+    public int clients;
+
+    @Param({"50"})
+    public int ioMillis;
+
+    @Param({"1"})
+    public int dbMillis;
+
+    @Param({"10"})
+    public int poolSize;
+
+    private HikariDataSource hikari;
+    private DataSource gated;
+    private ExecutorService platformPool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:mem:threading-bench;DB_CLOSE_DELAY=-1");
+        hikari.setMaximumPoolSize(poolSize);
+        hikari.setMinimumIdle(poolSize);
+        hikari.setConnectionTimeout(60_000);
+        try (Connection connection = hikari.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists request_rows (id int primary key, val varchar(64))");
+            statement.execute("merge into request_rows values (1, 'row')");
+        }
+        gated = new AdmissionControlDataSource(hikari,
+                new DatabaseAdmissionGate(true, poolSize, poolSize, Duration.ofSeconds(60), 1));
+        platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+        hikari.close();
+    }
+
+    @Benchmark
+    public int platform() throws Exception {
+        return burst(platformPool, hikari);
+    }
+
+    @Benchmark
+    public int virtual() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return burst(executor, hikari);
+        }
+    }
+
+    @Benchmark
+    public int virtualGated() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return burst(executor, gated);
+        }
+    }
+
+    private int burst(ExecutorService executor, DataSource dataSource) throws Exception {
+        List<Future<Integer>> requests = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            requests.add(executor.submit(() -> request(dataSource)));
+        }
+        int served = 0;
+        for (Future<Integer> request : requests) {
+            served += request.get();
+        }
+        return served;
+    }
+
+    private int request(DataSource dataSource) throws SQLException, InterruptedException {
+        Thread.sleep(ioMillis);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select val from request_rows where id = 1")) {
+            Thread.sleep(dbMillis);
+            return rows.next() ? 1 : 0;
+        }
+    }
+}
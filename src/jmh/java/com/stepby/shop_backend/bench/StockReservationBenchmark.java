@@ -0,0 +1,79 @@
+package com.stepby.shop_backend.bench;
+
+import com.stepby.shop_backend.repository.StockRepository;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import com.stepby.shop_backend.service.stock.StockReservation;
+import com.stepby.shop_backend.util.Uuids;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 SKU에 동시 요청이 몰릴 때 초당 처리 가능한 판매(보류+확정) 수.
+ * - rowLock: 트랜잭션마다 select ... for update 후 update (행 잠금으로 직렬화)
+ * - ledger: StockLedger 메모리 CAS + 확정분 쓰기 지연 (같은 H2 DB에 200ms마다 반영)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class StockReservationBenchmark {
+
+    private static final String VARIANT_ID = Uuids.timeOrdered().toString();
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StockLedger ledger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:stock-bench;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        dataSource.setMaximumPoolSize(16);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table product_variants (id binary(16) primary key, "
+                + "product_id binary(16) not null, color varchar(255) not null, size integer not null, "
+                + "stock_quantity integer not null)");
+        jdbcTemplate.update("insert into product_variants values (?, ?, '블랙', 260, 1000000000)",
+                Uuids.toBytes(VARIANT_ID), Uuids.toBytes(Uuids.timeOrdered().toString()));
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ledger = new StockLedger(new StockRepository(jdbcTemplate), transactionTemplate, event -> {
+        }, Duration.ofMinutes(10), 10, Duration.ofMillis(200), 500, Duration.ofMinutes(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ledger.shutdown();
+        jdbcTemplate.execute("drop all objects");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int rowLock() {
+        return transactionTemplate.execute(status -> {
+            int stock = jdbcTemplate.queryForObject(
+                    "select stock_quantity from product_variants where id = ? for update", Integer.class,
+                    Uuids.toBytes(VARIANT_ID));
+            if (stock < 1) {
+                return 0;
+            }
+            return jdbcTemplate.update("update product_variants set stock_quantity = ? where id = ?", stock - 1,
+                    Uuids.toBytes(VARIANT_ID));
+        });
+    }
+
+    @Benchmark
+    public StockReservation ledger() {
+        StockReservation reservation = ledger.reserve(VARIANT_ID, "buyer", 1);
+        return ledger.commit(reservation.id(), "buyer");
+    }
+}
@@ -0,0 +1,30 @@
+package com.stepby.shop_backend.loadtest;
+
+import java.util.Locale;
+
+// 부하 테스트가 호출하는 엔드포인트. 믹스 설정(loadtest.mix)에서는 소문자 이름을 사용
+public enum Endpoint {
+    LIST("GET /api/products"),
+    DETAIL("GET /api/products/{id}"),
+    SEARCH("GET /api/products/search"),
+    LOGIN("POST /api/auth/login"),
+    ME("GET /api/user/me");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Endpoint from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + value);
+        }
+    }
+}
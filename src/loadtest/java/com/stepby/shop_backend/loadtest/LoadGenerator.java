@@ -0,0 +1,112 @@
+package com.stepby.shop_backend.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 믹스를 OPEN 또는 CLOSED 모델로 실행합니다. 요청 하나당 가상 스레드 하나를 사용합니다.
+ * <p>
+ * OPEN: 요청마다 "보냈어야 하는 시각"을 고정 간격으로 정하고, 지연 시간을 그 시각부터 잽니다.
+ * 서버가 느려져 발송이 밀려도 대기한 시간까지 포함되므로 coordinated omission이 생기지 않습니다.
+ * <p>
+ * CLOSED: 가상 사용자가 응답을 받은 뒤(think time 후) 다음 요청을 보냅니다. 처리량은 서버 속도에 따라
+ * 정해지고, 지연 시간은 실제 발송 시각부터 잽니다.
+ */
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final Scenario scenario;
+    private final HttpClient client;
+
+    public LoadGenerator(LoadTestConfig config, Scenario scenario) {
+        this.config = config;
+        this.scenario = scenario;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    // 지정 시간 동안 실행하고 진행 중인 요청이 끝날 때까지 기다린 뒤 실제 경과 시간을 돌려줌
+    public Duration run(Duration duration, long seed, LoadRecorder recorder) throws InterruptedException {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            switch (config.model()) {
+                case OPEN -> runOpen(executor, start, start + duration.toNanos(), seed, recorder);
+                case CLOSED -> runClosed(executor, start + duration.toNanos(), seed, recorder);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void runOpen(ExecutorService executor, long start, long end, long seed, LoadRecorder recorder) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AtomicInteger inFlight = new AtomicInteger();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, config.rate());
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            Endpoint endpoint = config.mix().next(random);
+            HttpRequest request = scenario.request(endpoint, random);
+            parkUntil(intendedStart);
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                recorder.recordDropped(endpoint);
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    send(endpoint, request, intendedStart, recorder);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void runClosed(ExecutorService executor, long end, long seed, LoadRecorder recorder) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int user = 0; user < config.concurrency(); user++) {
+            SplittableRandom random = seeds.split();
+            executor.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    Endpoint endpoint = config.mix().next(random);
+                    send(endpoint, scenario.request(endpoint, random), System.nanoTime(), recorder);
+                    if (!config.thinkTime().isZero()) {
+                        LockSupport.parkNanos(config.thinkTime().toNanos());
+                    }
+                }
+            });
+        }
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long startNanos, LoadRecorder recorder) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            boolean shed = response.statusCode() == 503 && response.headers().firstValue("Retry-After").isPresent();
+            recorder.recordResponse(endpoint, response.statusCode(), shed, System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recorder.recordFailure(endpoint, e, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
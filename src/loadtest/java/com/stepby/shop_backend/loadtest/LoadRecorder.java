@@ -0,0 +1,86 @@
+package com.stepby.shop_backend.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램과 결과(상태 코드/오류/부하 차단/미전송) 집계.
+ * 503 + Retry-After는 서버가 의도적으로 내보낸 부하 차단(해싱 풀/DB 입장 대기 포화)이라 오류와 따로 셉니다.
+ */
+public class LoadRecorder {
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final LatencyHistogram overall = new LatencyHistogram();
+
+    public LoadRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public void recordResponse(Endpoint endpoint, int status, boolean shed, long latencyNanos) {
+        EndpointStats s = stats.get(endpoint);
+        s.histogram.recordNanos(latencyNanos);
+        overall.recordNanos(latencyNanos);
+        s.outcomes.computeIfAbsent(String.valueOf(status), k -> new LongAdder()).increment();
+        if (shed) {
+            s.shed.increment();
+        } else if (status >= 400) {
+            s.errors.increment();
+        }
+    }
+
+    // 응답을 받지 못한 요청 (타임아웃, 연결 실패 등). 지연 시간은 실패까지 걸린 시간으로 기록
+    public void recordFailure(Endpoint endpoint, Throwable error, long latencyNanos) {
+        EndpointStats s = stats.get(endpoint);
+        s.histogram.recordNanos(latencyNanos);
+        overall.recordNanos(latencyNanos);
+        s.outcomes.computeIfAbsent(error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+        s.errors.increment();
+    }
+
+    // OPEN 모델에서 동시 요청 상한을 넘어 보내지 못한 요청
+    public void recordDropped(Endpoint endpoint) {
+        EndpointStats s = stats.get(endpoint);
+        s.dropped.increment();
+        s.outcomes.computeIfAbsent("dropped", k -> new LongAdder()).increment();
+    }
+
+    public LatencyHistogram histogram(Endpoint endpoint) {
+        return stats.get(endpoint).histogram;
+    }
+
+    // 모든 엔드포인트를 합친 히스토그램
+    public LatencyHistogram overallHistogram() {
+        return overall;
+    }
+
+    public long errors(Endpoint endpoint) {
+        return stats.get(endpoint).errors.sum();
+    }
+
+    public long shed(Endpoint endpoint) {
+        return stats.get(endpoint).shed.sum();
+    }
+
+    public long dropped(Endpoint endpoint) {
+        return stats.get(endpoint).dropped.sum();
+    }
+
+    public Map<String, Long> outcomes(Endpoint endpoint) {
+        Map<String, Long> outcomes = new TreeMap<>();
+        stats.get(endpoint).outcomes.forEach((key, count) -> outcomes.put(key, count.sum()));
+        return outcomes;
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,153 @@
+package com.stepby.shop_backend.loadtest;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 실행 결과를 report.json(비교 스크립트용)과 report.md(사람이 읽는 표)로 남깁니다.
+ * 키 순서와 반올림이 고정되어 있어 두 커밋의 리포트를 그대로 diff할 수 있습니다.
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestConfig config;
+    private final LoadRecorder recorder;
+    private final Duration elapsed;
+
+    public LoadReport(LoadTestConfig config, LoadRecorder recorder, Duration elapsed) {
+        this.config = config;
+        this.recorder = recorder;
+        this.elapsed = elapsed;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        long shed = 0;
+        long dropped = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (!config.mix().includes(endpoint)) {
+                continue;
+            }
+            LatencyHistogram histogram = recorder.histogram(endpoint);
+            Map<String, Object> entry = summary(histogram, recorder.errors(endpoint), recorder.shed(endpoint),
+                    recorder.dropped(endpoint));
+            entry.put("outcomes", recorder.outcomes(endpoint));
+            endpoints.put(endpoint.label(), entry);
+            requests += histogram.count();
+            errors += recorder.errors(endpoint);
+            shed += recorder.shed(endpoint);
+            dropped += recorder.dropped(endpoint);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config.describe());
+        report.put("elapsedSeconds", round(elapsed.toNanos() / 1e9));
+        report.put("endpoints", endpoints);
+        report.put("total", summary(recorder.overallHistogram(), errors, shed, dropped));
+        // 부하 차단(503 + Retry-After)은 오류율에 넣지 않고 따로 (max-error-rate 판정은 errorRate만)
+        report.put("errorRate", rate(errors, requests));
+        report.put("shedRate", rate(shed, requests));
+        return report;
+    }
+
+    public void write() throws IOException {
+        Files.createDirectories(config.reportDir());
+        Map<String, Object> report = toMap();
+        JsonMapper mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        Files.writeString(config.reportDir().resolve("report.json"), mapper.writeValueAsString(report) + "\n");
+        Files.writeString(config.reportDir().resolve("report.md"), markdown());
+    }
+
+    public String markdown() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Load test report\n\n");
+        config.describe().forEach((key, value) -> sb.append("- ").append(key).append(": ").append(value).append('\n'));
+        sb.append('\n');
+        sb.append("| endpoint | requests | errors | shed | dropped | req/s | mean ms | p50 ms | p90 ms | p99 ms | p99.9 ms | max ms |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        long errors = 0;
+        long shed = 0;
+        long dropped = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (config.mix().includes(endpoint)) {
+                row(sb, endpoint.label(), recorder.histogram(endpoint), recorder.errors(endpoint), recorder.shed(endpoint),
+                        recorder.dropped(endpoint));
+                errors += recorder.errors(endpoint);
+                shed += recorder.shed(endpoint);
+                dropped += recorder.dropped(endpoint);
+            }
+        }
+        row(sb, "**total**", recorder.overallHistogram(), errors, shed, dropped);
+        return sb.toString();
+    }
+
+    private Map<String, Object> summary(LatencyHistogram histogram, long errors, long shed, long dropped) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.count());
+        summary.put("errors", errors);
+        summary.put("shed", shed);
+        summary.put("dropped", dropped);
+        summary.put("throughputPerSecond", round(throughput(histogram)));
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", millis(histogram.meanMicros()));
+        for (double percentile : PERCENTILES) {
+            latency.put(percentileKey(percentile), millis(histogram.percentileMicros(percentile)));
+        }
+        latency.put("max", millis(histogram.maxMicros()));
+        summary.put("latencyMs", latency);
+        return summary;
+    }
+
+    private void row(StringBuilder sb, String name, LatencyHistogram histogram, long errors, long shed, long dropped) {
+        sb.append("| ").append(name)
+                .append(" | ").append(histogram.count())
+                .append(" | ").append(errors)
+                .append(" | ").append(shed)
+                .append(" | ").append(dropped)
+                .append(" | ").append(format(throughput(histogram)))
+                .append(" | ").append(format(millis(histogram.meanMicros())));
+        for (double percentile : PERCENTILES) {
+            sb.append(" | ").append(format(millis(histogram.percentileMicros(percentile))));
+        }
+        sb.append(" | ").append(format(millis(histogram.maxMicros()))).append(" |\n");
+    }
+
+    private double throughput(LatencyHistogram histogram) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : histogram.count() / seconds;
+    }
+
+    private static double rate(long count, long requests) {
+        return round(requests == 0 ? 0 : (double) count / requests);
+    }
+
+    // 50 → "p50", 99.9 → "p999"
+    private static String percentileKey(double percentile) {
+        return "p" + (percentile == Math.rint(percentile)
+                ? String.valueOf((int) percentile)
+                : String.valueOf(percentile).replace(".", ""));
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,111 @@
+package com.stepby.shop_backend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티(-Dloadtest.*)로 바꿀 수 있습니다.
+ *
+ * @param model        OPEN: 고정 도착률(rate), CLOSED: 고정 동시 사용자(concurrency)
+ * @param rate         OPEN 모델의 초당 요청 수
+ * @param concurrency  CLOSED 모델의 가상 사용자 수
+ * @param thinkTime    CLOSED 모델에서 요청 사이 대기 시간
+ * @param maxInFlight  OPEN 모델에서 동시에 진행 중인 요청 상한 (넘으면 보내지 않고 dropped로 집계)
+ * @param mix          엔드포인트별 가중치. 지정하지 않으면 기본 믹스이며, OPEN 모델은 로그인 비중을 이 머신의
+ *                     BCrypt 처리량에 맞춰 줄임 (코어가 적은 머신에서 기본 실행이 해싱 풀 포화로 실패하지 않도록)
+ * @param products     시드 카탈로그 상품 수
+ * @param users        로그인/내 정보 요청에 쓰는 사용자 수
+ * @param bcryptCost   부하 테스트용 BCrypt cost (로그인 비용에 직결)
+ * @param virtualThreads 서버 요청 처리를 가상 스레드로 (spring.threads.virtual.enabled, DB 입장 제어 포함)
+ */
+public record LoadTestConfig(Model model, int rate, int concurrency, Duration thinkTime, int maxInFlight,
+                             Duration warmup, Duration duration, RequestMix mix, long products, int users,
+                             int bcryptCost, boolean virtualThreads, long seed, double maxErrorRate, Path reportDir) {
+
+    public enum Model {
+        OPEN, CLOSED
+    }
+
+    private static final String DEFAULT_MIX = "list=400,detail=300,search=200,login=50,me=50";
+    private static final int DEFAULT_MIX_TOTAL = 1000;
+    private static final int DEFAULT_LOGIN_WEIGHT = 50;
+    // 로그인에 쓰는 해싱 풀 용량의 상한 비율 (같은 코어에서 목록/검색 요청도 처리해야 하므로 여유를 둠)
+    private static final double LOGIN_HASHING_SHARE = 0.25;
+
+    public static LoadTestConfig fromSystemProperties() {
+        Model model = Model.valueOf(property("model", "open").toUpperCase(Locale.ROOT));
+        int rate = Integer.parseInt(property("rate", "200"));
+        int bcryptCost = Integer.parseInt(property("bcrypt-cost", "10"));
+        String mix = System.getProperty("loadtest.mix");
+        if (mix == null) {
+            mix = model == Model.OPEN ? scaledDefaultMix(rate, bcryptCost) : DEFAULT_MIX;
+        }
+        return new LoadTestConfig(
+                model,
+                rate,
+                Integer.parseInt(property("concurrency", "32")),
+                Duration.parse(property("think-time", "PT0S")),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT30S")),
+                RequestMix.parse(mix),
+                Long.parseLong(property("products", "10000")),
+                Integer.parseInt(property("users", "100")),
+                bcryptCost,
+                Boolean.parseBoolean(property("virtual-threads", "false")),
+                Long.parseLong(property("seed", "42")),
+                Double.parseDouble(property("max-error-rate", "0.01")),
+                Path.of(property("report-dir", "target/loadtest")));
+    }
+
+    // 리포트에 그대로 남겨 두 실행을 비교할 때 조건이 같은지 확인
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("model", model.name().toLowerCase(Locale.ROOT));
+        if (model == Model.OPEN) {
+            description.put("rate", rate);
+            description.put("maxInFlight", maxInFlight);
+        } else {
+            description.put("concurrency", concurrency);
+            description.put("thinkTime", thinkTime.toString());
+        }
+        description.put("warmup", warmup.toString());
+        description.put("duration", duration.toString());
+        description.put("mix", mix.toString());
+        description.put("products", products);
+        description.put("users", users);
+        description.put("bcryptCost", bcryptCost);
+        description.put("virtualThreads", virtualThreads);
+        description.put("seed", seed);
+        description.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        return description;
+    }
+
+    /**
+     * 기본 믹스에서 로그인 비중만 줄입니다. 서버 해싱 풀은 기본으로 코어의 절반(PasswordHashingExecutor)이므로,
+     * 이 cost의 해싱 시간을 재서 초당 로그인 처리량을 구하고 그 LOGIN_HASHING_SHARE 이하로만 로그인을 보냅니다.
+     */
+    static String scaledDefaultMix(int rate, int bcryptCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(bcryptCost);
+        String hash = encoder.encode("loadtest-calibration"); // 첫 호출은 워밍업
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            encoder.matches("loadtest-calibration", hash);
+        }
+        double hashMillis = Math.max((System.nanoTime() - start) / 1e6 / 3, 0.01);
+        int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        double loginsPerSecond = hashingThreads * 1000 / hashMillis * LOGIN_HASHING_SHARE;
+        long loginWeight = Math.clamp((long) (DEFAULT_MIX_TOTAL * loginsPerSecond / Math.max(1, rate)),
+                1, DEFAULT_LOGIN_WEIGHT);
+        return DEFAULT_MIX.replace("login=" + DEFAULT_LOGIN_WEIGHT, "login=" + loginWeight);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,78 @@
+package com.stepby.shop_backend.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 엔드포인트별 가중치. "list=40,detail=30,search=20,login=5,me=5" 형식을 해석합니다.
+ */
+public class RequestMix {
+
+    private final Map<Endpoint, Integer> weights;
+    private final Endpoint[] endpoints;
+    private final int[] cumulative;
+    private final int total;
+
+    private RequestMix(Map<Endpoint, Integer> weights) {
+        this.weights = Map.copyOf(weights);
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulative = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += weights.get(endpoints[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    public static RequestMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entry must be name=weight: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("loadtest.mix weight must not be negative: " + part);
+            }
+            if (weight > 0) {
+                weights.merge(Endpoint.from(pair[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + spec);
+        }
+        return new RequestMix(weights);
+    }
+
+    public Endpoint next(SplittableRandom random) {
+        int ticket = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (ticket < cumulative[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    public boolean includes(Endpoint endpoint) {
+        return weights.containsKey(endpoint);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Endpoint endpoint : endpoints) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(endpoint.name().toLowerCase()).append('=').append(weights.get(endpoint));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.stepby.shop_backend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 엔드포인트별 요청을 만듭니다. 파라미터(정렬, 상품 id, 검색어, 사용자)는 주어진 난수로 고르므로
+ * 같은 시드면 같은 요청 순서가 재현됩니다.
+ */
+public class Scenario {
+
+    private static final String[] SORTS = {"newest", "price_asc", "price_desc", "rating", "reviews"};
+    private static final String[] SEARCH_TERMS = {"나이키", "아디다스", "러너", "에어", "클래식", "트레일", "키즈", "워커",
+            "뉴발란스 플렉스", "컨버스", "스텝바이", "하이탑 1", "로우 25", "컴포트"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final List<String> productIds;
+    private final List<String> emails;
+    private final String password;
+    private final List<String> bearerTokens;
+
+    public Scenario(URI baseUri, List<String> productIds, List<String> emails, String password,
+                    List<String> bearerTokens) {
+        this.baseUri = baseUri;
+        this.productIds = List.copyOf(productIds);
+        this.emails = List.copyOf(emails);
+        this.password = password;
+        this.bearerTokens = List.copyOf(bearerTokens);
+    }
+
+    public HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        return switch (endpoint) {
+            case LIST -> get("/api/products?size=20&sort=" + pick(SORTS, random)).build();
+            case DETAIL -> get("/api/products/" + productIds.get(random.nextInt(productIds.size()))).build();
+            case SEARCH -> get("/api/products/search?limit=20&q="
+                    + URLEncoder.encode(pick(SEARCH_TERMS, random), StandardCharsets.UTF_8)).build();
+            case LOGIN -> HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + emails.get(random.nextInt(emails.size()))
+                            + "\",\"password\":\"" + password + "\"}"))
+                    .build();
+            case ME -> get("/api/user/me")
+                    .header("Authorization", bearerTokens.get(random.nextInt(bearerTokens.size())))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder get(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
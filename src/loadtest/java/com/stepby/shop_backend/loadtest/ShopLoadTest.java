@@ -0,0 +1,135 @@
+package com.stepby.shop_backend.loadtest;
+
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.service.importer.ImportFormat;
+import com.stepby.shop_backend.service.importer.UserImportService;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단 간 부하 테스트: 실제 포트로 앱을 띄우고(H2 + 시드 카탈로그) HTTP로 요청 믹스를 보냅니다.
+ * <p>
+ * mvn -Ploadtest test -Dloadtest.model=open -Dloadtest.rate=300 -Dloadtest.duration=PT60S
+ * <p>
+ * 결과는 loadtest.report-dir(기본 target/loadtest)에 report.json / report.md로 저장되며,
+ * scripts/loadtest-compare.py로 두 실행을 비교할 수 있습니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ShopLoadTest {
+
+    private static final LoadTestConfig CONFIG = LoadTestConfig.fromSystemProperties();
+    private static final String PASSWORD = "loadtest-password";
+    private static final int PRODUCT_ID_SAMPLE = 2000;
+    private static final int TOKEN_SAMPLE = 50;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${app.seed.base-time:2026-01-01T00:00:00}")
+    private LocalDateTime seedBaseTime;
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) {
+        // 단위 테스트 DB와 분리하고, 측정에 영향을 주는 테스트용 설정(통계 수집, 최소 BCrypt cost)은 되돌림
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:mem:stepby_load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "false");
+        registry.add("app.password-hashing.cost", CONFIG::bcryptCost);
+        registry.add("app.seed.products", CONFIG::products);
+        registry.add("app.seed.seed", CONFIG::seed);
+        // 플랫폼/가상 스레드 비교: 연결 수 상한(기본 8192)이 동시 사용자 수보다 먼저 걸리지 않도록 함
+        registry.add("spring.threads.virtual.enabled", CONFIG::virtualThreads);
+        registry.add("server.tomcat.max-connections", () -> Math.max(8192, CONFIG.concurrency() + 1000));
+        // 부하 생성기 하나(같은 IP)가 보내므로 요청 한도는 끔
+        registry.add("app.rate-limit.enabled", () -> "false");
+    }
+
+    @Test
+    void runWorkload() throws Exception {
+        Scenario scenario = new Scenario(URI.create("http://localhost:" + environment.getProperty("local.server.port")),
+                sampleProductIds(), createUsers(), PASSWORD, sampleTokens());
+        LoadGenerator generator = new LoadGenerator(CONFIG, scenario);
+
+        if (!CONFIG.warmup().isZero()) {
+            generator.run(CONFIG.warmup(), CONFIG.seed() + 1, new LoadRecorder());
+        }
+        LoadRecorder recorder = new LoadRecorder();
+        Duration elapsed = generator.run(CONFIG.duration(), CONFIG.seed(), recorder);
+
+        LoadReport report = new LoadReport(CONFIG, recorder, elapsed);
+        report.write();
+        System.out.println(report.markdown());
+
+        assertThat(recorder.overallHistogram().count()).isPositive();
+        assertThat((double) report.toMap().get("errorRate")).isLessThanOrEqualTo(CONFIG.maxErrorRate());
+    }
+
+    // 시드 카탈로그와 같은 생성기로 id를 다시 만들어 DB 조회 없이 상세 요청 대상을 고름
+    private List<String> sampleProductIds() {
+        CatalogGenerator generator = new CatalogGenerator(CONFIG.seed(), seedBaseTime);
+        SplittableRandom random = new SplittableRandom(CONFIG.seed());
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < Math.min(PRODUCT_ID_SAMPLE, CONFIG.products()); i++) {
+            ids.add(generator.product(random.nextLong(CONFIG.products())).id());
+        }
+        return ids;
+    }
+
+    // 관리자 일괄 가입과 같은 경로(UserImportService)로 로그인용 사용자를 만듦
+    private List<String> createUsers() {
+        List<String> emails = new ArrayList<>();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < CONFIG.users(); i++) {
+            String email = "load" + i + "@stepby.com";
+            emails.add(email);
+            ndjson.append("{\"email\":\"").append(email).append("\",\"password\":\"").append(PASSWORD)
+                    .append("\",\"realName\":\"부하\",\"birthDate\":\"1990-01-01\",\"gender\":\"female\",")
+                    .append("\"phoneNumber\":\"010-0000-0000\",\"zonecode\":\"00000\",\"address\":\"서울\",")
+                    .append("\"detailAddress\":\"1층\"}\n");
+        }
+        List<String> errors = new ArrayList<>();
+        userImportService.importUsers(new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                ImportFormat.NDJSON, progress -> {
+                    if ("error".equals(progress.getType())) {
+                        errors.add(progress.getEmail() + ": " + progress.getMessage());
+                    }
+                });
+        assertThat(errors).as("load test user import errors").isEmpty();
+        return emails;
+    }
+
+    private List<String> sampleTokens() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < Math.min(TOKEN_SAMPLE, CONFIG.users()); i++) {
+            tokens.add("Bearer " + jwtUtil.generateJwtToken(userRepository.findByEmail("load" + i + "@stepby.com").orElseThrow()));
+        }
+        return tokens;
+    }
+}
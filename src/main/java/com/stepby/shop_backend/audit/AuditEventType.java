@@ -0,0 +1,28 @@
+package com.stepby.shop_backend.audit;
+
+// 감사 이벤트 종류. code는 레코드에 1바이트로 저장되므로 한 번 정한 값은 바꾸지 않음
+public enum AuditEventType {
+    LOGIN_SUCCESS(1),
+    LOGIN_FAILURE(2),
+    REGISTER(3),
+    TOKEN_REJECTED(4);
+
+    private final byte code;
+
+    AuditEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    static AuditEventType of(byte code) {
+        for (AuditEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
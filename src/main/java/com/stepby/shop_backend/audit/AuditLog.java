@@ -0,0 +1,183 @@
+package com.stepby.shop_backend.audit;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 감사 로그 (로그인 성공/실패, 회원가입, 토큰 거부).
+ * <p>
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고(락/DB 없음, 가득 차면 버리고 dropped 증가),
+ * 전용 기록 스레드 하나가 꺼내 고정 크기 바이너리 레코드로 메모리 매핑 세그먼트에 이어 씁니다.
+ * force-interval마다 디스크에 내리고, 세그먼트 교체(크기/시간)와 기동 시 복구는 AuditSegmentWriter가 맡습니다.
+ * 조회(GET /api/admin/audit)는 세그먼트 파일을 직접 훑습니다.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    private static final int DRAIN_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final Duration QUERY_DRAIN_WAIT = Duration.ofMillis(500);
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final long forceIntervalNanos;
+    private final AuditRingBuffer ring;
+    private final AuditSegmentWriter writer;
+    private final AuditLogReader reader;
+    private final AuditRingBuffer.Handler sink = this::write;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writeErrors = new AtomicLong();
+
+    @Autowired
+    public AuditLog(@Value("${app.audit.enabled:true}") boolean enabled,
+                    @Value("${app.audit.directory:audit}") String directory,
+                    @Value("${app.audit.segment-size:64MB}") DataSize segmentSize,
+                    @Value("${app.audit.rotate-after:PT24H}") Duration rotateAfter,
+                    @Value("${app.audit.buffer-size:8192}") int bufferSize,
+                    @Value("${app.audit.force-interval:PT1S}") Duration forceInterval) throws IOException {
+        this(enabled, Path.of(directory), segmentSize.toBytes(), rotateAfter, bufferSize, forceInterval, Clock.systemUTC());
+    }
+
+    AuditLog(boolean enabled, Path directory, long segmentBytes, Duration rotateAfter, int bufferSize,
+             Duration forceInterval, Clock clock) throws IOException {
+        this.enabled = enabled;
+        this.clock = clock;
+        this.forceIntervalNanos = forceInterval.toNanos();
+        this.ring = new AuditRingBuffer(bufferSize);
+        this.reader = new AuditLogReader(directory);
+        if (!enabled) {
+            this.writer = null;
+            this.drainer = null;
+            return;
+        }
+        this.writer = new AuditSegmentWriter(directory, segmentBytes, rotateAfter, clock);
+        this.drainer = new Thread(this::run, "audit-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+        logger.info("Audit log writing to {} (segment {} bytes, rotate after {})",
+                directory.toAbsolutePath(), segmentBytes, rotateAfter);
+    }
+
+    /**
+     * 이벤트 하나를 기록 대기열에 넣습니다. email/remoteAddress는 모르면 null.
+     * 대기열이 가득 차 있으면 기다리지 않고 버립니다 (false).
+     */
+    public boolean record(AuditEventType type, AuditReason reason, String email, String remoteAddress) {
+        return enabled && ring.offer(type.code(), reason.code(), clock.millis(), email, remoteAddress);
+    }
+
+    /**
+     * [from, to) 안의 레코드를 최신순으로 최대 limit개. email/type이 null이면 거르지 않습니다.
+     * 이미 대기열에 들어간 이벤트가 파일에 쓰일 때까지 잠깐 기다린 뒤 읽습니다.
+     */
+    public List<AuditRecord> query(String email, Instant from, Instant to, AuditEventType type, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        awaitDrained(QUERY_DRAIN_WAIT);
+        try {
+            return reader.query(email, from.toEpochMilli(), to.toEpochMilli(), type, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long droppedCount() {
+        return ring.droppedCount();
+    }
+
+    public long writeErrorCount() {
+        return writeErrors.get();
+    }
+
+    // 지금까지 넣은 이벤트가 모두 세그먼트에 쓰였는지 (최대 timeout 대기)
+    boolean awaitDrained(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!ring.drained()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        drainer.join(TimeUnit.SECONDS.toMillis(5));
+        writer.close();
+    }
+
+    private void run() {
+        long lastForce = System.nanoTime();
+        while (true) {
+            int drained = ring.drain(sink, DRAIN_BATCH);
+            long now = System.nanoTime();
+            if (now - lastForce >= forceIntervalNanos) {
+                maintain();
+                lastForce = now;
+            }
+            if (drained == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void write(byte type, byte reason, long timestampMillis, String email, String remoteAddress) {
+        try {
+            writer.append(type, reason, timestampMillis, email, remoteAddress);
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            // 디스크 가득 참 등: 요청 처리에는 영향을 주지 않고 건수만 남김 (첫 오류와 이후 1000건마다 로그)
+            if (writeErrors.getAndIncrement() % 1000 == 0) {
+                logger.error("Audit log write failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void maintain() {
+        try {
+            writer.rotateIfExpired();
+            writer.force();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Audit log force/rotation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.stepby.shop_backend.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일을 읽기 전용으로 매핑해 조건에 맞는 레코드를 찾습니다 (기록 중인 세그먼트도 읽을 수 있음).
+ * <p>
+ * 세그먼트는 생성 시각 순이므로 헤더의 생성 시각으로 범위 밖 세그먼트를 통째로 건너뜁니다.
+ * 레코드 시각은 요청 스레드에서 찍히고 기록은 조금 늦게 일어나므로, 경계 판단에는 CLOCK_SLACK만큼 여유를 둡니다.
+ * 각 세그먼트는 순번이 이어지고 CRC가 맞는 레코드까지만 읽습니다 (기록 중인 칸은 끝으로 취급).
+ */
+final class AuditLogReader {
+
+    private static final long CLOCK_SLACK_MILLIS = 5_000;
+
+    private final Path directory;
+
+    AuditLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * [fromMillis, toMillis) 안에서 email(대소문자 무시, null이면 전체)과 type(null이면 전체)이 맞는 레코드를
+     * 최신순으로 최대 limit개 반환합니다.
+     */
+    List<AuditRecord> query(String email, long fromMillis, long toMillis, AuditEventType type, int limit)
+            throws IOException {
+        ArrayDeque<AuditRecord> newest = new ArrayDeque<>();
+        CRC32 crc = new CRC32();
+        List<Path> segments = AuditSegmentWriter.segments(directory);
+        for (int i = 0; i < segments.size() && limit > 0; i++) {
+            MappedByteBuffer mapped = map(segments.get(i));
+            if (mapped == null) {
+                continue;
+            }
+            if (AuditRecordFormat.createdAt(mapped) - CLOCK_SLACK_MILLIS >= toMillis) {
+                break; // 이후 세그먼트는 모두 더 늦게 생성됨
+            }
+            if (i + 1 < segments.size() && endsBefore(segments.get(i + 1), fromMillis)) {
+                continue;
+            }
+            scan(mapped, crc, email, fromMillis, toMillis, type, limit, newest);
+        }
+        List<AuditRecord> result = new ArrayList<>(newest.size());
+        for (Iterator<AuditRecord> it = newest.descendingIterator(); it.hasNext(); ) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    private static void scan(ByteBuffer mapped, CRC32 crc, String email, long fromMillis, long toMillis,
+                             AuditEventType type, int limit, ArrayDeque<AuditRecord> newest) {
+        long first = AuditRecordFormat.firstSequence(mapped);
+        int slots = AuditRecordFormat.capacity(mapped.capacity());
+        for (int slot = 0; slot < slots && AuditRecordFormat.valid(mapped, slot, crc)
+                && AuditRecordFormat.sequence(mapped, slot) == first + slot; slot++) {
+            long timestamp = AuditRecordFormat.timestamp(mapped, slot);
+            if (timestamp < fromMillis || timestamp >= toMillis
+                    || (type != null && AuditRecordFormat.type(mapped, slot) != type.code())
+                    || (email != null && !email.equalsIgnoreCase(AuditRecordFormat.email(mapped, slot)))) {
+                continue;
+            }
+            if (newest.size() == limit) {
+                newest.removeFirst();
+            }
+            newest.addLast(AuditRecordFormat.read(mapped, slot));
+        }
+    }
+
+    // 다음 세그먼트가 fromMillis보다 (여유를 두고) 먼저 만들어졌으면 이 세그먼트의 레코드는 모두 범위 이전
+    private static boolean endsBefore(Path nextSegment, long fromMillis) throws IOException {
+        MappedByteBuffer next = map(nextSegment);
+        return next != null && AuditRecordFormat.createdAt(next) + CLOCK_SLACK_MILLIS <= fromMillis;
+    }
+
+    // 헤더가 유효하지 않으면(만드는 중이거나 깨진 파일) null
+    private static MappedByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < AuditRecordFormat.HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return AuditRecordFormat.validHeader(mapped) ? mapped : null;
+        }
+    }
+}
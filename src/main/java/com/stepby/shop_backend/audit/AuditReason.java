@@ -0,0 +1,63 @@
+package com.stepby.shop_backend.audit;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.BadCredentialsException;
+
+// 실패/거부 사유. code는 레코드에 1바이트로 저장되므로 한 번 정한 값은 바꾸지 않음
+public enum AuditReason {
+    NONE(0),
+    BAD_CREDENTIALS(1),      // 없는 이메일 또는 비밀번호 불일치 (구분하지 않음)
+    ACCOUNT_UNAVAILABLE(2),  // 잠김/비활성/만료 계정
+    AUTH_ERROR(3),
+    RATE_LIMITED(4),         // 이메일별 로그인 시도 한도 초과 (비밀번호를 확인하지 않음)
+    TOKEN_EXPIRED(10),
+    TOKEN_SIGNATURE(11),
+    TOKEN_MALFORMED(12),
+    TOKEN_UNSUPPORTED(13),
+    TOKEN_INVALID(14),
+    TOKEN_REVOKED(15),       // 비밀번호/권한 변경 전에 발급된 토큰 (보안 버전 불일치)
+    TOKEN_LEGACY(16);        // 필수 클레임이 없는 이전 형식 토큰
+
+    private final byte code;
+
+    AuditReason(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    static AuditReason of(byte code) {
+        for (AuditReason reason : values()) {
+            if (reason.code == code) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    public static AuditReason ofLoginFailure(Throwable error) {
+        if (error instanceof BadCredentialsException) {
+            return BAD_CREDENTIALS;
+        }
+        return error instanceof AccountStatusException ? ACCOUNT_UNAVAILABLE : AUTH_ERROR;
+    }
+
+    public static AuditReason ofTokenFailure(Exception error) {
+        if (error instanceof ExpiredJwtException) {
+            return TOKEN_EXPIRED;
+        }
+        if (error instanceof SecurityException) {
+            return TOKEN_SIGNATURE;
+        }
+        if (error instanceof MalformedJwtException || error instanceof IllegalArgumentException) {
+            return TOKEN_MALFORMED;
+        }
+        return error instanceof UnsupportedJwtException ? TOKEN_UNSUPPORTED : TOKEN_INVALID;
+    }
+}
@@ -0,0 +1,8 @@
+package com.stepby.shop_backend.audit;
+
+/**
+ * 세그먼트 파일에서 읽은 감사 레코드 하나. ip는 알 수 없으면 빈 문자열.
+ */
+public record AuditRecord(long sequence, long timestampMillis, AuditEventType type, AuditReason reason,
+                          String email, String ip) {
+}
@@ -0,0 +1,210 @@
+package com.stepby.shop_backend.audit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * 감사 로그 세그먼트의 고정 바이너리 배치 (빅 엔디언).
+ * <pre>
+ * 세그먼트 헤더 (64바이트)
+ *   0  long  MAGIC ("STEPAUD1")
+ *   8  int   버전
+ *   12 int   레코드 크기
+ *   16 long  생성 시각 (epoch ms)
+ *   24 long  첫 레코드의 순번
+ * 레코드 (128바이트, 헤더 뒤에 순서대로)
+ *   0   short  RECORD_MAGIC (0이면 빈 칸)
+ *   2   byte   이벤트 종류 (AuditEventType.code)
+ *   3   byte   사유 (AuditReason.code)
+ *   4   long   순번 (세그먼트를 넘어 1씩 증가)
+ *   12  long   시각 (epoch ms)
+ *   20  16B    클라이언트 IP (IPv4는 IPv4-mapped IPv6, 모르면 0)
+ *   36  byte   이메일 바이트 수
+ *   37  87B    이메일 (UTF-8, 넘치면 글자 단위로 자름)
+ *   124 int    CRC32 (0..123)
+ * </pre>
+ * 레코드는 CRC를 마지막에 쓰므로, 쓰다 만 레코드는 CRC가 맞지 않아 복구/읽기에서 끝으로 취급됩니다.
+ */
+final class AuditRecordFormat {
+
+    static final long SEGMENT_MAGIC = 0x5354455041554431L; // "STEPAUD1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 128;
+    static final short RECORD_MAGIC = (short) 0xAD17;
+
+    private static final int TYPE = 2;
+    private static final int REASON = 3;
+    private static final int SEQUENCE = 4;
+    private static final int TIMESTAMP = 12;
+    private static final int IP = 20;
+    private static final int IP_SIZE = 16;
+    private static final int EMAIL_LENGTH = 36;
+    private static final int EMAIL = 37;
+    static final int MAX_EMAIL_BYTES = 87;
+    private static final int CRC = 124;
+
+    private AuditRecordFormat() {
+    }
+
+    static void writeHeader(ByteBuffer buffer, long createdAtMillis, long firstSequence) {
+        buffer.putLong(0, SEGMENT_MAGIC);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, RECORD_SIZE);
+        buffer.putLong(16, createdAtMillis);
+        buffer.putLong(24, firstSequence);
+    }
+
+    static boolean validHeader(ByteBuffer buffer) {
+        return buffer.capacity() >= HEADER_SIZE && buffer.getLong(0) == SEGMENT_MAGIC
+                && buffer.getInt(8) == VERSION && buffer.getInt(12) == RECORD_SIZE;
+    }
+
+    static long createdAt(ByteBuffer buffer) {
+        return buffer.getLong(16);
+    }
+
+    static long firstSequence(ByteBuffer buffer) {
+        return buffer.getLong(24);
+    }
+
+    static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    static int capacity(long segmentBytes) {
+        return (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE - 1, (segmentBytes - HEADER_SIZE) / RECORD_SIZE);
+    }
+
+    // ip는 16바이트, email은 MAX_EMAIL_BYTES 이하로 이미 잘린 UTF-8
+    static void write(ByteBuffer buffer, int slot, CRC32 crc, byte type, byte reason, long sequence,
+                      long timestampMillis, byte[] ip, byte[] email) {
+        int at = offset(slot);
+        buffer.putShort(at, RECORD_MAGIC);
+        buffer.put(at + TYPE, type);
+        buffer.put(at + REASON, reason);
+        buffer.putLong(at + SEQUENCE, sequence);
+        buffer.putLong(at + TIMESTAMP, timestampMillis);
+        buffer.put(at + IP, ip, 0, IP_SIZE);
+        buffer.put(at + EMAIL_LENGTH, (byte) email.length);
+        buffer.put(at + EMAIL, email, 0, email.length);
+        for (int i = email.length; i < MAX_EMAIL_BYTES; i++) {
+            buffer.put(at + EMAIL + i, (byte) 0);
+        }
+        buffer.putInt(at + CRC, checksum(buffer, at, crc));
+    }
+
+    // 빈 칸이거나 쓰다 만(CRC 불일치) 레코드면 false
+    static boolean valid(ByteBuffer buffer, int slot, CRC32 crc) {
+        int at = offset(slot);
+        return buffer.getShort(at) == RECORD_MAGIC && buffer.getInt(at + CRC) == checksum(buffer, at, crc);
+    }
+
+    static boolean empty(ByteBuffer buffer, int slot) {
+        int at = offset(slot);
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            if (buffer.getLong(at + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void clear(ByteBuffer buffer, int slot) {
+        int at = offset(slot);
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            buffer.putLong(at + i, 0);
+        }
+    }
+
+    static long sequence(ByteBuffer buffer, int slot) {
+        return buffer.getLong(offset(slot) + SEQUENCE);
+    }
+
+    static long timestamp(ByteBuffer buffer, int slot) {
+        return buffer.getLong(offset(slot) + TIMESTAMP);
+    }
+
+    static byte type(ByteBuffer buffer, int slot) {
+        return buffer.get(offset(slot) + TYPE);
+    }
+
+    static String email(ByteBuffer buffer, int slot) {
+        int at = offset(slot);
+        byte[] email = new byte[Math.min(buffer.get(at + EMAIL_LENGTH) & 0xFF, MAX_EMAIL_BYTES)];
+        buffer.get(at + EMAIL, email);
+        return new String(email, StandardCharsets.UTF_8);
+    }
+
+    static AuditRecord read(ByteBuffer buffer, int slot) {
+        int at = offset(slot);
+        byte[] ip = new byte[IP_SIZE];
+        buffer.get(at + IP, ip);
+        return new AuditRecord(sequence(buffer, slot), timestamp(buffer, slot), AuditEventType.of(buffer.get(at + TYPE)),
+                AuditReason.of(buffer.get(at + REASON)), email(buffer, slot), ipToString(ip));
+    }
+
+    // 이메일을 UTF-8로 바꾸고 MAX_EMAIL_BYTES에 맞게 글자 경계에서 자름
+    static byte[] encodeEmail(String email) {
+        if (email == null) {
+            return new byte[0];
+        }
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_EMAIL_BYTES) {
+            return bytes;
+        }
+        int end = MAX_EMAIL_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--; // UTF-8 연속 바이트면 글자 시작까지 물러남
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+
+    // IP 문자열(getRemoteAddr) → 16바이트. 숫자 주소가 아니면(호스트 이름 등) DNS 조회 없이 0
+    static void encodeIp(String ip, byte[] target) {
+        Arrays.fill(target, (byte) 0);
+        if (ip == null || ip.isEmpty() || !(ip.indexOf(':') >= 0 || ip.chars().allMatch(c -> c == '.' || Character.isDigit(c)))) {
+            return;
+        }
+        try {
+            byte[] address = InetAddress.getByName(ip).getAddress();
+            if (address.length == 4) {
+                target[10] = (byte) 0xFF;
+                target[11] = (byte) 0xFF;
+                System.arraycopy(address, 0, target, 12, 4);
+            } else {
+                System.arraycopy(address, 0, target, 0, IP_SIZE);
+            }
+        } catch (UnknownHostException e) {
+            // 잘못된 숫자 주소는 기록하지 않음
+        }
+    }
+
+    static String ipToString(byte[] ip) {
+        boolean unknown = true;
+        for (byte b : ip) {
+            unknown &= b == 0;
+        }
+        if (unknown) {
+            return "";
+        }
+        try {
+            // IPv4-mapped 주소는 InetAddress가 IPv4로 돌려줌
+            return InetAddress.getByAddress(ip).getHostAddress();
+        } catch (UnknownHostException e) {
+            return "";
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int at, CRC32 crc) {
+        crc.reset();
+        crc.update(buffer.slice(at, CRC));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,105 @@
+package com.stepby.shop_backend.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다수 생산자 / 단일 소비자 링 버퍼. 칸은 미리 만들어 두고 재사용합니다.
+ * <p>
+ * 생산자(요청 스레드)는 CAS로 순번을 하나 잡아 칸을 채운 뒤 published에 그 순번을 써서 공개합니다.
+ * 버퍼가 가득 차면 기다리지 않고 버린 뒤 dropped를 올립니다 (감사 기록 때문에 로그인이 느려지지 않도록).
+ * 소비자(기록 스레드)는 다음 순번의 칸이 공개될 때까지만 읽고, 다 읽은 칸은 consumed를 올려 돌려줍니다.
+ * 순번을 잡은 생산자가 공개 전에 멈추면 그 뒤 칸들도 공개될 때까지 기다리므로 기록 순서는 순번 순서와 같습니다.
+ */
+final class AuditRingBuffer {
+
+    interface Handler {
+        void onEvent(byte type, byte reason, long timestampMillis, String email, String ip);
+    }
+
+    private static final class Slot {
+        private byte type;
+        private byte reason;
+        private long timestampMillis;
+        private String email;
+        private String ip;
+    }
+
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // capacity는 2의 거듭제곱으로 올림
+    AuditRingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new Slot[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+    }
+
+    boolean offer(byte type, byte reason, long timestampMillis, String email, String ip) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() > mask) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.type = type;
+        slot.reason = reason;
+        slot.timestampMillis = timestampMillis;
+        slot.email = email;
+        slot.ip = ip;
+        published.set(index, sequence); // 칸 내용을 쓴 뒤 공개 (volatile 쓰기)
+        return true;
+    }
+
+    // 공개된 칸을 순서대로 최대 limit개 처리하고 처리한 수를 반환 (소비자 스레드 하나에서만 호출)
+    int drain(Handler handler, int limit) {
+        long next = consumed.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            Slot slot = slots[index];
+            handler.onEvent(slot.type, slot.reason, slot.timestampMillis, slot.email, slot.ip);
+            slot.email = null;
+            slot.ip = null;
+            next++;
+            drained++;
+            consumed.set(next); // 칸 반환
+        }
+        return drained;
+    }
+
+    // 이미 잡힌 순번이 모두 소비되었는지
+    boolean drained() {
+        return consumed.get() >= claimed.get();
+    }
+
+    long claimedCount() {
+        return claimed.get();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
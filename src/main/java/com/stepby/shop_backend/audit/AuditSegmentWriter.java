@@ -0,0 +1,197 @@
+package com.stepby.shop_backend.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 감사 레코드를 메모리 매핑한 세그먼트 파일 끝에 이어 씁니다 (기록 스레드 하나에서만 사용).
+ * <p>
+ * - 세그먼트는 audit-{첫 순번 20자리}.seg, 만들 때 segment-size만큼 한 번에 매핑 (파일 크기도 그만큼, 빈 칸은 0)
+ * - 칸이 다 차거나 rotate-after가 지나면 새 세그먼트로 교체. 교체 전에 force로 디스크에 내림
+ * - 기동 시 마지막 세그먼트를 처음부터 검사해 순번이 이어지고 CRC가 맞는 레코드까지만 인정하고,
+ *   그 뒤의 쓰다 만 칸은 0으로 지운 다음 그 자리부터 이어 씀. 헤더가 깨진 세그먼트는 .corrupt로 바꿔 두고 이전 세그먼트에서 복구
+ * 프로세스가 죽어도 매핑된 페이지는 OS가 파일에 씁니다. 전원 장애에는 마지막 force 이후 기록이 사라질 수 있습니다.
+ */
+final class AuditSegmentWriter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSegmentWriter.class);
+
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long rotateAfterMillis;
+    private final Clock clock;
+    private final CRC32 crc = new CRC32();
+    private final byte[] ip = new byte[16];
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Path segment;
+    private int capacity;
+    private int position;       // 다음에 쓸 칸
+    private long createdAt;
+    private long nextSequence = 1;
+    private boolean dirty;
+
+    AuditSegmentWriter(Path directory, long segmentBytes, Duration rotateAfter, Clock clock) throws IOException {
+        if (AuditRecordFormat.capacity(segmentBytes) < 1) {
+            throw new IllegalArgumentException("Audit segment size must hold at least one record: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.rotateAfterMillis = rotateAfter.toMillis();
+        this.clock = clock;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    // 이름(= 첫 순번) 순으로 정렬된 세그먼트 파일들
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    void append(byte type, byte reason, long timestampMillis, String email, String remoteAddress) throws IOException {
+        if (buffer == null || position >= capacity || expired(clock.millis())) {
+            rotate(clock.millis());
+        }
+        AuditRecordFormat.encodeIp(remoteAddress, ip);
+        AuditRecordFormat.write(buffer, position, crc, type, reason, nextSequence, timestampMillis, ip,
+                AuditRecordFormat.encodeEmail(email));
+        position++;
+        nextSequence++;
+        dirty = true;
+    }
+
+    // 쓰기가 없어도 rotate-after가 지나면 교체 (기록 스레드가 주기적으로 호출)
+    void rotateIfExpired() throws IOException {
+        long now = clock.millis();
+        if (expired(now)) {
+            rotate(now);
+        }
+    }
+
+    void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    long nextSequence() {
+        return nextSequence;
+    }
+
+    Path currentSegment() {
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            force();
+            channel.close();
+            buffer = null;
+        }
+    }
+
+    // 빈 세그먼트는 시간이 지나도 교체하지 않음 (같은 첫 순번의 파일이 생기지 않도록)
+    private boolean expired(long now) {
+        return position > 0 && now - createdAt >= rotateAfterMillis;
+    }
+
+    private void rotate(long now) throws IOException {
+        close();
+        Path next = directory.resolve(String.format("%s%020d%s", PREFIX, nextSequence, SUFFIX));
+        FileChannel created = FileChannel.open(next, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = created.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        AuditRecordFormat.writeHeader(mapped, now, nextSequence);
+        mapped.force(); // 헤더가 먼저 디스크에 있어야 레코드를 믿을 수 있음
+        open(next, created, mapped, 0, now);
+        logger.debug("Audit log segment {} started", next.getFileName());
+    }
+
+    private void open(Path file, FileChannel fileChannel, MappedByteBuffer mapped, int records, long segmentCreatedAt) {
+        this.segment = file;
+        this.channel = fileChannel;
+        this.buffer = mapped;
+        this.capacity = AuditRecordFormat.capacity(mapped.capacity());
+        this.position = records;
+        this.createdAt = segmentCreatedAt;
+        this.dirty = false;
+    }
+
+    private void recover() throws IOException {
+        List<Path> existing = segments(directory);
+        for (int i = existing.size() - 1; i >= 0; i--) {
+            Path last = existing.get(i);
+            FileChannel fileChannel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = fileChannel.size();
+            MappedByteBuffer mapped = size >= AuditRecordFormat.HEADER_SIZE + AuditRecordFormat.RECORD_SIZE
+                    ? fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size) : null;
+            if (mapped == null || !AuditRecordFormat.validHeader(mapped)) {
+                fileChannel.close();
+                Path corrupt = last.resolveSibling(last.getFileName() + ".corrupt");
+                Files.move(last, corrupt, StandardCopyOption.REPLACE_EXISTING);
+                logger.warn("Audit log segment {} has no valid header, moved to {}", last.getFileName(), corrupt.getFileName());
+                continue;
+            }
+            recoverSegment(last, fileChannel, mapped);
+            return;
+        }
+    }
+
+    private void recoverSegment(Path file, FileChannel fileChannel, MappedByteBuffer mapped) {
+        long first = AuditRecordFormat.firstSequence(mapped);
+        int slots = AuditRecordFormat.capacity(mapped.capacity());
+        int records = 0;
+        while (records < slots && AuditRecordFormat.valid(mapped, records, crc)
+                && AuditRecordFormat.sequence(mapped, records) == first + records) {
+            records++;
+        }
+        // 페이지가 순서 없이 내려갔을 수 있으므로 인정한 레코드 뒤는 끝까지 확인해 지움
+        int discarded = 0;
+        for (int slot = records; slot < slots; slot++) {
+            if (!AuditRecordFormat.empty(mapped, slot)) {
+                AuditRecordFormat.clear(mapped, slot);
+                discarded++;
+            }
+        }
+        long segmentCreatedAt = AuditRecordFormat.createdAt(mapped);
+        if (records == 0) {
+            segmentCreatedAt = clock.millis();
+            AuditRecordFormat.writeHeader(mapped, segmentCreatedAt, first);
+        }
+        if (discarded > 0 || records == 0) {
+            mapped.force();
+        }
+        open(file, fileChannel, mapped, records, segmentCreatedAt);
+        nextSequence = first + records;
+        logger.info("Audit log recovered {}: {} records, {} torn records discarded, next sequence {}",
+                file.getFileName(), records, discarded, nextSequence);
+    }
+}
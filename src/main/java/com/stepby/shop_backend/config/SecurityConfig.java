@@ -1,10 +1,16 @@
 package com.stepby.shop_backend.config;
 
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.ratelimit.RateLimitFilter;
+import com.stepby.shop_backend.ratelimit.RateLimiter;
+import com.stepby.shop_backend.security.AdaptiveBCryptPasswordEncoder;
 import com.stepby.shop_backend.security.AuthEntryPointJwt;
 import com.stepby.shop_backend.security.AuthTokenFilter;
 import com.stepby.shop_backend.service.UserDetailsServiceImpl;
+import com.stepby.shop_backend.service.cache.UserSecurityVersionCache;
 import com.stepby.shop_backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,7 +23,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -43,24 +48,40 @@ public class SecurityConfig {
 
     // JWT 토큰 검증 필터 Bean 생성
     @Bean
-    public AuthTokenFilter authenticationJwtTokenFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
-        return new AuthTokenFilter(jwtUtil, userDetailsService);
+    public AuthTokenFilter authenticationJwtTokenFilter(JwtUtil jwtUtil, UserSecurityVersionCache securityVersionCache,
+                                                        AuditLog auditLog) {
+        return new AuthTokenFilter(jwtUtil, securityVersionCache, auditLog);
     }
 
-    // 비밀번호 암호화를 위한 BCryptPasswordEncoder
+    // 클라이언트(IP)별 요청 한도 필터 Bean 생성
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter) {
+        return new RateLimitFilter(rateLimiter);
+    }
+
+    // 비밀번호 암호화를 위한 BCrypt 인코더 (cost 미지정 시 기동 시 목표 해싱 시간에 맞춰 측정)
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.password-hashing.cost:0}") int cost,
+                                           @Value("${app.password-hashing.target-ms:250}") long targetMillis,
+                                           @Value("${app.password-hashing.min-cost:10}") int minCost,
+                                           @Value("${app.password-hashing.max-cost:14}") int maxCost) {
+        if (cost > 0) {
+            return new AdaptiveBCryptPasswordEncoder(cost);
+        }
+        return AdaptiveBCryptPasswordEncoder.calibrated(targetMillis, minCost, maxCost);
     }
 
     // 사용자 정보 로딩 및 비밀번호 검증 담당
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         // SOBOOM님의 환경에서 확인된 1개의 인자(UserDetailsService)만 받는 생성자 사용
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
 
         // PasswordEncoder는 setter 메서드를 통해 별도로 설정 (이전 버전 방식)
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+
+        // 저장된 해시의 cost가 현재 cost와 다르면 로그인 성공 시 재해싱해 저장
+        authProvider.setUserDetailsPasswordService(userDetailsService);
 
         return authProvider;
     }
@@ -91,7 +112,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, AuthTokenFilter authTokenFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthTokenFilter authTokenFilter,
+                                           RateLimitFilter rateLimitFilter,
+                                           DaoAuthenticationProvider authenticationProvider) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable) // CSRF 보호 비활성화 (JWT 사용 시 일반적으로 필요 없음)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
@@ -99,6 +122,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안 함 (JWT는 무상태)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll() // 인증/회원가입 API는 모두 허용
+                        .requestMatchers("/api/products/export").authenticated() // 카탈로그 전체 내보내기는 로그인 필요
                         .requestMatchers("/api/products/**").permitAll() // 상품 조회 API는 모두 허용
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/api/user/me").authenticated()
@@ -108,9 +132,10 @@ public class SecurityConfig {
 
         http.headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)); // H2 콘솔 사용 시 필요
 
-        http.authenticationProvider(authenticationProvider()); // 인증 프로바이더 설정
+        http.authenticationProvider(authenticationProvider); // 인증 프로바이더 설정
 
         http.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class); // JWT 필터 추가
+        http.addFilterBefore(rateLimitFilter, AuthTokenFilter.class); // 한도 초과 요청은 JWT 검증 전에 429
 
         return http.build();
     }
@@ -0,0 +1,226 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.audit.AuditEventType;
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.audit.AuditRecord;
+import com.stepby.shop_backend.datasource.DatabaseAdmissionGate;
+import com.stepby.shop_backend.datasource.ReadReplicaRouter;
+import com.stepby.shop_backend.dto.admin.AuditEventResponse;
+import com.stepby.shop_backend.dto.admin.CuratedCacheStatsResponse;
+import com.stepby.shop_backend.dto.admin.DatabaseAdmissionStatsResponse;
+import com.stepby.shop_backend.dto.admin.ReadReplicaStatsResponse;
+import com.stepby.shop_backend.dto.admin.RepricingRequest;
+import com.stepby.shop_backend.dto.admin.SnapshotStatsResponse;
+import com.stepby.shop_backend.dto.admin.StockLedgerStatsResponse;
+import com.stepby.shop_backend.dto.admin.VirtualThreadPinningReport;
+import com.stepby.shop_backend.metrics.PrometheusMetricsExporter;
+import com.stepby.shop_backend.service.cache.CuratedProductCache;
+import com.stepby.shop_backend.service.diagnostics.VirtualThreadPinningMonitor;
+import com.stepby.shop_backend.service.importer.CatalogImportService;
+import com.stepby.shop_backend.service.importer.ImportFormat;
+import com.stepby.shop_backend.service.importer.UserImportService;
+import com.stepby.shop_backend.service.pricing.RepricingService;
+import com.stepby.shop_backend.service.snapshot.ProductSnapshotService;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 운영용 API (ADMIN 권한 필요)
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+    private final CuratedProductCache curatedProductCache;
+    private final UserImportService userImportService;
+    private final CatalogImportService catalogImportService;
+    private final RepricingService repricingService;
+    private final StockLedger stockLedger;
+    private final ProductSnapshotService productSnapshotService;
+    private final DatabaseAdmissionGate databaseAdmissionGate;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final PrometheusMetricsExporter metricsExporter;
+    private final AuditLog auditLog;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AdminController(CuratedProductCache curatedProductCache, UserImportService userImportService,
+                           CatalogImportService catalogImportService, RepricingService repricingService,
+                           StockLedger stockLedger, ProductSnapshotService productSnapshotService,
+                           DatabaseAdmissionGate databaseAdmissionGate, ReadReplicaRouter readReplicaRouter,
+                           VirtualThreadPinningMonitor pinningMonitor, PrometheusMetricsExporter metricsExporter,
+                           AuditLog auditLog, ObjectMapper objectMapper) {
+        this.curatedProductCache = curatedProductCache;
+        this.userImportService = userImportService;
+        this.catalogImportService = catalogImportService;
+        this.repricingService = repricingService;
+        this.stockLedger = stockLedger;
+        this.productSnapshotService = productSnapshotService;
+        this.databaseAdmissionGate = databaseAdmissionGate;
+        this.readReplicaRouter = readReplicaRouter;
+        this.pinningMonitor = pinningMonitor;
+        this.metricsExporter = metricsExporter;
+        this.auditLog = auditLog;
+        this.objectMapper = objectMapper;
+    }
+
+    // 베스트셀러/신상품 캐시 적중률 및 갱신 지연 시간
+    @GetMapping("/cache/curated")
+    public ResponseEntity<CuratedCacheStatsResponse> getCuratedCacheStats() {
+        return ResponseEntity.ok(curatedProductCache.stats());
+    }
+
+    // 큐레이션 목록 강제 갱신 (기존 값은 갱신 완료 전까지 계속 제공)
+    @PostMapping("/cache/curated/invalidate")
+    public ResponseEntity<Void> invalidateCuratedCache() {
+        curatedProductCache.invalidate();
+        return ResponseEntity.accepted().build();
+    }
+
+    // 목록/상세 응답 스냅샷 현황 (카탈로그 버전, 적중/생성/304 횟수)
+    @GetMapping("/cache/snapshots")
+    public ResponseEntity<SnapshotStatsResponse> getSnapshotStats() {
+        return ResponseEntity.ok(productSnapshotService.stats());
+    }
+
+    // DB를 직접 바꾼 경우(시드/수동 SQL) 모든 스냅샷을 다시 만들도록 함
+    @PostMapping("/cache/snapshots/invalidate")
+    public ResponseEntity<Void> invalidateSnapshots() {
+        productSnapshotService.invalidateAll();
+        return ResponseEntity.accepted().build();
+    }
+
+    // 재고 원장 현황 (보류/확정/만료 수, DB 미반영 수량, 쓰기 지연 충돌)
+    @GetMapping("/stock/ledger")
+    public ResponseEntity<StockLedgerStatsResponse> getStockLedgerStats() {
+        return ResponseEntity.ok(stockLedger.stats());
+    }
+
+    // DB 입장 제어 현황 (허가 사용/대기 수, 대기 시간, 503 거절 수)
+    @GetMapping("/db/admission")
+    public ResponseEntity<DatabaseAdmissionStatsResponse> getDatabaseAdmissionStats() {
+        return ResponseEntity.ok(databaseAdmissionGate.stats());
+    }
+
+    // 읽기 복제본 현황 (상태, 복제본별 읽기/실패 수, 기본 DB로 돌린 읽기 수)
+    @GetMapping("/db/replicas")
+    public ResponseEntity<ReadReplicaStatsResponse> getReadReplicaStats() {
+        return ResponseEntity.ok(readReplicaRouter.stats());
+    }
+
+    // 가상 스레드 고정(pinning) 위치별 횟수/시간 (app.virtual-threads.pinning.enabled일 때 수집)
+    @GetMapping("/threads/pinning")
+    public ResponseEntity<VirtualThreadPinningReport> getPinningReport() {
+        return ResponseEntity.ok(pinningMonitor.report());
+    }
+
+    @PostMapping("/threads/pinning/reset")
+    public ResponseEntity<Void> resetPinningReport() {
+        pinningMonitor.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    // 엔드포인트별 지연 시간/SQL 문 수, JWT·BCrypt 시간, 커넥션 풀 대기 시간 (Prometheus 텍스트 형식)
+    @GetMapping(value = "/metrics", produces = PrometheusMetricsExporter.CONTENT_TYPE)
+    public ResponseEntity<String> getMetrics() {
+        return ResponseEntity.ok(metricsExporter.scrape());
+    }
+
+    // 인증 감사 로그 조회 (최신순). from/to는 서버 시간대 기준, 생략하면 최근 24시간
+    @GetMapping("/audit")
+    public ResponseEntity<List<AuditEventResponse>> getAuditEvents(
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "type", required = false) AuditEventType type,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        ZoneId zone = ZoneId.systemDefault();
+        Instant end = to != null ? to.atZone(zone).toInstant() : Instant.now().plusSeconds(1);
+        Instant start = from != null ? from.atZone(zone).toInstant() : end.minusSeconds(24 * 60 * 60);
+        List<AuditRecord> records = auditLog.query(email == null || email.isBlank() ? null : email.trim(), start, end,
+                type, Math.clamp(limit, 1, 1000));
+        return ResponseEntity.ok(records.stream()
+                .map(record -> AuditEventResponse.builder()
+                        .sequence(record.sequence())
+                        .occurredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestampMillis()), zone))
+                        .type(String.valueOf(record.type()))
+                        .reason(String.valueOf(record.reason()))
+                        .email(record.email())
+                        .ip(record.ip())
+                        .build())
+                .toList());
+    }
+
+    // 사용자 일괄 등록 (NDJSON 또는 CSV 스트림). 행 단위 오류와 청크별 진행 현황을 NDJSON으로 바로 흘려보냄
+    @PostMapping(value = "/users/import", consumes = {ImportFormat.NDJSON_VALUE, "text/csv"},
+            produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request) {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        StreamingResponseBody body = out -> userImportService.importUsers(request.getInputStream(), format,
+                line -> writeLine(out, line, !"error".equals(line.getType())));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImportFormat.NDJSON_VALUE))
+                .body(body);
+    }
+
+    // 카탈로그 일괄 등록/갱신 (공급사 피드, NDJSON 또는 CSV). SKU 기준 upsert, 행 단위 오류/배치별 진행 현황/단계별 처리량을 NDJSON으로 흘려보냄
+    // 실패한 배치가 있으면 첫 줄의 jobId를 붙여(?jobId=...) 같은 피드를 다시 보내면 반영된 배치는 건너뜀
+    @PostMapping(value = "/catalog/import", consumes = {ImportFormat.NDJSON_VALUE, "text/csv"},
+            produces = ImportFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCatalog(HttpServletRequest request,
+                                                               @RequestParam(value = "jobId", required = false) String jobId) {
+        if (jobId != null && !jobId.matches("[0-9a-fA-F-]{36}")) {
+            return ResponseEntity.badRequest().build();
+        }
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        StreamingResponseBody body = out -> catalogImportService.importCatalog(request.getInputStream(), format, jobId,
+                line -> writeLine(out, line, !"error".equals(line.getType())));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImportFormat.NDJSON_VALUE))
+                .body(body);
+    }
+
+    // 일괄 가격 변경 (규칙별 할인율 / id별 가격). 트랜잭션 하나에서 청크 단위 UPDATE 후 인메모리 인덱스/스냅샷을 한 번에 교체
+    @PostMapping("/products/reprice")
+    public ResponseEntity<?> repriceProducts(@Valid @RequestBody RepricingRequest request) {
+        try {
+            return ResponseEntity.ok(repricingService.reprice(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // NDJSON 한 줄 쓰기. 행 단위 오류는 모아서 보내도록 flush하지 않음
+    private void writeLine(OutputStream out, Object line, boolean flush) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            if (flush) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
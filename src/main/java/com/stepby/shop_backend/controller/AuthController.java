@@ -1,56 +1,64 @@
 package com.stepby.shop_backend.controller;
 
+import com.stepby.shop_backend.audit.AuditEventType;
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.audit.AuditReason;
 import com.stepby.shop_backend.dto.auth.AuthResponse;
 import com.stepby.shop_backend.dto.auth.LoginRequest;
 import com.stepby.shop_backend.dto.auth.RegisterRequest;
 import com.stepby.shop_backend.entity.Gender;
 import com.stepby.shop_backend.entity.Role;
 import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.ratelimit.RateLimiter;
 import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.security.PasswordAuthenticator;
+import com.stepby.shop_backend.security.PasswordHashingBusyException;
 import com.stepby.shop_backend.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordAuthenticator passwordAuthenticator;
+    private final AuditLog auditLog;
+    private final RateLimiter rateLimiter;
 
     @Autowired
-    public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository,
-                          PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
-        this.authenticationManager = authenticationManager;
+    public AuthController(UserRepository userRepository, JwtUtil jwtUtil, PasswordAuthenticator passwordAuthenticator,
+                          AuditLog auditLog, RateLimiter rateLimiter) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.passwordAuthenticator = passwordAuthenticator;
+        this.auditLog = auditLog;
+        this.rateLimiter = rateLimiter;
     }
 
-    //회원가입 API
+    //회원가입 API (해싱만 전용 풀에서 수행하고 저장은 그 뒤 비동기 스레드에서, 서블릿 스레드는 즉시 반납)
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody RegisterRequest registerRequest,
+                                                             HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr(); // 요청 객체는 비동기 완료 후 재사용될 수 있으므로 미리 꺼냄
         if ( userRepository.existsByEmail(registerRequest.getEmail())) {
-            return ResponseEntity.badRequest().body("Error: 이메일이 이미 사용 중입니다!");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Error: 이메일이 이미 사용 중입니다!"));
         }
 
         User user = new User();
         user.setEmail(registerRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
         user.setRole(Role.USER);
 
         user.setRealName(registerRequest.getRealName());
@@ -58,38 +66,72 @@ public class AuthController {
         try{
             user.setGender(Gender.valueOf(registerRequest.getGender().toUpperCase()));
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("Error: 유효하지 않은 성별 값입니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Error: 유효하지 않은 성별 값입니다."));
         }
         user.setPhoneNumber(registerRequest.getPhoneNumber());
         user.setZonecode(registerRequest.getZonecode());
         user.setAddress(registerRequest.getAddress());
         user.setDetailAddress(registerRequest.getDetailAddress());
 
-        userRepository.save(user);
-
-        return ResponseEntity.status(HttpStatus.CREATED).body("회원가입이 성공적으로 완료되었습니다.");
+        return passwordAuthenticator.encode(registerRequest.getPassword())
+                .<ResponseEntity<?>>thenApply(encodedPassword -> {
+                    user.setPassword(encodedPassword);
+                    userRepository.save(user);
+                    auditLog.record(AuditEventType.REGISTER, AuditReason.NONE, user.getEmail(), remoteAddress);
+                    return ResponseEntity.status(HttpStatus.CREATED).body("회원가입이 성공적으로 완료되었습니다.");
+                })
+                .exceptionally(AuthController::busyResponse);
     }
 
-    // 로그인 API
+    // 로그인 API (사용자 조회는 요청 스레드에서, 비밀번호 검증과 필요 시 재해싱만 전용 풀에서 수행)
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest){
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                                 HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        // 한 계정에 대한 대입 공격은 IP를 바꿔 가며 오므로 이메일별 한도는 IP 한도와 따로 검사 (BCrypt 전에 거부)
+        long wait = rateLimiter.acquireLoginEmail(loginRequest.getEmail());
+        if (wait > 0) {
+            auditLog.record(AuditEventType.LOGIN_FAILURE, AuditReason.RATE_LIMITED, loginRequest.getEmail(), remoteAddress);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)))
+                    .body("Error: 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return passwordAuthenticator.authenticate(loginRequest.getEmail(), loginRequest.getPassword())
+                .whenComplete((userDetails, error) -> auditLogin(loginRequest.getEmail(), remoteAddress, error))
+                .<ResponseEntity<?>>thenApply(userDetails -> {
+                    //JWT 토큰 생성
+                    String jwt = jwtUtil.generateJwtToken(userDetails);
 
-        //JWT 토큰 생성
-        String jwt = jwtUtil.generateJwtToken(authentication);
+                    return ResponseEntity.ok(AuthResponse.builder()
+                            .accessToken(jwt)
+                            .userId(userDetails.getId())
+                            .email(userDetails.getEmail())
+                            .role(userDetails.getRole().name())
+                            .build());
+                })
+                .exceptionally(AuthController::busyResponse);
+    }
 
-        //인증된 사용자 정보 가져오기
-        User userDetails = (User) authentication.getPrincipal();
+    // 해싱 풀 포화로 시도조차 못 한 요청은 로그인 시도로 남기지 않음
+    private void auditLogin(String email, String remoteAddress, Throwable error) {
+        if (error == null) {
+            auditLog.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, email, remoteAddress);
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof PasswordHashingBusyException)) {
+            auditLog.record(AuditEventType.LOGIN_FAILURE, AuditReason.ofLoginFailure(cause), email, remoteAddress);
+        }
+    }
 
-        return ResponseEntity.ok(AuthResponse.builder()
-                .accessToken(jwt)
-                .userId(userDetails.getId())
-                .email(userDetails.getEmail())
-                .role(userDetails.getRole().name())
-                .build());
+    // 해싱 풀 포화 → 503 + Retry-After, 그 외 예외(인증 실패 등)는 기존 처리 흐름으로 전달
+    private static ResponseEntity<?> busyResponse(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PasswordHashingBusyException busy) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()))
+                    .body("Error: 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        throw cause instanceof CompletionException completion ? completion : new CompletionException(cause);
     }
 }
@@ -1,72 +1,217 @@
 package com.stepby.shop_backend.controller;
 
+import com.stepby.shop_backend.dto.product.ProductAvailabilityResponse;
+import com.stepby.shop_backend.dto.product.ProductFacetResponse;
 import com.stepby.shop_backend.dto.product.ProductResponseDto;
-import com.stepby.shop_backend.entity.Product;
-import com.stepby.shop_backend.repository.ProductRepository;
-import com.stepby.shop_backend.service.ProductService;
+import com.stepby.shop_backend.dto.product.ProductSort;
+import com.stepby.shop_backend.service.availability.ProductAvailabilityService;
+import com.stepby.shop_backend.service.cache.CuratedList;
+import com.stepby.shop_backend.service.export.ProductExportService;
+import com.stepby.shop_backend.service.facet.Facet;
+import com.stepby.shop_backend.service.facet.FacetQuery;
+import com.stepby.shop_backend.service.facet.ProductFacetService;
+import com.stepby.shop_backend.service.search.ProductSearchService;
+import com.stepby.shop_backend.service.snapshot.JsonSnapshot;
+import com.stepby.shop_backend.service.snapshot.ProductSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
-    private final ProductService productService;
-    private final ProductRepository productRepository;
+    private final ProductSnapshotService productSnapshotService;
+    private final ProductSearchService productSearchService;
+    private final ProductAvailabilityService productAvailabilityService;
+    private final ProductFacetService productFacetService;
+    private final ProductExportService productExportService;
 
     @Autowired
-    public ProductController(ProductRepository productRepository, ProductService productService) {
-        this.productRepository = productRepository;
-        this.productService = productService;
+    public ProductController(ProductSnapshotService productSnapshotService, ProductSearchService productSearchService,
+                             ProductAvailabilityService productAvailabilityService,
+                             ProductFacetService productFacetService, ProductExportService productExportService) {
+        this.productSnapshotService = productSnapshotService;
+        this.productSearchService = productSearchService;
+        this.productAvailabilityService = productAvailabilityService;
+        this.productFacetService = productFacetService;
+        this.productExportService = productExportService;
     }
 
 
-    // 모든 상품 조회
+    // 상품 목록 조회 (커서 기반 페이지네이션)
+    // sort: price_asc | price_desc | rating | reviews | newest, cursor: 이전 응답의 nextCursor
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getAllProducts(@RequestParam(value = "sort", defaultValue = "newest") String sort,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "20") int size,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            JsonSnapshot page = productSnapshotService.page(ProductSort.from(sort), cursor, size);
+            return snapshotResponse(page, ifNoneMatch, acceptEncoding);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
 
     //  ID를 통해 특정 상품 상세 정보 조회
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable String id) {
-        return productService.getProductById(id)
+    public ResponseEntity<byte[]> getProductById(@PathVariable String id,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return productSnapshotService.detail(id)
+                .map(snapshot -> snapshotResponse(snapshot, ifNoneMatch, acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // 색상×사이즈 재고 현황 (메모리 인덱스에서 제공, product_variants 조회 없음)
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ProductAvailabilityResponse> getAvailability(@PathVariable String id) {
+        return productAvailabilityService.get(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 여러 상품의 재고 현황을 한 번에 조회 (ids=a,b,c, 최대 100개). 없는 상품은 결과에서 빠짐
+    @GetMapping("/availability")
+    public ResponseEntity<?> getAvailabilities(@RequestParam("ids") List<String> ids) {
+        try {
+            return ResponseEntity.ok(productAvailabilityService.getAll(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 패싯 필터 + 패싯별 개수 (메모리 비트맵 인덱스, DB 접근 없음)
+    // category/gender/brand/color/size는 여러 번 지정 가능(OR), kids/discounted/inStock은 true|false,
+    // 가격은 minPrice/maxPrice (실제 판매가 기준, 포함). limit: 반환할 상품 수 (0이면 개수만)
+    @GetMapping("/facets")
+    public ResponseEntity<?> getFacets(@RequestParam(value = "category", required = false) List<String> category,
+                                       @RequestParam(value = "gender", required = false) List<String> gender,
+                                       @RequestParam(value = "brand", required = false) List<String> brand,
+                                       @RequestParam(value = "color", required = false) List<String> color,
+                                       @RequestParam(value = "size", required = false) List<String> size,
+                                       @RequestParam(value = "kids", required = false) Boolean kids,
+                                       @RequestParam(value = "discounted", required = false) Boolean discounted,
+                                       @RequestParam(value = "inStock", required = false) Boolean inStock,
+                                       @RequestParam(value = "minPrice", required = false) Integer minPrice,
+                                       @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+                                       @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        Map<Facet, List<String>> selected = new EnumMap<>(Facet.class);
+        selected.put(Facet.CATEGORY, category);
+        selected.put(Facet.GENDER, gender);
+        selected.put(Facet.BRAND, brand);
+        selected.put(Facet.COLOR, color);
+        selected.put(Facet.SIZE, size);
+        selected.put(Facet.KIDS, kids != null ? List.of(kids.toString()) : null);
+        selected.put(Facet.DISCOUNTED, discounted != null ? List.of(discounted.toString()) : null);
+        selected.put(Facet.IN_STOCK, inStock != null ? List.of(inStock.toString()) : null);
+        try {
+            ProductFacetResponse response = productFacetService.query(FacetQuery.of(selected, minPrice, maxPrice), limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 전체 카탈로그 NDJSON 스트리밍 내보내기 (로그인 필요). 한 줄 = 상품 하나 (변형/요소 컬렉션 포함), updatedAt, id 순
+    // since(ISO 날짜시간, 포함, 형식이 틀리면 400)를 주면 그 이후 수정된 상품만. 응답의 X-Export-Started-At을 다음 since로 쓰면 됨
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // syncFlush: 청크마다 flush하면 압축된 바이트도 바로 전송됨
+                try (OutputStream gzipped = new GZIPOutputStream(out, 8192, true)) {
+                    productExportService.export(since, gzipped);
+                }
+            } else {
+                productExportService.export(since, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .header("X-Export-Started-At", startedAt.toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/bestsellers")
-    public ResponseEntity<List<ProductResponseDto>> getBestSellers() {
-        List<ProductResponseDto> bestSellers = productService.getBestSellers();
-        return ResponseEntity.ok(bestSellers);
+    public ResponseEntity<byte[]> getBestSellers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotResponse(productSnapshotService.curated(CuratedList.BEST_SELLERS), ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/new-arrivals")
-    public ResponseEntity<List<ProductResponseDto>> getNewArrivals() {
-        List<ProductResponseDto> newArrivals = productService.getNewArrivals();
-        return ResponseEntity.ok(newArrivals);
+    public ResponseEntity<byte[]> getNewArrivals(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshotResponse(productSnapshotService.curated(CuratedList.NEW_ARRIVALS), ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ProductResponseDto>> searchProducts(@RequestParam("q") String query) {
+    public ResponseEntity<List<ProductResponseDto>> searchProducts(@RequestParam("q") String query,
+                                                                   @RequestParam(value = "limit", defaultValue = "100") int limit) {
         // q 파라미터로 검색어를 받습니다.
         if (query == null || query.trim().isEmpty()) {
             // 검색어가 없으면 빈 리스트 반환 또는 모든 상품 반환
             return ResponseEntity.ok(List.of()); // 빈 리스트 반환 예시
         }
 
-        List<Product> products = productRepository.findByNameContainingIgnoreCaseOrBrandContainingIgnoreCase(query, query);
-
-        List<ProductResponseDto> productDtos = products.stream()
-                .map(ProductResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        // 인메모리 n-gram 인덱스에서 관련도 순으로 조회 (DB 접근 없음)
+        return ResponseEntity.ok(productSearchService.search(query, limit));
+    }
 
-        return ResponseEntity.ok(productDtos);
+    // 직렬화된 스냅샷을 그대로 전송. ETag가 일치하면 본문 없이 304, gzip을 받는 클라이언트에는 미리 압축한 본문
+    private ResponseEntity<byte[]> snapshotResponse(JsonSnapshot snapshot, String ifNoneMatch, String acceptEncoding) {
+        if (snapshot.matches(ifNoneMatch)) {
+            productSnapshotService.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        byte[] gzipped = acceptsGzip(acceptEncoding) ? snapshot.gzipped() : null;
+        if (gzipped != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+        }
+        return response.body(snapshot.body());
     }
 
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,70 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.dto.stock.StockReservationRequest;
+import com.stepby.shop_backend.dto.stock.StockReservationResponse;
+import com.stepby.shop_backend.security.AuthenticatedUser;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import com.stepby.shop_backend.service.stock.StockReservation;
+import com.stepby.shop_backend.service.stock.StockReservationException;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+// 재고 보류 API: 보류(reserve) → 결제 완료 시 확정(commit) 또는 취소(release). 확정하지 않은 보류는 TTL 후 자동 해제
+@RestController
+@RequestMapping("/api/stock/reservations")
+@PreAuthorize("isAuthenticated()")
+public class StockController {
+    private final StockLedger stockLedger;
+
+    @Autowired
+    public StockController(StockLedger stockLedger) {
+        this.stockLedger = stockLedger;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> reserve(@AuthenticationPrincipal AuthenticatedUser principal,
+                                     @Valid @RequestBody StockReservationRequest request) {
+        try {
+            StockReservation reservation = stockLedger.reserve(request.getVariantId(), principal.id(), request.getQuantity());
+            return ResponseEntity.status(HttpStatus.CREATED).body(StockReservationResponse.of(reservation, "HELD"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (StockReservationException e) {
+            return failure(e);
+        }
+    }
+
+    @PostMapping("/{reservationId}/commit")
+    public ResponseEntity<?> commit(@AuthenticationPrincipal AuthenticatedUser principal,
+                                    @PathVariable String reservationId) {
+        try {
+            return ResponseEntity.ok(StockReservationResponse.of(stockLedger.commit(reservationId, principal.id()), "COMMITTED"));
+        } catch (StockReservationException e) {
+            return failure(e);
+        }
+    }
+
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<?> release(@AuthenticationPrincipal AuthenticatedUser principal,
+                                     @PathVariable String reservationId) {
+        try {
+            stockLedger.release(reservationId, principal.id());
+            return ResponseEntity.noContent().build();
+        } catch (StockReservationException e) {
+            return failure(e);
+        }
+    }
+
+    private static ResponseEntity<String> failure(StockReservationException e) {
+        HttpStatus status = switch (e.getReason()) {
+            case UNKNOWN_VARIANT, RESERVATION_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case INSUFFICIENT_STOCK -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(e.getMessage());
+    }
+}
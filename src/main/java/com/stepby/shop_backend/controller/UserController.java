@@ -1,12 +1,12 @@
 package com.stepby.shop_backend.controller;
 
 import com.stepby.shop_backend.dto.auth.UserResponse;
-import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.security.AuthenticatedUser;
+import com.stepby.shop_backend.service.cache.UserProfileCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,21 +14,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/user")
 public class UserController {
-    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
     @Autowired
-    public UserController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserController(UserProfileCache userProfileCache) {
+        this.userProfileCache = userProfileCache;
     }
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<UserResponse> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-
-        return userRepository.findByEmail(userEmail)
-                .map(UserResponse::fromEntity)
+    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return userProfileCache.get(principal.id())
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,74 @@
+package com.stepby.shop_backend.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 내주기 전에 DatabaseAdmissionGate의 허가를 받고, 커넥션을 닫을 때 허가를 돌려주는 DataSource.
+ * 반환하는 커넥션은 close/isClosed만 재정의한 DelegatingConnection이므로 Spring/Hibernate가 원래 커넥션을 꺼낼 수 있습니다.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    private final DatabaseAdmissionGate gate;
+
+    public AdmissionControlDataSource(DataSource targetDataSource, DatabaseAdmissionGate gate) {
+        super(targetDataSource);
+        this.gate = gate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        gate.acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            gate.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        gate.acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            gate.release();
+            throw e;
+        }
+    }
+
+    private Connection admitted(Connection target) {
+        return new AdmittedConnection(target);
+    }
+
+    private final class AdmittedConnection extends DelegatingConnection {
+
+        // close가 여러 번 호출되어도 허가는 한 번만 반납
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private AdmittedConnection(Connection target) {
+            super(target);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    super.close();
+                } finally {
+                    gate.release();
+                }
+            }
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return closed.get() || super.isClosed();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.stepby.shop_backend.datasource;
+
+import com.stepby.shop_backend.dto.admin.DatabaseAdmissionStatsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 커넥션 입장 제어. 커넥션 풀 크기만큼의 허가(permit)를 공정(FIFO) 세마포어로 나눠 줍니다.
+ * <p>
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 제어가 없으면 수천 개의 스레드가 동시에 Hikari에서
+ * 커넥션을 기다리다 connection-timeout(기본 30초)에 한꺼번에 실패합니다. 여기서 먼저 순서대로 줄을 세우고
+ * max-wait 안에 차례가 오지 않으면 DatabaseBusyException(→ 503 + Retry-After)으로 빨리 실패시킵니다.
+ * <p>
+ * 허가는 커넥션을 반납(close)할 때 돌려받습니다. 한 요청이 커넥션을 두 개 잡으면 허가도 두 개 사용합니다.
+ */
+@Component
+public class DatabaseAdmissionGate {
+
+    private final boolean enabled;
+    private final int permits;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+    private final Semaphore semaphore;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    @Autowired
+    public DatabaseAdmissionGate(@Value("${app.db-admission.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                                 @Value("${app.db-admission.permits:0}") int permits,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                 @Value("${app.db-admission.max-wait:PT2S}") Duration maxWait,
+                                 @Value("${app.db-admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        // 0이면 커넥션 풀 크기 (풀보다 많이 들여보내면 초과분은 어차피 Hikari에서 기다림)
+        this.enabled = enabled;
+        this.permits = permits > 0 ? permits : poolSize;
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.semaphore = new Semaphore(this.permits, true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 같은 대기 설정으로 다른 커넥션 풀(읽기 복제본)용 게이트를 만듦. 허가 수는 그 풀의 크기
+    DatabaseAdmissionGate forPool(int poolSize) {
+        return new DatabaseAdmissionGate(enabled, poolSize, poolSize, maxWait, retryAfterSeconds);
+    }
+
+    // 차례가 올 때까지 기다림. max-wait 안에 오지 않으면 DatabaseBusyException
+    void acquire() throws DatabaseBusyException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new DatabaseBusyException(retryAfterSeconds);
+        }
+        long waited = System.nanoTime() - start;
+        if (!acquired) {
+            rejected.increment();
+            throw new DatabaseBusyException(retryAfterSeconds);
+        }
+        admitted.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    void release() {
+        semaphore.release();
+    }
+
+    public DatabaseAdmissionStatsResponse stats() {
+        long admittedCount = admitted.sum();
+        return DatabaseAdmissionStatsResponse.builder()
+                .enabled(enabled)
+                .permits(permits)
+                .inUse(permits - semaphore.availablePermits())
+                .waiting(semaphore.getQueueLength())
+                .admitted(admittedCount)
+                .rejected(rejected.sum())
+                .averageWaitMillis(admittedCount == 0 ? 0 : totalWaitNanos.sum() / admittedCount / 1_000_000.0)
+                .maxWaitMillis(maxWaitNanos.get() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.stepby.shop_backend.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * app.db-admission.enabled면 기본 DataSource(Hikari)를 AdmissionControlDataSource로 감쌉니다.
+ * JPA/JdbcTemplate 모두 같은 빈을 쓰므로 모든 DB 접근이 입장 제어를 거칩니다.
+ * 읽기 복제본 라우팅(ReadReplicaRoutingPostProcessor)보다 먼저 감싸므로 허가는 기본 DB 커넥션을 실제로 얻을 때만 씁니다
+ * (복제본 풀은 ReadReplicaRouter가 풀마다 게이트를 따로 둠).
+ */
+@Component
+public class DatabaseAdmissionPostProcessor implements BeanPostProcessor, Ordered {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // 후처리기는 다른 빈보다 먼저 만들어지므로 게이트는 필요할 때 꺼냄
+    private final ObjectProvider<DatabaseAdmissionGate> gate;
+
+    public DatabaseAdmissionPostProcessor(ObjectProvider<DatabaseAdmissionGate> gate) {
+        this.gate = gate;
+    }
+
+    @Override
+    public int getOrder() {
+        return ReadReplicaRoutingPostProcessor.ORDER - 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                && !(bean instanceof AdmissionControlDataSource)) {
+            DatabaseAdmissionGate admissionGate = gate.getObject();
+            if (admissionGate.isEnabled()) {
+                return new AdmissionControlDataSource(dataSource, admissionGate);
+            }
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,16 @@
+package com.stepby.shop_backend.datasource;
+
+import lombok.Getter;
+
+import java.sql.SQLTransientConnectionException;
+
+// DB 입장 대기(max-wait)가 끝날 때까지 커넥션 차례가 오지 않은 경우 (DatabaseBusyFilter에서 503으로 응답)
+@Getter
+public class DatabaseBusyException extends SQLTransientConnectionException {
+    private final long retryAfterSeconds;
+
+    public DatabaseBusyException(long retryAfterSeconds) {
+        super("Database admission wait timed out", "08001");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.stepby.shop_backend.datasource;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽기 복제본이 설정되어 있어도 기본 DB에서 읽는 읽기 전용 TransactionTemplate.
+ * <p>
+ * 공유 캐시(상세 스냅샷, 큐레이션 목록, 사용자 프로필)와 인메모리 인덱스를 채우는 조회에 씁니다.
+ * 변경 직후 무효화된 항목을 지연된 복제본에서 다시 읽으면 오래된 값이 새 버전으로 캐시되어 다음 변경까지 모든 요청에 나가므로,
+ * 복제본에는 요청 하나의 응답에만 쓰이는 조회만 보냅니다. execute 동안 이 스레드에서 ReadReplicaRouter가
+ * 읽기 전용 커넥션을 기본 DB에서 줍니다. 이미 커넥션을 얻은 바깥 트랜잭션에 참여하면 그 커넥션을 그대로 씁니다.
+ */
+public class PrimaryReadTransactionTemplate extends TransactionTemplate {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    public PrimaryReadTransactionTemplate(PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        setReadOnly(true);
+    }
+
+    @Override
+    public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+        if (ACTIVE.get() != null) {
+            return super.execute(action);
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return super.execute(action);
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    // 이 스레드가 기본 DB 고정 읽기 중인지 (ReadReplicaRouter가 읽기 전용 커넥션을 줄 때 확인)
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,347 @@
+package com.stepby.shop_backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepby.shop_backend.dto.admin.ReadReplicaStatsResponse;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true), 읽기 전용 TransactionTemplate)을 읽기 복제본으로 보냅니다.
+ * <p>
+ * app.read-replicas.urls가 있으면 ReadReplicaRoutingPostProcessor가 기본 DataSource를 LazyConnectionDataSourceProxy로
+ * 감싸고 여기의 복제본 DataSource를 읽기 전용 커넥션용으로 지정합니다. 트랜잭션 매니저가 커넥션에 readOnly를 표시한 뒤
+ * 첫 SQL을 실행할 때 실제 커넥션을 얻으므로 그 시점에 대상이 정해집니다. 트랜잭션 밖의 조회와 쓰기는 기본 DB로 갑니다.
+ * <p>
+ * - 선택: round-robin 또는 least-connections(Hikari 사용 중 커넥션이 가장 적은 복제본)
+ * - 상태 확인: health-check-interval마다 커넥션을 얻어 isValid. 커넥션을 얻다 실패해도 바로 제외하고 다음 복제본으로,
+ *   쓸 수 있는 복제본이 없으면 기본 DB에서 읽음 (다음 확인에서 살아나면 다시 포함)
+ * - read-your-writes: 로그인한 사용자가 쓰기 트랜잭션을 커밋하면 그 뒤 이 시간 동안은 그 사용자의 읽기도 기본 DB로
+ *   (복제 지연 때문에 방금 바꾼 값이 안 보이는 문제 방지, 0이면 끔)
+ * - 공유 캐시/인덱스 적재: PrimaryReadTransactionTemplate 안의 읽기는 기본 DB로
+ */
+@Component
+public class ReadReplicaRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS;
+
+        static Selection parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, HikariDataSource pool, DataSource dataSource) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean != null ? bean.getActiveConnections() : 0;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final Duration readYourWrites;
+    private final Duration connectionTimeout;
+    // 최근 쓰기를 커밋한 사용자 이름 (값은 의미 없음, read-your-writes 시간이 지나면 만료)
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder readYourWritesReads = new LongAdder();
+    private final LongAdder primaryPinnedReads = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+    private final ScheduledExecutorService healthChecker;
+
+    private volatile DataSource primary;
+
+    @Autowired
+    public ReadReplicaRouter(@Value("${app.read-replicas.urls:}") String[] urls,
+                             @Value("${app.read-replicas.username:${spring.datasource.username:}}") String username,
+                             @Value("${app.read-replicas.password:${spring.datasource.password:}}") String password,
+                             @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+                             @Value("${app.read-replicas.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+                             @Value("${app.read-replicas.selection:round-robin}") String selection,
+                             @Value("${app.read-replicas.connection-timeout:PT1S}") Duration connectionTimeout,
+                             @Value("${app.read-replicas.health-check-interval:PT5S}") Duration healthCheckInterval,
+                             @Value("${app.read-replicas.read-your-writes:PT2S}") Duration readYourWrites,
+                             MetricsTrackerFactory connectionPoolMetrics, DatabaseAdmissionGate admissionGate) {
+        this.selection = Selection.parse(selection);
+        this.readYourWrites = readYourWrites;
+        this.connectionTimeout = connectionTimeout;
+        this.recentWriters = readYourWrites.isZero() ? null
+                : Caffeine.newBuilder().expireAfterWrite(readYourWrites).<String, Boolean>build();
+
+        List<Replica> pools = new ArrayList<>();
+        List<String> replicaUrls = Arrays.stream(urls).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(replicaUrls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            if (!driverClassName.isBlank()) {
+                config.setDriverClassName(driverClassName);
+            }
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // 복제본이 죽어 있으면 오래 기다리지 않고 다음 복제본/기본 DB로 넘어가도록 짧게. 기동은 막지 않음
+            config.setConnectionTimeout(Math.max(250, connectionTimeout.toMillis()));
+            config.setInitializationFailTimeout(-1);
+            if (connectionPoolMetrics != null) {
+                config.setMetricsTrackerFactory(connectionPoolMetrics);
+            }
+            HikariDataSource pool = new HikariDataSource(config);
+            DataSource dataSource = admissionGate != null && admissionGate.isEnabled()
+                    ? new AdmissionControlDataSource(pool, admissionGate.forPool(poolSize)) : pool;
+            pools.add(new Replica(config.getPoolName(), pool, dataSource));
+        }
+        this.replicas = List.copyOf(pools);
+
+        if (replicas.isEmpty() || healthCheckInterval.isZero()) {
+            this.healthChecker = null;
+            return;
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "read-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, healthCheckInterval.toMillis());
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Routing read-only transactions to {} replica(s) ({}, read-your-writes {})", replicas.size(),
+                this.selection, readYourWrites.isZero() ? "off" : readYourWrites);
+    }
+
+    public boolean isEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * 기본 DataSource를 읽기/쓰기 라우팅 프록시로 감쌉니다. 읽기 전용 커넥션은 복제본에서, 나머지는 primary에서 얻습니다.
+     */
+    public DataSource route(DataSource primary) {
+        this.primary = primary;
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                recentWriters == null ? primary : new WriteTrackingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReplicaDataSource());
+        return proxy;
+    }
+
+    // 복제본마다 커넥션을 얻어 확인. 커넥션이 모두 사용 중이면 살아 있는 것으로 봄 (부하 때문에 빼지 않도록)
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            HikariPoolMXBean bean = replica.pool.getHikariPoolMXBean();
+            if (bean != null && bean.getIdleConnections() == 0 && bean.getActiveConnections() > 0) {
+                markHealthy(replica, true, null);
+                continue;
+            }
+            try (Connection connection = replica.pool.getConnection()) {
+                boolean valid = connection.isValid((int) Math.max(1, connectionTimeout.toSeconds()));
+                markHealthy(replica, valid, valid ? null : "validation failed");
+            } catch (SQLException | RuntimeException e) {
+                markHealthy(replica, false, e.getMessage());
+            }
+        }
+    }
+
+    public ReadReplicaStatsResponse stats() {
+        return ReadReplicaStatsResponse.builder()
+                .enabled(isEnabled())
+                .selection(selection.name())
+                .readYourWritesMillis(readYourWrites.toMillis())
+                .readYourWritesReads(readYourWritesReads.sum())
+                .primaryPinnedReads(primaryPinnedReads.sum())
+                .primaryFallbacks(primaryFallbacks.sum())
+                .replicas(replicas.stream()
+                        .map(replica -> {
+                            HikariPoolMXBean bean = replica.pool.getHikariPoolMXBean();
+                            return ReadReplicaStatsResponse.Replica.builder()
+                                    .name(replica.name)
+                                    .healthy(replica.healthy)
+                                    .active(bean != null ? bean.getActiveConnections() : 0)
+                                    .idle(bean != null ? bean.getIdleConnections() : 0)
+                                    .reads(replica.reads.sum())
+                                    .failures(replica.failures.sum())
+                                    .build();
+                        })
+                        .toList())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private Connection readConnection() throws SQLException {
+        if (PrimaryReadTransactionTemplate.isActive()) {
+            primaryPinnedReads.increment();
+            return primary.getConnection();
+        }
+        String user = currentUser();
+        if (user != null && recentWriters != null && recentWriters.getIfPresent(user) != null) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        int start = start();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (DatabaseBusyException e) {
+                // 입장 대기 시간 초과는 복제본 장애가 아님 (503으로 응답)
+                throw e;
+            } catch (SQLException e) {
+                replica.failures.increment();
+                markHealthy(replica, false, e.getMessage());
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    // 이번 요청이 먼저 살펴볼 복제본 위치
+    private int start() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return start;
+        }
+        // 사용 중 커넥션이 가장 적은 복제본 (같으면 돌아가며 선택되도록 start부터 비교)
+        int best = start;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            Replica replica = replicas.get(index);
+            if (replica.healthy && replica.activeConnections() < bestActive) {
+                best = index;
+                bestActive = replica.activeConnections();
+            }
+        }
+        return best;
+    }
+
+    private static void markHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.healthy == healthy) {
+            return;
+        }
+        replica.healthy = healthy;
+        if (healthy) {
+            logger.info("Read replica {} is back", replica.name);
+        } else {
+            logger.warn("Read replica {} is down, reading from other replicas or primary: {}", replica.name, reason);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // 읽기 전용 커넥션 요청 (LazyConnectionDataSourceProxy가 readOnly 표시된 커넥션의 첫 SQL에서 호출)
+    private final class ReplicaDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readConnection();
+        }
+    }
+
+    // 쓰기 트랜잭션이 기본 DB 커넥션을 얻으면, 커밋 후 그 사용자를 최근 쓰기 사용자로 기록
+    private final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            recordWriterOnCommit();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            recordWriterOnCommit();
+            return super.getConnection(username, password);
+        }
+
+        private void recordWriterOnCommit() {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()
+                    || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    || !TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            String user = currentUser();
+            if (user == null) {
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(user, Boolean.TRUE);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.stepby.shop_backend.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * app.read-replicas.urls가 있으면 기본 DataSource를 읽기/쓰기 라우팅 프록시(ReadReplicaRouter.route)로 감쌉니다.
+ * 입장 제어(DatabaseAdmissionPostProcessor)가 감싼 뒤에 실행되며, 그 바깥에는 SQL 지표 프록시(JdbcStatementMetrics)만 놓입니다.
+ */
+@Component
+public class ReadReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+    // SQL 지표(JdbcStatementMetrics)가 이보다 바깥에서 감쌀 수 있도록 마지막 바로 앞
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    // 후처리기는 다른 빈보다 먼저 만들어지므로 라우터는 필요할 때 꺼냄
+    private final ObjectProvider<ReadReplicaRouter> router;
+
+    public ReadReplicaRoutingPostProcessor(ObjectProvider<ReadReplicaRouter> router) {
+        this.router = router;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DatabaseAdmissionPostProcessor.DATA_SOURCE_BEAN.equals(beanName)
+                && !(bean instanceof LazyConnectionDataSourceProxy)) {
+            ReadReplicaRouter readReplicaRouter = router.getObject();
+            if (readReplicaRouter.isEnabled()) {
+                return readReplicaRouter.route(dataSource);
+            }
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AuditEventResponse {
+    private long sequence;           // 감사 로그 전체에서 1씩 증가 (세그먼트를 넘어 이어짐)
+    private LocalDateTime occurredAt;
+    private String type;             // LOGIN_SUCCESS, LOGIN_FAILURE, REGISTER, TOKEN_REJECTED
+    private String reason;           // 실패/거부 사유 (성공은 NONE)
+    private String email;            // 토큰 검증 실패처럼 알 수 없으면 빈 문자열
+    private String ip;
+}
@@ -0,0 +1,61 @@
+package com.stepby.shop_backend.dto.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카탈로그 일괄 등록 응답(NDJSON)의 한 줄.
+ * type = started(첫 줄, jobId) / error(행 단위 오류) / batch-error(배치 실패, 같은 jobId로 재실행하면 다시 처리)
+ * / progress(배치 반영 시 누적 현황) / summary(마지막 줄)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogImportProgress {
+    private String type;
+    private String jobId;
+
+    // error, batch-error
+    private Long line;
+    private String sku;
+    private Integer batch;
+    private Long firstLine;
+    private Long lastLine;
+    private String message;
+
+    // started
+    private Integer batchSize;
+
+    // started, progress, summary
+    private Integer skippedBatches;    // 이전 실행에서 이미 반영된 배치 (재실행 시)
+
+    // progress, summary
+    private Long processed;            // 읽은 레코드 수 (건너뛴 배치 포함)
+    private Long inserted;
+    private Long updated;
+    private Long unchanged;
+    private Long failed;               // 검증 실패 레코드 수
+    private List<Integer> failedBatches;
+    private Long elapsedMillis;
+    private List<Stage> stages;
+
+    public static CatalogImportProgress error(long line, String sku, String message) {
+        return CatalogImportProgress.builder().type("error").line(line).sku(sku).message(message).build();
+    }
+
+    /**
+     * 파이프라인 단계별 처리량. busy는 일한 시간, wait는 앞뒤 큐를 기다린 시간 (wait가 긴 단계의 이웃이 병목).
+     */
+    @Getter
+    @Builder
+    public static class Stage {
+        private String name;           // parse / validate / upsert
+        private long records;
+        private long busyMillis;
+        private long waitMillis;
+        private double recordsPerSecond; // records / busy 시간
+    }
+}
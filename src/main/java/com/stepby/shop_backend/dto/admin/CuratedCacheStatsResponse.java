@@ -0,0 +1,17 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CuratedCacheStatsResponse {
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long refreshCount; // DB 로딩(최초 적재 + 백그라운드 갱신) 횟수
+    private long loadFailureCount;
+    private double averageRefreshMillis;
+    private double maxRefreshMillis;
+    private double lastRefreshMillis;
+}
@@ -0,0 +1,17 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DatabaseAdmissionStatsResponse {
+    private boolean enabled;
+    private int permits;             // 동시에 커넥션을 잡을 수 있는 요청 수 (기본: 풀 크기)
+    private int inUse;
+    private int waiting;             // 허가를 기다리는 스레드 수 (추정치)
+    private long admitted;
+    private long rejected;           // max-wait 초과로 503 응답
+    private double averageWaitMillis;
+    private double maxWaitMillis;
+}
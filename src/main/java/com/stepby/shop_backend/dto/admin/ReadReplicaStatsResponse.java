@@ -0,0 +1,29 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReadReplicaStatsResponse {
+    private boolean enabled;
+    private String selection;            // ROUND_ROBIN, LEAST_CONNECTIONS
+    private long readYourWritesMillis;   // 0이면 끔
+    private long readYourWritesReads;    // 최근 쓰기 때문에 기본 DB에서 읽은 읽기 전용 트랜잭션 수
+    private long primaryPinnedReads;     // 공유 캐시/인덱스 적재라서 기본 DB에서 읽은 수 (PrimaryReadTransactionTemplate)
+    private long primaryFallbacks;       // 쓸 수 있는 복제본이 없어 기본 DB에서 읽은 수
+    private List<Replica> replicas;
+
+    @Getter
+    @Builder
+    public static class Replica {
+        private String name;
+        private boolean healthy;
+        private int active;
+        private int idle;
+        private long reads;
+        private long failures;           // 커넥션을 얻다 실패한 횟수 (실패하면 다음 상태 확인까지 제외)
+    }
+}
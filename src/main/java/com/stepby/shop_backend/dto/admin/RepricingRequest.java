@@ -0,0 +1,59 @@
+package com.stepby.shop_backend.dto.admin;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 가격 변경(POST /api/admin/products/reprice).
+ * 규칙을 순서대로 적용한 뒤 id별 가격을 적용하므로, 같은 상품이면 id별 가격이 이깁니다.
+ */
+@Getter
+@Setter
+public class RepricingRequest {
+    @Valid
+    @Size(max = 100, message = "규칙은 100개 이하여야 합니다.")
+    private List<Rule> rules = new ArrayList<>();
+
+    @Valid
+    @Size(max = 100000, message = "가격 목록은 100000개 이하여야 합니다.")
+    private List<Price> prices = new ArrayList<>();
+
+    // 브랜드/카테고리/성별이 모두 일치하는 상품의 할인가를 정가의 percentOff% 할인으로 (0이면 할인 해제)
+    @Getter
+    @Setter
+    public static class Rule {
+        private String brand;
+        private String category;
+        private String gender;
+
+        @NotNull(message = "할인율은 필수 입력값입니다.")
+        @Min(value = 0, message = "할인율은 0 이상이어야 합니다.")
+        @Max(value = 99, message = "할인율은 99 이하여야 합니다.")
+        private Integer percentOff;
+    }
+
+    // 상품 하나의 정가/할인가 (discountPrice가 없으면 할인 해제)
+    @Getter
+    @Setter
+    public static class Price {
+        @NotBlank(message = "상품 ID는 필수 입력값입니다.")
+        private String id;
+
+        @NotNull(message = "가격은 필수 입력값입니다.")
+        @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
+        private Integer price;
+
+        @PositiveOrZero(message = "할인 가격은 0 이상이어야 합니다.")
+        private Integer discountPrice;
+    }
+}
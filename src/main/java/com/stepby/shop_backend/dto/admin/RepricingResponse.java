@@ -0,0 +1,19 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RepricingResponse {
+    private List<Integer> ruleAffected; // 규칙별 바뀐 상품 수 (요청 순서)
+    private int pricesRequested; // id별 가격 수 (중복 id는 마지막 값 하나로 셈)
+    private int pricesAffected; // id별 가격으로 바뀐 상품 수 (없는 id, 이미 같은 가격은 제외)
+    private int affected; // 바뀐 상품 수 합계 (규칙과 id별 가격에 모두 걸린 상품은 두 번 셈)
+    private int statements; // 실행한 UPDATE 문 수 (청크 수)
+    private long catalogGeneration; // 캐시를 함께 공개한 세대 (바뀐 상품이 없으면 그대로)
+    private double updateMillis; // 트랜잭션 (커밋 포함)
+    private double cacheSwapMillis; // 인메모리 인덱스/캐시 준비와 공개
+}
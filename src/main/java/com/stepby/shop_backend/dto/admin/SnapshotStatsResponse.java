@@ -0,0 +1,16 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SnapshotStatsResponse {
+    private long catalogVersion; // 상품 변경 커밋 횟수 (목록 스냅샷 유효성 기준)
+    private long catalogGeneration; // 공개된 일괄 변경 세대 (CatalogGeneration)
+    private long pageSnapshots;
+    private long detailSnapshots;
+    private long hits; // 직렬화 없이 보관된 바이트로 응답한 횟수
+    private long builds; // 조회 + 직렬화로 스냅샷을 만든 횟수
+    private long notModified; // If-None-Match 일치로 304 응답한 횟수
+}
@@ -0,0 +1,21 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StockLedgerStatsResponse {
+    private int trackedVariants;     // 메모리 원장에 올라와 있는 변형 수
+    private int activeReservations;
+    private long pendingUnits;       // 확정되었지만 아직 DB에 반영되지 않은 수량
+    private long reserved;
+    private long rejected;           // 재고 부족으로 거절
+    private long committed;
+    private long released;
+    private long expired;
+    private long flushes;
+    private long flushedRows;
+    private long flushConflicts;     // 조건부 UPDATE가 0행 (DB 재고가 원장보다 적었음)
+    private long evicted;
+}
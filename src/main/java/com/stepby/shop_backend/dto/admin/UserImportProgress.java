@@ -0,0 +1,32 @@
+package com.stepby.shop_backend.dto.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 등록 응답(NDJSON)의 한 줄.
+ * type = error(행 단위 오류) / progress(청크 완료 시 누적 현황) / summary(마지막 줄)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportProgress {
+    private String type;
+
+    // error
+    private Long line;
+    private String email;
+    private String message;
+
+    // progress, summary
+    private Long processed;
+    private Long imported;
+    private Long duplicates;
+    private Long failed;
+    private Long elapsedMillis;
+
+    public static UserImportProgress error(long line, String email, String message) {
+        return UserImportProgress.builder().type("error").line(line).email(email).message(message).build();
+    }
+}
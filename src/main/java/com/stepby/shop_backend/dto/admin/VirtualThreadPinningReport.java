@@ -0,0 +1,28 @@
+package com.stepby.shop_backend.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class VirtualThreadPinningReport {
+    private boolean enabled;
+    private boolean virtualThreads;  // spring.threads.virtual.enabled
+    private double thresholdMillis;  // 이보다 짧은 고정은 기록하지 않음
+    private long events;
+    private List<Site> sites;        // 누적 고정 시간이 긴 순
+
+    @Getter
+    @Builder
+    public static class Site {
+        private String blockingFrame;    // 고정된 채 대기한 첫 번째 비 JDK 프레임 (synchronized 안에서 블로킹한 코드)
+        private List<String> appFrames;  // 스택의 우리 코드(com.stepby) 프레임, 안쪽부터 최대 5개
+        private boolean ownCode;         // blockingFrame이 우리 코드면 true (라이브러리 내부에서 대기했으면 false)
+        private long count;
+        private double totalMillis;
+        private double maxMillis;
+        private List<String> stackTrace; // 처음 기록된 스택 (위쪽 일부)
+    }
+}
@@ -0,0 +1,96 @@
+package com.stepby.shop_backend.dto.product;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카탈로그 일괄 등록(POST /api/admin/catalog/import)의 레코드 하나 = 상품 하나.
+ * sku로 기존 상품을 찾아 갱신하고, 없으면 새로 등록합니다. 내보내기(ProductExportRecord) 줄을 그대로 넣을 수 있도록
+ * 알 수 없는 필드(id, averageRating 등)는 무시합니다.
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CatalogImportRecord {
+    @NotBlank(message = "SKU는 필수 입력값입니다.")
+    @Size(max = 64, message = "SKU는 64자 이하여야 합니다.")
+    private String sku;
+
+    @NotBlank(message = "상품명은 필수 입력값입니다.")
+    @Size(max = 100, message = "상품명은 100자 이하여야 합니다.")
+    private String name;
+
+    @NotBlank(message = "브랜드는 필수 입력값입니다.")
+    @Size(max = 50, message = "브랜드는 50자 이하여야 합니다.")
+    private String brand;
+
+    @NotNull(message = "가격은 필수 입력값입니다.")
+    @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
+    private Integer price;
+
+    @PositiveOrZero(message = "할인 가격은 0 이상이어야 합니다.")
+    private Integer discountPrice;
+
+    @NotBlank(message = "상세 정보는 필수 입력값입니다.")
+    private String details;
+
+    @NotBlank(message = "카테고리는 필수 입력값입니다.")
+    @Size(max = 255, message = "카테고리는 255자 이하여야 합니다.")
+    private String category;
+
+    @NotBlank(message = "성별은 필수 입력값입니다.")
+    @Size(max = 20, message = "성별은 20자 이하여야 합니다.")
+    private String gender;
+
+    @NotBlank(message = "설명은 필수 입력값입니다.")
+    private String description;
+
+    @NotBlank(message = "메인 이미지 URL은 필수 입력값입니다.")
+    @Size(max = 255, message = "이미지 URL은 255자 이하여야 합니다.")
+    private String mainImageUrl;
+
+    private List<@NotBlank(message = "이미지 URL은 비어 있을 수 없습니다.")
+                 @Size(max = 255, message = "이미지 URL은 255자 이하여야 합니다.") String> imageUrls = new ArrayList<>();
+
+    private List<@NotBlank(message = "소재는 비어 있을 수 없습니다.")
+                 @Size(max = 255, message = "소재는 255자 이하여야 합니다.") String> materials = new ArrayList<>();
+
+    private List<@NotBlank(message = "색상은 비어 있을 수 없습니다.")
+                 @Size(max = 255, message = "색상은 255자 이하여야 합니다.") String> colors = new ArrayList<>();
+
+    private List<@NotNull(message = "사이즈는 비어 있을 수 없습니다.")
+                 @Positive(message = "사이즈는 0보다 커야 합니다.") Integer> availableSizes = new ArrayList<>();
+
+    private boolean bestSeller;
+    private boolean newArrival;
+    private boolean kids;
+
+    private List<@NotNull(message = "변형은 비어 있을 수 없습니다.") @Valid Variant> variants = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Variant {
+        @NotBlank(message = "변형 색상은 필수 입력값입니다.")
+        @Size(max = 255, message = "색상은 255자 이하여야 합니다.")
+        private String color;
+
+        @NotNull(message = "변형 사이즈는 필수 입력값입니다.")
+        @Positive(message = "사이즈는 0보다 커야 합니다.")
+        private Integer size;
+
+        @NotNull(message = "재고 수량은 필수 입력값입니다.")
+        @PositiveOrZero(message = "재고 수량은 0 이상이어야 합니다.")
+        private Integer stockQuantity;
+    }
+}
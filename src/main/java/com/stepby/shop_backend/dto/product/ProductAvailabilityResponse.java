@@ -0,0 +1,25 @@
+package com.stepby.shop_backend.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 상세의 색상×사이즈 재고 현황 (사이즈 선택기용).
+ * grid[i]는 colors[i]의 사이즈별 상태를 sizes 순서대로 한 글자씩 나타냅니다.
+ * I: 재고 있음, L: 품절 임박 (app.availability.low-stock-threshold 이하), O: 품절, -: 해당 조합 없음
+ */
+@Getter
+@Builder
+public class ProductAvailabilityResponse {
+    public static final char IN_STOCK = 'I';
+    public static final char LOW_STOCK = 'L';
+    public static final char OUT_OF_STOCK = 'O';
+    public static final char NOT_OFFERED = '-';
+
+    private String productId;
+    private List<String> colors;
+    private List<Integer> sizes;
+    private List<String> grid;
+}
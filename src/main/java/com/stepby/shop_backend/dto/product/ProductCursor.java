@@ -0,0 +1,37 @@
+package com.stepby.shop_backend.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 기준, 마지막 정렬 키, 마지막 id).
+ * 클라이언트에는 base64url 문자열로만 노출되며 내용에 의존하지 않아야 합니다.
+ */
+public record ProductCursor(ProductSort sort, Object key, String id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public static ProductCursor after(ProductSort sort, ProductResponseDto last) {
+        return new ProductCursor(sort, sort.parseKey(sort.keyOf(last)), last.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만든 커서나 변조된 커서는 거부
+    public static ProductCursor decode(String cursor, ProductSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 3);
+            ProductSort sort = ProductSort.valueOf(parts[0]);
+            if (parts.length != 3 || sort != expectedSort) {
+                throw new IllegalArgumentException();
+            }
+            return new ProductCursor(sort, sort.parseKey(parts[1]), parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Error: 유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.stepby.shop_backend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 상세 응답 (GET /api/products/{id}).
+ * 이전에 그대로 직렬화하던 Product 엔티티와 같은 JSON 모양이지만, 엔티티/지연 로딩 없이
+ * 정해진 수의 조회(ProductDetailRepository)로 채웁니다.
+ */
+@Getter
+@Builder
+public class ProductDetailDto {
+    private String id;
+    private String sku;
+    private String name;
+    private String brand;
+    private int price;
+    private Integer discountPrice;
+    private int effectivePrice;
+    private String details;
+    private String category;
+    private String gender;
+    private String description;
+    private String mainImageUrl;
+    private List<String> imageUrls;
+    private List<String> materials;
+    private List<String> colors;
+    private List<Integer> availableSizes;
+    private double averageRating;
+    private int reviewCount;
+    private boolean isBestSeller;
+    private boolean isNewArrival;
+    private boolean isKids;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<Variant> variants;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor // JPQL 생성자 프로젝션(select new ...)용, 필드 선언 순서와 일치해야 합니다.
+    public static class Variant {
+        private String id;
+        private String color;
+        private int size;
+        private int stockQuantity;
+    }
+}
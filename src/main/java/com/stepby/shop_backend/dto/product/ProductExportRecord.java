@@ -0,0 +1,49 @@
+package com.stepby.shop_backend.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카탈로그 내보내기(GET /api/products/export)의 NDJSON 한 줄 = 상품 하나.
+ * 상품 컬럼과 요소 컬렉션, 변형(색상×사이즈 재고)을 모두 담습니다.
+ */
+@Getter
+@Builder
+public class ProductExportRecord {
+    private String id;
+    private String sku;
+    private String name;
+    private String brand;
+    private int price;
+    private Integer discountPrice;
+    private int effectivePrice;
+    private String details;
+    private String category;
+    private String gender;
+    private String description;
+    private String mainImageUrl;
+    private List<String> imageUrls;
+    private List<String> materials;
+    private List<String> colors;
+    private List<Integer> availableSizes;
+    private double averageRating;
+    private int reviewCount;
+    private boolean isBestSeller;
+    private boolean isNewArrival;
+    private boolean isKids;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt; // 다음 증분 내보내기의 since 기준
+    private List<Variant> variants;
+
+    @Getter
+    @Builder
+    public static class Variant {
+        private String id;
+        private String color;
+        private int size;
+        private int stockQuantity;
+    }
+}
@@ -0,0 +1,20 @@
+package com.stepby.shop_backend.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 필터 결과. total은 조건에 맞는 전체 상품 수, items는 그중 인기순(리뷰 수) 상위 limit개입니다.
+ * facets는 차원별 값 → 상품 수이며, 각 차원의 개수는 그 차원 자신의 선택을 뺀 나머지 조건으로 셉니다
+ * (이미 고른 브랜드 외의 다른 브랜드를 추가로 골랐을 때의 개수를 보여주기 위함).
+ */
+@Getter
+@Builder
+public class ProductFacetResponse {
+    private int total;
+    private List<ProductResponseDto> items;
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,15 @@
+package com.stepby.shop_backend.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductPageResponse {
+    private List<ProductResponseDto> content;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+}
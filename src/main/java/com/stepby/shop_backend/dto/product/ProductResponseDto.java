@@ -3,13 +3,16 @@ package com.stepby.shop_backend.dto.product;
 import com.stepby.shop_backend.dto.auth.UserResponse;
 import com.stepby.shop_backend.entity.Product;
 import com.stepby.shop_backend.entity.User;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+
+import java.time.LocalDateTime;
 
 @Getter
-@Setter
 @Builder // DTO 생성을 쉽게 하기 위해 Builder 패턴을 사용합니다.
+@AllArgsConstructor // JPQL 생성자 프로젝션(select new ...)용, 필드 선언 순서와 일치해야 합니다.
+// setter 없음: 캐시/인덱스가 같은 인스턴스를 공유하므로 불변으로 취급합니다.
 public class ProductResponseDto {
     private String id;
     private String name;
@@ -25,6 +28,7 @@ public class ProductResponseDto {
     private boolean isBestSeller;
     private boolean isNewArrival;
     private boolean isKids; // 키즈 상품 여부
+    private LocalDateTime createdAt; // 등록일 (신상품순 정렬 커서용)
 
     public static ProductResponseDto fromEntity(Product product){
         if (product == null) {
@@ -45,6 +49,7 @@ public class ProductResponseDto {
                 .isBestSeller(product.isBestSeller()) // Product 엔티티의 isBestSeller 사용
                 .isNewArrival(product.isNewArrival()) // Product 엔티티의 isNewArrival 사용
                 .isKids(product.isKids()) // Product 엔티티의 isKids 사용
+                .createdAt(product.getCreatedAt())
                 .build();
     }
 }
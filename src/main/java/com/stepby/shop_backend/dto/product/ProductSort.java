@@ -0,0 +1,58 @@
+package com.stepby.shop_backend.dto.product;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+// GET /api/products 정렬 기준. 모든 정렬은 (정렬 키, id)로 고정되어 커서가 안정적입니다.
+public enum ProductSort {
+    PRICE_ASC("p.effectivePrice", true),
+    PRICE_DESC("p.effectivePrice", false),
+    RATING("p.averageRating", false),
+    REVIEWS("p.reviewCount", false),
+    NEWEST("p.createdAt", false);
+
+    private final String property;
+    private final boolean ascending;
+
+    ProductSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    // "price_asc", "newest" 등 요청 파라미터 값 → enum
+    public static ProductSort from(String value) {
+        try {
+            return ProductSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error: 지원하지 않는 정렬 기준입니다: " + value);
+        }
+    }
+
+    // 페이지 마지막 상품의 정렬 키 (커서에 기록)
+    public String keyOf(ProductResponseDto product) {
+        return switch (this) {
+            case PRICE_ASC, PRICE_DESC -> String.valueOf(product.getDiscountPrice() != null
+                    ? product.getDiscountPrice() : product.getPrice());
+            case RATING -> String.valueOf(product.getAverageRating());
+            case REVIEWS -> String.valueOf(product.getReviewCount());
+            case NEWEST -> product.getCreatedAt().toString();
+        };
+    }
+
+    // 커서에 기록된 정렬 키 → 쿼리 파라미터 값
+    public Object parseKey(String key) {
+        return switch (this) {
+            case PRICE_ASC, PRICE_DESC, REVIEWS -> Integer.valueOf(key);
+            case RATING -> Double.valueOf(key);
+            case NEWEST -> LocalDateTime.parse(key);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.stepby.shop_backend.dto.stock;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StockReservationRequest {
+    @NotBlank(message = "상품 옵션 ID는 필수 입력값입니다.")
+    private String variantId;
+
+    @Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+    private int quantity = 1;
+}
@@ -0,0 +1,27 @@
+package com.stepby.shop_backend.dto.stock;
+
+import com.stepby.shop_backend.service.stock.StockReservation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class StockReservationResponse {
+    private String reservationId;
+    private String variantId;
+    private int quantity;
+    private Instant expiresAt;
+    private String status; // HELD | COMMITTED
+
+    public static StockReservationResponse of(StockReservation reservation, String status) {
+        return StockReservationResponse.builder()
+                .reservationId(reservation.id())
+                .variantId(reservation.variantId())
+                .quantity(reservation.quantity())
+                .expiresAt(reservation.expiresAt())
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.stepby.shop_backend.entity;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * 엔티티/API에서는 표준 문자열 UUID, DB에서는 BINARY(16).
+ * id 속성에는 AttributeConverter를 쓸 수 없어 Hibernate JavaType으로 변환합니다.
+ * JPQL 파라미터와 연관관계(FK)/요소 컬렉션의 조인 컬럼에도 그대로 적용되므로 String id를 쓰는 코드는 바꿀 필요가 없습니다.
+ */
+public class BinaryUuidJavaType extends AbstractClassJavaType<String> {
+
+    public BinaryUuidJavaType() {
+        super(String.class, ImmutableMutabilityPlan.instance());
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(SqlTypes.BINARY);
+    }
+
+    @Override
+    public String fromString(CharSequence string) {
+        return string == null ? null : string.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (type == byte[].class) {
+            return (X) Uuids.toBytes(value);
+        }
+        if (type == String.class || type == Object.class) {
+            return (X) value;
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return Uuids.fromBytes(bytes);
+        }
+        if (value instanceof String string) {
+            return string;
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
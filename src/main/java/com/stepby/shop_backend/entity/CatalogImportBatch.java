@@ -0,0 +1,54 @@
+package com.stepby.shop_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 일괄 등록의 배치별 체크포인트 (service.importer.CatalogImportService).
+ * 같은 jobId로 다시 실행하면 DONE인 배치는 건너뛰고 실패했거나 도달하지 못한 배치만 처리합니다.
+ * 행은 JDBC로만 읽고 쓰며, 엔티티는 스키마 정의용입니다.
+ */
+@Entity
+@Table(name = "catalog_import_batches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_catalog_import_batches_job_batch", columnNames = {"job_id", "batch_no"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class CatalogImportBatch {
+
+    public enum Status {
+        DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false, length = 36)
+    private String jobId;
+
+    @Column(nullable = false)
+    private int batchNo;
+
+    // 배치 경계는 (입력 레코드 순번 / batchSize)로 정해지므로 재실행은 처음과 같은 크기를 써야 함
+    @Column(nullable = false)
+    private int batchSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    private long firstLine;
+    private long lastLine;
+    private int recordCount;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
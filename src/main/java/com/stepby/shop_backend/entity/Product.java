@@ -1,28 +1,49 @@
 package com.stepby.shop_backend.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", uniqueConstraints = @UniqueConstraint(name = "uk_products_sku", columnNames = "sku"), indexes = {
+        // 키셋 페이지네이션 정렬 키 + id (GET /api/products)
+        @Index(name = "idx_products_effective_price_id", columnList = "effective_price, id"),
+        @Index(name = "idx_products_average_rating_id", columnList = "average_rating, id"),
+        @Index(name = "idx_products_review_count_id", columnList = "review_count, id"),
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        // 카탈로그 내보내기 키셋 (GET /api/products/export, since 증분)
+        @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id")
+})
+@EntityListeners(ProductEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString
 public class Product {
+    // 시간순 UUID(v7)를 BINARY(16)으로 저장 (API에는 표준 문자열). 새 상품이 PK/보조 인덱스의 오른쪽 끝에 붙음
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(BinaryUuidJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private String id;
 
+    // 공급사 피드의 상품 코드 (카탈로그 일괄 등록의 upsert 키). 직접 등록한 상품은 없을 수 있음
+    @Column(length = 64)
+    private String sku;
+
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -34,6 +55,10 @@ public class Product {
 
     private Integer discountPrice;
 
+    // 실제 판매가 (discountPrice가 있으면 할인가, 없으면 정가) - 가격 정렬 인덱스용
+    @Column(nullable = false)
+    private int effectivePrice;
+
 
     @Column(nullable = false, columnDefinition = "Text")
     private String details;
@@ -85,4 +110,37 @@ public class Product {
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProductVariant> variants = new ArrayList<>();
+
+    // 로딩 시점의 큐레이션 플래그 (ProductEntityListener가 플래그 변경을 감지하는 데 사용)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean loadedBestSeller;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean loadedNewArrival;
+
+    @PrePersist
+    @PreUpdate
+    void updateEffectivePrice() {
+        this.effectivePrice = discountPrice != null ? discountPrice : price;
+    }
+
+    @PostLoad
+    void rememberLoadedState() {
+        this.loadedBestSeller = isBestSeller;
+        this.loadedNewArrival = isNewArrival;
+    }
+
+    boolean wasLoadedAsBestSeller() {
+        return loadedBestSeller;
+    }
+
+    boolean wasLoadedAsNewArrival() {
+        return loadedNewArrival;
+    }
 }
@@ -0,0 +1,36 @@
+package com.stepby.shop_backend.entity;
+
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Product 엔티티 변경을 ProductChangedEvent로 발행 (Hibernate가 Spring 빈으로 생성)
+@Component
+public class ProductEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Product product) {
+        eventPublisher.publishEvent(ProductChangedEvent.upsert(product.getId(), isCurated(product)));
+        product.rememberLoadedState();
+    }
+
+    @PostRemove
+    public void onRemoved(Product product) {
+        eventPublisher.publishEvent(ProductChangedEvent.delete(product.getId(), isCurated(product)));
+    }
+
+    // 변경 전(로딩 시점) 또는 변경 후 플래그 중 하나라도 켜져 있으면 큐레이션 목록에 영향
+    private static boolean isCurated(Product product) {
+        return product.isBestSeller() || product.isNewArrival()
+                || product.wasLoadedAsBestSeller() || product.wasLoadedAsNewArrival();
+    }
+}
@@ -1,22 +1,32 @@
 package com.stepby.shop_backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "product_variants", uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "color", "size"}))
+@EntityListeners(ProductVariantEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString(exclude = "product")
 public class ProductVariant {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(BinaryUuidJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private String id;
 
+    // 상세 응답에서 상품 → 변형 → 상품으로 무한 중첩되지 않도록 역참조는 직렬화하지 않음
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
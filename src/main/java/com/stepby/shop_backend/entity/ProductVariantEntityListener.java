@@ -0,0 +1,28 @@
+package com.stepby.shop_backend.entity;
+
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 변형(색상/사이즈/재고)만 바뀌어도 상품 단위 인덱스가 갱신되도록 상위 상품의 ProductChangedEvent로 발행
+@Component
+public class ProductVariantEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductVariantEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(ProductVariant variant) {
+        if (variant.getProduct() != null) {
+            // 큐레이션 플래그는 상품에만 있으므로 curated=false
+            eventPublisher.publishEvent(ProductChangedEvent.upsert(variant.getProduct().getId(), false));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.stepby.shop_backend.entity;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.EnumSet;
+
+/**
+ * 저장 시 시간순 UUID(v7) 문자열을 id로 부여합니다. JDBC로 직접 넣는 경로(일괄 등록/시더)도 같은 Uuids를 씁니다.
+ */
+@IdGeneratorType(TimeOrderedUuid.Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+
+    class Generator implements BeforeExecutionGenerator {
+
+        @Override
+        public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                               EventType eventType) {
+            return Uuids.timeOrdered().toString();
+        }
+
+        @Override
+        public EnumSet<EventType> getEventTypes() {
+            return EventTypeSets.INSERT_ONLY;
+        }
+    }
+}
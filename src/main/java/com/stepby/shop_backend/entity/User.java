@@ -1,12 +1,17 @@
 package com.stepby.shop_backend.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +23,7 @@ import java.util.Collections;
 
 
 @Entity
+@EntityListeners(UserEntityListener.class)
 @Table(name = "users", uniqueConstraints = {@UniqueConstraint(columnNames = "email")})
 @Getter
 @Setter
@@ -25,18 +31,30 @@ import java.util.Collections;
 @ToString
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JavaType(BinaryUuidJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private String id;
 
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
     @Column(nullable = false)
     private String password;
 
+    @Setter(AccessLevel.NONE)
     @Enumerated(EnumType.STRING)
     private Role role = Role.USER;
 
+    // 비밀번호/권한이 바뀔 때마다 증가. JWT의 sv 클레임과 다르면 기존 토큰은 거부됨
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion;
+
     @Column(nullable = false, length = 50)
     private String realName;
 
@@ -65,6 +83,25 @@ public class User implements UserDetails {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    public void setPassword(String password) {
+        if (this.password != null && !this.password.equals(password)) {
+            securityVersion++;
+        }
+        this.password = password;
+    }
+
+    // 같은 비밀번호의 해시 형식만 바꾸는 경우 (BCrypt cost 변경) → 보안 버전 유지
+    public void upgradePasswordHash(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void setRole(Role role) {
+        if (this.role != role && id != null) {
+            securityVersion++;
+        }
+        this.role = role;
+    }
+
     // ==== UserDetails 인터페이스 구성 ==== //
 
     @Override
@@ -0,0 +1,29 @@
+package com.stepby.shop_backend.entity;
+
+import com.stepby.shop_backend.event.UserChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// User 엔티티 변경을 UserChangedEvent로 발행 (Hibernate가 Spring 빈으로 생성)
+@Component
+public class UserEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.saved(user.getId(), user.getSecurityVersion()));
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user.getId()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.stepby.shop_backend.event;
+
+/**
+ * 상품(또는 그 하위 데이터)이 저장/삭제되었음을 알리는 이벤트.
+ * 인메모리 인덱스/캐시는 이 이벤트를 받아 해당 상품만 갱신합니다.
+ * curated는 변경 전/후 중 한 번이라도 베스트셀러/신상품이었는지 (큐레이션 목록 갱신 필요 여부)입니다.
+ */
+public record ProductChangedEvent(String productId, Type type, boolean curated) {
+
+    public enum Type {
+        UPSERT, DELETE
+    }
+
+    public static ProductChangedEvent upsert(String productId, boolean curated) {
+        return new ProductChangedEvent(productId, Type.UPSERT, curated);
+    }
+
+    public static ProductChangedEvent delete(String productId, boolean curated) {
+        return new ProductChangedEvent(productId, Type.DELETE, curated);
+    }
+}
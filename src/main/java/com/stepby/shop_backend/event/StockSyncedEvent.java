@@ -0,0 +1,8 @@
+package com.stepby.shop_backend.event;
+
+/**
+ * 재고 원장이 변형 하나를 메모리에서 내렸음을 알리는 이벤트 (이후 DB의 stock_quantity가 다시 기준).
+ * 재고 현황 인덱스는 이 이벤트를 받아 해당 상품의 재고를 DB에서 다시 읽습니다.
+ */
+public record StockSyncedEvent(String productId, String variantId) {
+}
@@ -0,0 +1,17 @@
+package com.stepby.shop_backend.event;
+
+/**
+ * 사용자 정보가 저장/삭제되었음을 알리는 이벤트.
+ * 프로필 캐시와 보안 버전 캐시는 커밋 후 이 이벤트로 해당 사용자만 갱신합니다.
+ * securityVersion은 저장 시점의 값이며, 삭제된 경우 deleted가 true입니다.
+ */
+public record UserChangedEvent(String userId, int securityVersion, boolean deleted) {
+
+    public static UserChangedEvent saved(String userId, int securityVersion) {
+        return new UserChangedEvent(userId, securityVersion, false);
+    }
+
+    public static UserChangedEvent deleted(String userId) {
+        return new UserChangedEvent(userId, -1, true);
+    }
+}
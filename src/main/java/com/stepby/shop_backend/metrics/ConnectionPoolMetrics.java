@@ -0,0 +1,99 @@
+package com.stepby.shop_backend.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari 커넥션 풀 지표: 커넥션을 얻기까지 기다린 시간, 커넥션 보유 시간, 타임아웃 수, 현재 사용/유휴/대기 수.
+ * <p>
+ * 풀이 시작되기 전(초기화 전 후처리)에 MetricsTrackerFactory로 자신을 등록합니다.
+ * 입장 제어(DatabaseAdmissionPostProcessor)가 초기화 후에 감싸므로 그 전에 원본 HikariDataSource에 붙습니다.
+ * Hikari가 커넥션을 내줄 때마다 호출하는 콜백은 히스토그램 기록뿐이고, 풀 상태는 스크레이프할 때 읽습니다.
+ */
+@Component
+public class ConnectionPoolMetrics implements BeanPostProcessor, MetricsTrackerFactory {
+
+    // 풀 이름 → 지표 (읽기 전용 복제본 등 풀이 여럿일 수 있음)
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public static final class Pool implements IMetricsTracker {
+        private final String name;
+        private final PoolStats stats;
+        private final Histogram acquire = Histogram.latency();
+        private final Histogram usage = Histogram.latency();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Pool(String name, PoolStats stats) {
+            this.name = name;
+            this.stats = stats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(elapsedBorrowedMillis * 1_000_000);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        String name() {
+            return name;
+        }
+
+        PoolStats stats() {
+            return stats;
+        }
+
+        Histogram acquire() {
+            return acquire;
+        }
+
+        Histogram usage() {
+            return usage;
+        }
+
+        long timeouts() {
+            return timeouts.sum();
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null
+                && hikari.getMetricRegistry() == null) {
+            hikari.setMetricsTrackerFactory(this);
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Pool pool = new Pool(poolName, poolStats);
+        pools.put(poolName, pool);
+        return pool;
+    }
+
+    List<Pool> pools() {
+        List<Pool> snapshot = new ArrayList<>(pools.values());
+        snapshot.sort(Comparator.comparing(Pool::name));
+        return snapshot;
+    }
+}
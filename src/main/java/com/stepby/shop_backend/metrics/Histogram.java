@@ -0,0 +1,97 @@
+package com.stepby.shop_backend.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 히스토그램 (Prometheus histogram 형식으로 내보냄).
+ * <p>
+ * 기록은 구간 경계를 앞에서부터 비교해 해당 칸의 LongAdder 하나와 합계를 올리는 것뿐이라
+ * 락도 객체 생성도 없습니다 (LongAdder는 경합이 생길 때만 스레드별 칸을 한 번 만듦).
+ * 칸에는 누적이 아닌 구간별 개수를 저장하고, 내보낼 때 누적(le)으로 바꿉니다.
+ */
+public final class Histogram {
+
+    // 지연 시간 구간 (초): 캐시 적중 수준(10µs)부터 타임아웃 수준(10s)까지
+    private static final double[] LATENCY_SECONDS = {
+            0.00001, 0.000025, 0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005,
+            0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private final long[] bounds;     // 기록 단위(ns 또는 개수)의 구간 상한, 오름차순
+    private final String[] le;       // 내보낼 구간 상한 문자열 (미리 만들어 둠)
+    private final double scale;      // 합계를 내보낼 때 곱하는 값 (ns → 초면 1e-9)
+    private final LongAdder[] buckets; // 마지막 칸은 +Inf
+    private final LongAdder sum = new LongAdder();
+
+    private Histogram(long[] bounds, String[] le, double scale) {
+        this.bounds = bounds;
+        this.le = le;
+        this.scale = scale;
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // 나노초로 기록하고 초 단위로 내보내는 지연 시간 히스토그램
+    public static Histogram latency() {
+        long[] bounds = new long[LATENCY_SECONDS.length];
+        String[] le = new String[LATENCY_SECONDS.length];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = Math.round(LATENCY_SECONDS[i] * 1e9);
+            le[i] = format(LATENCY_SECONDS[i]);
+        }
+        return new Histogram(bounds, le, 1e-9);
+    }
+
+    // 개수(요청당 SQL 문 수 등) 히스토그램
+    public static Histogram counts(long... bounds) {
+        String[] le = new String[bounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            le[i] = Long.toString(bounds[i]);
+        }
+        return new Histogram(bounds.clone(), le, 1);
+    }
+
+    public void record(long value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sum.add(value);
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * name_bucket{labels,le="..."} / name_sum / name_count 줄을 씁니다. labels는 이미 이스케이프된 `a="x",b="y"` 형식.
+     * 칸을 하나씩 읽는 동안에도 기록이 계속되므로 _sum은 _count와 약간 어긋날 수 있습니다 (스크레이프 단위의 근사).
+     */
+    void writeTo(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "{" : "{" + labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket").append(prefix).append("le=\"")
+                    .append(i < le.length ? le[i] : "+Inf").append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        out.append(name).append("_sum").append(suffix).append(format(sum.sum() * scale)).append('\n');
+        out.append(name).append("_count").append(suffix).append(cumulative).append('\n');
+    }
+
+    static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+}
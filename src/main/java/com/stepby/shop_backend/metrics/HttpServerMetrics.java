@@ -0,0 +1,117 @@
+package com.stepby.shop_backend.metrics;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핸들러 메서드(엔드포인트)별 요청 지표.
+ * <p>
+ * 기동 시 등록된 모든 @RequestMapping 메서드마다 히스토그램과 라벨 문자열을 미리 만들어 두므로,
+ * 요청 처리 중에는 Method로 찾아 LongAdder를 올리기만 합니다 (라벨 조합/맵 생성 없음).
+ * 매칭되는 핸들러가 없는 요청(404, 인증 실패로 컨트롤러까지 오지 않은 401/403)은 기록하지 않습니다.
+ */
+@Component
+public class HttpServerMetrics {
+
+    private static final long[] STATEMENT_BOUNDS = {0, 1, 2, 3, 5, 10, 20, 50, 100};
+
+    public static final class Endpoint {
+        private final String labels;
+        private final Histogram latency = Histogram.latency();
+        private final Histogram dbStatements = Histogram.counts(STATEMENT_BOUNDS);
+        private final Histogram dbTime = Histogram.latency();
+        private final LongAdder[] responses = new LongAdder[5]; // 1xx ~ 5xx
+
+        private Endpoint(String labels) {
+            this.labels = labels;
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = new LongAdder();
+            }
+        }
+
+        String labels() {
+            return labels;
+        }
+
+        Histogram latency() {
+            return latency;
+        }
+
+        Histogram dbStatements() {
+            return dbStatements;
+        }
+
+        Histogram dbTime() {
+            return dbTime;
+        }
+
+        long responses(int statusClass) {
+            return responses[statusClass - 1].sum();
+        }
+    }
+
+    private volatile Map<Method, Endpoint> endpoints = Map.of();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerEndpoints(ContextRefreshedEvent event) {
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Map<Method, Endpoint> registered = new HashMap<>();
+        mapping.getHandlerMethods().forEach((info, handlerMethod) ->
+                registered.putIfAbsent(handlerMethod.getMethod(), new Endpoint(labels(info, handlerMethod))));
+        endpoints = Map.copyOf(registered);
+    }
+
+    /**
+     * handler는 HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE 값. dbUsage가 null이면(비동기 응답) DB 지표는 건너뜀.
+     */
+    void record(Object handler, int status, long startNanos, JdbcStatementMetrics.RequestDbUsage dbUsage) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Endpoint endpoint = endpoints.get(handlerMethod.getMethod());
+        if (endpoint == null) {
+            return;
+        }
+        endpoint.latency.recordSince(startNanos);
+        endpoint.responses[Math.clamp(status / 100, 1, 5) - 1].increment();
+        if (dbUsage != null) {
+            endpoint.dbStatements.record(dbUsage.statements());
+            endpoint.dbTime.record(dbUsage.nanos());
+        }
+    }
+
+    // 요청이 한 번이라도 들어온 엔드포인트만 (스크레이프 크기를 줄임)
+    List<Endpoint> activeEndpoints() {
+        Collection<Endpoint> all = endpoints.values();
+        List<Endpoint> active = new ArrayList<>(all.size());
+        for (Endpoint endpoint : all) {
+            if (endpoint.latency.count() > 0) {
+                active.add(endpoint);
+            }
+        }
+        active.sort((a, b) -> a.labels.compareTo(b.labels));
+        return active;
+    }
+
+    private static String labels(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        String methods = info.getMethodsCondition().getMethods().isEmpty() ? "ANY"
+                : String.join("|", info.getMethodsCondition().getMethods().stream().map(Enum::name).sorted().toList());
+        String uri = String.join("|", info.getPatternValues().stream().sorted().toList());
+        return "handler=\"" + PrometheusMetricsExporter.escape(handlerMethod.getBeanType().getSimpleName() + "."
+                + handlerMethod.getMethod().getName())
+                + "\",method=\"" + methods + "\",uri=\"" + PrometheusMetricsExporter.escape(uri) + "\"";
+    }
+}
@@ -0,0 +1,61 @@
+package com.stepby.shop_backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 처리 시간(인증 필터 포함)과 요청 중 실행된 SQL 문 수/DB 시간을 엔드포인트별로 기록합니다.
+ * DatabaseBusyFilter 바로 안쪽에서 실행되므로 입장 대기 초과로 던져진 예외도 5xx로 셉니다.
+ * <p>
+ * 비동기 응답(StreamingResponseBody 등)은 첫 디스패치가 본문을 쓰기 전에 끝나므로 시작 시각을 요청 속성에 두고
+ * 완료 후 재디스패치에서 기록합니다. 본문은 다른 스레드에서 만들어지므로 이 경우 DB 지표는 남기지 않습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class HttpServerMetricsFilter extends OncePerRequestFilter {
+
+    private static final String START_ATTRIBUTE = HttpServerMetricsFilter.class.getName() + ".start";
+
+    private final HttpServerMetrics httpServerMetrics;
+
+    @Autowired
+    public HttpServerMetricsFilter(HttpServerMetrics httpServerMetrics) {
+        this.httpServerMetrics = httpServerMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean asyncDispatch = isAsyncDispatch(request);
+        long start = asyncDispatch && request.getAttribute(START_ATTRIBUTE) instanceof Long started
+                ? started : System.nanoTime();
+        JdbcStatementMetrics.RequestDbUsage dbUsage = JdbcStatementMetrics.beginRequest();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (isAsyncStarted(request)) {
+                request.setAttribute(START_ATTRIBUTE, start);
+            } else {
+                httpServerMetrics.record(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE),
+                        failed ? 500 : response.getStatus(), start, asyncDispatch ? null : dbUsage);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.stepby.shop_backend.metrics;
+
+import com.stepby.shop_backend.datasource.ReadReplicaRoutingPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 실행하는 SQL 문 수와 실행 시간을 셉니다.
+ * <p>
+ * 기본 DataSource 빈을 MeteredDataSource로 감싸 커넥션/문 래퍼에서 execute* 호출을 재므로,
+ * Hibernate뿐 아니라 JdbcTemplate으로 직접 실행하는 SQL(내보내기/일괄 등록/가격 변경/재고 반영)도 셉니다.
+ * 읽기 복제본 라우팅과 입장 제어보다 바깥에서 감싸므로 복제본 커넥션의 문도 포함됩니다.
+ * - 전체: 문 하나의 실행 시간 히스토그램 (백그라운드 작업 포함)
+ * - 요청별: 스레드마다 하나인 RequestDbUsage에 누적, HttpServerMetricsFilter가 요청 시작에 초기화하고 끝에 읽음
+ *   (가상 스레드 모드에서는 요청마다 스레드가 새로 생기므로 이 객체도 요청마다 하나 생김)
+ */
+@Component
+public class JdbcStatementMetrics implements BeanPostProcessor, Ordered {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private static final Histogram STATEMENT_LATENCY = Histogram.latency();
+    private static final ThreadLocal<RequestDbUsage> CURRENT = ThreadLocal.withInitial(RequestDbUsage::new);
+
+    // 현재 스레드에서 처리 중인 요청의 SQL 문 수/DB 시간
+    public static final class RequestDbUsage {
+        private int statements;
+        private long nanos;
+
+        public int statements() {
+            return statements;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ReadReplicaRoutingPostProcessor.ORDER + 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                && !(bean instanceof MeteredDataSource)) {
+            return new MeteredDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    // 요청 시작: 현재 스레드의 누적값을 비우고 반환 (요청 끝에 같은 객체에서 읽음)
+    static RequestDbUsage beginRequest() {
+        RequestDbUsage usage = CURRENT.get();
+        usage.statements = 0;
+        usage.nanos = 0;
+        return usage;
+    }
+
+    static Histogram statementLatency() {
+        return STATEMENT_LATENCY;
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        RequestDbUsage usage = CURRENT.get();
+        usage.statements++;
+        usage.nanos += elapsedNanos;
+        STATEMENT_LATENCY.record(elapsedNanos);
+    }
+}
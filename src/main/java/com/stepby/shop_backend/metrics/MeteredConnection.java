@@ -0,0 +1,84 @@
+package com.stepby.shop_backend.metrics;
+
+import com.stepby.shop_backend.datasource.DelegatingConnection;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 만드는 Statement/PreparedStatement/CallableStatement만 측정용으로 감싸고 나머지는 그대로 넘김
+final class MeteredConnection extends DelegatingConnection {
+
+    MeteredConnection(Connection target) {
+        super(target);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return new MeteredStatement<>(super.createStatement(), this);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return new MeteredStatement<>(super.createStatement(resultSetType, resultSetConcurrency), this);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return new MeteredStatement<>(
+                super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return new MeteredPreparedStatement<>(super.prepareStatement(sql), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return new MeteredPreparedStatement<>(super.prepareStatement(sql, resultSetType, resultSetConcurrency), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+                                              int resultSetHoldability) throws SQLException {
+        return new MeteredPreparedStatement<>(
+                super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return new MeteredPreparedStatement<>(super.prepareStatement(sql, autoGeneratedKeys), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return new MeteredPreparedStatement<>(super.prepareStatement(sql, columnIndexes), this);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return new MeteredPreparedStatement<>(super.prepareStatement(sql, columnNames), this);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return new MeteredCallableStatement(super.prepareCall(sql), this);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return new MeteredCallableStatement(super.prepareCall(sql, resultSetType, resultSetConcurrency), this);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+                                         int resultSetHoldability) throws SQLException {
+        return new MeteredCallableStatement(
+                super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability), this);
+    }
+}
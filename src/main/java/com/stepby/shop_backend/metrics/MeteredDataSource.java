@@ -0,0 +1,30 @@
+package com.stepby.shop_backend.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 반환하는 커넥션에서 만든 Statement/PreparedStatement/CallableStatement의 execute* 호출 시간을
+ * JdbcStatementMetrics에 기록하는 DataSource. Hibernate와 JdbcTemplate이 같은 DataSource 빈을 쓰므로 둘 다 셉니다.
+ * 커넥션과 문은 직접 위임하는 래퍼(MeteredConnection, MeteredStatement)라서 호출마다 리플렉션이나 인자 배열 할당이 없고,
+ * 반환하는 커넥션은 ConnectionProxy이므로 Spring이 원래 커넥션을 꺼낼 수 있습니다.
+ */
+public class MeteredDataSource extends DelegatingDataSource {
+
+    public MeteredDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new MeteredConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new MeteredConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+}
@@ -0,0 +1,157 @@
+package com.stepby.shop_backend.metrics;
+
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.datasource.ReadReplicaRouter;
+import com.stepby.shop_backend.dto.admin.ReadReplicaStatsResponse;
+import com.stepby.shop_backend.ratelimit.RateLimiter;
+import com.stepby.shop_backend.security.AdaptiveBCryptPasswordEncoder;
+import com.stepby.shop_backend.util.JwtUtil;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수집한 지표를 Prometheus 텍스트 형식(0.0.4)으로 만듭니다 (GET /api/admin/metrics).
+ * 문자열 조합은 스크레이프할 때만 일어나고, 요청 처리 경로에서는 카운터만 올립니다.
+ */
+@Component
+public class PrometheusMetricsExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServerMetrics httpServerMetrics;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final AuditLog auditLog;
+    private final RateLimiter rateLimiter;
+    private final ReadReplicaRouter readReplicaRouter;
+
+    @Autowired
+    public PrometheusMetricsExporter(HttpServerMetrics httpServerMetrics, ConnectionPoolMetrics connectionPoolMetrics,
+                                     JwtUtil jwtUtil, PasswordEncoder passwordEncoder, AuditLog auditLog,
+                                     RateLimiter rateLimiter, ReadReplicaRouter readReplicaRouter) {
+        this.httpServerMetrics = httpServerMetrics;
+        this.connectionPoolMetrics = connectionPoolMetrics;
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.auditLog = auditLog;
+        this.rateLimiter = rateLimiter;
+        this.readReplicaRouter = readReplicaRouter;
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+
+        List<HttpServerMetrics.Endpoint> endpoints = httpServerMetrics.activeEndpoints();
+        header(out, "http_server_request_duration_seconds", "histogram", "요청 처리 시간 (필터 포함)");
+        endpoints.forEach(e -> e.latency().writeTo(out, "http_server_request_duration_seconds", e.labels()));
+        header(out, "http_server_responses_total", "counter", "응답 상태 코드 범위별 응답 수");
+        for (HttpServerMetrics.Endpoint endpoint : endpoints) {
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                long count = endpoint.responses(statusClass);
+                if (count > 0) {
+                    out.append("http_server_responses_total{").append(endpoint.labels()).append(",status=\"")
+                            .append(statusClass).append("xx\"} ").append(count).append('\n');
+                }
+            }
+        }
+        header(out, "http_server_request_db_statements", "histogram", "요청 하나가 실행한 SQL 문 수 (Hibernate)");
+        endpoints.forEach(e -> e.dbStatements().writeTo(out, "http_server_request_db_statements", e.labels()));
+        header(out, "http_server_request_db_seconds", "histogram", "요청 하나의 SQL 실행 시간 합계 (Hibernate)");
+        endpoints.forEach(e -> e.dbTime().writeTo(out, "http_server_request_db_seconds", e.labels()));
+
+        header(out, "db_statement_duration_seconds", "histogram", "SQL 문 하나의 실행 시간 (Hibernate, 백그라운드 포함)");
+        JdbcStatementMetrics.statementLatency().writeTo(out, "db_statement_duration_seconds", "");
+
+        header(out, "jwt_verify_duration_seconds", "histogram", "JWT 검증 시간 (cached = 검증 캐시 적중)");
+        jwtUtil.cachedVerifyLatency().writeTo(out, "jwt_verify_duration_seconds", "result=\"cached\"");
+        jwtUtil.signedVerifyLatency().writeTo(out, "jwt_verify_duration_seconds", "result=\"verified\"");
+        jwtUtil.rejectedVerifyLatency().writeTo(out, "jwt_verify_duration_seconds", "result=\"rejected\"");
+
+        if (passwordEncoder instanceof AdaptiveBCryptPasswordEncoder bcrypt) {
+            header(out, "password_hash_duration_seconds", "histogram", "BCrypt 해싱 시간");
+            bcrypt.encodeLatency().writeTo(out, "password_hash_duration_seconds", "operation=\"encode\"");
+            bcrypt.matchesLatency().writeTo(out, "password_hash_duration_seconds", "operation=\"matches\"");
+        }
+
+        header(out, "audit_events_total", "counter", "감사 이벤트 수 (dropped = 버퍼 포화로 버림, failed = 파일 쓰기 실패)");
+        out.append("audit_events_total{outcome=\"written\"} ").append(auditLog.writtenCount()).append('\n');
+        out.append("audit_events_total{outcome=\"dropped\"} ").append(auditLog.droppedCount()).append('\n');
+        out.append("audit_events_total{outcome=\"failed\"} ").append(auditLog.writeErrorCount()).append('\n');
+
+        List<RateLimiter.Stats> rateLimits = rateLimiter.stats();
+        header(out, "rate_limit_rejected_total", "counter", "한도 초과로 429를 돌려준 요청 수");
+        rateLimits.forEach(r -> out.append("rate_limit_rejected_total{rule=\"").append(escape(r.rule())).append("\"} ")
+                .append(r.rejected()).append('\n'));
+        header(out, "rate_limit_overflow_total", "counter", "추적 키 수(max-keys)가 차서 공용 버킷(키 해시로 나눔)을 쓴 요청 수");
+        rateLimits.forEach(r -> out.append("rate_limit_overflow_total{rule=\"").append(escape(r.rule())).append("\"} ")
+                .append(r.overflowed()).append('\n'));
+        header(out, "rate_limit_buckets", "gauge", "추적 중인 클라이언트 버킷 수");
+        rateLimits.forEach(r -> out.append("rate_limit_buckets{rule=\"").append(escape(r.rule())).append("\"} ")
+                .append(r.buckets()).append('\n'));
+
+        if (readReplicaRouter.isEnabled()) {
+            writeReplicas(out, readReplicaRouter.stats());
+        }
+        writePools(out, connectionPoolMetrics.pools());
+        return out.toString();
+    }
+
+    private static void writeReplicas(StringBuilder out, ReadReplicaStatsResponse stats) {
+        header(out, "db_read_only_connections_total", "counter",
+                "읽기 전용 트랜잭션이 커넥션을 얻은 곳 (primary_fallback = 쓸 수 있는 복제본 없음, read_your_writes = 최근 쓰기 사용자, "
+                        + "primary_pinned = 공유 캐시/인덱스 적재)");
+        stats.getReplicas().forEach(r -> out.append("db_read_only_connections_total{target=\"").append(escape(r.getName()))
+                .append("\"} ").append(r.getReads()).append('\n'));
+        out.append("db_read_only_connections_total{target=\"primary_fallback\"} ").append(stats.getPrimaryFallbacks())
+                .append('\n');
+        out.append("db_read_only_connections_total{target=\"read_your_writes\"} ").append(stats.getReadYourWritesReads())
+                .append('\n');
+        out.append("db_read_only_connections_total{target=\"primary_pinned\"} ").append(stats.getPrimaryPinnedReads())
+                .append('\n');
+        header(out, "db_replica_up", "gauge", "복제본 상태 (1 = 읽기에 사용, 0 = 상태 확인 실패로 제외)");
+        stats.getReplicas().forEach(r -> out.append("db_replica_up{pool=\"").append(escape(r.getName())).append("\"} ")
+                .append(r.isHealthy() ? 1 : 0).append('\n'));
+    }
+
+    private static void writePools(StringBuilder out, List<ConnectionPoolMetrics.Pool> pools) {
+        header(out, "hikari_connection_acquire_duration_seconds", "histogram", "풀에서 커넥션을 얻기까지 기다린 시간");
+        pools.forEach(p -> p.acquire().writeTo(out, "hikari_connection_acquire_duration_seconds", poolLabel(p)));
+        header(out, "hikari_connection_usage_duration_seconds", "histogram", "커넥션을 빌려 반납하기까지의 시간");
+        pools.forEach(p -> p.usage().writeTo(out, "hikari_connection_usage_duration_seconds", poolLabel(p)));
+        header(out, "hikari_connection_timeouts_total", "counter", "connection-timeout 안에 커넥션을 얻지 못한 횟수");
+        pools.forEach(p -> out.append("hikari_connection_timeouts_total{").append(poolLabel(p)).append("} ")
+                .append(p.timeouts()).append('\n'));
+        header(out, "hikari_connections", "gauge", "상태별 커넥션 수 (pending = 커넥션을 기다리는 스레드)");
+        for (ConnectionPoolMetrics.Pool pool : pools) {
+            PoolStats stats = pool.stats();
+            gauge(out, pool, "active", stats.getActiveConnections());
+            gauge(out, pool, "idle", stats.getIdleConnections());
+            gauge(out, pool, "pending", stats.getPendingThreads());
+            gauge(out, pool, "max", stats.getMaxConnections());
+        }
+    }
+
+    private static void gauge(StringBuilder out, ConnectionPoolMetrics.Pool pool, String state, int value) {
+        out.append("hikari_connections{").append(poolLabel(pool)).append(",state=\"").append(state).append("\"} ")
+                .append(value).append('\n');
+    }
+
+    private static String poolLabel(ConnectionPoolMetrics.Pool pool) {
+        return "pool=\"" + escape(pool.name()) + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    // 라벨 값 이스케이프 (역슬래시, 큰따옴표, 줄바꿈)
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,27 @@
+package com.stepby.shop_backend.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * 한도 하나: period 동안 capacity건 (한 번에 capacity건까지 몰아 쓸 수 있음).
+ * 설정 형식은 "20/1m" 또는 "20/PT1M".
+ */
+record RateLimit(int capacity, Duration period) {
+
+    RateLimit {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs capacity >= 1 and a positive period");
+        }
+    }
+
+    static RateLimit parse(String spec) {
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Rate limit must look like 20/1m: " + spec);
+        }
+        return new RateLimit(Integer.parseInt(spec.substring(0, slash).trim()),
+                DurationStyle.detectAndParse(spec.substring(slash + 1).trim()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.stepby.shop_backend.ratelimit;
+
+/**
+ * 경로별 IP 한도 규칙. 설정 형식은 "[METHOD ]경로=한도", 경로는 정확한 경로 또는 "/**"로 끝나는 접두사.
+ * 예) "POST /api/auth/login=20/1m", "/api/products/**=1200/1m"
+ * 요청마다 호출되므로 일치 검사는 문자열 비교만 합니다 (객체 생성 없음).
+ */
+final class RateLimitRoute {
+
+    private final String name;
+    private final String method;    // null이면 모든 메서드
+    private final String path;
+    private final boolean prefix;
+    private final TokenBucketTable buckets;
+
+    private RateLimitRoute(String name, String method, String path, boolean prefix, TokenBucketTable buckets) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.prefix = prefix;
+        this.buckets = buckets;
+    }
+
+    static RateLimitRoute parse(String spec, int maxKeys) {
+        int equals = spec.lastIndexOf('=');
+        if (equals < 0) {
+            throw new IllegalArgumentException("Rate limit route must look like 'POST /api/auth/login=20/1m': " + spec);
+        }
+        String name = spec.substring(0, equals).trim();
+        int space = name.indexOf(' ');
+        String method = space < 0 ? null : name.substring(0, space).toUpperCase();
+        String pattern = space < 0 ? name : name.substring(space + 1).trim();
+        boolean prefix = pattern.endsWith("/**");
+        String path = prefix ? pattern.substring(0, pattern.length() - 3) : pattern;
+        return new RateLimitRoute(name, method, path, prefix,
+                new TokenBucketTable(RateLimit.parse(spec.substring(equals + 1)), maxKeys));
+    }
+
+    boolean matches(String requestMethod, String requestPath) {
+        if (method != null && !method.equals(requestMethod)) {
+            return false;
+        }
+        if (!prefix) {
+            return requestPath.equals(path);
+        }
+        return requestPath.startsWith(path)
+                && (requestPath.length() == path.length() || requestPath.charAt(path.length()) == '/');
+    }
+
+    String name() {
+        return name;
+    }
+
+    TokenBucketTable buckets() {
+        return buckets;
+    }
+}
@@ -0,0 +1,153 @@
+package com.stepby.shop_backend.ratelimit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트별 요청 한도.
+ * - 경로별 IP 한도 (app.rate-limit.routes, 위에서부터 처음 일치하는 규칙 하나만 적용): RateLimitFilter가 보안 필터 체인에서 검사
+ * - 이메일별 로그인 한도 (app.rate-limit.login-email): 요청 본문을 읽은 뒤 AuthController가 검사
+ * 허용 경로는 규칙 비교와 맵 조회, CAS 한 번뿐입니다 (락/객체 생성 없음).
+ * 가득 찬 버킷은 sweep-interval마다 지웁니다. 토큰이 다시 차는 시각은 System.nanoTime 기준이라 벽시계 조정에 영향받지 않습니다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private final boolean enabled;
+    private final LongSupplier nanoTime;
+    private final long originNanos;
+    private final List<RateLimitRoute> routes;
+    private final TokenBucketTable loginEmails;
+    private final ScheduledExecutorService sweeper;
+
+    // 규칙별 현황 (GET /api/admin/metrics)
+    public record Stats(String rule, int buckets, long rejected, long overflowed) {
+    }
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.routes:POST /api/auth/login=20/1m,/api/auth/**=60/1m,"
+                               + "GET /api/products/search=60/1m,/api/products/**=1200/1m}") String[] routes,
+                       @Value("${app.rate-limit.login-email:10/5m}") String loginEmail,
+                       @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+                       @Value("${app.rate-limit.sweep-interval:PT30S}") Duration sweepInterval) {
+        this(enabled, routes, loginEmail, maxKeys, sweepInterval, System::nanoTime);
+    }
+
+    RateLimiter(boolean enabled, String[] routes, String loginEmail, int maxKeys, Duration sweepInterval,
+                LongSupplier nanoTime) {
+        this.enabled = enabled;
+        this.nanoTime = nanoTime;
+        this.originNanos = nanoTime.getAsLong();
+        this.routes = Arrays.stream(routes)
+                .filter(spec -> !spec.isBlank())
+                .map(spec -> RateLimitRoute.parse(spec.trim(), maxKeys))
+                .toList();
+        this.loginEmails = loginEmail.isBlank() ? null : new TokenBucketTable(RateLimit.parse(loginEmail), maxKeys);
+        if (!enabled || sweepInterval.isZero()) {
+            this.sweeper = null;
+            return;
+        }
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, sweepInterval.toMillis());
+        sweeper.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Rate limiting {} route(s), login email limit {}", this.routes.size(),
+                loginEmail.isBlank() ? "off" : loginEmail);
+    }
+
+    /**
+     * 요청 경로에 맞는 IP 한도에서 토큰 하나를 씁니다.
+     * 허용이면 0, 한도 초과면 다시 시도할 수 있을 때까지 남은 나노초.
+     */
+    public long acquire(HttpServletRequest request) {
+        if (!enabled) {
+            return 0;
+        }
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (!contextPath.isEmpty()) {
+            path = path.substring(contextPath.length());
+        }
+        String method = request.getMethod();
+        for (RateLimitRoute route : routes) {
+            if (route.matches(method, path)) {
+                return route.buckets().acquire(request.getRemoteAddr(), nowNanos());
+            }
+        }
+        return 0;
+    }
+
+    // 이메일별 로그인 시도 한도 (대소문자 무시). 반환값은 acquire와 같음
+    public long acquireLoginEmail(String email) {
+        if (!enabled || loginEmails == null || email == null) {
+            return 0;
+        }
+        return loginEmails.acquire(email.toLowerCase(Locale.ROOT), nowNanos());
+    }
+
+    // Retry-After 헤더 값 (초 단위 올림, 최소 1)
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>(routes.size() + 1);
+        for (RateLimitRoute route : routes) {
+            stats.add(stats(route.name(), route.buckets()));
+        }
+        if (loginEmails != null) {
+            stats.add(stats("login-email", loginEmails));
+        }
+        return stats;
+    }
+
+    // 가득 찬(한동안 요청이 없던) 버킷 정리
+    int sweep() {
+        long now = nowNanos();
+        int removed = 0;
+        for (RateLimitRoute route : routes) {
+            removed += route.buckets().sweep(now);
+        }
+        if (loginEmails != null) {
+            removed += loginEmails.sweep(now);
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    // 생성 시각 기준 경과 나노초 (nanoTime은 음수일 수 있고, 버킷의 초깃값 0이 "가득 참"이 되도록)
+    private long nowNanos() {
+        return nanoTime.getAsLong() - originNanos;
+    }
+
+    private static Stats stats(String rule, TokenBucketTable table) {
+        return new Stats(rule, table.size(), table.rejectedCount(), table.overflowCount());
+    }
+}
@@ -0,0 +1,100 @@
+package com.stepby.shop_backend.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(IP/이메일)별 토큰 버킷 (용량 capacity, period 동안 capacity개가 다시 참).
+ * <p>
+ * 버킷 하나는 AtomicLong 하나로, 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(GCRA의 TAT)을 담습니다.
+ * 요청은 그 시각을 토큰 하나만큼(period / capacity) 뒤로 미는 CAS 한 번이고, 밀린 시각이 지금 + period를 넘으면 거부합니다.
+ * 시간이 지나며 채우는 작업이 따로 없고(읽을 때 계산), 이미 가득 찬 버킷(TAT <= 지금)은 지워도 잃는 정보가 없으므로
+ * sweep이 그런 버킷을 지워 메모리를 키 수가 아니라 최근 활동 중인 키 수에 묶어 둡니다.
+ * 활동 중인 키가 maxKeys에 닿으면 먼저 가득 찬 버킷을 지워 자리를 만들고(전체 순회이므로 일정 간격으로 한 스레드만),
+ * 그래도 차 있으면 새 키는 키 해시로 고른 공용 버킷(overflow) 하나를 씁니다 (무작위 IP로 표를 채우는 공격 대비).
+ * 공용 버킷을 OVERFLOW_SHARDS개로 나누고 해시에 표마다 다른 솔트를 섞으므로, 공격자가 새 클라이언트 전부를 한 버킷으로 막지 못합니다.
+ * 시각은 단조 증가하는 나노초(System.nanoTime 기준)여야 합니다.
+ */
+final class TokenBucketTable {
+
+    static final int OVERFLOW_SHARDS = 64;
+    private static final int OVERFLOW_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(OVERFLOW_SHARDS);
+    private static final long MIN_INLINE_SWEEP_NANOS = 100_000_000L;
+
+    private final long intervalNanos;   // 토큰 하나가 다시 차는 시간
+    private final long periodNanos;     // 빈 버킷이 가득 차는 시간 (= capacity * interval)
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong[] overflow = new AtomicLong[OVERFLOW_SHARDS];
+    private final int overflowSalt = ThreadLocalRandom.current().nextInt();
+    private final long inlineSweepIntervalNanos;
+    private final AtomicLong nextInlineSweep = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    TokenBucketTable(RateLimit limit, int maxKeys) {
+        this.intervalNanos = Math.max(1, limit.period().toNanos() / limit.capacity());
+        this.periodNanos = intervalNanos * limit.capacity();
+        this.maxKeys = maxKeys;
+        this.inlineSweepIntervalNanos = Math.max(intervalNanos, MIN_INLINE_SWEEP_NANOS);
+        for (int i = 0; i < OVERFLOW_SHARDS; i++) {
+            overflow[i] = new AtomicLong();
+        }
+    }
+
+    // 허용이면 0, 거부면 토큰 하나가 찰 때까지 남은 나노초
+    long acquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key, nowNanos);
+        }
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - periodNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 가득 찬 버킷을 지우고 지운 수를 반환. 지우는 순간 같은 키로 들어온 요청은 토큰 하나를 더 얻을 수 있음 (허용 오차)
+    int sweep(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= nowNanos);
+        return before - buckets.size();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    long rejectedCount() {
+        return rejected.sum();
+    }
+
+    long overflowCount() {
+        return overflowed.sum();
+    }
+
+    private AtomicLong register(String key, long nowNanos) {
+        if (buckets.size() >= maxKeys) {
+            long due = nextInlineSweep.get();
+            if (nowNanos >= due && nextInlineSweep.compareAndSet(due, nowNanos + inlineSweepIntervalNanos)) {
+                sweep(nowNanos);
+            }
+            if (buckets.size() >= maxKeys) {
+                overflowed.increment();
+                // 피보나치 해싱: 곱한 값의 상위 비트로 조각 선택
+                return overflow[((key.hashCode() ^ overflowSalt) * 0x9E3779B9) >>> OVERFLOW_SHIFT];
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+}
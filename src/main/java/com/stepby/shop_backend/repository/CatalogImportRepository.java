@@ -0,0 +1,228 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.CatalogImportRecord;
+import com.stepby.shop_backend.entity.CatalogImportBatch;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 카탈로그 일괄 등록 전용 JDBC 접근 (영속성 컨텍스트/엔티티 리스너를 거치지 않음).
+ * - 기존 상품은 배치의 SKU로 IN 조회 한 번 + 하위 테이블별 IN 조회 한 번씩으로 읽음
+ * - 변경분만 테이블별 JDBC 배치(INSERT/UPDATE/DELETE)로 전송, 호출자가 트랜잭션 경계를 정함
+ * - 배치 체크포인트(catalog_import_batches) 읽기/쓰기
+ */
+@Repository
+public class CatalogImportRepository {
+
+    private static final String INSERT_PRODUCT = "insert into products (id, sku, name, brand, price, discount_price, "
+            + "effective_price, details, category, gender, description, main_image_url, is_best_seller, is_new_arrival, "
+            + "is_kids, updated_at, average_rating, review_count, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?)";
+    private static final String UPDATE_PRODUCT = "update products set sku = ?, name = ?, brand = ?, price = ?, "
+            + "discount_price = ?, effective_price = ?, details = ?, category = ?, gender = ?, description = ?, "
+            + "main_image_url = ?, is_best_seller = ?, is_new_arrival = ?, is_kids = ?, updated_at = ? where id = ?";
+
+    /**
+     * DB에 있는 상품의 현재 상태. state는 입력 레코드와 같은 모양이라 그대로 비교할 수 있습니다.
+     */
+    public record ExistingProduct(String id, CatalogImportRecord state, List<ExistingVariant> variants) {
+    }
+
+    public record ExistingVariant(String id, String color, int size, int stockQuantity) {
+    }
+
+    public record ProductWrite(String id, CatalogImportRecord record) {
+    }
+
+    public record BatchCheckpoint(int batchNo, int batchSize, CatalogImportBatch.Status status) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CatalogImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // sku → 기존 상품 (없는 sku는 결과에 없음)
+    public Map<String, ExistingProduct> findBySkus(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, CatalogImportRecord> byId = new HashMap<>();
+        Map<String, String> skuById = new HashMap<>();
+        jdbcTemplate.query("select id, sku, name, brand, price, discount_price, details, category, gender, description, "
+                        + "main_image_url, is_best_seller, is_new_arrival, is_kids from products where sku in (:skus)",
+                new MapSqlParameterSource("skus", skus), (RowCallbackHandler) rs -> {
+                    CatalogImportRecord state = new CatalogImportRecord();
+                    state.setSku(rs.getString(2));
+                    state.setName(rs.getString(3));
+                    state.setBrand(rs.getString(4));
+                    state.setPrice(rs.getInt(5));
+                    state.setDiscountPrice(rs.getObject(6, Integer.class));
+                    state.setDetails(rs.getString(7));
+                    state.setCategory(rs.getString(8));
+                    state.setGender(rs.getString(9));
+                    state.setDescription(rs.getString(10));
+                    state.setMainImageUrl(rs.getString(11));
+                    state.setBestSeller(rs.getBoolean(12));
+                    state.setNewArrival(rs.getBoolean(13));
+                    state.setKids(rs.getBoolean(14));
+                    String id = Uuids.fromBytes(rs.getBytes(1));
+                    byId.put(id, state);
+                    skuById.put(id, state.getSku());
+                });
+        if (byId.isEmpty()) {
+            return Map.of();
+        }
+
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", byId.keySet().stream().map(Uuids::toBytes).toList());
+        jdbcTemplate.query("select product_id, image_url from product_image_urls where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> byId.get(Uuids.fromBytes(rs.getBytes(1))).getImageUrls().add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, material from product_materials where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> byId.get(Uuids.fromBytes(rs.getBytes(1))).getMaterials().add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, color from product_colors where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> byId.get(Uuids.fromBytes(rs.getBytes(1))).getColors().add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, size from product_available_sizes where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> byId.get(Uuids.fromBytes(rs.getBytes(1))).getAvailableSizes().add(rs.getInt(2)));
+        Map<String, List<ExistingVariant>> variants = new HashMap<>();
+        jdbcTemplate.query("select product_id, id, color, size, stock_quantity from product_variants "
+                + "where product_id in (:ids)", ids, (RowCallbackHandler) rs ->
+                variants.computeIfAbsent(Uuids.fromBytes(rs.getBytes(1)), id -> new ArrayList<>())
+                        .add(new ExistingVariant(Uuids.fromBytes(rs.getBytes(2)), rs.getString(3), rs.getInt(4),
+                                rs.getInt(5))));
+
+        Map<String, ExistingProduct> bySku = new HashMap<>();
+        byId.forEach((id, state) -> bySku.put(skuById.get(id),
+                new ExistingProduct(id, state, variants.getOrDefault(id, List.of()))));
+        return bySku;
+    }
+
+    public void insertProducts(List<ProductWrite> products, LocalDateTime now) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_PRODUCT, products, products.size(), (ps, p) -> {
+            ps.setBytes(1, Uuids.toBytes(p.id()));
+            bindColumns(ps, 2, p.record(), timestamp);
+            ps.setTimestamp(17, timestamp);
+        });
+    }
+
+    public void updateProducts(List<ProductWrite> products, LocalDateTime now) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_PRODUCT, products, products.size(), (ps, p) -> {
+            bindColumns(ps, 1, p.record(), timestamp);
+            ps.setBytes(16, Uuids.toBytes(p.id()));
+        });
+    }
+
+    // sku부터 updated_at까지 15개 컬럼을 from 위치부터 바인딩
+    private static void bindColumns(PreparedStatement ps, int from, CatalogImportRecord r, Timestamp updatedAt)
+            throws SQLException {
+        ps.setString(from, r.getSku());
+        ps.setString(from + 1, r.getName());
+        ps.setString(from + 2, r.getBrand());
+        ps.setInt(from + 3, r.getPrice());
+        ps.setObject(from + 4, r.getDiscountPrice());
+        ps.setInt(from + 5, r.getDiscountPrice() != null ? r.getDiscountPrice() : r.getPrice());
+        ps.setString(from + 6, r.getDetails());
+        ps.setString(from + 7, r.getCategory());
+        ps.setString(from + 8, r.getGender());
+        ps.setString(from + 9, r.getDescription());
+        ps.setString(from + 10, r.getMainImageUrl());
+        ps.setBoolean(from + 11, r.isBestSeller());
+        ps.setBoolean(from + 12, r.isNewArrival());
+        ps.setBoolean(from + 13, r.isKids());
+        ps.setTimestamp(from + 14, updatedAt);
+    }
+
+    // rows: {product_id, 값}
+    public void insertValues(String table, String column, List<Object[]> rows) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "insert into " + table + " (product_id, " + column + ") values (?, ?)", binaryIds(rows, 0));
+    }
+
+    // rows: {product_id, 값}. 같은 값이 여러 행이면 모두 지움 (요소 컬렉션 테이블에는 행 식별자가 없음)
+    public void deleteValues(String table, String column, List<Object[]> rows) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "delete from " + table + " where product_id = ? and " + column + " = ?", binaryIds(rows, 0));
+    }
+
+    // rows: {id, product_id, color, size, stock_quantity}
+    public void insertVariants(List<Object[]> rows) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "insert into product_variants (id, product_id, color, size, stock_quantity) values (?, ?, ?, ?, ?)",
+                binaryIds(rows, 0, 1));
+    }
+
+    // rows: {stock_quantity, id}
+    public void updateVariantStock(List<Object[]> rows) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("update product_variants set stock_quantity = ? where id = ?",
+                binaryIds(rows, 1));
+    }
+
+    // rows: {id}
+    public void deleteVariants(List<Object[]> rows) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("delete from product_variants where id = ?", binaryIds(rows, 0));
+    }
+
+    // 호출자는 문자열 id로 행을 만들고, 보내기 직전에 id 위치만 BINARY(16) 값으로 바꿈
+    private static List<Object[]> binaryIds(List<Object[]> rows, int... idColumns) {
+        List<Object[]> converted = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] copy = row.clone();
+            for (int column : idColumns) {
+                copy[column] = Uuids.toBytes((String) row[column]);
+            }
+            converted.add(copy);
+        }
+        return converted;
+    }
+
+    public List<BatchCheckpoint> findBatches(String jobId) {
+        return jdbcTemplate.query("select batch_no, batch_size, status from catalog_import_batches where job_id = :jobId",
+                new MapSqlParameterSource("jobId", jobId), (rs, rowNum) -> new BatchCheckpoint(rs.getInt(1),
+                        rs.getInt(2), CatalogImportBatch.Status.valueOf(rs.getString(3))));
+    }
+
+    public void saveBatch(String jobId, int batchNo, int batchSize, CatalogImportBatch.Status status,
+                          long firstLine, long lastLine, int recordCount, String error) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("jobId", jobId)
+                .addValue("batchNo", batchNo)
+                .addValue("batchSize", batchSize)
+                .addValue("status", status.name())
+                .addValue("firstLine", firstLine)
+                .addValue("lastLine", lastLine)
+                .addValue("recordCount", recordCount)
+                .addValue("error", error != null && error.length() > 500 ? error.substring(0, 500) : error)
+                .addValue("updatedAt", Timestamp.valueOf(LocalDateTime.now()));
+        int updated = jdbcTemplate.update("update catalog_import_batches set status = :status, first_line = :firstLine, "
+                + "last_line = :lastLine, record_count = :recordCount, error = :error, updated_at = :updatedAt "
+                + "where job_id = :jobId and batch_no = :batchNo", params);
+        if (updated == 0) {
+            jdbcTemplate.update("insert into catalog_import_batches (id, job_id, batch_no, batch_size, status, "
+                    + "first_line, last_line, record_count, error, updated_at) values (:id, :jobId, :batchNo, :batchSize, "
+                    + ":status, :firstLine, :lastLine, :recordCount, :error, :updatedAt)", params);
+        }
+    }
+}
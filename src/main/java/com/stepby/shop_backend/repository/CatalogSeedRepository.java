@@ -0,0 +1,85 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.service.seed.SeedProduct;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 카탈로그 시드 전용 JDBC 배치 INSERT (영속성 컨텍스트/엔티티 리스너를 거치지 않음).
+ * 테이블당 한 번의 배치로 전송하며, 호출자가 트랜잭션 경계를 정합니다.
+ */
+@Repository
+public class CatalogSeedRepository {
+
+    private static final String INSERT_PRODUCT = "insert into products (id, name, brand, price, discount_price, effective_price, "
+            + "details, category, gender, description, main_image_url, average_rating, review_count, is_best_seller, "
+            + "is_new_arrival, is_kids, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_VARIANT = "insert into product_variants (id, product_id, color, size, stock_quantity) "
+            + "values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogSeedRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long countProducts() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from products", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public void insertBatch(List<SeedProduct> products) {
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, products, products.size(), (ps, p) -> {
+            Timestamp createdAt = Timestamp.valueOf(p.createdAt());
+            ps.setBytes(1, Uuids.toBytes(p.id()));
+            ps.setString(2, p.name());
+            ps.setString(3, p.brand());
+            ps.setInt(4, p.price());
+            ps.setObject(5, p.discountPrice());
+            ps.setInt(6, p.effectivePrice());
+            ps.setString(7, p.details());
+            ps.setString(8, p.category());
+            ps.setString(9, p.gender());
+            ps.setString(10, p.description());
+            ps.setString(11, p.mainImageUrl());
+            ps.setDouble(12, p.averageRating());
+            ps.setInt(13, p.reviewCount());
+            ps.setBoolean(14, p.bestSeller());
+            ps.setBoolean(15, p.newArrival());
+            ps.setBoolean(16, p.kids());
+            ps.setTimestamp(17, createdAt);
+            ps.setTimestamp(18, createdAt);
+        });
+
+        insertValues("product_image_urls", "image_url", products, SeedProduct::imageUrls);
+        insertValues("product_materials", "material", products, SeedProduct::materials);
+        insertValues("product_colors", "color", products, SeedProduct::colors);
+        insertValues("product_available_sizes", "size", products, SeedProduct::availableSizes);
+
+        List<Object[]> variants = new ArrayList<>();
+        for (SeedProduct p : products) {
+            for (SeedProduct.Variant v : p.variants()) {
+                variants.add(new Object[]{Uuids.toBytes(v.id()), Uuids.toBytes(p.id()), v.color(), v.size(), v.stockQuantity()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_VARIANT, variants);
+    }
+
+    private void insertValues(String table, String column, List<SeedProduct> products,
+                              Function<SeedProduct, List<?>> values) {
+        List<Object[]> rows = new ArrayList<>();
+        for (SeedProduct p : products) {
+            byte[] productId = Uuids.toBytes(p.id());
+            for (Object value : values.apply(p)) {
+                rows.add(new Object[]{productId, value});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into " + table + " (product_id, " + column + ") values (?, ?)", rows);
+    }
+}
@@ -0,0 +1,13 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductDetailDto;
+
+import java.util.Optional;
+
+// 상품 상세 조회 - 컬렉션 수와 변형 수에 관계없이 정해진 수의 쿼리로 조립하므로 별도 프래그먼트로 분리
+public interface ProductDetailRepository {
+    /**
+     * 상품 하나의 상세(요소 컬렉션, 변형 포함)를 쿼리 3번으로 조회합니다. 없는 상품이면 쿼리 1번 후 empty.
+     */
+    Optional<ProductDetailDto> findDetailById(String id);
+}
@@ -0,0 +1,107 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductDetailDto;
+import com.stepby.shop_backend.util.Uuids;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 1) 상품 컬럼 2) 요소 컬렉션 4개를 UNION ALL 한 번 3) 변형 - 항상 3번 조회합니다.
+ * 엔티티를 로딩하지 않으므로 지연 로딩/더티 체킹 스냅샷이 없고, 상품 × 컬렉션 조인으로 행이 불어나지도 않습니다.
+ */
+class ProductDetailRepositoryImpl implements ProductDetailRepository {
+
+    private static final String PRODUCT_SELECT =
+            "select new com.stepby.shop_backend.repository.ProductDetailRepositoryImpl$ProductColumns("
+                    + "p.id, p.sku, p.name, p.brand, p.price, p.discountPrice, p.effectivePrice, p.details, p.category, "
+                    + "p.gender, p.description, p.mainImageUrl, p.averageRating, p.reviewCount, p.isBestSeller, "
+                    + "p.isNewArrival, p.isKids, p.createdAt, p.updatedAt) "
+                    + "from Product p where p.id = :id";
+
+    // 컬렉션 구분, 문자열 값, 숫자 값 (사이즈만 숫자)
+    private static final String COLLECTIONS_SELECT =
+            "select 1, image_url, 0 from product_image_urls where product_id = :id "
+                    + "union all select 2, material, 0 from product_materials where product_id = :id "
+                    + "union all select 3, color, 0 from product_colors where product_id = :id "
+                    + "union all select 4, '', size from product_available_sizes where product_id = :id";
+
+    private static final String VARIANT_SELECT =
+            "select new com.stepby.shop_backend.dto.product.ProductDetailDto$Variant("
+                    + "v.id, v.color, v.size, v.stockQuantity) "
+                    + "from ProductVariant v where v.product.id = :id order by v.color, v.size";
+
+    // 상품 컬럼 프로젝션 (select new는 중첩 클래스를 $ 이름으로 지정, 생성자 인자 순서는 PRODUCT_SELECT와 일치해야 합니다)
+    record ProductColumns(String id, String sku, String name, String brand, int price, Integer discountPrice,
+                          int effectivePrice, String details, String category, String gender, String description,
+                          String mainImageUrl, double averageRating, int reviewCount, boolean isBestSeller,
+                          boolean isNewArrival, boolean isKids, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ProductDetailDto> findDetailById(String id) {
+        List<ProductColumns> products = entityManager.createQuery(PRODUCT_SELECT, ProductColumns.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (products.isEmpty()) {
+            return Optional.empty();
+        }
+        ProductColumns p = products.get(0);
+
+        List<String> imageUrls = new ArrayList<>();
+        List<String> materials = new ArrayList<>();
+        List<String> colors = new ArrayList<>();
+        List<Integer> availableSizes = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<Object[]> values = entityManager.createNativeQuery(COLLECTIONS_SELECT)
+                .setParameter("id", Uuids.toBytes(id))
+                .getResultList();
+        for (Object[] value : values) {
+            switch (((Number) value[0]).intValue()) {
+                case 1 -> imageUrls.add((String) value[1]);
+                case 2 -> materials.add((String) value[1]);
+                case 3 -> colors.add((String) value[1]);
+                default -> availableSizes.add(((Number) value[2]).intValue());
+            }
+        }
+
+        List<ProductDetailDto.Variant> variants = entityManager
+                .createQuery(VARIANT_SELECT, ProductDetailDto.Variant.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        return Optional.of(ProductDetailDto.builder()
+                .id(p.id())
+                .sku(p.sku())
+                .name(p.name())
+                .brand(p.brand())
+                .price(p.price())
+                .discountPrice(p.discountPrice())
+                .effectivePrice(p.effectivePrice())
+                .details(p.details())
+                .category(p.category())
+                .gender(p.gender())
+                .description(p.description())
+                .mainImageUrl(p.mainImageUrl())
+                .imageUrls(imageUrls)
+                .materials(materials)
+                .colors(colors)
+                .availableSizes(availableSizes)
+                .averageRating(p.averageRating())
+                .reviewCount(p.reviewCount())
+                .isBestSeller(p.isBestSeller())
+                .isNewArrival(p.isNewArrival())
+                .isKids(p.isKids())
+                .createdAt(p.createdAt())
+                .updatedAt(p.updatedAt())
+                .variants(variants)
+                .build());
+    }
+}
@@ -0,0 +1,137 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductExportRecord;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 내보내기용 JDBC 조회 (영속성 컨텍스트를 거치지 않음).
+ * (updated_at, id) 순서의 키셋 청크 하나를 읽고, 그 청크의 변형/요소 컬렉션을 테이블별 IN 조회 한 번씩으로 붙입니다
+ * (상품 × 컬렉션 조인으로 행이 불어나지 않음). 한 번에 메모리에 올라가는 것은 청크 하나뿐입니다.
+ */
+@Repository
+public class ProductExportRepository {
+
+    private static final String PRODUCT_SELECT = "select id, sku, name, brand, price, discount_price, effective_price, details, "
+            + "category, gender, description, main_image_url, average_rating, review_count, is_best_seller, "
+            + "is_new_arrival, is_kids, created_at, updated_at from products";
+
+    /**
+     * 청크 위치. 마지막으로 내보낸 상품의 (updatedAt, id) 다음부터 읽습니다.
+     */
+    public record Cursor(LocalDateTime updatedAt, String id) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProductExportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * since(포함) 이후 수정된 상품을 after 다음부터 limit개, (updated_at, id) 순으로 조회합니다.
+     */
+    public List<ProductExportRecord> findChunk(LocalDateTime since, Cursor after, int limit) {
+        StringBuilder sql = new StringBuilder(PRODUCT_SELECT).append(" where 1 = 1");
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (since != null) {
+            sql.append(" and updated_at >= :since");
+            params.addValue("since", Timestamp.valueOf(since));
+        }
+        if (after != null) {
+            sql.append(" and (updated_at > :afterUpdatedAt or (updated_at = :afterUpdatedAt and id > :afterId))");
+            params.addValue("afterUpdatedAt", Timestamp.valueOf(after.updatedAt()));
+            params.addValue("afterId", Uuids.toBytes(after.id()));
+        }
+        sql.append(" order by updated_at, id limit :limit");
+
+        Map<String, ExportRow> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler) rs -> {
+            ExportRow row = new ExportRow(rs);
+            rows.put(row.id, row);
+        });
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", rows.keySet().stream().map(Uuids::toBytes).toList());
+        jdbcTemplate.query("select product_id, id, color, size, stock_quantity from product_variants "
+                + "where product_id in (:ids) order by product_id, color, size", ids, (RowCallbackHandler) rs ->
+                rows.get(Uuids.fromBytes(rs.getBytes(1))).variants.add(ProductExportRecord.Variant.builder()
+                        .id(Uuids.fromBytes(rs.getBytes(2)))
+                        .color(rs.getString(3))
+                        .size(rs.getInt(4))
+                        .stockQuantity(rs.getInt(5))
+                        .build()));
+        jdbcTemplate.query("select product_id, image_url from product_image_urls where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> rows.get(Uuids.fromBytes(rs.getBytes(1))).imageUrls.add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, material from product_materials where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> rows.get(Uuids.fromBytes(rs.getBytes(1))).materials.add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, color from product_colors where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> rows.get(Uuids.fromBytes(rs.getBytes(1))).colors.add(rs.getString(2)));
+        jdbcTemplate.query("select product_id, size from product_available_sizes where product_id in (:ids)", ids,
+                (RowCallbackHandler) rs -> rows.get(Uuids.fromBytes(rs.getBytes(1))).availableSizes.add(rs.getInt(2)));
+
+        List<ProductExportRecord> records = new ArrayList<>(rows.size());
+        for (ExportRow row : rows.values()) {
+            records.add(row.toRecord());
+        }
+        return records;
+    }
+
+    private static final class ExportRow {
+        private final String id;
+        private final ProductExportRecord.ProductExportRecordBuilder record;
+        private final List<ProductExportRecord.Variant> variants = new ArrayList<>();
+        private final List<String> imageUrls = new ArrayList<>();
+        private final List<String> materials = new ArrayList<>();
+        private final List<String> colors = new ArrayList<>();
+        private final List<Integer> availableSizes = new ArrayList<>();
+
+        private ExportRow(ResultSet rs) throws SQLException {
+            this.id = Uuids.fromBytes(rs.getBytes(1));
+            Timestamp createdAt = rs.getTimestamp(18);
+            this.record = ProductExportRecord.builder()
+                    .id(id)
+                    .sku(rs.getString(2))
+                    .name(rs.getString(3))
+                    .brand(rs.getString(4))
+                    .price(rs.getInt(5))
+                    .discountPrice(rs.getObject(6, Integer.class))
+                    .effectivePrice(rs.getInt(7))
+                    .details(rs.getString(8))
+                    .category(rs.getString(9))
+                    .gender(rs.getString(10))
+                    .description(rs.getString(11))
+                    .mainImageUrl(rs.getString(12))
+                    .averageRating(rs.getDouble(13))
+                    .reviewCount(rs.getInt(14))
+                    .isBestSeller(rs.getBoolean(15))
+                    .isNewArrival(rs.getBoolean(16))
+                    .isKids(rs.getBoolean(17))
+                    .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                    .updatedAt(rs.getTimestamp(19).toLocalDateTime());
+        }
+
+        private ProductExportRecord toRecord() {
+            return record.variants(variants)
+                    .imageUrls(imageUrls)
+                    .materials(materials)
+                    .colors(colors)
+                    .availableSizes(availableSizes)
+                    .build();
+        }
+    }
+}
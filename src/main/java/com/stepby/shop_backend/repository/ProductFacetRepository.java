@@ -0,0 +1,144 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 패싯 인덱스(service.facet.ProductFacetIndex) 구축용 JDBC 조회.
+ * 상품 요약과 색상/사이즈 컬렉션, 재고 보유 여부를 테이블별 쿼리 한 번씩으로 읽어 상품 단위로 묶습니다
+ * (상품 × 컬렉션 조인으로 행이 불어나지 않음).
+ */
+@Repository
+public class ProductFacetRepository {
+
+    private static final String PRODUCT_SELECT = "select id, name, brand, price, discount_price, category, gender, "
+            + "description, main_image_url, average_rating, review_count, is_best_seller, is_new_arrival, is_kids, "
+            + "created_at, effective_price from products";
+
+    private static final RowMapper<ProductResponseDto> SUMMARY_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp(15);
+        return ProductResponseDto.builder()
+                .id(Uuids.fromBytes(rs.getBytes(1)))
+                .name(rs.getString(2))
+                .brand(rs.getString(3))
+                .price(rs.getInt(4))
+                .discountPrice(rs.getObject(5, Integer.class))
+                .category(rs.getString(6))
+                .gender(rs.getString(7))
+                .description(rs.getString(8))
+                .mainImageUrl(rs.getString(9))
+                .averageRating(rs.getDouble(10))
+                .reviewCount(rs.getInt(11))
+                .isBestSeller(rs.getBoolean(12))
+                .isNewArrival(rs.getBoolean(13))
+                .isKids(rs.getBoolean(14))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    public record ProductFacetRow(ProductResponseDto summary, int effectivePrice, List<String> colors,
+                                  List<Integer> sizes, boolean inStock) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ProductFacetRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public List<ProductFacetRow> findAll() {
+        Map<String, List<String>> colors = new HashMap<>();
+        jdbcTemplate.query("select product_id, color from product_colors", (RowCallbackHandler) rs ->
+                colors.computeIfAbsent(Uuids.fromBytes(rs.getBytes(1)), id -> new ArrayList<>(4)).add(rs.getString(2)));
+        Map<String, List<Integer>> sizes = new HashMap<>();
+        jdbcTemplate.query("select product_id, size from product_available_sizes", (RowCallbackHandler) rs ->
+                sizes.computeIfAbsent(Uuids.fromBytes(rs.getBytes(1)), id -> new ArrayList<>(12)).add(rs.getInt(2)));
+        Set<String> inStock = new HashSet<>();
+        jdbcTemplate.query("select distinct product_id from product_variants where stock_quantity > 0",
+                (RowCallbackHandler) rs -> inStock.add(Uuids.fromBytes(rs.getBytes(1))));
+
+        List<ProductFacetRow> rows = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(PRODUCT_SELECT,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(1000);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            ProductResponseDto summary = SUMMARY_ROW_MAPPER.mapRow(rs, 0);
+            String id = summary.getId();
+            rows.add(new ProductFacetRow(summary, rs.getInt(16), colors.getOrDefault(id, List.of()),
+                    sizes.getOrDefault(id, List.of()), inStock.contains(id)));
+        });
+        return rows;
+    }
+
+    // 여러 상품을 테이블별 IN 조회 한 번씩으로 (일괄 가격 변경 후 증분 갱신용). 없는 id는 결과에서 빠짐
+    public List<ProductFacetRow> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.stream().map(Uuids::toBytes).toList());
+        Map<String, List<String>> colors = new HashMap<>();
+        namedJdbcTemplate.query("select product_id, color from product_colors where product_id in (:ids)", params,
+                (RowCallbackHandler) rs -> colors.computeIfAbsent(Uuids.fromBytes(rs.getBytes(1)),
+                        id -> new ArrayList<>(4)).add(rs.getString(2)));
+        Map<String, List<Integer>> sizes = new HashMap<>();
+        namedJdbcTemplate.query("select product_id, size from product_available_sizes where product_id in (:ids)", params,
+                (RowCallbackHandler) rs -> sizes.computeIfAbsent(Uuids.fromBytes(rs.getBytes(1)),
+                        id -> new ArrayList<>(12)).add(rs.getInt(2)));
+        Set<String> inStock = new HashSet<>();
+        namedJdbcTemplate.query("select distinct product_id from product_variants where product_id in (:ids) "
+                + "and stock_quantity > 0", params, (RowCallbackHandler) rs -> inStock.add(Uuids.fromBytes(rs.getBytes(1))));
+
+        List<ProductFacetRow> rows = new ArrayList<>(ids.size());
+        namedJdbcTemplate.query(PRODUCT_SELECT + " where id in (:ids)", params, (RowCallbackHandler) rs -> {
+            ProductResponseDto summary = SUMMARY_ROW_MAPPER.mapRow(rs, 0);
+            String id = summary.getId();
+            rows.add(new ProductFacetRow(summary, rs.getInt(16), colors.getOrDefault(id, List.of()),
+                    sizes.getOrDefault(id, List.of()), inStock.contains(id)));
+        });
+        return rows;
+    }
+
+    public Optional<ProductFacetRow> findById(String id) {
+        record ProductRow(ProductResponseDto summary, int effectivePrice) {
+        }
+        byte[] productId = Uuids.toBytes(id);
+        return jdbcTemplate.query(PRODUCT_SELECT + " where id = ?",
+                        (rs, rowNum) -> new ProductRow(SUMMARY_ROW_MAPPER.mapRow(rs, rowNum), rs.getInt(16)), productId)
+                .stream().findFirst()
+                .map(row -> new ProductFacetRow(row.summary(), row.effectivePrice(),
+                        jdbcTemplate.queryForList("select color from product_colors where product_id = ?",
+                                String.class, productId),
+                        jdbcTemplate.queryForList("select size from product_available_sizes where product_id = ?",
+                                Integer.class, productId),
+                        countInStockVariants(productId) > 0));
+    }
+
+    private int countInStockVariants(byte[] productId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from product_variants where product_id = ? and stock_quantity > 0",
+                Integer.class, productId);
+        return count != null ? count : 0;
+    }
+}
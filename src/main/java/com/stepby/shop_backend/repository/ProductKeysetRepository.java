@@ -0,0 +1,16 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductCursor;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.dto.product.ProductSort;
+
+import java.util.List;
+
+// 키셋(커서) 페이지네이션 조회 - 정렬 기준에 따라 JPQL을 조립하므로 별도 프래그먼트로 분리
+public interface ProductKeysetRepository {
+    /**
+     * (정렬 키, id) 기준으로 cursor 다음의 상품을 최대 limit개 조회합니다.
+     * cursor가 null이면 첫 페이지입니다. 인덱스 범위 스캔이므로 깊은 페이지도 비용이 같습니다.
+     */
+    List<ProductResponseDto> findPage(ProductSort sort, ProductCursor cursor, int limit);
+}
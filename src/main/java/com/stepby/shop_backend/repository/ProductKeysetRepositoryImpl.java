@@ -0,0 +1,42 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductCursor;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.dto.product.ProductSort;
+import com.stepby.shop_backend.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.query.SelectionQuery;
+
+import java.util.List;
+
+class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductResponseDto> findPage(ProductSort sort, ProductCursor cursor, int limit) {
+        String direction = sort.ascending() ? "asc" : "desc";
+        StringBuilder jpql = new StringBuilder(ProductRepository.SUMMARY_SELECT);
+        if (cursor != null) {
+            // 행 값 비교: MySQL은 (key, id) 복합 인덱스 범위 스캔으로 처리
+            jpql.append(" where (").append(sort.property()).append(", p.id) ")
+                    .append(sort.ascending() ? ">" : "<").append(" (:key, :id)");
+        }
+        jpql.append(" order by ").append(sort.property()).append(' ').append(direction)
+                .append(", p.id ").append(direction);
+
+        TypedQuery<ProductResponseDto> query = entityManager.createQuery(jpql.toString(), ProductResponseDto.class)
+                .setMaxResults(limit);
+        if (cursor != null) {
+            query.setParameter("key", cursor.key());
+            // 행 값 비교 안의 파라미터는 타입이 추론되지 않으므로 id 속성의 타입(BINARY(16))으로 바인딩
+            SelectionQuery<?> selection = query.unwrap(SelectionQuery.class);
+            selection.setParameter("id", cursor.id(),
+                    entityManager.getMetamodel().entity(Product.class).getId(String.class).getType());
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 가격 변경 전용 JDBC 접근 (영속성 컨텍스트/엔티티 리스너를 거치지 않음, 호출자가 트랜잭션 경계를 정함).
+ * - 규칙(브랜드/카테고리/성별 → 할인율): id 순서의 범위 하나를 UPDATE 문 하나로 변경
+ * - id별 가격: 청크 하나를 CASE 식 UPDATE 문 하나로 변경
+ * 값이 실제로 바뀌는 행만 갱신하므로 updated_at(증분 내보내기 기준)도 바뀐 상품에만 찍힙니다.
+ */
+@Repository
+public class ProductPricingRepository {
+
+    private static final String DISCOUNTED = "floor(price * (100 - :percentOff) / 100)";
+
+    /**
+     * 규칙 대상 상품 조건. null인 항목은 조건에서 빠집니다.
+     */
+    public record PriceFilter(String brand, String category, String gender) {
+    }
+
+    /**
+     * id 하나의 새 가격. discountPrice가 null이면 할인을 없앱니다.
+     */
+    public record PriceWrite(String id, int price, Integer discountPrice) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProductPricingRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * afterId(제외) 다음부터 조건에 맞는 상품 chunkSize개 중 마지막 id. 남은 상품이 chunkSize개보다 적으면 null
+     * (마지막 청크는 위쪽 경계 없이 갱신).
+     */
+    public String findChunkEnd(PriceFilter filter, String afterId, int chunkSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource("offset", chunkSize - 1);
+        StringBuilder sql = new StringBuilder("select id from products where 1 = 1");
+        appendFilter(sql, params, filter, afterId, null);
+        sql.append(" order by id limit 1 offset :offset");
+        List<byte[]> ids = jdbcTemplate.queryForList(sql.toString(), params, byte[].class);
+        return ids.isEmpty() ? null : Uuids.fromBytes(ids.getFirst());
+    }
+
+    /**
+     * (afterId, upToId] 범위에서 조건에 맞는 상품의 할인가를 정가 기준 percentOff% 할인으로 바꿉니다.
+     * percentOff가 0이면 할인을 없앱니다. 할인가가 이미 같은 상품은 건드리지 않습니다.
+     *
+     * @return 바뀐 상품 수
+     */
+    public int applyPercentOff(PriceFilter filter, int percentOff, String afterId, String upToId, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.valueOf(now));
+        StringBuilder sql = new StringBuilder();
+        if (percentOff == 0) {
+            sql.append("update products set discount_price = null, effective_price = price, updated_at = :now "
+                    + "where discount_price is not null");
+        } else {
+            params.addValue("percentOff", percentOff);
+            sql.append("update products set discount_price = ").append(DISCOUNTED)
+                    .append(", effective_price = ").append(DISCOUNTED)
+                    .append(", updated_at = :now where (discount_price is null or discount_price <> ")
+                    .append(DISCOUNTED).append(')');
+        }
+        appendFilter(sql, params, filter, afterId, upToId);
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+
+    /**
+     * 가격을 id별로 지정한 값으로 바꿉니다 (청크 하나 = CASE 식 UPDATE 문 하나). 없는 id와 값이 같은 상품은 건너뜁니다.
+     * id는 중복이 없어야 합니다.
+     *
+     * @return 바뀐 상품 수
+     */
+    public int updatePrices(List<PriceWrite> prices, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.valueOf(now));
+        StringBuilder price = new StringBuilder("case id");
+        StringBuilder discount = new StringBuilder("case id");
+        StringBuilder effective = new StringBuilder("case id");
+        for (int i = 0; i < prices.size(); i++) {
+            PriceWrite write = prices.get(i);
+            price.append(" when :id").append(i).append(" then :price").append(i);
+            discount.append(" when :id").append(i).append(" then :discount").append(i);
+            effective.append(" when :id").append(i).append(" then :effective").append(i);
+            params.addValue("id" + i, Uuids.toBytes(write.id()));
+            params.addValue("price" + i, write.price());
+            // 할인 없음은 -1로 보내고 nullif로 되돌림 (CASE 결과에 타입 없는 null 파라미터를 넣지 않도록)
+            params.addValue("discount" + i, write.discountPrice() != null ? write.discountPrice() : -1);
+            params.addValue("effective" + i, write.discountPrice() != null ? write.discountPrice() : write.price());
+        }
+        price.append(" end");
+        discount.append(" end");
+        effective.append(" end");
+        params.addValue("ids", prices.stream().map(write -> Uuids.toBytes(write.id())).toList());
+        String sql = "update products set price = " + price + ", discount_price = nullif(" + discount + ", -1), "
+                + "effective_price = " + effective + ", updated_at = :now where id in (:ids) "
+                + "and (price <> " + price + " or coalesce(discount_price, -1) <> " + discount + ")";
+        return jdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * since(포함) 이후 updated_at이 찍힌 상품 id. 가격 변경 트랜잭션 안에서 호출해 바뀐 상품을 찾습니다
+     * (같은 구간에 다른 경로로 수정된 상품이 섞여도 캐시에서 다시 읽기만 하므로 무방).
+     */
+    public List<String> findIdsUpdatedSince(LocalDateTime since) {
+        return jdbcTemplate.queryForList("select id from products where updated_at >= :since",
+                        new MapSqlParameterSource("since", Timestamp.valueOf(since)), byte[].class)
+                .stream().map(Uuids::fromBytes).toList();
+    }
+
+    private static void appendFilter(StringBuilder sql, MapSqlParameterSource params, PriceFilter filter,
+                                     String afterId, String upToId) {
+        if (filter.brand() != null) {
+            sql.append(" and brand = :brand");
+            params.addValue("brand", filter.brand());
+        }
+        if (filter.category() != null) {
+            sql.append(" and category = :category");
+            params.addValue("category", filter.category());
+        }
+        if (filter.gender() != null) {
+            sql.append(" and gender = :gender");
+            params.addValue("gender", filter.gender());
+        }
+        if (afterId != null) {
+            sql.append(" and id > :afterId");
+            params.addValue("afterId", Uuids.toBytes(afterId));
+        }
+        if (upToId != null) {
+            sql.append(" and id <= :upToId");
+            params.addValue("upToId", Uuids.toBytes(upToId));
+        }
+    }
+}
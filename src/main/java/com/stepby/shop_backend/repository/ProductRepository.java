@@ -1,21 +1,53 @@
 package com.stepby.shop_backend.repository;
 
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
 import com.stepby.shop_backend.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, String> {
+public interface ProductRepository extends JpaRepository<Product, String>, ProductKeysetRepository,
+        ProductDetailRepository {
+    // ProductResponseDto 생성자 프로젝션 (엔티티/컬렉션을 로딩하지 않음)
+    String SUMMARY_SELECT = "select new com.stepby.shop_backend.dto.product.ProductResponseDto("
+            + "p.id, p.name, p.brand, p.price, p.discountPrice, p.category, p.gender, p.description, "
+            + "p.mainImageUrl, p.averageRating, p.reviewCount, p.isBestSeller, p.isNewArrival, p.isKids, p.createdAt) "
+            + "from Product p";
+
     Optional<Product> findById(String id);
-    List<Product> findByIsBestSellerTrue();
-    List<Product> findByIsNewArrivalTrue();
 
-    // 상품 이름에 특정 키워드가 포함된 상품 찾기
-    List<Product> findByNameContainingIgnoreCase(String name);
+    // 목록 API는 모두 단일 SELECT 프로젝션 (엔티티/지연 로딩 없음)
+    @Query(SUMMARY_SELECT + " where p.isBestSeller = true")
+    List<ProductResponseDto> findBestSellerSummaries();
+
+    @Query(SUMMARY_SELECT + " where p.isNewArrival = true")
+    List<ProductResponseDto> findNewArrivalSummaries();
+
+    // 상품 이름 또는 브랜드에 특정 키워드가 포함된 상품 찾기 (인메모리 검색 인덱스와 동일한 의미의 DB 쿼리)
+    @Query(SUMMARY_SELECT + " where lower(p.name) like lower(concat('%', :keyword, '%'))"
+            + " or lower(p.brand) like lower(concat('%', :keyword, '%'))")
+    List<ProductResponseDto> searchSummaries(@Param("keyword") String keyword);
+
+    // 검색 인덱스 구축용 전체 요약 스트림 (트랜잭션 안에서 사용)
+    @Query(SUMMARY_SELECT)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ProductResponseDto> streamAllSummaries();
+
+    // 검색 인덱스 증분 갱신용 단건 요약
+    @Query(SUMMARY_SELECT + " where p.id = :id")
+    Optional<ProductResponseDto> findSummaryById(@Param("id") String id);
 
-    // 상품 이름 또는 브랜드에 특정 키워드가 포함된 상품 찾기
-    List<Product> findByNameContainingIgnoreCaseOrBrandContainingIgnoreCase(String name, String brand);
+    // 검색 인덱스 일괄 갱신용 요약 (일괄 가격 변경 후)
+    @Query(SUMMARY_SELECT + " where p.id in :ids")
+    List<ProductResponseDto> findSummariesByIds(@Param("ids") Collection<String> ids);
 }
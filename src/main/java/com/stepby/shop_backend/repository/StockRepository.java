@@ -0,0 +1,94 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 재고 원장(service.stock.StockLedger)과 재고 현황 인덱스(service.availability) 전용 JDBC 접근.
+ * - 원장 적재 시 변형(색상/사이즈) 한 건의 재고 조회
+ * - 확정된 차감분을 조건부 UPDATE 배치로 반영 (재고가 모자라면 갱신하지 않고 0행).
+ *   같은 배치에서 부모 상품의 updated_at도 갱신해 증분 내보내기(since)에 재고 변경이 잡히게 함
+ * - 인덱스 구축용 전체/상품 단위 재고 조회 (엔티티를 만들지 않음)
+ */
+@Repository
+public class StockRepository {
+
+    private static final String DECREMENT_SQL = "update product_variants set stock_quantity = stock_quantity - ? "
+            + "where id = ? and stock_quantity >= ?";
+
+    private static final String TOUCH_PRODUCT_SQL = "update products set updated_at = ? where id = ?";
+
+    private static final String VARIANT_SELECT = "select id, product_id, color, size, stock_quantity from product_variants";
+
+    private static final RowMapper<VariantStockRow> VARIANT_ROW_MAPPER = (rs, rowNum) -> new VariantStockRow(
+            Uuids.fromBytes(rs.getBytes(1)), Uuids.fromBytes(rs.getBytes(2)), rs.getString(3), rs.getInt(4), rs.getInt(5));
+
+    public record VariantStockRow(String variantId, String productId, String color, int size, int stockQuantity) {
+    }
+
+    public record StockDecrement(String variantId, String productId, int quantity) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<VariantStockRow> findStock(String variantId) {
+        return jdbcTemplate.query(VARIANT_SELECT + " where id = ?", VARIANT_ROW_MAPPER, Uuids.toBytes(variantId)).stream().findFirst();
+    }
+
+    public List<VariantStockRow> findStockByProduct(String productId) {
+        return jdbcTemplate.query(VARIANT_SELECT + " where product_id = ?", VARIANT_ROW_MAPPER, Uuids.toBytes(productId));
+    }
+
+    // 전체 변형을 상품 id 순으로 흘려보냄 (같은 상품의 행이 연속으로 전달됨)
+    public void forEachStock(Consumer<VariantStockRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(VARIANT_SELECT + " order by product_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(1000);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(VARIANT_ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    // 반환값: 요청 순서대로 갱신된 행 수 (0이면 DB 재고가 차감량보다 적었음)
+    public int[] decrementBatch(List<StockDecrement> decrements) {
+        int[][] counts = jdbcTemplate.batchUpdate(DECREMENT_SQL, decrements, decrements.size(), (ps, decrement) -> {
+            ps.setInt(1, decrement.quantity());
+            ps.setBytes(2, Uuids.toBytes(decrement.variantId()));
+            ps.setInt(3, decrement.quantity());
+        });
+        int[] updated = counts.length == 0 ? new int[0] : counts[0];
+
+        // 반영되지 않은(0행) 차감의 상품은 건드리지 않음. 행 수를 알 수 없으면 반영된 것으로 봄
+        Set<String> touched = new LinkedHashSet<>();
+        for (int i = 0; i < decrements.size(); i++) {
+            if (i >= updated.length || updated[i] != 0) {
+                touched.add(decrements.get(i).productId());
+            }
+        }
+        if (!touched.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(TOUCH_PRODUCT_SQL, touched, touched.size(), (ps, productId) -> {
+                ps.setTimestamp(1, now);
+                ps.setBytes(2, Uuids.toBytes(productId));
+            });
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,85 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 사용자 일괄 등록 전용 JDBC 접근 (영속성 컨텍스트를 거치지 않음).
+ * - 중복 이메일은 청크 단위 IN 조회 한 번으로 확인
+ * - INSERT는 JDBC 배치로 전송 (MySQL은 rewriteBatchedStatements=true일 때 다중 VALUES로 재작성)
+ */
+@Repository
+public class UserImportRepository {
+
+    private static final String INSERT_SQL = "insert into users (id, email, password, role, security_version, real_name, "
+            + "birth_date, gender, phone_number, zonecode, address, detail_address, created_at, updated_at) "
+            + "values (?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public record NewUser(String id, String email, String encodedPassword, String realName, LocalDate birthDate,
+                          String gender, String phoneNumber, String zonecode, String address, String detailAddress) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 이미 등록된 이메일을 소문자로 돌려줍니다. 입력 그대로와 소문자 형태를 함께 조회하므로 email 인덱스를 타고,
+     * MySQL 기본 콜레이션(utf8mb4_0900_ai_ci, 유니크 제약도 대소문자 무시)에서는 대소문자만 다른 기존 이메일도 찾습니다.
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> candidates = new HashSet<>(emails);
+        emails.forEach(email -> candidates.add(email.toLowerCase(Locale.ROOT)));
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.queryForList("select email from users where email in (:emails)",
+                        new MapSqlParameterSource("emails", candidates), String.class)
+                .forEach(email -> existing.add(email.toLowerCase(Locale.ROOT)));
+        return existing;
+    }
+
+    public void insertBatch(List<NewUser> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> bind(ps, user, now));
+    }
+
+    public void insert(NewUser user) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcTemplate().update(INSERT_SQL, ps -> bind(ps, user, now));
+    }
+
+    private static void bind(PreparedStatement ps, NewUser user, Timestamp now) throws SQLException {
+        ps.setBytes(1, Uuids.toBytes(user.id()));
+        ps.setString(2, user.email());
+        ps.setString(3, user.encodedPassword());
+        ps.setString(4, Role.USER.name());
+        ps.setString(5, user.realName());
+        ps.setDate(6, Date.valueOf(user.birthDate()));
+        ps.setString(7, user.gender());
+        ps.setString(8, user.phoneNumber());
+        ps.setString(9, user.zonecode());
+        ps.setString(10, user.address());
+        ps.setString(11, user.detailAddress());
+        ps.setTimestamp(12, now);
+        ps.setTimestamp(13, now);
+    }
+}
@@ -2,6 +2,8 @@ package com.stepby.shop_backend.repository;
 
 import com.stepby.shop_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,7 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email); // 이메일로 사용자 찾기
     boolean existsByEmail(String email); // 이메일 존재 여부 확인
 
+    @Query("select u.securityVersion from User u where u.id = :id")
+    Optional<Integer> findSecurityVersionById(@Param("id") String id); // 토큰 보안 버전 확인용 (엔티티 로딩 없음)
+
 }
@@ -0,0 +1,102 @@
+package com.stepby.shop_backend.security;
+
+import com.stepby.shop_backend.metrics.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 호스트 성능에 맞춰 BCrypt cost를 정하는 PasswordEncoder.
+ * <p>
+ * - 기동 시 낮은 cost로 해싱 시간을 재고, cost가 1 오를 때마다 시간이 두 배가 되는 점을 이용해 목표 시간에 가장 가까운 cost 선택
+ * - 저장된 해시의 cost가 현재 cost와 다르면 upgradeEncoding이 true → 로그인 성공 시 재해싱
+ *   (DaoAuthenticationProvider + UserDetailsPasswordService)
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+    private static final int CALIBRATION_COST = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    // 해싱 소요 시간 (회원가입/비밀번호 변경 = encode, 로그인 = matches)
+    private final Histogram encodeLatency = Histogram.latency();
+    private final Histogram matchesLatency = Histogram.latency();
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    // 목표 해싱 시간(ms)에 맞는 cost를 측정해 [minCost, maxCost] 범위에서 선택
+    public static AdaptiveBCryptPasswordEncoder calibrated(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_COST);
+        probe.encode("calibration-warmup");
+        long start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            probe.encode("calibration-" + i);
+        }
+        double probeMillis = Math.max((System.nanoTime() - start) / 1_000_000.0 / CALIBRATION_ROUNDS, 0.01);
+
+        int cost = CALIBRATION_COST + (int) Math.round(Math.log(targetMillis / probeMillis) / Math.log(2));
+        cost = Math.clamp(cost, minCost, maxCost);
+        logger.info("BCrypt cost calibrated: cost {} hashed in {} ms, using cost {} (target {} ms, ~{} ms)",
+                CALIBRATION_COST, String.format("%.2f", probeMillis), cost, targetMillis,
+                Math.round(probeMillis * Math.pow(2, cost - CALIBRATION_COST)));
+        return new AdaptiveBCryptPasswordEncoder(cost);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            encodeLatency.recordSince(start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            matchesLatency.recordSince(start);
+        }
+    }
+
+    public Histogram encodeLatency() {
+        return encodeLatency;
+    }
+
+    public Histogram matchesLatency() {
+        return matchesLatency;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -1,7 +1,13 @@
 package com.stepby.shop_backend.security;
 
-import com.stepby.shop_backend.service.UserDetailsServiceImpl;
+import com.stepby.shop_backend.audit.AuditEventType;
+import com.stepby.shop_backend.audit.AuditLog;
+import com.stepby.shop_backend.audit.AuditReason;
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.service.cache.UserSecurityVersionCache;
 import com.stepby.shop_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +16,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,51 +28,39 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final UserSecurityVersionCache securityVersionCache;
+    private final AuditLog auditLog;
 
-    // <<<--- 생성자 내부에 System.out.println 추가 --->>>
-    public AuthTokenFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public AuthTokenFilter(JwtUtil jwtUtil, UserSecurityVersionCache securityVersionCache, AuditLog auditLog) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
-        System.out.println("########## AuthTokenFilter CONSTRUCTOR: jwtUtil is " + (jwtUtil != null ? "NOT NULL" : "NULL"));
-        System.out.println("########## AuthTokenFilter CONSTRUCTOR: userDetailsService is " + (userDetailsService != null ? "NOT NULL" : "NULL"));
+        this.securityVersionCache = securityVersionCache;
+        this.auditLog = auditLog;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        System.out.println("########## AuthTokenFilter - DOING INTERNAL FILTER FOR URI: " + request.getRequestURI());
-
-        // <<<--- doFilterInternal 내부에서 의존성 NULL 체크 추가 --->>>
-        if (jwtUtil == null || userDetailsService == null) {
-            System.err.println("########## AuthTokenFilter ERROR: Dependencies (jwtUtil or userDetailsService) are NULL inside doFilterInternal! Cannot proceed with authentication.");
-            filterChain.doFilter(request, response); // 다음 필터로 진행 (인증 없이)
-            return; // 조기 종료
-        }
-
-        logger.debug("AuthTokenFilter - Processing request to: {}", request.getRequestURI());
-
         try {
             String jwt = parseJwt(request);
-            logger.debug("AuthTokenFilter - Extracted JWT from header: {}", (jwt != null ? jwt.substring(0, Math.min(jwt.length(), 30)) + "..." : "null (No JWT)"));
-
-            if (jwt != null && jwtUtil.validateJwtToken(jwt)) {
-                String username = jwtUtil.getUserNameFromJwtToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities());
-
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("AuthTokenFilter - User '{}' authenticated and context set.", username);
-            } else if (jwt != null) {
-                logger.warn("AuthTokenFilter - JWT token validation failed.");
-            } else {
-                logger.debug("AuthTokenFilter - No JWT token found in request. Proceeding as anonymous.");
+
+            if (jwt != null) {
+                // 검증은 한 번만: 파싱된 클레임을 그대로 사용 (같은 토큰은 JwtUtil 캐시에서 바로 반환)
+                Claims claims = verify(jwt, request);
+                AuthenticatedUser principal = claims != null ? toPrincipal(claims, request) : null;
+                if (principal != null) {
+                    // DB 조회 없이 클레임으로 인증 객체 구성
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    principal,
+                                    null,
+                                    principal.authorities());
+
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("AuthTokenFilter - User '{}' authenticated and context set.", principal.email());
+                } else {
+                    logger.debug("AuthTokenFilter - JWT token validation failed.");
+                }
             }
         } catch (Exception e) {
             logger.error("AuthTokenFilter - Cannot set user authentication in SecurityContext: {}", e.getMessage(), e);
@@ -76,16 +69,54 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 비동기 응답(StreamingResponseBody, CompletableFuture)의 재디스패치에서도 인증 정보가 필요 (검증 토큰 캐시로 비용은 미미)
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    // 서명/만료 검증 실패는 사유와 함께 감사 로그에 남기고 null
+    private Claims verify(String jwt, HttpServletRequest request) {
+        try {
+            return jwtUtil.verifyOrThrow(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            audit(request, AuditReason.ofTokenFailure(e), null);
+            logger.debug("AuthTokenFilter - Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 필수 클레임이 없거나(이전 형식 토큰) 보안 버전이 현재와 다르면 null
+    private AuthenticatedUser toPrincipal(Claims claims, HttpServletRequest request) {
+        String userId = claims.get(JwtUtil.CLAIM_USER_ID, String.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        Integer securityVersion = claims.get(JwtUtil.CLAIM_SECURITY_VERSION, Integer.class);
+        if (userId == null || role == null || securityVersion == null) {
+            audit(request, AuditReason.TOKEN_LEGACY, claims.getSubject());
+            return null;
+        }
+        if (!securityVersionCache.isCurrent(userId, securityVersion)) {
+            audit(request, AuditReason.TOKEN_REVOKED, claims.getSubject());
+            logger.debug("AuthTokenFilter - Token for user '{}' was issued before a security change.", claims.getSubject());
+            return null;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), Role.valueOf(role));
+    }
+
+    // 비동기 재디스패치에서는 같은 토큰을 다시 검사하므로 기록하지 않음
+    private void audit(HttpServletRequest request, AuditReason reason, String email) {
+        if (!isAsyncDispatch(request)) {
+            auditLog.record(AuditEventType.TOKEN_REJECTED, reason, email, request.getRemoteAddr());
+        }
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
-        logger.debug("AuthTokenFilter - Raw Authorization header: {}", headerAuth);
 
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            String jwt = headerAuth.substring(7);
-            logger.debug("AuthTokenFilter - Parsed JWT: {}", jwt.substring(0, Math.min(jwt.length(), 30)) + "...");
-            return jwt;
+            return headerAuth.substring(7);
         }
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.stepby.shop_backend.security;
+
+import com.stepby.shop_backend.entity.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * JWT 클레임만으로 만든 인증 주체 (요청마다 DB를 조회하지 않음).
+ * getName()은 기존과 같이 이메일을 반환합니다.
+ */
+public record AuthenticatedUser(String id, String email, Role role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.stepby.shop_backend.security;
+
+import com.stepby.shop_backend.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 로그인 검증/회원가입 해싱에서 BCrypt 연산(encode/matches)만 PasswordHashingExecutor 풀에서 실행합니다.
+ * <p>
+ * - 사용자 조회와 계정 상태 확인은 호출(요청) 스레드에서, 해싱 뒤의 저장(재해싱 결과 포함)은 applicationTaskExecutor에서
+ *   실행하므로 해싱 스레드가 JDBC 왕복을 기다리지 않음
+ * - 없는 계정도 더미 해시와 비교한 뒤 실패시켜 응답 시간으로 계정 존재 여부가 드러나지 않게 함 (DaoAuthenticationProvider와 같음)
+ * - 저장된 해시의 cost가 현재 cost와 다르면 비교와 같은 해싱 작업에서 재해싱하고, 저장은 해싱 스레드 밖에서
+ */
+@Component
+public class PasswordAuthenticator {
+
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Executor taskExecutor;
+    private final UserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    private volatile String userNotFoundHash;
+
+    @Autowired
+    public PasswordAuthenticator(UserDetailsService userDetailsService,
+                                 UserDetailsPasswordService userDetailsPasswordService,
+                                 PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor,
+                                 @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
+        this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 비밀번호를 해싱합니다. 결과는 applicationTaskExecutor에서 완료되므로 이어지는 저장은 해싱 스레드 밖에서 실행됩니다.
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword))
+                .thenApplyAsync(encoded -> encoded, taskExecutor);
+    }
+
+    /**
+     * 이메일/비밀번호를 검증해 인증된 사용자를 돌려줍니다. 실패하면 BadCredentialsException/AccountStatusException,
+     * 해싱 풀이 가득 차면 PasswordHashingBusyException으로 완료됩니다.
+     */
+    public CompletableFuture<User> authenticate(String email, String rawPassword) {
+        User user;
+        try {
+            user = (User) userDetailsService.loadUserByUsername(email);
+            accountStatusChecker.check(user);
+        } catch (UsernameNotFoundException e) {
+            return passwordHashingExecutor.submit(() -> passwordEncoder.matches(rawPassword, userNotFoundHash()))
+                    .thenApplyAsync(matched -> {
+                        throw new BadCredentialsException("Bad credentials");
+                    }, taskExecutor);
+        } catch (AccountStatusException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        String storedHash = user.getPassword();
+        return passwordHashingExecutor.submit(() -> verify(rawPassword, storedHash))
+                .thenApplyAsync(verification -> {
+                    if (!verification.matched()) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+                    if (verification.upgradedHash() == null) {
+                        return user;
+                    }
+                    return (User) userDetailsPasswordService.updatePassword(user, verification.upgradedHash());
+                }, taskExecutor);
+    }
+
+    // 해싱 스레드에서 실행: 재해싱을 따로 제출하면 풀이 가득 찼을 때 거절될 수 있으므로 한 작업에서 처리
+    private Verification verify(String rawPassword, String storedHash) {
+        if (!passwordEncoder.matches(rawPassword, storedHash)) {
+            return new Verification(false, null);
+        }
+        return new Verification(true,
+                passwordEncoder.upgradeEncoding(storedHash) ? passwordEncoder.encode(rawPassword) : null);
+    }
+
+    // 해싱 스레드에서 처음 필요할 때 한 번 만듦 (기동 시간에 BCrypt 한 번을 더하지 않도록)
+    private String userNotFoundHash() {
+        String hash = userNotFoundHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+            userNotFoundHash = hash;
+        }
+        return hash;
+    }
+
+    private record Verification(boolean matched, String upgradedHash) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.stepby.shop_backend.security;
+
+import lombok.Getter;
+
+// 비밀번호 해싱 전용 풀과 대기열이 모두 찬 경우 (즉시 503으로 응답)
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Password hashing capacity exhausted");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
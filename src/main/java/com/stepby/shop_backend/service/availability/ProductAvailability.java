@@ -0,0 +1,66 @@
+package com.stepby.shop_backend.service.availability;
+
+import com.stepby.shop_backend.repository.StockRepository.VariantStockRow;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 상품 한 건의 색상×사이즈 재고 (DB 기준 값). 색상은 이름순, 사이즈는 오름차순이며
+ * stock은 색상 우선 순서의 1차원 배열입니다 (-1: 해당 조합 없음). 만든 뒤에는 바꾸지 않습니다.
+ */
+final class ProductAvailability {
+
+    static final int NOT_OFFERED = -1;
+
+    private final String[] colors;
+    private final int[] sizes;
+    private final int[] stock;
+
+    private ProductAvailability(String[] colors, int[] sizes, int[] stock) {
+        this.colors = colors;
+        this.sizes = sizes;
+        this.stock = stock;
+    }
+
+    // 색상 문자열은 상품 간에 공유 (종류가 적으므로 인덱스 메모리 절약)
+    static ProductAvailability of(List<VariantStockRow> rows, Map<String, String> colorPool) {
+        TreeSet<String> colorSet = new TreeSet<>();
+        TreeSet<Integer> sizeSet = new TreeSet<>();
+        for (VariantStockRow row : rows) {
+            colorSet.add(row.color());
+            sizeSet.add(row.size());
+        }
+        String[] colors = colorSet.stream().map(c -> colorPool.computeIfAbsent(c, k -> k)).toArray(String[]::new);
+        int[] sizes = sizeSet.stream().mapToInt(Integer::intValue).toArray();
+        int[] stock = new int[colors.length * sizes.length];
+        Arrays.fill(stock, NOT_OFFERED);
+        ProductAvailability availability = new ProductAvailability(colors, sizes, stock);
+        for (VariantStockRow row : rows) {
+            stock[availability.cell(row.color(), row.size())] = Math.max(0, row.stockQuantity());
+        }
+        return availability;
+    }
+
+    String[] colors() {
+        return colors;
+    }
+
+    int[] sizes() {
+        return sizes;
+    }
+
+    // 호출자가 원장 값으로 덮어쓸 수 있도록 복사본 반환
+    int[] stockCopy() {
+        return stock.clone();
+    }
+
+    // 색상/사이즈 조합의 배열 위치, 없으면 -1
+    int cell(String color, int size) {
+        int colorIndex = Arrays.binarySearch(colors, color);
+        int sizeIndex = Arrays.binarySearch(sizes, size);
+        return colorIndex < 0 || sizeIndex < 0 ? -1 : colorIndex * sizes.length + sizeIndex;
+    }
+}
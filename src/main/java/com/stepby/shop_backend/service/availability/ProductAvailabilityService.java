@@ -0,0 +1,162 @@
+package com.stepby.shop_backend.service.availability;
+
+import com.stepby.shop_backend.dto.product.ProductAvailabilityResponse;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.event.StockSyncedEvent;
+import com.stepby.shop_backend.repository.StockRepository;
+import com.stepby.shop_backend.repository.StockRepository.VariantStockRow;
+import com.stepby.shop_backend.service.cache.RebuildChangeLog;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import com.stepby.shop_backend.service.stock.TrackedStock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 색상×사이즈 재고 현황 인덱스. 상품 상세/사이즈 선택기가 product_variants를 조회하지 않도록
+ * 기동 시 전체 변형을 한 번 읽어 메모리에 보관합니다.
+ * <p>
+ * - 재고 원장(StockLedger)에 올라와 있는 변형은 응답 시 원장 값(보류분 제외)으로 덮어씀
+ * - 원장이 변형을 내리면(StockSyncedEvent) 또는 상품이 수정되면(ProductChangedEvent) 해당 상품만 DB에서 다시 읽음
+ * - 재구성 중에 바뀐 상품은 새 인덱스에도 다시 읽어 반영한 뒤 교체 (RebuildChangeLog)
+ */
+@Service
+public class ProductAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductAvailabilityService.class);
+
+    public static final int MAX_BATCH = 100;
+
+    private final StockRepository stockRepository;
+    private final StockLedger stockLedger;
+    private final int lowStockThreshold;
+    private final Map<String, String> colorPool = new ConcurrentHashMap<>();
+    private final RebuildChangeLog changesDuringRebuild = new RebuildChangeLog();
+    private volatile Map<String, ProductAvailability> index = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProductAvailabilityService(StockRepository stockRepository, StockLedger stockLedger,
+                                      @Value("${app.availability.low-stock-threshold:5}") int lowStockThreshold) {
+        this.stockRepository = stockRepository;
+        this.stockLedger = stockLedger;
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<String, ProductAvailability> fresh = changesDuringRebuild.rebuild(() -> {
+            Map<String, ProductAvailability> built = new ConcurrentHashMap<>();
+            List<VariantStockRow> group = new ArrayList<>();
+            stockRepository.forEachStock(row -> {
+                if (!group.isEmpty() && !group.getFirst().productId().equals(row.productId())) {
+                    built.put(group.getFirst().productId(), ProductAvailability.of(group, colorPool));
+                    group.clear();
+                }
+                group.add(row);
+            });
+            if (!group.isEmpty()) {
+                built.put(group.getFirst().productId(), ProductAvailability.of(group, colorPool));
+            }
+            return built;
+        }, this::reload, built -> index = built);
+        logger.info("Product availability index built: {} products in {} ms",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Optional<ProductAvailabilityResponse> get(String productId) {
+        ProductAvailability availability = index.get(productId);
+        return availability == null ? Optional.empty() : Optional.of(toResponse(productId, availability));
+    }
+
+    // 요청 순서를 유지하며 인덱스에 없는 상품은 빠짐
+    public Map<String, ProductAvailabilityResponse> getAll(Collection<String> productIds) {
+        if (productIds.size() > MAX_BATCH) {
+            throw new IllegalArgumentException("Error: 한 번에 최대 " + MAX_BATCH + "개 상품까지 조회할 수 있습니다.");
+        }
+        Map<String, ProductAvailabilityResponse> result = new LinkedHashMap<>();
+        for (String productId : productIds) {
+            get(productId).ifPresent(response -> result.put(productId, response));
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETE) {
+            changesDuringRebuild.record(event.productId());
+            index.remove(event.productId());
+            return;
+        }
+        reload(event.productId());
+    }
+
+    @EventListener
+    public void onStockSynced(StockSyncedEvent event) {
+        reload(event.productId());
+    }
+
+    public void reload(String productId) {
+        changesDuringRebuild.record(productId);
+        reload(index, productId);
+    }
+
+    private void reload(Map<String, ProductAvailability> target, String productId) {
+        List<VariantStockRow> rows = stockRepository.findStockByProduct(productId);
+        if (rows.isEmpty()) {
+            target.remove(productId);
+        } else {
+            target.put(productId, ProductAvailability.of(rows, colorPool));
+        }
+    }
+
+    private ProductAvailabilityResponse toResponse(String productId, ProductAvailability availability) {
+        int[] stock = availability.stockCopy();
+        for (TrackedStock tracked : stockLedger.trackedStock(productId)) {
+            int cell = availability.cell(tracked.color(), tracked.size());
+            if (cell >= 0) {
+                stock[cell] = tracked.available();
+            }
+        }
+        String[] colors = availability.colors();
+        int[] sizes = availability.sizes();
+        List<String> grid = new ArrayList<>(colors.length);
+        char[] row = new char[sizes.length];
+        for (int c = 0; c < colors.length; c++) {
+            for (int s = 0; s < sizes.length; s++) {
+                row[s] = level(stock[c * sizes.length + s]);
+            }
+            grid.add(new String(row));
+        }
+        return ProductAvailabilityResponse.builder()
+                .productId(productId)
+                .colors(List.of(colors))
+                .sizes(Arrays.stream(sizes).boxed().toList())
+                .grid(grid)
+                .build();
+    }
+
+    private char level(int quantity) {
+        if (quantity == ProductAvailability.NOT_OFFERED) {
+            return ProductAvailabilityResponse.NOT_OFFERED;
+        }
+        if (quantity <= 0) {
+            return ProductAvailabilityResponse.OUT_OF_STOCK;
+        }
+        return quantity <= lowStockThreshold ? ProductAvailabilityResponse.LOW_STOCK : ProductAvailabilityResponse.IN_STOCK;
+    }
+}
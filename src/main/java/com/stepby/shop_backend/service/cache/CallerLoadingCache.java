@@ -0,0 +1,72 @@
+package com.stepby.shop_backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 조회(적재)를 호출한 스레드에서, 캐시 내부 잠금 밖에서 실행하는 Caffeine 캐시.
+ * <p>
+ * Cache.get(key, loader)는 ConcurrentHashMap.compute 안(synchronized 블록)에서 loader를 실행하므로
+ * loader가 DB를 기다리는 동안 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다. 여기서는 맵에 미완료 future만
+ * 넣고 적재는 잠금 밖에서 하며, 같은 키를 동시에 요청한 스레드는 그 future를 기다립니다(고정 없이 park).
+ * <p>
+ * - 적재 결과가 null이거나 예외면 캐시하지 않음
+ * - 적재 중 invalidate되면 이번 결과는 기다리던 요청에만 돌려주고 캐시에는 남기지 않음
+ * - 적재가 호출 스레드에서 실행되므로 트랜잭션/OSIV/DB 입장 제어는 요청 스레드 기준 그대로 적용
+ */
+public final class CallerLoadingCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    public CallerLoadingCache(Caffeine<Object, Object> builder) {
+        this.cache = builder.buildAsync();
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> pending);
+        if (future == pending) {
+            try {
+                pending.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 다른 스레드의 적재 실패는 원래 예외로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 완료된 값만 반환 (적재 중이면 null)
+    public V getIfPresent(K key) {
+        CompletableFuture<V> future = cache.getIfPresent(key);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, CompletableFuture.completedFuture(value));
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+}
@@ -0,0 +1,46 @@
+package com.stepby.shop_backend.service.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 여러 인메모리 캐시(검색/패싯 인덱스, 큐레이션 목록, 응답 스냅샷)를 한 시점에 새 상태로 바꾸기 위한 세대 번호.
+ * <p>
+ * 각 캐시는 새 상태를 다음 세대 번호와 함께 준비해 두기만 하고(GenerationalReference.stage), 읽는 쪽은 그 세대가
+ * 공개된 뒤에만 새 상태를 봅니다. 모든 캐시가 준비를 마친 뒤 세대 번호를 한 번 쓰는 것으로 공개하므로,
+ * 공개 뒤의 요청은 어느 캐시에서 읽든 새 상태를 보고, 공개 전의 요청은 모두 이전 상태를 봅니다.
+ */
+@Component
+public class CatalogGeneration {
+
+    private final AtomicLong published = new AtomicLong();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    public long current() {
+        return published.get();
+    }
+
+    public boolean isPublished(long generation) {
+        return generation <= published.get();
+    }
+
+    /**
+     * stage에 다음 세대 번호를 넘겨 각 캐시가 새 상태를 준비하게 한 뒤 그 세대를 공개하고 번호를 돌려줍니다.
+     * 공개는 한 번에 하나씩 실행됩니다. stage가 실패하면 공개하지 않으며, 이미 준비된 상태는 다음 공개가
+     * 같은 세대 번호로 다시 준비하면서 덮어씁니다.
+     */
+    public long publish(LongConsumer stage) {
+        publishLock.lock();
+        try {
+            long next = published.get() + 1;
+            stage.accept(next);
+            published.set(next);
+            return next;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+}
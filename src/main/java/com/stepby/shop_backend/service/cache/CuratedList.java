@@ -0,0 +1,6 @@
+package com.stepby.shop_backend.service.cache;
+
+// 홈 화면 큐레이션 목록 종류
+public enum CuratedList {
+    BEST_SELLERS, NEW_ARRIVALS
+}
@@ -0,0 +1,212 @@
+package com.stepby.shop_backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stepby.shop_backend.datasource.PrimaryReadTransactionTemplate;
+import com.stepby.shop_backend.dto.admin.CuratedCacheStatsResponse;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 베스트셀러/신상품 목록 전용 캐시.
+ * <p>
+ * - 불변 DTO 스냅샷(List.copyOf)을 보관
+ * - refreshAfterWrite 주기마다 백그라운드에서 갱신하며, 갱신 중에는 기존 값을 그대로 제공
+ * - 로더는 전용 단일 스레드에서만 실행되어 DB에 동시에 한 번만 조회 (복제 지연된 목록을 캐시하지 않도록 기본 DB에서)
+ * - 큐레이션 대상 상품이 바뀌면(ProductChangedEvent.curated) 즉시 비동기 갱신
+ * - 일괄 가격 변경은 새 목록을 다음 세대로 준비해 두고, 세대가 공개되면 그 목록을 캐시에 넣음 (CatalogGeneration)
+ */
+@Component
+public class CuratedProductCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CuratedProductCache.class);
+
+    private record Staged(long generation, Map<CuratedList, List<ProductResponseDto>> lists) {
+    }
+
+    private final Function<CuratedList, List<ProductResponseDto>> loader;
+    private final CatalogGeneration catalogGeneration;
+    private final ExecutorService refreshExecutor;
+    private final LoadingCache<CuratedList, List<ProductResponseDto>> cache;
+
+    // 목록별 "갱신 중" / "갱신 중에 또 변경됨" 표시 (변경을 놓치지 않도록 한 번 더 갱신)
+    private final Map<CuratedList, AtomicBoolean> refreshing = new EnumMap<>(CuratedList.class);
+    private final Map<CuratedList, AtomicBoolean> dirty = new EnumMap<>(CuratedList.class);
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong totalLoadNanos = new AtomicLong();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    private final AtomicLong lastLoadNanos = new AtomicLong();
+
+    private final ReentrantLock stagedLock = new ReentrantLock();
+    private volatile Staged staged;
+
+    @Autowired
+    public CuratedProductCache(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+                               CatalogGeneration catalogGeneration,
+                               @Value("${app.cache.curated.refresh-after:PT5M}") Duration refreshAfter) {
+        this(primaryLoader(productRepository, new PrimaryReadTransactionTemplate(transactionManager)),
+                catalogGeneration, refreshAfter, Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "curated-cache-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    CuratedProductCache(Function<CuratedList, List<ProductResponseDto>> loader, CatalogGeneration catalogGeneration,
+                        Duration refreshAfter, ExecutorService refreshExecutor) {
+        this.loader = loader;
+        this.catalogGeneration = catalogGeneration;
+        this.refreshExecutor = refreshExecutor;
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshAfter)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::load);
+        for (CuratedList list : CuratedList.values()) {
+            refreshing.put(list, new AtomicBoolean());
+            dirty.put(list, new AtomicBoolean());
+        }
+    }
+
+    public List<ProductResponseDto> get(CuratedList list) {
+        Staged next = staged;
+        if (next != null && catalogGeneration.isPublished(next.generation())) {
+            promote(next);
+            return next.lists().get(list);
+        }
+        return cache.get(list);
+    }
+
+    // 기동 직후 첫 요청이 DB를 기다리지 않도록 미리 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (CuratedList list : CuratedList.values()) {
+            requestRefresh(list);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.curated()) {
+            invalidate();
+        }
+    }
+
+    // 명시적 무효화: 값을 지우지 않고 비동기 갱신을 요청 (갱신 완료 전까지는 기존 스냅샷 제공)
+    public void invalidate() {
+        for (CuratedList list : CuratedList.values()) {
+            requestRefresh(list);
+        }
+    }
+
+    /**
+     * 두 목록을 지금 다시 읽어(로더 스레드에서, 끝날 때까지 대기) generation 세대의 목록으로 준비합니다.
+     * 일괄 가격 변경이 검색/패싯 인덱스와 같은 세대에 새 목록을 내놓을 때 사용합니다.
+     */
+    public void stageReload(long generation) {
+        Map<CuratedList, List<ProductResponseDto>> loaded = new EnumMap<>(CuratedList.class);
+        for (CuratedList list : CuratedList.values()) {
+            loaded.put(list, CompletableFuture.supplyAsync(() -> load(list), refreshExecutor).join());
+        }
+        stagedLock.lock();
+        try {
+            staged = new Staged(generation, loaded);
+        } finally {
+            stagedLock.unlock();
+        }
+    }
+
+    public CuratedCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        long loads = loadCount.get();
+        return CuratedCacheStatsResponse.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .refreshCount(loads)
+                .loadFailureCount(stats.loadFailureCount())
+                .averageRefreshMillis(loads == 0 ? 0 : totalLoadNanos.get() / loads / 1_000_000.0)
+                .maxRefreshMillis(maxLoadNanos.get() / 1_000_000.0)
+                .lastRefreshMillis(lastLoadNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void requestRefresh(CuratedList list) {
+        dirty.get(list).set(true);
+        if (refreshing.get(list).compareAndSet(false, true)) {
+            dirty.get(list).set(false);
+            cache.refresh(list).whenComplete((value, error) -> {
+                if (error != null) {
+                    logger.warn("Curated list {} refresh failed: {}", list, error.getMessage());
+                }
+                refreshing.get(list).set(false);
+                if (dirty.get(list).get()) {
+                    requestRefresh(list);
+                }
+            });
+        }
+    }
+
+    // 공개된 세대의 목록을 캐시에 넣음. 진행 중이던 비동기 갱신의 결과는 그 뒤에 도착하면 버려짐 (Caffeine refresh 규칙)
+    private void promote(Staged next) {
+        stagedLock.lock();
+        try {
+            if (staged == next) {
+                cache.putAll(next.lists());
+                staged = null;
+            }
+        } finally {
+            stagedLock.unlock();
+        }
+    }
+
+    private static Function<CuratedList, List<ProductResponseDto>> primaryLoader(
+            ProductRepository productRepository, PrimaryReadTransactionTemplate primaryRead) {
+        return list -> primaryRead.execute(status -> switch (list) {
+            case BEST_SELLERS -> productRepository.findBestSellerSummaries();
+            case NEW_ARRIVALS -> productRepository.findNewArrivalSummaries();
+        });
+    }
+
+    private List<ProductResponseDto> load(CuratedList list) {
+        long start = System.nanoTime();
+        List<ProductResponseDto> snapshot = List.copyOf(loader.apply(list));
+        long elapsed = System.nanoTime() - start;
+        loadCount.incrementAndGet();
+        totalLoadNanos.addAndGet(elapsed);
+        maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+        lastLoadNanos.set(elapsed);
+        logger.debug("Curated list {} loaded: {} products in {} ms", list, snapshot.size(), elapsed / 1_000_000);
+        return snapshot;
+    }
+}
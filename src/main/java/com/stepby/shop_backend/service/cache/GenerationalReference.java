@@ -0,0 +1,82 @@
+package com.stepby.shop_backend.service.cache;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * CatalogGeneration 세대 단위로 교체되는 인메모리 인덱스 참조. 현재 값과, 아직 공개되지 않은 다음 세대 값을 함께 둡니다.
+ * <p>
+ * get()은 다음 세대가 공개되었으면 그 값을, 아니면 현재 값을 돌려줍니다. 공개 뒤 처음 읽는 쪽이 다음 세대 값을
+ * 현재 값으로 올리고 이전 값을 놓습니다. 상품별 변경은 forEach로 두 값에 모두 적용하므로 공개 전후 어느 쪽에서도 빠지지 않습니다.
+ */
+public final class GenerationalReference<T> {
+
+    private record Staged<T>(long generation, T value) {
+    }
+
+    private final CatalogGeneration catalogGeneration;
+    // 읽기(get)는 잠그지 않음. 값 교체와 상품별 변경 적용끼리만 순서를 맞춤
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T current;
+    private volatile Staged<T> staged;
+
+    public GenerationalReference(CatalogGeneration catalogGeneration, T initial) {
+        this.catalogGeneration = catalogGeneration;
+        this.current = initial;
+    }
+
+    public T get() {
+        Staged<T> next = staged;
+        if (next == null || !catalogGeneration.isPublished(next.generation())) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (staged == next) {
+                current = next.value();
+                staged = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return next.value();
+    }
+
+    /**
+     * 바로 내놓습니다 (전체 재구성 결과). 준비 중이던 다음 세대 값은 버립니다 (재구성이 커밋된 변경을 모두 읽었으므로).
+     */
+    public void set(T value) {
+        lock.lock();
+        try {
+            current = value;
+            staged = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * generation 세대가 공개되면 내놓을 값을 준비합니다.
+     */
+    public void stage(long generation, T value) {
+        lock.lock();
+        try {
+            staged = new Staged<>(generation, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 값과, 있으면 준비된 값에도 적용 (잠금 안에서 실행하므로 그동안 공개/교체로 한쪽을 건너뛰지 않음)
+    public void forEach(Consumer<? super T> action) {
+        lock.lock();
+        try {
+            action.accept(current);
+            if (staged != null) {
+                action.accept(staged.value());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.stepby.shop_backend.service.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 인덱스를 통째로 다시 만드는 동안(DB에서 읽거나 현재 인덱스를 복사) 커밋된 상품 변경을 모아 두었다가,
+ * 새 인덱스를 내놓기 전에 그 상품들만 다시 읽어 반영하게 합니다.
+ * <p>
+ * 재구성 중에 들어온 변경 이벤트는 기존 인덱스에만 적용되고, 새 인덱스는 그 변경 전에 읽었을 수 있으므로
+ * 그대로 교체하면 변경이 사라집니다. 이벤트 처리 쪽은 apply()로 인덱스에 적용하고,
+ * 재구성은 rebuild()로 감쌉니다. 모인 id가 없을 때 잠금 안에서 교체하므로, 교체 뒤의 이벤트는 새 인덱스에 적용됩니다.
+ */
+public final class RebuildChangeLog {
+
+    // 이벤트 기록과 재구성 교체가 함께 잡는 짧은 잠금 (이벤트는 요청 스레드에서도 기록)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Set<String> pending; // null이면 재구성 중이 아님
+
+    /**
+     * 변경 이벤트마다 인덱스에 적용하기 전에 호출합니다. 재구성 중이면 상품 id를 기록합니다.
+     */
+    public void record(String productId) {
+        lock.lock();
+        try {
+            if (pending != null) {
+                pending.add(productId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 변경 하나를 change로 인덱스에 적용하고, 적용 전후에 record()를 호출합니다.
+     * 적용 전 기록은 DB에서 다시 읽는 재구성이 변경 전의 행을 읽은 경우를, 적용 후 기록은 현재 인덱스를 복사해 만드는
+     * 재구성이 적용 전에 복사한 경우를 막습니다.
+     */
+    public void apply(String productId, Runnable change) {
+        record(productId);
+        change.run();
+        record(productId);
+    }
+
+    /**
+     * build로 새 인덱스를 만들고, 그동안 기록된 상품을 replay로 새 인덱스에 다시 반영한 뒤 publish로 교체합니다.
+     * 재구성은 한 번에 하나씩 실행됩니다.
+     */
+    public <T> T rebuild(Supplier<T> build, BiConsumer<T, String> replay, Consumer<T> publish) {
+        rebuildLock.lock();
+        try {
+            swapPending(new HashSet<>());
+            try {
+                T fresh = build.get();
+                while (true) {
+                    Set<String> changed;
+                    lock.lock();
+                    try {
+                        if (pending.isEmpty()) {
+                            publish.accept(fresh);
+                            pending = null;
+                            return fresh;
+                        }
+                        changed = pending;
+                        pending = new HashSet<>();
+                    } finally {
+                        lock.unlock();
+                    }
+                    // DB 조회는 잠금 밖에서 (그동안 들어온 변경은 다음 바퀴에 반영)
+                    changed.forEach(productId -> replay.accept(fresh, productId));
+                }
+            } finally {
+                swapPending(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void swapPending(Set<String> value) {
+        lock.lock();
+        try {
+            pending = value;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
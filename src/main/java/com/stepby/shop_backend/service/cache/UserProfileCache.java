@@ -0,0 +1,49 @@
+package com.stepby.shop_backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepby.shop_backend.datasource.PrimaryReadTransactionTemplate;
+import com.stepby.shop_backend.dto.auth.UserResponse;
+import com.stepby.shop_backend.event.UserChangedEvent;
+import com.stepby.shop_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * /api/user/me 프로필 캐시 (사용자 id → 불변 UserResponse).
+ * 사용자 정보가 바뀌면 커밋 후 해당 항목만 제거합니다. 적재는 캐시 잠금 밖에서 실행합니다(CallerLoadingCache).
+ * 제거 직후 지연된 복제본에서 이전 값을 다시 캐시하지 않도록 적재는 기본 DB에서 읽습니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final PrimaryReadTransactionTemplate primaryRead;
+    private final CallerLoadingCache<String, Optional<UserResponse>> profiles;
+
+    @Autowired
+    public UserProfileCache(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                            @Value("${app.cache.user-profile.max-size:10000}") long maxSize,
+                            @Value("${app.cache.user-profile.expire-after:PT10M}") Duration expireAfter) {
+        this.userRepository = userRepository;
+        this.primaryRead = new PrimaryReadTransactionTemplate(transactionManager);
+        this.profiles = new CallerLoadingCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfter));
+    }
+
+    public Optional<UserResponse> get(String userId) {
+        return profiles.get(userId, id -> primaryRead.execute(status ->
+                userRepository.findById(id).map(UserResponse::fromEntity)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        profiles.invalidate(event.userId());
+    }
+}
@@ -0,0 +1,48 @@
+package com.stepby.shop_backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepby.shop_backend.event.UserChangedEvent;
+import com.stepby.shop_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 현재 보안 버전 캐시. 토큰의 sv 클레임과 비교해 비밀번호/권한 변경 전에 발급된 토큰을 거부합니다.
+ * <p>
+ * - 사용자당 최초 한 번만 조회하고, 이후 변경은 커밋 이벤트로 즉시 반영 (요청당 쿼리 없음)
+ * - 다른 인스턴스에서의 변경은 expire-after 주기 안에 반영
+ * - 삭제된 사용자는 DELETED로 캐시해 잘못된 토큰이 반복 조회를 일으키지 않도록 함
+ * - AuthTokenFilter에서 매 요청 호출되므로 적재는 캐시 잠금 밖에서 실행 (가상 스레드 고정 방지, CallerLoadingCache)
+ */
+@Component
+public class UserSecurityVersionCache {
+
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final CallerLoadingCache<String, Integer> versions;
+
+    @Autowired
+    public UserSecurityVersionCache(UserRepository userRepository,
+                                    @Value("${app.cache.security-version.max-size:100000}") long maxSize,
+                                    @Value("${app.cache.security-version.expire-after:PT1M}") Duration expireAfter) {
+        this.userRepository = userRepository;
+        this.versions = new CallerLoadingCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfter));
+    }
+
+    public boolean isCurrent(String userId, int tokenVersion) {
+        int current = versions.get(userId, id -> userRepository.findSecurityVersionById(id).orElse(DELETED));
+        return current != DELETED && current == tokenVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.put(event.userId(), event.deleted() ? DELETED : event.securityVersion());
+    }
+}
@@ -0,0 +1,169 @@
+package com.stepby.shop_backend.service.diagnostics;
+
+import com.stepby.shop_backend.dto.admin.VirtualThreadPinningReport;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 고정(pinning) 감시. JFR의 jdk.VirtualThreadPinned 이벤트를 앱 안에서 스트리밍으로 받아
+ * 고정이 일어난 위치별로 횟수/시간을 모읍니다 (GET /api/admin/threads/pinning).
+ * <p>
+ * JDK 21에서는 synchronized 블록(또는 네이티브 프레임) 안에서 블로킹하면 가상 스레드가 캐리어 스레드를 붙잡은 채
+ * 기다립니다. 캐리어 수(기본 코어 수)만큼 고정되면 다른 가상 스레드가 모두 멈추므로, 요청 경로의 고정은 없어야 합니다.
+ * <p>
+ * 위치는 "고정된 채 대기한 첫 번째 비 JDK 프레임"(blockingFrame)과 스택의 우리 코드 프레임들(appFrames, 안쪽부터)로 묶습니다.
+ * JFR 이벤트에는 모니터를 잡은 프레임이 따로 없으므로, synchronized를 건 코드는 appFrames와 스택 샘플에서 찾습니다.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.stepby.";
+    private static final int SAMPLE_FRAMES = 20;
+    private static final int APP_FRAMES = 5;
+
+    private final boolean enabled;
+    private final boolean virtualThreads;
+    private final Duration threshold;
+    private final int maxSites;
+    private final RecordingStream stream;
+
+    private final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+
+    @Autowired
+    public VirtualThreadPinningMonitor(@Value("${app.virtual-threads.pinning.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       @Value("${app.virtual-threads.pinning.threshold:PT0.02S}") Duration threshold,
+                                       @Value("${app.virtual-threads.pinning.max-sites:100}") int maxSites) {
+        this.enabled = enabled;
+        this.virtualThreads = virtualThreads;
+        this.threshold = threshold;
+        this.maxSites = maxSites;
+        this.stream = enabled ? start() : null;
+    }
+
+    private RecordingStream start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        logger.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+        return recording;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void record(RecordedEvent event) {
+        events.increment();
+        List<String> frames = frames(event.getStackTrace());
+        String blockingFrame = frames.stream().filter(frame -> !isJdkFrame(frame)).findFirst().orElse("(jdk)");
+        List<String> appFrames = frames.stream().filter(frame -> frame.startsWith(APP_PACKAGE)).limit(APP_FRAMES).toList();
+        String key = blockingFrame + " <- " + String.join(" <- ", appFrames);
+        SiteStats site = sites.get(key);
+        if (site == null) {
+            // 위치 수 상한을 넘으면 새 위치는 버림 (이벤트 수는 계속 셈)
+            if (sites.size() >= maxSites) {
+                return;
+            }
+            site = sites.computeIfAbsent(key, k -> {
+                logger.warn("Virtual thread pinned for {} ms at {} (entered from {})",
+                        event.getDuration().toMillis(), blockingFrame, appFrames);
+                return new SiteStats(blockingFrame, appFrames,
+                        List.copyOf(frames.subList(0, Math.min(SAMPLE_FRAMES, frames.size()))));
+            });
+        }
+        site.add(event.getDuration().toNanos());
+    }
+
+    public VirtualThreadPinningReport report() {
+        List<VirtualThreadPinningReport.Site> result = new ArrayList<>();
+        for (SiteStats site : sites.values()) {
+            result.add(VirtualThreadPinningReport.Site.builder()
+                    .blockingFrame(site.blockingFrame)
+                    .appFrames(site.appFrames)
+                    .ownCode(site.blockingFrame.startsWith(APP_PACKAGE))
+                    .count(site.count.sum())
+                    .totalMillis(site.totalNanos.sum() / 1_000_000.0)
+                    .maxMillis(site.maxNanos.get() / 1_000_000.0)
+                    .stackTrace(site.sample)
+                    .build());
+        }
+        result.sort(Comparator.comparingDouble(VirtualThreadPinningReport.Site::getTotalMillis).reversed());
+        return VirtualThreadPinningReport.builder()
+                .enabled(enabled)
+                .virtualThreads(virtualThreads)
+                .thresholdMillis(threshold.toNanos() / 1_000_000.0)
+                .events(events.sum())
+                .sites(result)
+                .build();
+    }
+
+    public void reset() {
+        sites.clear();
+        events.reset();
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<String> frames = new ArrayList<>(stackTrace.getFrames().size());
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        return frames;
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return frame.startsWith("java.") || frame.startsWith("jdk.") || frame.startsWith("sun.");
+    }
+
+    private static final class SiteStats {
+        private final String blockingFrame;
+        private final List<String> appFrames;
+        private final List<String> sample;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private SiteStats(String blockingFrame, List<String> appFrames, List<String> sample) {
+            this.blockingFrame = blockingFrame;
+            this.appFrames = appFrames;
+            this.sample = sample;
+        }
+
+        private void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.stepby.shop_backend.service.export;
+
+import com.stepby.shop_backend.datasource.PrimaryReadTransactionTemplate;
+import com.stepby.shop_backend.dto.product.ProductExportRecord;
+import com.stepby.shop_backend.repository.ProductExportRepository;
+import com.stepby.shop_backend.repository.ProductExportRepository.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 카탈로그 NDJSON 내보내기 (파트너 연동, 검색 색인 작업용).
+ * <p>
+ * (updated_at, id) 키셋으로 chunk-size개씩 읽어 한 줄씩 쓰고 청크마다 flush합니다.
+ * 메모리에는 청크 하나만 있으므로 상품 수와 무관하게 힙 사용량이 일정합니다.
+ * 청크마다 짧은 읽기 전용 트랜잭션을 쓰므로, 느린 클라이언트가 커넥션이나 스냅샷을 오래 잡고 있지 않습니다.
+ * 받는 쪽이 마지막 updated_at부터 이어 받으므로, 복제 지연으로 빠진 변경이 다음 since 뒤로 밀려 사라지지 않도록 기본 DB에서 읽습니다.
+ * <p>
+ * since를 주면 그 시각(포함) 이후 수정된 상품만 내보냅니다. 내보내는 도중 수정된 상품은 더 뒤 위치로 옮겨가
+ * 한 번 더 나올 수 있으므로, 받는 쪽은 id 기준으로 덮어써야 합니다. 삭제된 상품은 내보내지 않습니다.
+ */
+@Service
+public class ProductExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductExportService.class);
+
+    private final ProductExportRepository productExportRepository;
+    private final PrimaryReadTransactionTemplate primaryRead;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    @Autowired
+    public ProductExportService(ProductExportRepository productExportRepository,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                @Value("${app.export.chunk-size:500}") int chunkSize) {
+        this.productExportRepository = productExportRepository;
+        this.primaryRead = new PrimaryReadTransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * since 이후 수정된 상품을 out에 NDJSON으로 씁니다. 반환값은 내보낸 상품 수.
+     */
+    public long export(LocalDateTime since, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long exported = 0;
+        Cursor after = null;
+        while (true) {
+            Cursor position = after;
+            List<ProductExportRecord> chunk = primaryRead.execute(status ->
+                    productExportRepository.findChunk(since, position, chunkSize));
+            for (ProductExportRecord record : chunk) {
+                out.write(objectMapper.writeValueAsBytes(record));
+                out.write('\n');
+            }
+            out.flush();
+            exported += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            ProductExportRecord last = chunk.getLast();
+            after = new Cursor(last.getUpdatedAt(), last.getId());
+        }
+        logger.info("Exported {} products (since {}) in {} ms", exported, since,
+                (System.nanoTime() - started) / 1_000_000);
+        return exported;
+    }
+}
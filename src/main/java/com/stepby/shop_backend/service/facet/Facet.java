@@ -0,0 +1,27 @@
+package com.stepby.shop_backend.service.facet;
+
+/**
+ * 상품 목록 필터/패싯 차원. param은 요청 파라미터 이름이자 응답 facets의 키입니다.
+ * PRICE는 값 선택 대신 minPrice/maxPrice 범위로 거르고, 개수는 가격대(app.facet.price-bands)별로 셉니다.
+ */
+public enum Facet {
+    CATEGORY("category"),
+    GENDER("gender"),
+    BRAND("brand"),
+    KIDS("kids"),
+    DISCOUNTED("discounted"),
+    PRICE("price"),
+    COLOR("color"),
+    SIZE("size"),
+    IN_STOCK("inStock");
+
+    private final String param;
+
+    Facet(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+}
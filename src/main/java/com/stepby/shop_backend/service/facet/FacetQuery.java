@@ -0,0 +1,40 @@
+package com.stepby.shop_backend.service.facet;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 패싯 필터 조건. 같은 차원 안의 값은 OR, 차원끼리는 AND로 결합합니다.
+ * 가격 범위(minPrice/maxPrice, 포함)는 실제 판매가(effectivePrice) 기준입니다.
+ */
+public record FacetQuery(Map<Facet, Set<String>> selected, Integer minPrice, Integer maxPrice) {
+
+    public FacetQuery {
+        selected = selected.isEmpty() ? Map.of() : new EnumMap<>(selected);
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("Error: minPrice는 maxPrice보다 클 수 없습니다.");
+        }
+    }
+
+    public static FacetQuery of(Map<Facet, List<String>> values, Integer minPrice, Integer maxPrice) {
+        Map<Facet, Set<String>> selected = new EnumMap<>(Facet.class);
+        values.forEach((facet, list) -> {
+            if (facet == Facet.PRICE) {
+                throw new IllegalArgumentException("Error: 가격은 minPrice/maxPrice로 지정해야 합니다.");
+            }
+            if (facet == Facet.SIZE && list != null && !list.stream().allMatch(v -> v.matches("\\d{1,4}"))) {
+                throw new IllegalArgumentException("Error: size는 숫자여야 합니다.");
+            }
+            if (list != null && !list.isEmpty()) {
+                selected.put(facet, Set.copyOf(list));
+            }
+        });
+        return new FacetQuery(selected, minPrice, maxPrice);
+    }
+
+    boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+}
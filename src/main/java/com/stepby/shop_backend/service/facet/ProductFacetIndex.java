@@ -0,0 +1,408 @@
+package com.stepby.shop_backend.service.facet;
+
+import com.stepby.shop_backend.dto.product.ProductFacetResponse;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.repository.ProductFacetRepository.ProductFacetRow;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 패싯 필터용 인메모리 비트맵 인덱스.
+ * <p>
+ * 상품마다 조밀한 ordinal을 부여하고, 차원별 값(카테고리 "running", 색상 "블랙" 등)마다 해당 ordinal의
+ * Roaring 비트맵을 둡니다. 필터는 차원 안에서 OR, 차원끼리 AND이며, 패싯 개수는 차원마다
+ * "자기 차원을 뺀 나머지 필터의 교집합"과 값 비트맵의 교집합 크기(andCardinality)로 셉니다.
+ * 나머지 필터 교집합은 접두/접미 AND로 구하므로 필터 차원이 k개여도 AND는 O(k)번입니다.
+ * <p>
+ * 삭제된 상품의 ordinal은 재사용하므로 갱신이 반복되어도 ordinal 공간이 늘지 않습니다.
+ * <p>
+ * 상위 limit개는 인기순으로 정렬해 둔 ordinal 배열을 앞에서부터 훑어 결과 비트맵에 있는 것만 고르므로,
+ * 넓은 필터에서도 전체 결과를 정렬하지 않습니다. 결과가 작으면 결과만 힙으로 고릅니다.
+ * <p>
+ * 개수를 셀 기준 집합이 작을 때(비트맵이 배열 컨테이너라 교집합이 병합 비교가 되는 구간)는
+ * 값마다 andCardinality를 하지 않고 기준 집합의 상품을 한 번 훑으며 값 번호별로 셉니다.
+ */
+public class ProductFacetIndex {
+
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    private static final Comparator<Doc> POPULARITY = Comparator.comparingInt((Doc d) -> d.product().getReviewCount())
+            .thenComparing(d -> d.product().getId(), Comparator.reverseOrder());
+
+    // 결과가 전체의 1/RANKED_SCAN_RATIO 이하이면 인기순 배열 대신 결과만 힙으로 정렬
+    private static final int RANKED_SCAN_RATIO = 16;
+
+    // 기준 집합이 컨테이너(2^16 구간)당 평균 이 크기 이하이면 상품을 훑어서 셈 (Roaring 배열 컨테이너 최대 크기)
+    private static final int COUNT_SCAN_MAX = 4096;
+
+    private static final Comparator<String> NUMERIC = Comparator.comparingInt(Integer::parseInt);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Facet, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Facet.class);
+    // 차원별 값 → 번호 (훑어서 셀 때 배열 인덱스로 사용, 값이 사라져도 번호는 유지)
+    private final Map<Facet, Map<String, Integer>> valueIds = new EnumMap<>(Facet.class);
+    private final int countScanMax;
+    private final int[] priceBounds;
+    private final String[] priceLabels;
+    private final RoaringBitmap[] priceBands;
+    // 판매가 → 비트맵 (가격 범위 필터용, 가격대 비트맵은 개수용)
+    private final TreeMap<Integer, RoaringBitmap> prices = new TreeMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap free = new RoaringBitmap();
+    // 인기순 ordinal (삭제된 ordinal이 남아 있어도 결과 비트맵으로 걸러지므로 무방). null이면 다시 만듦
+    private volatile int[] ranked;
+
+    /**
+     * @param priceBounds 가격대 경계 (오름차순). [0, b0), [b0, b1), ..., [bn, ∞) 구간으로 개수를 셉니다.
+     */
+    public ProductFacetIndex(int[] priceBounds) {
+        this(priceBounds, COUNT_SCAN_MAX);
+    }
+
+    ProductFacetIndex(int[] priceBounds, int countScanMax) {
+        this.countScanMax = countScanMax;
+        this.priceBounds = priceBounds.clone();
+        Arrays.sort(this.priceBounds);
+        this.priceLabels = new String[this.priceBounds.length + 1];
+        this.priceBands = new RoaringBitmap[this.priceBounds.length + 1];
+        int lower = 0;
+        for (int i = 0; i <= this.priceBounds.length; i++) {
+            priceLabels[i] = i < this.priceBounds.length ? lower + "-" + (this.priceBounds[i] - 1) : lower + "-";
+            priceBands[i] = new RoaringBitmap();
+            lower = i < this.priceBounds.length ? this.priceBounds[i] : lower;
+        }
+        for (Facet facet : Facet.values()) {
+            if (facet != Facet.PRICE) {
+                bitmaps.put(facet, new TreeMap<>(facet == Facet.SIZE ? NUMERIC : Comparator.naturalOrder()));
+                valueIds.put(facet, new HashMap<>());
+            }
+        }
+    }
+
+    public void upsert(ProductFacetRow row) {
+        Doc doc = toDoc(row);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(doc.product().getId());
+            if (ordinal != null) {
+                Doc previous = docs.get(ordinal);
+                unindex(ordinal, previous);
+                if (previous.product().getReviewCount() != doc.product().getReviewCount()) {
+                    ranked = null;
+                }
+            } else {
+                ranked = null;
+                ordinal = free.isEmpty() ? docs.size() : free.first();
+                free.remove(ordinal);
+                if (ordinal == docs.size()) {
+                    docs.add(null);
+                }
+                ordinals.put(doc.product().getId(), ordinal);
+            }
+            docs.set(ordinal, doc);
+            index(ordinal, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal != null) {
+                unindex(ordinal, docs.get(ordinal));
+                docs.set(ordinal, null);
+                free.add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 같은 상품으로 새 인덱스를 만듦 (빈 ordinal 없이, 이후 변경은 서로 독립)
+    public ProductFacetIndex copy() {
+        ProductFacetIndex copy = new ProductFacetIndex(priceBounds, countScanMax);
+        lock.readLock().lock();
+        try {
+            IntIterator it = live.getIntIterator();
+            while (it.hasNext()) {
+                Doc doc = docs.get(it.next());
+                int ordinal = copy.docs.size();
+                Doc copied = new Doc(doc.product(), doc.price(), doc.values(), new int[Facet.values().length][]);
+                copy.docs.add(copied);
+                copy.ordinals.put(doc.product().getId(), ordinal);
+                copy.index(ordinal, copied);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        copy.optimize();
+        return copy;
+    }
+
+    // 대량 구축 후 연속 구간을 run 컨테이너로 압축
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            bitmaps.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+            Arrays.stream(priceBands).forEach(RoaringBitmap::runOptimize);
+            prices.values().forEach(RoaringBitmap::runOptimize);
+            live.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ProductFacetResponse query(FacetQuery query, int limit) {
+        lock.readLock().lock();
+        try {
+            // 선택이 있는 차원만 필터 비트맵으로 (차원 안의 값은 OR)
+            List<Facet> filtered = new ArrayList<>();
+            List<RoaringBitmap> filters = new ArrayList<>();
+            for (Facet facet : Facet.values()) {
+                RoaringBitmap filter = filterFor(facet, query);
+                if (filter != null) {
+                    filtered.add(facet);
+                    filters.add(filter);
+                }
+            }
+
+            // prefix[i] = live ∧ F0 ∧ ... ∧ F(i-1), suffix[i] = Fi ∧ ... ∧ F(k-1)
+            int k = filters.size();
+            RoaringBitmap[] prefix = new RoaringBitmap[k + 1];
+            prefix[0] = live;
+            for (int i = 0; i < k; i++) {
+                prefix[i + 1] = RoaringBitmap.and(prefix[i], filters.get(i));
+            }
+            RoaringBitmap[] suffix = new RoaringBitmap[k + 1];
+            for (int i = k - 1; i >= 0; i--) {
+                suffix[i] = suffix[i + 1] == null ? filters.get(i) : RoaringBitmap.and(filters.get(i), suffix[i + 1]);
+            }
+            RoaringBitmap matches = prefix[k];
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                int position = filtered.indexOf(facet);
+                RoaringBitmap base = matches;
+                if (position >= 0) {
+                    base = suffix[position + 1] == null
+                            ? prefix[position]
+                            : RoaringBitmap.and(prefix[position], suffix[position + 1]);
+                }
+                facets.put(facet.param(), counts(facet, base));
+            }
+
+            return ProductFacetResponse.builder()
+                    .total(matches.getCardinality())
+                    .items(top(matches, limit))
+                    .facets(facets)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap filterFor(Facet facet, FacetQuery query) {
+        if (facet == Facet.PRICE) {
+            return query.hasPriceRange() ? priceRange(query.minPrice(), query.maxPrice()) : null;
+        }
+        Set<String> selected = query.selected().get(facet);
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        Map<String, RoaringBitmap> values = bitmaps.get(facet);
+        List<RoaringBitmap> union = new ArrayList<>(selected.size());
+        for (String value : selected) {
+            RoaringBitmap bitmap = values.get(value);
+            if (bitmap != null) {
+                union.add(bitmap);
+            }
+        }
+        return RoaringBitmap.or(union.iterator());
+    }
+
+    // 판매가별 비트맵 중 범위 안의 것들의 합집합 (상품을 하나씩 확인하지 않음)
+    private RoaringBitmap priceRange(Integer minPrice, Integer maxPrice) {
+        int min = minPrice != null ? minPrice : Integer.MIN_VALUE;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        return RoaringBitmap.or(prices.subMap(min, true, max, true).values().iterator());
+    }
+
+    private Map<String, Integer> counts(Facet facet, RoaringBitmap base) {
+        if (base.getCardinality() <= (long) countScanMax * ((docs.size() >>> 16) + 1)) {
+            return scanCounts(facet, base);
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (facet == Facet.PRICE) {
+            for (int band = 0; band < priceBands.length; band++) {
+                counts.put(priceLabels[band], RoaringBitmap.andCardinality(base, priceBands[band]));
+            }
+            return counts;
+        }
+        bitmaps.get(facet).forEach((value, bitmap) -> counts.put(value, RoaringBitmap.andCardinality(base, bitmap)));
+        return counts;
+    }
+
+    private Map<String, Integer> scanCounts(Facet facet, RoaringBitmap base) {
+        boolean price = facet == Facet.PRICE;
+        int[] tally = new int[price ? priceBands.length : valueIds.get(facet).size()];
+        IntIterator it = base.getIntIterator();
+        while (it.hasNext()) {
+            for (int id : docs.get(it.next()).ids()[facet.ordinal()]) {
+                tally[id]++;
+            }
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (price) {
+            for (int band = 0; band < priceBands.length; band++) {
+                counts.put(priceLabels[band], tally[band]);
+            }
+            return counts;
+        }
+        Map<String, Integer> ids = valueIds.get(facet);
+        for (String value : bitmaps.get(facet).keySet()) {
+            counts.put(value, tally[ids.get(value)]);
+        }
+        return counts;
+    }
+
+    private List<ProductResponseDto> top(RoaringBitmap matches, int limit) {
+        if (limit <= 0 || matches.isEmpty()) {
+            return List.of();
+        }
+        if ((long) matches.getCardinality() * RANKED_SCAN_RATIO < ordinals.size()) {
+            return topByHeap(matches, limit);
+        }
+        int[] order = ranked();
+        List<ProductResponseDto> results = new ArrayList<>(limit);
+        for (int i = 0; i < order.length && results.size() < limit; i++) {
+            if (matches.contains(order[i])) {
+                results.add(docs.get(order[i]).product());
+            }
+        }
+        return results;
+    }
+
+    // 읽기 잠금 안에서 호출되므로 docs는 바뀌지 않음. 동시에 여러 요청이 만들더라도 결과는 같음
+    private int[] ranked() {
+        int[] order = ranked;
+        if (order == null) {
+            order = live.stream().boxed()
+                    .sorted(Comparator.comparing(docs::get, POPULARITY.reversed()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            ranked = order;
+        }
+        return order;
+    }
+
+    private List<ProductResponseDto> topByHeap(RoaringBitmap matches, int limit) {
+        PriorityQueue<Doc> top = new PriorityQueue<>(limit + 1, POPULARITY);
+        IntIterator it = matches.getIntIterator();
+        while (it.hasNext()) {
+            Doc doc = docs.get(it.next());
+            if (top.size() >= limit && POPULARITY.compare(doc, top.peek()) <= 0) {
+                continue;
+            }
+            top.offer(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<ProductResponseDto> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(top.poll().product());
+        }
+        return results.reversed();
+    }
+
+    private void index(int ordinal, Doc doc) {
+        doc.values().forEach((facet, values) -> {
+            Map<String, RoaringBitmap> bitmapsByValue = bitmaps.get(facet);
+            Map<String, Integer> ids = valueIds.get(facet);
+            int[] docIds = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                bitmapsByValue.computeIfAbsent(values[i], v -> new RoaringBitmap()).add(ordinal);
+                docIds[i] = ids.computeIfAbsent(values[i], v -> ids.size());
+            }
+            doc.ids()[facet.ordinal()] = docIds;
+        });
+        doc.ids()[Facet.PRICE.ordinal()] = new int[]{band(doc.price())};
+        priceBands[band(doc.price())].add(ordinal);
+        prices.computeIfAbsent(doc.price(), p -> new RoaringBitmap()).add(ordinal);
+        live.add(ordinal);
+    }
+
+    private void unindex(int ordinal, Doc doc) {
+        doc.values().forEach((facet, values) -> {
+            Map<String, RoaringBitmap> bitmapsByValue = bitmaps.get(facet);
+            for (String value : values) {
+                RoaringBitmap bitmap = bitmapsByValue.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        bitmapsByValue.remove(value); // 더 이상 상품이 없는 값은 패싯에서 사라짐
+                    }
+                }
+            }
+        });
+        priceBands[band(doc.price())].remove(ordinal);
+        RoaringBitmap samePrice = prices.get(doc.price());
+        samePrice.remove(ordinal);
+        if (samePrice.isEmpty()) {
+            prices.remove(doc.price());
+        }
+        live.remove(ordinal);
+    }
+
+    private int band(int price) {
+        int position = Arrays.binarySearch(priceBounds, price);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static Doc toDoc(ProductFacetRow row) {
+        ProductResponseDto product = row.summary();
+        Map<Facet, String[]> values = new EnumMap<>(Facet.class);
+        values.put(Facet.CATEGORY, new String[]{product.getCategory()});
+        values.put(Facet.GENDER, new String[]{product.getGender()});
+        values.put(Facet.BRAND, new String[]{product.getBrand()});
+        values.put(Facet.KIDS, new String[]{product.isKids() ? TRUE : FALSE});
+        values.put(Facet.DISCOUNTED, new String[]{product.getDiscountPrice() != null ? TRUE : FALSE});
+        values.put(Facet.COLOR, new TreeSet<>(row.colors()).toArray(String[]::new));
+        values.put(Facet.SIZE, row.sizes().stream().distinct().map(String::valueOf).toArray(String[]::new));
+        values.put(Facet.IN_STOCK, new String[]{row.inStock() ? TRUE : FALSE});
+        return new Doc(product, row.effectivePrice(), values, new int[Facet.values().length][]);
+    }
+
+    // values: 차원별로 이 상품이 속한 값 (삭제/갱신 시 해당 비트맵에서만 빼기 위해 보관)
+    // ids: 같은 값의 번호 (PRICE는 가격대 번호), 색인 시 쓰기 잠금 안에서 채움
+    private record Doc(ProductResponseDto product, int price, Map<Facet, String[]> values, int[][] ids) {
+    }
+}
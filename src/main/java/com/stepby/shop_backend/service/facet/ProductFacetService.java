@@ -0,0 +1,114 @@
+package com.stepby.shop_backend.service.facet;
+
+import com.stepby.shop_backend.dto.product.ProductFacetResponse;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.event.StockSyncedEvent;
+import com.stepby.shop_backend.repository.ProductFacetRepository;
+import com.stepby.shop_backend.repository.ProductFacetRepository.ProductFacetRow;
+import com.stepby.shop_backend.service.cache.CatalogGeneration;
+import com.stepby.shop_backend.service.cache.GenerationalReference;
+import com.stepby.shop_backend.service.cache.RebuildChangeLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 페이지 필터/패싯 개수 서비스. 기동 시 전체 카탈로그로 비트맵 인덱스를 만들고,
+ * 상품(또는 변형) 변경이 커밋되면 해당 상품만 다시 색인합니다.
+ * 재고 원장이 변형을 DB와 동기화하고 내리면(StockSyncedEvent) 재고 보유 여부도 다시 읽습니다.
+ * 재구성 중에 커밋된 변경은 새 인덱스에도 다시 반영한 뒤 교체합니다 (RebuildChangeLog).
+ * 일괄 가격 변경은 복사본에 반영해 다음 세대로 준비합니다 (ProductSearchService.stageChanges와 같음).
+ */
+@Service
+public class ProductFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductFacetService.class);
+
+    public static final int MAX_LIMIT = 100;
+    // stageChanges의 IN 목록 하나에 넣는 id 수
+    private static final int LOAD_CHUNK = 1000;
+
+    private final ProductFacetRepository productFacetRepository;
+    private final int[] priceBands;
+    private final RebuildChangeLog changesDuringRebuild = new RebuildChangeLog();
+    private final GenerationalReference<ProductFacetIndex> index;
+
+    @Autowired
+    public ProductFacetService(ProductFacetRepository productFacetRepository, CatalogGeneration catalogGeneration,
+                               @Value("${app.facet.price-bands:50000,100000,150000,200000}") int[] priceBands) {
+        this.productFacetRepository = productFacetRepository;
+        this.priceBands = priceBands;
+        this.index = new GenerationalReference<>(catalogGeneration, new ProductFacetIndex(priceBands));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        ProductFacetIndex fresh = changesDuringRebuild.rebuild(() -> {
+            ProductFacetIndex built = new ProductFacetIndex(priceBands);
+            productFacetRepository.findAll().forEach(built::upsert);
+            built.optimize();
+            return built;
+        }, this::reload, index::set);
+        logger.info("Product facet index built: {} products in {} ms",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public ProductFacetResponse query(FacetQuery query, int limit) {
+        return index.get().query(query, Math.min(Math.max(limit, 0), MAX_LIMIT));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETE) {
+            changesDuringRebuild.apply(event.productId(),
+                    () -> index.forEach(target -> apply(target, event.productId(), Optional.empty())));
+            return;
+        }
+        reload(event.productId());
+    }
+
+    @EventListener
+    public void onStockSynced(StockSyncedEvent event) {
+        reload(event.productId());
+    }
+
+    public void reload(String productId) {
+        Optional<ProductFacetRow> row = productFacetRepository.findById(productId);
+        changesDuringRebuild.apply(productId, () -> index.forEach(target -> apply(target, productId, row)));
+    }
+
+    /**
+     * 이벤트 없이 DB에서 바뀐 상품(일괄 가격 변경)을 읽어 현재 인덱스의 복사본에 반영하고, generation 세대로 준비합니다.
+     */
+    public void stageChanges(List<String> productIds, long generation) {
+        Map<String, ProductFacetRow> loaded = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += LOAD_CHUNK) {
+            productFacetRepository.findByIds(productIds.subList(from, Math.min(from + LOAD_CHUNK, productIds.size())))
+                    .forEach(row -> loaded.put(row.summary().getId(), row));
+        }
+        changesDuringRebuild.rebuild(() -> {
+            ProductFacetIndex copy = index.get().copy();
+            productIds.forEach(productId -> apply(copy, productId, Optional.ofNullable(loaded.get(productId))));
+            return copy;
+        }, this::reload, copy -> index.stage(generation, copy));
+    }
+
+    private void reload(ProductFacetIndex target, String productId) {
+        apply(target, productId, productFacetRepository.findById(productId));
+    }
+
+    private static void apply(ProductFacetIndex target, String productId, Optional<ProductFacetRow> row) {
+        row.ifPresentOrElse(target::upsert, () -> target.remove(productId));
+    }
+}
@@ -0,0 +1,224 @@
+package com.stepby.shop_backend.service.importer;
+
+import com.stepby.shop_backend.dto.product.CatalogImportRecord;
+import com.stepby.shop_backend.entity.CatalogImportBatch;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.repository.CatalogImportRepository;
+import com.stepby.shop_backend.repository.CatalogImportRepository.ExistingProduct;
+import com.stepby.shop_backend.repository.CatalogImportRepository.ExistingVariant;
+import com.stepby.shop_backend.repository.CatalogImportRepository.ProductWrite;
+import com.stepby.shop_backend.util.Uuids;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 카탈로그 일괄 등록의 upsert 단계: 배치 하나를 트랜잭션 하나로 반영합니다.
+ * <p>
+ * SKU로 기존 상품을 한 번에 읽어 입력과 비교한 뒤, 바뀐 것만 테이블별 JDBC 배치로 씁니다.
+ * - 상품 행: 컬럼이나 하위 데이터가 바뀐 상품만 UPDATE (updated_at 갱신 → 증분 내보내기에 포함)
+ * - 요소 컬렉션: 값의 개수가 달라진 값만 DELETE/INSERT (순서만 바뀐 것은 변경으로 보지 않음, 테이블에 순서 컬럼이 없음)
+ * - 변형: (color, size)로 맞춰 재고만 UPDATE, 없어진 것 DELETE, 새 것 INSERT (기존 변형 id 유지).
+ *   DELETE를 INSERT보다 먼저 보내므로 (product_id, color, size) 유니크 제약에 걸리지 않습니다.
+ * 같은 트랜잭션에서 체크포인트를 DONE으로 기록하므로, 커밋된 배치는 재실행 시 건너뜁니다.
+ * 바뀐 상품마다 ProductChangedEvent를 발행해 커밋 후 인메모리 인덱스/캐시가 갱신됩니다.
+ */
+@Component
+public class CatalogBatchWriter {
+
+    /**
+     * 입력 레코드 순번 [number * batchSize, (number + 1) * batchSize) 중 검증을 통과한 레코드들.
+     */
+    public record Batch(int number, long firstLine, long lastLine, List<CatalogImportRecord> records) {
+    }
+
+    public record Result(int inserted, int updated, int unchanged) {
+    }
+
+    private final CatalogImportRepository catalogImportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public CatalogBatchWriter(CatalogImportRepository catalogImportRepository, TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher) {
+        this.catalogImportRepository = catalogImportRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Result write(String jobId, int batchSize, Batch batch) {
+        return transactionTemplate.execute(status -> {
+            Map<String, ExistingProduct> existing = catalogImportRepository.findBySkus(
+                    batch.records().stream().map(CatalogImportRecord::getSku).toList());
+            Changes changes = new Changes();
+            for (CatalogImportRecord record : batch.records()) {
+                changes.add(record, existing.get(record.getSku()));
+            }
+            changes.apply(LocalDateTime.now());
+            catalogImportRepository.saveBatch(jobId, batch.number(), batchSize, CatalogImportBatch.Status.DONE,
+                    batch.firstLine(), batch.lastLine(), batch.records().size(), null);
+            changes.events.forEach(eventPublisher::publishEvent);
+            return new Result(changes.inserts.size(), changes.updates.size(), changes.unchanged);
+        });
+    }
+
+    // 실패한 배치 기록 (트랜잭션 밖, 롤백된 배치와 별개로 남아야 함)
+    public void markFailed(String jobId, int batchSize, Batch batch, String error) {
+        catalogImportRepository.saveBatch(jobId, batch.number(), batchSize, CatalogImportBatch.Status.FAILED,
+                batch.firstLine(), batch.lastLine(), batch.records().size(), error);
+    }
+
+    private final class Changes {
+        private final List<ProductWrite> inserts = new ArrayList<>();
+        private final List<ProductWrite> updates = new ArrayList<>();
+        private int unchanged;
+        private final ValueChanges imageUrls = new ValueChanges("product_image_urls", "image_url");
+        private final ValueChanges materials = new ValueChanges("product_materials", "material");
+        private final ValueChanges colors = new ValueChanges("product_colors", "color");
+        private final ValueChanges sizes = new ValueChanges("product_available_sizes", "size");
+        private final List<Object[]> variantInserts = new ArrayList<>();
+        private final List<Object[]> variantUpdates = new ArrayList<>();
+        private final List<Object[]> variantDeletes = new ArrayList<>();
+        private final List<ProductChangedEvent> events = new ArrayList<>();
+
+        private void add(CatalogImportRecord record, ExistingProduct current) {
+            if (current == null) {
+                String id = Uuids.timeOrdered().toString();
+                inserts.add(new ProductWrite(id, record));
+                imageUrls.diff(id, List.of(), record.getImageUrls());
+                materials.diff(id, List.of(), record.getMaterials());
+                colors.diff(id, List.of(), record.getColors());
+                sizes.diff(id, List.of(), record.getAvailableSizes());
+                for (CatalogImportRecord.Variant variant : record.getVariants()) {
+                    variantInserts.add(new Object[]{Uuids.timeOrdered().toString(), id, variant.getColor(),
+                            variant.getSize(), variant.getStockQuantity()});
+                }
+                events.add(ProductChangedEvent.upsert(id, record.isBestSeller() || record.isNewArrival()));
+                return;
+            }
+            String id = current.id();
+            CatalogImportRecord state = current.state();
+            // |=: 앞에서 변경이 발견돼도 뒤의 diff가 모두 실행되어야 함
+            boolean changed = !sameColumns(state, record);
+            changed |= imageUrls.diff(id, state.getImageUrls(), record.getImageUrls());
+            changed |= materials.diff(id, state.getMaterials(), record.getMaterials());
+            changed |= colors.diff(id, state.getColors(), record.getColors());
+            changed |= sizes.diff(id, state.getAvailableSizes(), record.getAvailableSizes());
+            changed |= diffVariants(id, current.variants(), record.getVariants());
+            if (changed) {
+                updates.add(new ProductWrite(id, record));
+                events.add(ProductChangedEvent.upsert(id, state.isBestSeller() || state.isNewArrival()
+                        || record.isBestSeller() || record.isNewArrival()));
+            } else {
+                unchanged++;
+            }
+        }
+
+        private boolean diffVariants(String productId, List<ExistingVariant> current,
+                                     List<CatalogImportRecord.Variant> incoming) {
+            Map<String, ExistingVariant> byKey = new HashMap<>();
+            for (ExistingVariant variant : current) {
+                byKey.put(variant.color() + "/" + variant.size(), variant);
+            }
+            boolean changed = false;
+            for (CatalogImportRecord.Variant variant : incoming) {
+                ExistingVariant existing = byKey.remove(variant.getColor() + "/" + variant.getSize());
+                if (existing == null) {
+                    variantInserts.add(new Object[]{Uuids.timeOrdered().toString(), productId, variant.getColor(),
+                            variant.getSize(), variant.getStockQuantity()});
+                    changed = true;
+                } else if (existing.stockQuantity() != variant.getStockQuantity()) {
+                    variantUpdates.add(new Object[]{variant.getStockQuantity(), existing.id()});
+                    changed = true;
+                }
+            }
+            for (ExistingVariant removed : byKey.values()) {
+                variantDeletes.add(new Object[]{removed.id()});
+                changed = true;
+            }
+            return changed;
+        }
+
+        // 상위 행이 먼저 있어야 하므로 상품 INSERT → 하위 INSERT, 유니크 제약 때문에 DELETE → INSERT 순서
+        private void apply(LocalDateTime now) {
+            catalogImportRepository.updateProducts(updates, now);
+            for (ValueChanges values : List.of(imageUrls, materials, colors, sizes)) {
+                catalogImportRepository.deleteValues(values.table, values.column, values.deletes);
+            }
+            catalogImportRepository.deleteVariants(variantDeletes);
+            catalogImportRepository.updateVariantStock(variantUpdates);
+            catalogImportRepository.insertProducts(inserts, now);
+            for (ValueChanges values : List.of(imageUrls, materials, colors, sizes)) {
+                catalogImportRepository.insertValues(values.table, values.column, values.inserts);
+            }
+            catalogImportRepository.insertVariants(variantInserts);
+        }
+    }
+
+    private static boolean sameColumns(CatalogImportRecord current, CatalogImportRecord incoming) {
+        return Objects.equals(current.getName(), incoming.getName())
+                && Objects.equals(current.getBrand(), incoming.getBrand())
+                && Objects.equals(current.getPrice(), incoming.getPrice())
+                && Objects.equals(current.getDiscountPrice(), incoming.getDiscountPrice())
+                && Objects.equals(current.getDetails(), incoming.getDetails())
+                && Objects.equals(current.getCategory(), incoming.getCategory())
+                && Objects.equals(current.getGender(), incoming.getGender())
+                && Objects.equals(current.getDescription(), incoming.getDescription())
+                && Objects.equals(current.getMainImageUrl(), incoming.getMainImageUrl())
+                && current.isBestSeller() == incoming.isBestSeller()
+                && current.isNewArrival() == incoming.isNewArrival()
+                && current.isKids() == incoming.isKids();
+    }
+
+    // 요소 컬렉션 테이블 하나의 변경분. 행 식별자가 없으므로 값 단위로 지우고 필요한 개수만큼 다시 넣음
+    private static final class ValueChanges {
+        private final String table;
+        private final String column;
+        private final List<Object[]> deletes = new ArrayList<>();
+        private final List<Object[]> inserts = new ArrayList<>();
+
+        private ValueChanges(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+
+        private boolean diff(String productId, List<?> current, List<?> incoming) {
+            Map<Object, Integer> before = counts(current);
+            Map<Object, Integer> after = counts(incoming);
+            if (before.equals(after)) {
+                return false;
+            }
+            before.forEach((value, count) -> {
+                if (!count.equals(after.get(value))) {
+                    deletes.add(new Object[]{productId, value});
+                }
+            });
+            after.forEach((value, count) -> {
+                if (!count.equals(before.get(value))) {
+                    for (int i = 0; i < count; i++) {
+                        inserts.add(new Object[]{productId, value});
+                    }
+                }
+            });
+            return true;
+        }
+
+        private static Map<Object, Integer> counts(List<?> values) {
+            Map<Object, Integer> counts = new LinkedHashMap<>();
+            for (Object value : values) {
+                counts.merge(value, 1, Integer::sum);
+            }
+            return counts;
+        }
+    }
+}
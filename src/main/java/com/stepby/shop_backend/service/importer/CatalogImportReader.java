@@ -0,0 +1,110 @@
+package com.stepby.shop_backend.service.importer;
+
+import com.stepby.shop_backend.dto.product.CatalogImportRecord;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공급사 피드(NDJSON/CSV)를 한 줄씩 읽어 CatalogImportRecord로 변환 (파일 전체를 메모리에 올리지 않음).
+ * CSV는 첫 줄이 헤더이며 열 이름은 CatalogImportRecord 필드명과 같습니다.
+ * 목록 열(imageUrls, materials, colors, availableSizes)은 '|'로 구분하고,
+ * variants 열은 "색상:사이즈:재고"를 '|'로 이어 씁니다 (예: 블랙:250:10|블랙:260:0).
+ */
+class CatalogImportReader {
+
+    record Row(long line, CatalogImportRecord record, String error) {
+    }
+
+    private static final Set<String> LIST_COLUMNS = Set.of("imageUrls", "materials", "colors", "availableSizes");
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private String[] csvHeader;
+    private long lineNumber;
+
+    CatalogImportReader(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 다음 레코드, 입력이 끝나면 null (빈 줄은 건너뜀)
+    Row next() {
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && csvHeader == null) {
+                    csvHeader = UserImportReader.splitCsv(UserImportReader.stripBom(text)).toArray(String[]::new);
+                    continue;
+                }
+                return parse(text);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row parse(String text) {
+        try {
+            CatalogImportRecord record = format == ImportFormat.CSV
+                    ? objectMapper.convertValue(csvRecord(text), CatalogImportRecord.class)
+                    : objectMapper.readValue(UserImportReader.stripBom(text), CatalogImportRecord.class);
+            return new Row(lineNumber, record, null);
+        } catch (JacksonException | IllegalArgumentException e) {
+            return new Row(lineNumber, null, "Error: 레코드를 해석할 수 없습니다.");
+        }
+    }
+
+    private Map<String, Object> csvRecord(String text) {
+        List<String> values = UserImportReader.splitCsv(text);
+        if (values.size() != csvHeader.length) {
+            throw new IllegalArgumentException("column count mismatch");
+        }
+        Map<String, Object> record = new HashMap<>();
+        for (int i = 0; i < csvHeader.length; i++) {
+            String column = csvHeader[i].trim();
+            String value = values.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (LIST_COLUMNS.contains(column)) {
+                record.put(column, List.of(value.split("\\|")));
+            } else if (column.equals("variants")) {
+                record.put(column, variants(value));
+            } else {
+                record.put(column, value);
+            }
+        }
+        return record;
+    }
+
+    private static List<Map<String, String>> variants(String value) {
+        List<Map<String, String>> variants = new ArrayList<>();
+        for (String variant : value.split("\\|")) {
+            int stockAt = variant.lastIndexOf(':');
+            int sizeAt = stockAt > 0 ? variant.lastIndexOf(':', stockAt - 1) : -1;
+            if (sizeAt < 0) {
+                throw new IllegalArgumentException("variant must be color:size:stock");
+            }
+            variants.add(Map.of("color", variant.substring(0, sizeAt),
+                    "size", variant.substring(sizeAt + 1, stockAt),
+                    "stockQuantity", variant.substring(stockAt + 1)));
+        }
+        return variants;
+    }
+}
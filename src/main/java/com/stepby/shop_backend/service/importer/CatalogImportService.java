@@ -0,0 +1,461 @@
+package com.stepby.shop_backend.service.importer;
+
+import com.stepby.shop_backend.dto.admin.CatalogImportProgress;
+import com.stepby.shop_backend.dto.product.CatalogImportRecord;
+import com.stepby.shop_backend.entity.CatalogImportBatch;
+import com.stepby.shop_backend.repository.CatalogImportRepository;
+import com.stepby.shop_backend.repository.CatalogImportRepository.BatchCheckpoint;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 공급사 피드로 상품/변형을 일괄 등록·갱신하는 파이프라인.
+ * <p>
+ * parse(요청 스레드) → 검증 → upsert 세 단계가 크기 제한 큐로 이어져 있어, 느린 단계가 있으면 앞 단계가 기다립니다
+ * (입력 크기와 무관하게 메모리 사용량이 일정). 입력 레코드를 batch-size개 단위 배치로 묶고, 배치마다
+ * CatalogBatchWriter가 SKU 기준 upsert를 트랜잭션 하나로 반영하며 체크포인트를 남깁니다.
+ * <p>
+ * 배치가 실패하면(제약 위반, DB 오류 등) 그 배치만 롤백되고 FAILED로 기록된 뒤 다음 배치로 진행합니다.
+ * 같은 피드를 같은 jobId로 다시 보내면 DONE인 배치는 읽기만 하고 건너뛰므로 실패한 배치만 다시 처리됩니다.
+ * 진행 현황에는 단계별 처리량(레코드/초)과 큐 대기 시간이 포함됩니다.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImportService.class);
+
+    private static final String DUPLICATE_SKU = "Error: 같은 배치 안에 SKU가 중복됩니다.";
+    private static final String DISCOUNT_OVER_PRICE = "Error: 할인 가격은 정가보다 클 수 없습니다.";
+    private static final String DUPLICATE_VARIANT = "Error: 같은 색상/사이즈의 변형이 중복됩니다.";
+    private static final long POLL_MILLIS = 100;
+
+    // 큐의 끝 표시
+    private static final CatalogImportReader.Row END_OF_ROWS = new CatalogImportReader.Row(-1, null, null);
+    private static final CatalogBatchWriter.Batch END_OF_BATCHES = new CatalogBatchWriter.Batch(-1, -1, -1, List.of());
+
+    private final CatalogImportRepository catalogImportRepository;
+    private final CatalogBatchWriter catalogBatchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final ExecutorService stagePool;
+
+    @Autowired
+    public CatalogImportService(CatalogImportRepository catalogImportRepository, CatalogBatchWriter catalogBatchWriter,
+                                Validator validator, ObjectMapper objectMapper,
+                                @Value("${app.catalog-import.batch-size:500}") int batchSize,
+                                @Value("${app.catalog-import.queue-capacity:4}") int queueCapacity) {
+        this.catalogImportRepository = catalogImportRepository;
+        this.catalogBatchWriter = catalogBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger sequence = new AtomicInteger();
+        this.stagePool = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "catalog-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * jobId가 null이면 새 작업, 있으면 그 작업의 재실행 (같은 입력을 보내야 함).
+     * sink는 여러 단계 스레드에서 호출되지만 한 번에 하나씩만 호출됩니다.
+     */
+    public void importCatalog(InputStream input, ImportFormat format, String jobId,
+                              Consumer<CatalogImportProgress> sink) {
+        Run run = start(jobId, sink);
+        CatalogImportReader reader = new CatalogImportReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16), format, objectMapper);
+
+        Future<?> validating = stagePool.submit(() -> stage(run, () -> validateStage(run)));
+        Future<?> upserting = stagePool.submit(() -> stage(run, () -> upsertStage(run)));
+        try {
+            parseStage(run, reader);
+            await(validating);
+            await(upserting);
+        } catch (RuntimeException e) {
+            run.aborted.set(true);
+            awaitQuietly(validating);
+            awaitQuietly(upserting);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.aborted.set(true);
+            throw new CancellationException("catalog import interrupted");
+        }
+
+        CatalogImportProgress summary = progress("summary", run);
+        run.emit(summary);
+        logger.info("Catalog import {} finished: {} processed, {} inserted, {} updated, {} unchanged, {} failed, "
+                        + "failed batches {} in {} ms", run.jobId, summary.getProcessed(), summary.getInserted(),
+                summary.getUpdated(), summary.getUnchanged(), summary.getFailed(), summary.getFailedBatches(),
+                summary.getElapsedMillis());
+    }
+
+    private Run start(String jobId, Consumer<CatalogImportProgress> sink) {
+        List<BatchCheckpoint> checkpoints = jobId != null ? catalogImportRepository.findBatches(jobId) : List.of();
+        int size = checkpoints.isEmpty() ? batchSize : checkpoints.getFirst().batchSize();
+        Set<Integer> done = checkpoints.stream()
+                .filter(checkpoint -> checkpoint.status() == CatalogImportBatch.Status.DONE)
+                .map(BatchCheckpoint::batchNo)
+                .collect(Collectors.toSet());
+        Run run = new Run(jobId != null ? jobId : UUID.randomUUID().toString(), size, done, sink, queueCapacity);
+        run.emit(CatalogImportProgress.builder()
+                .type("started")
+                .jobId(run.jobId)
+                .batchSize(size)
+                .skippedBatches(done.size())
+                .build());
+        return run;
+    }
+
+    // 1. parse: 요청 본문을 읽어 레코드로 변환
+    private void parseStage(Run run, CatalogImportReader reader) throws InterruptedException {
+        while (true) {
+            long started = System.nanoTime();
+            CatalogImportReader.Row row = reader.next();
+            run.parse.busy(started);
+            if (row == null) {
+                break;
+            }
+            run.parse.records.incrementAndGet();
+            put(run, run.rows, row, run.parse);
+        }
+        put(run, run.rows, END_OF_ROWS, run.parse);
+    }
+
+    // 2. 검증: 레코드 순번으로 배치를 나누고, 통과한 레코드만 담아 upsert 단계로 넘김
+    private void validateStage(Run run) throws InterruptedException {
+        long index = 0;
+        BatchBuilder current = null;
+        while (true) {
+            CatalogImportReader.Row row = take(run, run.rows, run.validate);
+            if (row == END_OF_ROWS) {
+                break;
+            }
+            long started = System.nanoTime();
+            int number = (int) (index++ / run.batchSize);
+            if (current != null && current.number != number) {
+                run.validate.busy(started);
+                submit(run, current);
+                started = System.nanoTime();
+                current = null;
+            }
+            if (current == null) {
+                current = new BatchBuilder(number, run.done.contains(number));
+            }
+            current.add(row.line());
+            run.processed.incrementAndGet();
+            if (!current.skipped) {
+                String error = validate(row);
+                if (error == null && !current.skus.add(row.record().getSku())) {
+                    error = DUPLICATE_SKU;
+                }
+                if (error != null) {
+                    run.failed.incrementAndGet();
+                    run.emit(CatalogImportProgress.error(row.line(),
+                            row.record() != null ? row.record().getSku() : null, error));
+                } else {
+                    current.records.add(row.record());
+                }
+            }
+            run.validate.records.incrementAndGet();
+            run.validate.busy(started);
+        }
+        if (current != null) {
+            submit(run, current);
+        }
+        put(run, run.batches, END_OF_BATCHES, run.validate);
+    }
+
+    private void submit(Run run, BatchBuilder builder) throws InterruptedException {
+        if (!builder.skipped) {
+            put(run, run.batches, new CatalogBatchWriter.Batch(builder.number, builder.firstLine, builder.lastLine,
+                    builder.records), run.validate);
+        }
+    }
+
+    // 3. upsert: 배치 단위 트랜잭션. 실패한 배치는 기록만 하고 다음 배치로 진행
+    private void upsertStage(Run run) throws InterruptedException {
+        while (true) {
+            CatalogBatchWriter.Batch batch = take(run, run.batches, run.upsert);
+            if (batch == END_OF_BATCHES) {
+                break;
+            }
+            long started = System.nanoTime();
+            try {
+                CatalogBatchWriter.Result result = catalogBatchWriter.write(run.jobId, run.batchSize, batch);
+                run.inserted.addAndGet(result.inserted());
+                run.updated.addAndGet(result.updated());
+                run.unchanged.addAndGet(result.unchanged());
+            } catch (RuntimeException e) {
+                logger.warn("Catalog import {} batch {} (lines {}-{}) failed", run.jobId, batch.number(),
+                        batch.firstLine(), batch.lastLine(), e);
+                run.failedBatches.add(batch.number());
+                String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                try {
+                    catalogBatchWriter.markFailed(run.jobId, run.batchSize, batch, message);
+                } catch (RuntimeException checkpointError) {
+                    logger.warn("Could not record failed batch {} of catalog import {}", batch.number(), run.jobId,
+                            checkpointError);
+                }
+                run.emit(CatalogImportProgress.builder()
+                        .type("batch-error")
+                        .jobId(run.jobId)
+                        .batch(batch.number())
+                        .firstLine(batch.firstLine())
+                        .lastLine(batch.lastLine())
+                        .message(message)
+                        .build());
+            }
+            run.upsert.records.addAndGet(batch.records().size());
+            run.upsert.busy(started);
+            run.emit(progress("progress", run));
+        }
+    }
+
+    private String validate(CatalogImportReader.Row row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        CatalogImportRecord record = row.record();
+        // JSON에서 목록을 null로 보낸 경우 빈 목록으로 취급
+        if (record.getImageUrls() == null) {
+            record.setImageUrls(new ArrayList<>());
+        }
+        if (record.getMaterials() == null) {
+            record.setMaterials(new ArrayList<>());
+        }
+        if (record.getColors() == null) {
+            record.setColors(new ArrayList<>());
+        }
+        if (record.getAvailableSizes() == null) {
+            record.setAvailableSizes(new ArrayList<>());
+        }
+        if (record.getVariants() == null) {
+            record.setVariants(new ArrayList<>());
+        }
+        Set<ConstraintViolation<CatalogImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (record.getDiscountPrice() != null && record.getDiscountPrice() > record.getPrice()) {
+            return DISCOUNT_OVER_PRICE;
+        }
+        Set<String> variantKeys = new HashSet<>();
+        for (CatalogImportRecord.Variant variant : record.getVariants()) {
+            if (!variantKeys.add(variant.getColor() + "/" + variant.getSize())) {
+                return DUPLICATE_VARIANT;
+            }
+        }
+        return null;
+    }
+
+    private static CatalogImportProgress progress(String type, Run run) {
+        return CatalogImportProgress.builder()
+                .type(type)
+                .jobId(run.jobId)
+                .skippedBatches(run.done.size())
+                .processed(run.processed.get())
+                .inserted(run.inserted.get())
+                .updated(run.updated.get())
+                .unchanged(run.unchanged.get())
+                .failed(run.failed.get())
+                .failedBatches(List.copyOf(run.failedBatches))
+                .elapsedMillis((System.nanoTime() - run.started) / 1_000_000)
+                .stages(List.of(run.parse.snapshot(), run.validate.snapshot(), run.upsert.snapshot()))
+                .build();
+    }
+
+    // 큐가 가득 차 있으면 기다림 (다른 단계가 실패하면 중단)
+    private static <T> void put(Run run, BlockingQueue<T> queue, T item, StageMeter meter) throws InterruptedException {
+        long started = System.nanoTime();
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            run.checkAborted();
+        }
+        meter.waitNanos.addAndGet(System.nanoTime() - started);
+    }
+
+    private static <T> T take(Run run, BlockingQueue<T> queue, StageMeter meter) throws InterruptedException {
+        long started = System.nanoTime();
+        T item;
+        while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            run.checkAborted();
+        }
+        meter.waitNanos.addAndGet(System.nanoTime() - started);
+        return item;
+    }
+
+    private interface StageBody {
+        void run() throws InterruptedException;
+    }
+
+    private static Void stage(Run run, StageBody body) throws InterruptedException {
+        try {
+            body.run();
+            return null;
+        } catch (RuntimeException | InterruptedException e) {
+            run.aborted.set(true);
+            throw e;
+        }
+    }
+
+    private static void await(Future<?> stage) throws InterruptedException {
+        try {
+            stage.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void awaitQuietly(Future<?> stage) {
+        try {
+            stage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException ignored) {
+            // 원래 예외를 전달
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stagePool.shutdownNow();
+    }
+
+    // 작업 한 번의 상태 (단계 스레드들이 공유)
+    private static final class Run {
+        private final String jobId;
+        private final int batchSize;
+        private final Set<Integer> done;
+        private final Consumer<CatalogImportProgress> sink;
+        private final ReentrantLock sinkLock = new ReentrantLock();
+        private final long started = System.nanoTime();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        private final BlockingQueue<CatalogImportReader.Row> rows;
+        private final BlockingQueue<CatalogBatchWriter.Batch> batches;
+        private final StageMeter parse = new StageMeter("parse");
+        private final StageMeter validate = new StageMeter("validate");
+        private final StageMeter upsert = new StageMeter("upsert");
+
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final List<Integer> failedBatches = new CopyOnWriteArrayList<>();
+
+        private Run(String jobId, int batchSize, Set<Integer> done, Consumer<CatalogImportProgress> sink,
+                    int queueCapacity) {
+            this.jobId = jobId;
+            this.batchSize = batchSize;
+            this.done = done;
+            this.sink = sink;
+            this.rows = new ArrayBlockingQueue<>(batchSize * queueCapacity);
+            this.batches = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void emit(CatalogImportProgress line) {
+            sinkLock.lock();
+            try {
+                sink.accept(line);
+            } finally {
+                sinkLock.unlock();
+            }
+        }
+
+        private void checkAborted() {
+            if (aborted.get()) {
+                throw new CancellationException("catalog import aborted");
+            }
+        }
+    }
+
+    private static final class BatchBuilder {
+        private final int number;
+        private final boolean skipped;
+        private final List<CatalogImportRecord> records = new ArrayList<>();
+        private final Set<String> skus = new HashSet<>();
+        private long firstLine = -1;
+        private long lastLine = -1;
+
+        private BatchBuilder(int number, boolean skipped) {
+            this.number = number;
+            this.skipped = skipped;
+        }
+
+        private void add(long line) {
+            if (firstLine < 0) {
+                firstLine = line;
+            }
+            lastLine = line;
+        }
+    }
+
+    private static final class StageMeter {
+        private final String name;
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+
+        private StageMeter(String name) {
+            this.name = name;
+        }
+
+        private void busy(long startedNanos) {
+            busyNanos.addAndGet(System.nanoTime() - startedNanos);
+        }
+
+        private CatalogImportProgress.Stage snapshot() {
+            long count = records.get();
+            long busy = busyNanos.get();
+            return CatalogImportProgress.Stage.builder()
+                    .name(name)
+                    .records(count)
+                    .busyMillis(busy / 1_000_000)
+                    .waitMillis(waitNanos.get() / 1_000_000)
+                    .recordsPerSecond(busy == 0 ? 0 : count * 1_000_000_000.0 / busy)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepby.shop_backend.service.importer;
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    NDJSON, CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    // Content-Type으로 형식 결정 (text/csv 외에는 NDJSON)
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
@@ -0,0 +1,112 @@
+package com.stepby.shop_backend.service.importer;
+
+import com.stepby.shop_backend.dto.auth.RegisterRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NDJSON/CSV 입력을 한 줄씩 읽어 RegisterRequest로 변환 (파일 전체를 메모리에 올리지 않음).
+ * CSV는 첫 줄이 헤더이며 열 이름은 RegisterRequest 필드명과 같습니다. 따옴표 안의 줄바꿈은 지원하지 않습니다.
+ */
+class UserImportReader {
+
+    record Row(long line, RegisterRequest request, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private String[] csvHeader;
+    private long lineNumber;
+
+    UserImportReader(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 다음 레코드, 입력이 끝나면 null (빈 줄은 건너뜀)
+    Row next() {
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && csvHeader == null) {
+                    csvHeader = splitCsv(stripBom(text)).toArray(String[]::new);
+                    continue;
+                }
+                return parse(text);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row parse(String text) {
+        try {
+            RegisterRequest request = format == ImportFormat.CSV
+                    ? objectMapper.convertValue(csvRecord(text), RegisterRequest.class)
+                    : objectMapper.readValue(stripBom(text), RegisterRequest.class);
+            return new Row(lineNumber, request, null);
+        } catch (JacksonException | IllegalArgumentException e) {
+            return new Row(lineNumber, null, "Error: 레코드를 해석할 수 없습니다.");
+        }
+    }
+
+    private Map<String, String> csvRecord(String text) {
+        List<String> values = splitCsv(text);
+        if (values.size() != csvHeader.length) {
+            throw new IllegalArgumentException("column count mismatch");
+        }
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < csvHeader.length; i++) {
+            record.put(csvHeader[i].trim(), values.get(i));
+        }
+        return record;
+    }
+
+    // RFC 4180 한 줄 분리 ("" → ")
+    static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == '\uFEFF' ? text.substring(1) : text;
+    }
+}
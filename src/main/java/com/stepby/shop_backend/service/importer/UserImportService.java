@@ -0,0 +1,237 @@
+package com.stepby.shop_backend.service.importer;
+
+import com.stepby.shop_backend.dto.admin.UserImportProgress;
+import com.stepby.shop_backend.dto.auth.RegisterRequest;
+import com.stepby.shop_backend.entity.Gender;
+import com.stepby.shop_backend.repository.UserImportRepository;
+import com.stepby.shop_backend.repository.UserImportRepository.NewUser;
+import com.stepby.shop_backend.security.PasswordHashingExecutor;
+import com.stepby.shop_backend.util.Uuids;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 기존 쇼핑몰 고객 이관용 사용자 일괄 등록.
+ * <p>
+ * 입력을 chunk-size 단위로 끊어 처리하므로 파일 크기와 무관하게 메모리 사용량이 일정합니다.
+ * 청크마다: 검증(병렬) → 청크 내/DB 중복 이메일 확인(IN 조회 1회) → 비밀번호 해싱(병렬) → JDBC 배치 INSERT(트랜잭션 1개).
+ * 행 단위 오류는 즉시, 누적 현황은 청크마다 sink로 전달됩니다.
+ * 해싱은 로그인용 풀(PasswordHashingExecutor)과 분리된 전용 풀에서 수행되어 이관 중에도 로그인이 거부되지 않습니다.
+ * 전용 풀은 기본으로 로그인용 풀이 쓰지 않는 나머지 코어만큼이라, 큰 파일을 이관해도 로그인 해싱 몫의 CPU는 남습니다.
+ * 중복 이메일은 청크 안에서나 DB와 비교할 때나 대소문자를 구분하지 않습니다.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DUPLICATE_EMAIL = "Error: 이메일이 이미 사용 중입니다!";
+    private static final String INVALID_GENDER = "Error: 유효하지 않은 성별 값입니다.";
+    private static final String INVALID_BIRTH_DATE = "Error: 생년월일 형식이 올바르지 않습니다 (yyyy-MM-dd).";
+
+    private final UserImportRepository userImportRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService hashingPool;
+
+    @Autowired
+    public UserImportService(UserImportRepository userImportRepository, PasswordEncoder passwordEncoder,
+                             Validator validator, ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                             @Value("${app.user-import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.user-import.hash-threads:0}") int hashThreads,
+                             PasswordHashingExecutor passwordHashingExecutor) {
+        this.userImportRepository = userImportRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        // 0이면 로그인용 해싱 풀이 쓰지 않는 나머지 코어 (기본 설정이면 코어의 나머지 절반)
+        int threads = hashThreads > 0 ? hashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - passwordHashingExecutor.poolSize());
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 검증을 통과한 행 (해싱 전)
+    private record Candidate(long line, RegisterRequest request, String gender, LocalDate birthDate, String error) {
+    }
+
+    private static final class Counters {
+        long processed;
+        long imported;
+        long duplicates;
+        long failed;
+    }
+
+    public void importUsers(InputStream input, ImportFormat format, Consumer<UserImportProgress> sink) {
+        long start = System.nanoTime();
+        UserImportReader reader = new UserImportReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16), format, objectMapper);
+        Counters counters = new Counters();
+
+        List<UserImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        UserImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                processChunk(chunk, counters, sink);
+                sink.accept(progress("progress", counters, start));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, counters, sink);
+        }
+        UserImportProgress summary = progress("summary", counters, start);
+        sink.accept(summary);
+        logger.info("User import finished: {} processed, {} imported, {} duplicates, {} failed in {} ms",
+                counters.processed, counters.imported, counters.duplicates, counters.failed, summary.getElapsedMillis());
+    }
+
+    private void processChunk(List<UserImportReader.Row> rows, Counters counters, Consumer<UserImportProgress> sink) {
+        counters.processed += rows.size();
+
+        // 1. 검증 (병렬)
+        List<CompletableFuture<Candidate>> validating = rows.stream()
+                .map(r -> CompletableFuture.supplyAsync(() -> validate(r), hashingPool))
+                .toList();
+        List<Candidate> validated = validating.stream().map(CompletableFuture::join).toList();
+
+        // 2. 청크 내 중복 + DB 중복 (IN 조회 1회)
+        List<Candidate> valid = new ArrayList<>(validated.size());
+        Set<String> seen = new HashSet<>();
+        for (Candidate candidate : validated) {
+            if (candidate.error() != null) {
+                counters.failed++;
+                sink.accept(UserImportProgress.error(candidate.line(), emailOf(candidate), candidate.error()));
+            } else if (!seen.add(normalizedEmail(candidate))) {
+                counters.duplicates++;
+                sink.accept(UserImportProgress.error(candidate.line(), candidate.request().getEmail(), DUPLICATE_EMAIL));
+            } else {
+                valid.add(candidate);
+            }
+        }
+        Set<String> existing = userImportRepository.findExistingEmails(
+                valid.stream().map(c -> c.request().getEmail()).toList());
+        List<Candidate> fresh = new ArrayList<>(valid.size());
+        for (Candidate candidate : valid) {
+            if (existing.contains(normalizedEmail(candidate))) {
+                counters.duplicates++;
+                sink.accept(UserImportProgress.error(candidate.line(), candidate.request().getEmail(), DUPLICATE_EMAIL));
+            } else {
+                fresh.add(candidate);
+            }
+        }
+
+        // 3. 해싱 (병렬) - 중복을 걸러낸 뒤에만 수행
+        List<CompletableFuture<NewUser>> hashing = fresh.stream()
+                .map(c -> CompletableFuture.supplyAsync(() -> toNewUser(c), hashingPool))
+                .toList();
+        List<NewUser> users = hashing.stream().map(CompletableFuture::join).toList();
+
+        // 4. 배치 INSERT. 그 사이 다른 경로로 같은 이메일이 등록된 경우에만 행 단위로 재시도
+        try {
+            transactionTemplate.executeWithoutResult(status -> userImportRepository.insertBatch(users));
+            counters.imported += users.size();
+        } catch (DuplicateKeyException e) {
+            for (int i = 0; i < users.size(); i++) {
+                try {
+                    userImportRepository.insert(users.get(i));
+                    counters.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    counters.duplicates++;
+                    sink.accept(UserImportProgress.error(fresh.get(i).line(), users.get(i).email(), DUPLICATE_EMAIL));
+                }
+            }
+        }
+    }
+
+    private Candidate validate(UserImportReader.Row row) {
+        if (row.error() != null) {
+            return new Candidate(row.line(), null, null, null, row.error());
+        }
+        RegisterRequest request = row.request();
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new Candidate(row.line(), request, null, null, violations.iterator().next().getMessage());
+        }
+        String gender;
+        try {
+            gender = Gender.valueOf(request.getGender().toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            return new Candidate(row.line(), request, null, null, INVALID_GENDER);
+        }
+        try {
+            return new Candidate(row.line(), request, gender, LocalDate.parse(request.getBirthDate()), null);
+        } catch (DateTimeParseException e) {
+            return new Candidate(row.line(), request, null, null, INVALID_BIRTH_DATE);
+        }
+    }
+
+    private NewUser toNewUser(Candidate candidate) {
+        RegisterRequest request = candidate.request();
+        return new NewUser(Uuids.timeOrdered().toString(), request.getEmail(), passwordEncoder.encode(request.getPassword()),
+                request.getRealName(), candidate.birthDate(), candidate.gender(), request.getPhoneNumber(),
+                request.getZonecode(), request.getAddress(), request.getDetailAddress());
+    }
+
+    // 중복 판단 기준 (UserImportRepository.findExistingEmails의 결과와 같은 형태)
+    private static String normalizedEmail(Candidate candidate) {
+        return candidate.request().getEmail().toLowerCase(Locale.ROOT);
+    }
+
+    private static String emailOf(Candidate candidate) {
+        return candidate.request() != null ? candidate.request().getEmail() : null;
+    }
+
+    private static UserImportProgress progress(String type, Counters counters, long start) {
+        return UserImportProgress.builder()
+                .type(type)
+                .processed(counters.processed)
+                .imported(counters.imported)
+                .duplicates(counters.duplicates)
+                .failed(counters.failed)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdownNow();
+    }
+}
@@ -0,0 +1,159 @@
+package com.stepby.shop_backend.service.pricing;
+
+import com.stepby.shop_backend.dto.admin.RepricingRequest;
+import com.stepby.shop_backend.dto.admin.RepricingResponse;
+import com.stepby.shop_backend.repository.ProductPricingRepository;
+import com.stepby.shop_backend.repository.ProductPricingRepository.PriceFilter;
+import com.stepby.shop_backend.repository.ProductPricingRepository.PriceWrite;
+import com.stepby.shop_backend.service.cache.CatalogGeneration;
+import com.stepby.shop_backend.service.cache.CuratedProductCache;
+import com.stepby.shop_backend.service.facet.ProductFacetService;
+import com.stepby.shop_backend.service.search.ProductSearchService;
+import com.stepby.shop_backend.service.snapshot.ProductSnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 가격 변경: 규칙(브랜드/카테고리/성별 → 할인율)과 id별 가격을 트랜잭션 하나에서 집합 단위 UPDATE로 반영합니다.
+ * <p>
+ * - 규칙: 대상 상품을 id 순서로 chunkSize개씩 나눠 범위마다 UPDATE 문 하나 (한 문이 잠그고 읽는 행 수를 제한)
+ * - id별 가격: chunkSize개씩 CASE 식 UPDATE 문 하나
+ * - 엔티티/상품별 ProductChangedEvent를 거치지 않으므로, 커밋 후 바뀐 상품을 한꺼번에 다시 읽어
+ *   네 캐시(검색/패싯 인덱스의 복사본, 큐레이션 목록, 상세 스냅샷의 변경 기록)에 다음 세대로 준비해 두고
+ *   CatalogGeneration 세대 번호를 한 번 써서 함께 공개합니다. 공개 전의 요청은 모두 이전 가격, 공개 뒤의 요청은 모두 새 가격을 봅니다
+ * - 상세 스냅샷은 바뀐 상품만 다시 만들고, 나머지는 그대로 씁니다
+ */
+@Service
+public class RepricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepricingService.class);
+
+    private final ProductPricingRepository productPricingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchService productSearchService;
+    private final ProductFacetService productFacetService;
+    private final CuratedProductCache curatedProductCache;
+    private final ProductSnapshotService productSnapshotService;
+    private final CatalogGeneration catalogGeneration;
+    private final int chunkSize;
+
+    private record Outcome(List<Integer> ruleAffected, int pricesAffected, int statements, List<String> changedIds) {
+    }
+
+    @Autowired
+    public RepricingService(ProductPricingRepository productPricingRepository, TransactionTemplate transactionTemplate,
+                            ProductSearchService productSearchService, ProductFacetService productFacetService,
+                            CuratedProductCache curatedProductCache, ProductSnapshotService productSnapshotService,
+                            CatalogGeneration catalogGeneration,
+                            @Value("${app.repricing.chunk-size:1000}") int chunkSize) {
+        this.productPricingRepository = productPricingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.productSearchService = productSearchService;
+        this.productFacetService = productFacetService;
+        this.curatedProductCache = curatedProductCache;
+        this.productSnapshotService = productSnapshotService;
+        this.catalogGeneration = catalogGeneration;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public RepricingResponse reprice(RepricingRequest request) {
+        List<PriceWrite> prices = distinctPrices(request.getPrices());
+        for (RepricingRequest.Rule rule : request.getRules()) {
+            if (blank(rule.getBrand()) && blank(rule.getCategory()) && blank(rule.getGender())) {
+                throw new IllegalArgumentException("Error: 규칙에는 브랜드/카테고리/성별 중 하나 이상이 필요합니다.");
+            }
+        }
+
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Outcome outcome = transactionTemplate.execute(status -> {
+            List<Integer> ruleAffected = new ArrayList<>();
+            int statements = 0;
+            for (RepricingRequest.Rule rule : request.getRules()) {
+                PriceFilter filter = new PriceFilter(trimToNull(rule.getBrand()), trimToNull(rule.getCategory()),
+                        trimToNull(rule.getGender()));
+                int affected = 0;
+                String after = null;
+                do {
+                    String upTo = productPricingRepository.findChunkEnd(filter, after, chunkSize);
+                    affected += productPricingRepository.applyPercentOff(filter, rule.getPercentOff(), after, upTo, now);
+                    statements++;
+                    after = upTo;
+                } while (after != null);
+                ruleAffected.add(affected);
+            }
+            int pricesAffected = 0;
+            for (int from = 0; from < prices.size(); from += chunkSize) {
+                pricesAffected += productPricingRepository.updatePrices(
+                        prices.subList(from, Math.min(from + chunkSize, prices.size())), now);
+                statements++;
+            }
+            // 바뀐 행은 updated_at = now (DATETIME이 초 단위로 반올림해 저장해도 놓치지 않도록 초 단위로 내려서 조회)
+            List<String> changedIds = ruleAffected.stream().mapToInt(Integer::intValue).sum() + pricesAffected == 0
+                    ? List.of() : productPricingRepository.findIdsUpdatedSince(now.truncatedTo(ChronoUnit.SECONDS));
+            return new Outcome(List.copyOf(ruleAffected), pricesAffected, statements, changedIds);
+        });
+        long committed = System.nanoTime();
+
+        int affected = outcome.ruleAffected().stream().mapToInt(Integer::intValue).sum() + outcome.pricesAffected();
+        long generation = affected > 0 ? publishCatalogChanges(outcome.changedIds()) : catalogGeneration.current();
+        long swapped = System.nanoTime();
+        logger.info("Repriced {} products in {} statements ({} ms, caches {} ms)", affected, outcome.statements(),
+                (committed - start) / 1_000_000, (swapped - committed) / 1_000_000);
+
+        return RepricingResponse.builder()
+                .ruleAffected(outcome.ruleAffected())
+                .pricesRequested(prices.size())
+                .pricesAffected(outcome.pricesAffected())
+                .affected(affected)
+                .statements(outcome.statements())
+                .catalogGeneration(generation)
+                .updateMillis((committed - start) / 1_000_000.0)
+                .cacheSwapMillis((swapped - committed) / 1_000_000.0)
+                .build();
+    }
+
+    // 네 캐시가 새 상태를 모두 준비한 뒤(그동안은 기존 값으로 응답) 세대 번호 한 번으로 공개하고, 바뀐 상품의 상세만 지움
+    private long publishCatalogChanges(List<String> changedIds) {
+        long generation = catalogGeneration.publish(next -> {
+            productSearchService.stageChanges(changedIds, next);
+            productFacetService.stageChanges(changedIds, next);
+            curatedProductCache.stageReload(next);
+            productSnapshotService.stageChanges(changedIds, next);
+        });
+        productSnapshotService.evictChanged(changedIds, generation);
+        return generation;
+    }
+
+    // 같은 id가 여러 번 오면 마지막 값 (CASE 식은 첫 번째 일치만 쓰므로 미리 합침)
+    private static List<PriceWrite> distinctPrices(List<RepricingRequest.Price> prices) {
+        Map<String, PriceWrite> byId = new LinkedHashMap<>();
+        for (RepricingRequest.Price price : prices) {
+            String id = price.getId().trim();
+            if (price.getDiscountPrice() != null && price.getDiscountPrice() > price.getPrice()) {
+                throw new IllegalArgumentException("Error: 할인 가격이 정가보다 큽니다: " + id);
+            }
+            byId.put(id, new PriceWrite(id, price.getPrice(), price.getDiscountPrice()));
+        }
+        return List.copyOf(byId.values());
+    }
+
+    private static boolean blank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String trimToNull(String value) {
+        return blank(value) ? null : value.trim();
+    }
+}
@@ -0,0 +1,128 @@
+package com.stepby.shop_backend.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 검색용 텍스트 정규화 및 n-gram 추출기.
+ * <p>
+ * - NFC 정규화, 전각 ASCII → 반각, 소문자화, 공백 정리
+ * - 유니그램 + 바이그램을 추출 (LIKE '%q%'와 같은 부분 문자열 매칭을 위함)
+ * - 한글 음절을 호환 자모로 분해하여 입력 중인 검색어("나ㅇ", "낭")도 매칭
+ */
+public final class KoreanNGramAnalyzer {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final char COMPAT_JAMO_FIRST = 0x3131;
+    private static final char COMPAT_JAMO_LAST = 0x318E;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private KoreanNGramAnalyzer() {
+    }
+
+    // 인덱싱/검색 양쪽에서 동일하게 사용하는 정규화
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        boolean lastSpace = true;
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (c >= 0xFF01 && c <= 0xFF5E) { // 전각 ASCII
+                c = (char) (c - 0xFEE0);
+            }
+            if (Character.isWhitespace(c) || c == 0x3000) {
+                if (!lastSpace) {
+                    sb.append(' ');
+                    lastSpace = true;
+                }
+                continue;
+            }
+            sb.append(Character.toLowerCase(c));
+            lastSpace = false;
+        }
+        int len = sb.length();
+        if (len > 0 && sb.charAt(len - 1) == ' ') {
+            sb.setLength(len - 1);
+        }
+        // 변경이 없으면 원본 인스턴스를 돌려줘 인덱스 메모리를 아낌
+        return text.contentEquals(sb) ? text : sb.toString();
+    }
+
+    // 정규화된 텍스트의 한글 음절을 호환 자모로 분해 (그 외 문자는 그대로)
+    public static String decompose(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int idx = c - HANGUL_BASE;
+                sb.append(CHOSEONG[idx / 588]).append(JUNGSEONG[(idx % 588) / 28]);
+                int jong = idx % 28;
+                if (jong != 0) {
+                    sb.append(JONGSEONG[jong]);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static boolean containsJamo(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 마지막 음절에 받침이 있으면 입력 중일 가능성이 있음 (예: "나이"를 치는 중의 "낭")
+    public static boolean endsWithFinalConsonant(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        char last = normalized.charAt(normalized.length() - 1);
+        return isSyllable(last) && (last - HANGUL_BASE) % 28 != 0;
+    }
+
+    // 유니그램 + 바이그램 (공백 단독/공백 포함 바이그램 제외)
+    public static void collectGrams(String normalized, Set<String> out) {
+        int len = normalized.length();
+        for (int i = 0; i < len; i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            out.add(String.valueOf(c));
+            if (i + 1 < len) {
+                char next = normalized.charAt(i + 1);
+                if (next != ' ') {
+                    out.add(normalized.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    // 검색어 그램: 바이그램이 있으면 바이그램만, 없으면 유니그램
+    public static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        collectGrams(normalized, grams);
+        if (grams.stream().anyMatch(g -> g.length() == 2)) {
+            grams.removeIf(g -> g.length() == 1);
+        }
+        return grams;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+}
@@ -0,0 +1,95 @@
+package com.stepby.shop_backend.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 문서 번호(ordinal) 목록을 delta + varint로 압축 저장하는 포스팅 리스트.
+ * 새 문서는 항상 더 큰 ordinal을 받으므로 append만으로 정렬이 유지됩니다.
+ */
+final class PostingList {
+    private byte[] data = new byte[8];
+    private int byteLength;
+    private int size;
+    private int last = -1;
+
+    void add(int ordinal) {
+        if (ordinal <= last) {
+            return; // 같은 문서에서 중복 추가된 그램
+        }
+        int delta = ordinal - last;
+        ensureCapacity(byteLength + 5);
+        while ((delta & ~0x7F) != 0) {
+            data[byteLength++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[byteLength++] = (byte) delta;
+        last = ordinal;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        int[] out = new int[size];
+        int pos = 0;
+        int value = -1;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            out[i] = value;
+        }
+        return out;
+    }
+
+    /**
+     * 정렬된 후보 배열과 교집합을 구해 후보 배열 앞부분에 덮어쓰고, 남은 개수를 반환합니다.
+     */
+    int retainAll(int[] candidates, int count) {
+        int pos = 0;
+        int value = -1;
+        int read = 0;
+        int kept = 0;
+        int c = 0;
+        while (c < count && read < size) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            read++;
+            while (c < count && candidates[c] < value) {
+                c++;
+            }
+            if (c < count && candidates[c] == value) {
+                candidates[kept++] = value;
+                c++;
+            }
+        }
+        return kept;
+    }
+
+    void trim() {
+        if (data.length > byteLength) {
+            data = Arrays.copyOf(data, byteLength);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1)));
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.stepby.shop_backend.service.search;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름/브랜드/카테고리/설명에 대한 인메모리 n-gram 역색인.
+ * <p>
+ * 그램 교집합으로 후보를 좁힌 뒤 실제 부분 문자열 포함 여부를 검증하므로
+ * 결과는 기존 LIKE '%q%' 검색과 같은 의미를 가지며, 필드 가중치로 정렬됩니다.
+ * 문서 갱신 시 기존 ordinal은 삭제 표시만 하고 새 ordinal을 부여하며,
+ * 삭제 표시가 살아있는 문서 수를 넘으면 포스팅을 다시 구성합니다.
+ */
+public class ProductSearchIndex {
+
+    // 필드 가중치 (음절 매칭 기준, 자모 매칭은 절반)
+    private static final int NAME_WEIGHT = 16;
+    private static final int NAME_PREFIX_BONUS = 8;
+    private static final int BRAND_WEIGHT = 8;
+    private static final int BRAND_EXACT_BONUS = 4;
+    private static final int CATEGORY_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 2;
+
+    // 후보 수 대비 이만큼 긴 포스팅은 교집합 대신 검증 단계에서 걸러냄
+    private static final int SKIP_RATIO = 32;
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score)
+            .thenComparingInt(h -> h.product().getReviewCount())
+            .thenComparing(h -> h.product().getId(), Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private int deleted;
+
+    public void upsert(ProductResponseDto product) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.remove(product.getId());
+            if (previous != null) {
+                docs.set(previous, null);
+                deleted++;
+            }
+            addDocument(product);
+            if (deleted > COMPACT_MIN_DELETED && deleted > ordinals.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.remove(productId);
+            if (previous != null) {
+                docs.set(previous, null);
+                deleted++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 같은 상품으로 새 인덱스를 만듦 (삭제된 자리 없이, 이후 변경은 서로 독립)
+    public ProductSearchIndex copy() {
+        ProductSearchIndex copy = new ProductSearchIndex();
+        lock.readLock().lock();
+        try {
+            for (Doc doc : docs) {
+                if (doc != null) {
+                    copy.addDocument(doc.product());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        copy.trimToSize();
+        return copy;
+    }
+
+    // 대량 구축 후 포스팅 배열의 여유 공간 제거
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(PostingList::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ProductResponseDto> search(String query, int limit) {
+        String normalized = KoreanNGramAnalyzer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean jamoQuery = KoreanNGramAnalyzer.containsJamo(normalized);
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING);
+        BitSet matched = new BitSet();
+        lock.readLock().lock();
+        try {
+            if (!jamoQuery) {
+                collect(normalized, false, limit, top, matched);
+            }
+            if (jamoQuery || KoreanNGramAnalyzer.endsWithFinalConsonant(normalized)) {
+                collect(KoreanNGramAnalyzer.decompose(normalized), true, limit, top, matched);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ProductResponseDto> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(top.poll().product());
+        }
+        return results.reversed();
+    }
+
+    private void collect(String term, boolean jamo, int limit, PriorityQueue<Hit> top, BitSet matched) {
+        int[] candidates = candidates(term);
+        for (int ordinal : candidates) {
+            Doc doc = docs.get(ordinal);
+            if (doc == null || matched.get(ordinal)) {
+                continue;
+            }
+            int score = jamo ? jamoScore(doc, term) : score(doc, term);
+            if (score == 0) {
+                continue;
+            }
+            matched.set(ordinal);
+            // 상위 limit개가 찼고 최하위보다 점수가 낮으면 객체를 만들지 않고 건너뜀
+            if (top.size() >= limit && score < top.peek().score()) {
+                continue;
+            }
+            top.offer(new Hit(doc.product(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private int[] candidates(String term) {
+        Set<String> grams = KoreanNGramAnalyzer.queryGrams(term);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] candidates = lists.get(0).toArray();
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            PostingList list = lists.get(i);
+            if ((long) list.size() > (long) count * SKIP_RATIO) {
+                break;
+            }
+            count = list.retainAll(candidates, count);
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    private static int score(Doc doc, String term) {
+        int score = 0;
+        if (doc.name().contains(term)) {
+            score += NAME_WEIGHT;
+            if (doc.name().startsWith(term)) {
+                score += NAME_PREFIX_BONUS;
+            }
+        }
+        if (doc.brand().contains(term)) {
+            score += BRAND_WEIGHT;
+            if (doc.brand().equals(term)) {
+                score += BRAND_EXACT_BONUS;
+            }
+        }
+        if (doc.category().contains(term)) {
+            score += CATEGORY_WEIGHT;
+        }
+        if (doc.description().contains(term)) {
+            score += DESCRIPTION_WEIGHT;
+        }
+        return score;
+    }
+
+    // 자모 검색은 이름/브랜드/카테고리만 대상으로 함 (설명은 자모 색인하지 않음)
+    private static int jamoScore(Doc doc, String jamoTerm) {
+        int score = 0;
+        if (KoreanNGramAnalyzer.decompose(doc.name()).contains(jamoTerm)) {
+            score += NAME_WEIGHT / 2;
+        }
+        if (KoreanNGramAnalyzer.decompose(doc.brand()).contains(jamoTerm)) {
+            score += BRAND_WEIGHT / 2;
+        }
+        if (KoreanNGramAnalyzer.decompose(doc.category()).contains(jamoTerm)) {
+            score += CATEGORY_WEIGHT / 2;
+        }
+        return score;
+    }
+
+    private void addDocument(ProductResponseDto product) {
+        String name = KoreanNGramAnalyzer.normalize(product.getName());
+        String brand = KoreanNGramAnalyzer.normalize(product.getBrand());
+        String category = KoreanNGramAnalyzer.normalize(product.getCategory());
+        String description = KoreanNGramAnalyzer.normalize(product.getDescription());
+        int ordinal = docs.size();
+        docs.add(new Doc(product, name, brand, category, description));
+        ordinals.put(product.getId(), ordinal);
+
+        Set<String> grams = new HashSet<>();
+        KoreanNGramAnalyzer.collectGrams(name, grams);
+        KoreanNGramAnalyzer.collectGrams(brand, grams);
+        KoreanNGramAnalyzer.collectGrams(category, grams);
+        KoreanNGramAnalyzer.collectGrams(description, grams);
+        KoreanNGramAnalyzer.collectGrams(KoreanNGramAnalyzer.decompose(name), grams);
+        KoreanNGramAnalyzer.collectGrams(KoreanNGramAnalyzer.decompose(brand), grams);
+        KoreanNGramAnalyzer.collectGrams(KoreanNGramAnalyzer.decompose(category), grams);
+
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void compact() {
+        List<ProductResponseDto> live = new ArrayList<>(ordinals.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc.product());
+            }
+        }
+        postings.clear();
+        docs.clear();
+        ordinals.clear();
+        deleted = 0;
+        live.forEach(this::addDocument);
+        postings.values().forEach(PostingList::trim);
+    }
+
+    // 검증용 정규화 필드를 함께 보관 (원문과 같으면 같은 String 인스턴스를 공유)
+    private record Doc(ProductResponseDto product, String name, String brand, String category, String description) {
+    }
+
+    private record Hit(ProductResponseDto product, int score) {
+    }
+}
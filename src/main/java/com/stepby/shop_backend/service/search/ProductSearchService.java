@@ -0,0 +1,108 @@
+package com.stepby.shop_backend.service.search;
+
+import com.stepby.shop_backend.datasource.PrimaryReadTransactionTemplate;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.service.cache.CatalogGeneration;
+import com.stepby.shop_backend.service.cache.GenerationalReference;
+import com.stepby.shop_backend.service.cache.RebuildChangeLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 상품 검색 서비스. 기동 시 전체 카탈로그로 인덱스를 만들고,
+ * 상품 저장/삭제 이벤트가 커밋되면 해당 상품만 다시 색인합니다.
+ * 재구성 중에 커밋된 변경은 새 인덱스에도 다시 반영한 뒤 교체합니다 (RebuildChangeLog).
+ * 전체 스트리밍만 읽기 전용 트랜잭션 안에서 하고, 변경 반영은 트랜잭션이 끝난 뒤 상품마다 새로 읽습니다
+ * (같은 트랜잭션이면 REPEATABLE READ에서 스트리밍 시작 시점의 스냅샷을 다시 읽어 변경을 놓침).
+ * 인덱스는 모든 요청이 함께 쓰므로 조회는 모두 기본 DB에서 합니다 (PrimaryReadTransactionTemplate).
+ * 일괄 가격 변경은 현재 인덱스의 복사본에 반영해 다음 세대로 준비해 두고, 다른 캐시와 함께 공개합니다 (CatalogGeneration).
+ */
+@Service
+public class ProductSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchService.class);
+
+    public static final int MAX_LIMIT = 500;
+    // stageChanges의 IN 목록 하나에 넣는 id 수
+    private static final int LOAD_CHUNK = 1000;
+
+    private final ProductRepository productRepository;
+    private final PrimaryReadTransactionTemplate primaryRead;
+    private final RebuildChangeLog changesDuringRebuild = new RebuildChangeLog();
+    private final GenerationalReference<ProductSearchIndex> index;
+
+    @Autowired
+    public ProductSearchService(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+                                CatalogGeneration catalogGeneration) {
+        this.productRepository = productRepository;
+        this.primaryRead = new PrimaryReadTransactionTemplate(transactionManager);
+        this.index = new GenerationalReference<>(catalogGeneration, new ProductSearchIndex());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        ProductSearchIndex fresh = changesDuringRebuild.rebuild(() -> primaryRead.execute(status -> {
+            ProductSearchIndex built = new ProductSearchIndex();
+            try (Stream<ProductResponseDto> summaries = productRepository.streamAllSummaries()) {
+                summaries.forEach(built::upsert);
+            }
+            built.trimToSize();
+            return built;
+        }), this::reload, index::set);
+        logger.info("Product search index built: {} products in {} ms",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<ProductResponseDto> search(String query, int limit) {
+        return index.get().search(query, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        String productId = event.productId();
+        Optional<ProductResponseDto> summary = event.type() == ProductChangedEvent.Type.DELETE ? Optional.empty()
+                : primaryRead.execute(status -> productRepository.findSummaryById(productId));
+        changesDuringRebuild.apply(productId, () -> index.forEach(target -> apply(target, productId, summary)));
+    }
+
+    /**
+     * 이벤트 없이 DB에서 바뀐 상품(일괄 가격 변경)을 읽어 현재 인덱스의 복사본에 반영하고, generation 세대로 준비합니다.
+     * 검색 결과는 그 세대가 공개될 때 다른 캐시와 함께 바뀝니다.
+     */
+    public void stageChanges(List<String> productIds, long generation) {
+        Map<String, ProductResponseDto> loaded = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += LOAD_CHUNK) {
+            List<String> chunk = productIds.subList(from, Math.min(from + LOAD_CHUNK, productIds.size()));
+            primaryRead.execute(status -> productRepository.findSummariesByIds(chunk))
+                    .forEach(summary -> loaded.put(summary.getId(), summary));
+        }
+        changesDuringRebuild.rebuild(() -> {
+            ProductSearchIndex copy = index.get().copy();
+            productIds.forEach(productId -> apply(copy, productId, Optional.ofNullable(loaded.get(productId))));
+            return copy;
+        }, this::reload, copy -> index.stage(generation, copy));
+    }
+
+    private void reload(ProductSearchIndex target, String productId) {
+        apply(target, productId, primaryRead.execute(status -> productRepository.findSummaryById(productId)));
+    }
+
+    private static void apply(ProductSearchIndex target, String productId, Optional<ProductResponseDto> summary) {
+        summary.ifPresentOrElse(target::upsert, () -> target.remove(productId));
+    }
+}
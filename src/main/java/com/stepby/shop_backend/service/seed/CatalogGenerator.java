@@ -0,0 +1,181 @@
+package com.stepby.shop_backend.service.seed;
+
+import com.stepby.shop_backend.util.Uuids;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 고정 시드로 상품 카탈로그를 만드는 결정적 생성기.
+ * <p>
+ * 상품 i는 (seed, i)에서 유도한 난수열만 사용하므로, 생성 순서나 워커 수와 무관하게 같은 시드는 항상 같은 카탈로그를 만듭니다.
+ * 분포는 실제 쇼핑몰과 비슷하게 치우쳐 있습니다 (소수 브랜드/카테고리 편중, 가격 로그정규, 리뷰 수 롱테일 등).
+ */
+public class CatalogGenerator {
+
+    private static final String[] BRANDS = {"나이키", "아디다스", "뉴발란스", "스텝바이브랜드", "컨버스", "반스", "아식스",
+            "푸마", "SOBOOM 슈즈", "워커월드", "스피드런", "호카", "살로몬", "닥터마틴", "크록스", "스텝바이키즈"};
+    private static final double[] BRAND_WEIGHTS = zipf(BRANDS.length, 1.1);
+
+    private static final String[] CATEGORIES = {"sneakers", "running", "sports", "shoes", "boots", "sandles", "slippers"};
+    private static final double[] CATEGORY_WEIGHTS = {0.34, 0.2, 0.14, 0.12, 0.09, 0.07, 0.04};
+
+    private static final String[] GENDERS = {"공용", "남성", "여성"};
+    private static final double[] GENDER_WEIGHTS = {0.5, 0.25, 0.25};
+
+    private static final String[] COLORS = {"블랙", "화이트", "그레이", "네이비", "베이지", "브라운", "레드", "블루", "그린", "핑크"};
+    private static final double[] COLOR_WEIGHTS = zipf(COLORS.length, 0.9);
+
+    private static final String[] MATERIALS = {"가죽", "합성 섬유", "메쉬", "스웨이드", "캔버스", "고무", "니트"};
+    private static final String[] MODELS = {"에어", "러너", "클래식", "트레일", "컴포트", "워커", "스피드", "하이탑", "로우", "플렉스",
+            "클라우드", "울트라", "레트로", "프로", "라이트"};
+
+    private static final int[] ADULT_SIZES = {220, 225, 230, 235, 240, 245, 250, 255, 260, 265, 270, 275, 280, 285, 290};
+    private static final int[] KIDS_SIZES = {150, 160, 170, 180, 190, 200, 210};
+
+    private static final String IMAGE_BASE = "https://cdn.stepby.example.com/products/";
+
+    private final long seed;
+    private final LocalDateTime baseTime;
+    private final long baseMillis;
+
+    public CatalogGenerator(long seed, LocalDateTime baseTime) {
+        this.seed = seed;
+        this.baseTime = baseTime;
+        this.baseMillis = baseTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public SeedProduct product(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed, index));
+
+        String brand = pick(BRANDS, BRAND_WEIGHTS, random);
+        boolean kids = brand.equals("스텝바이키즈") || random.nextDouble() < 0.08;
+        String category = pick(CATEGORIES, CATEGORY_WEIGHTS, random);
+        String gender = kids ? "공용" : pick(GENDERS, GENDER_WEIGHTS, random);
+        String model = MODELS[random.nextInt(MODELS.length)];
+        String name = brand + " " + model + " " + (kids ? "키즈 " : "") + (100 + index % 900);
+
+        // 가격: 로그정규 (중앙값 약 89,000원), 1,000원 단위, 19,000 ~ 399,000
+        double logPrice = Math.log(89_000) + random.nextGaussian() * 0.45;
+        int price = clamp((int) Math.round(Math.exp(logPrice) / 1000.0) * 1000, 19_000, 399_000);
+        if (kids) {
+            price = Math.max(19_000, price / 2 / 1000 * 1000);
+        }
+        // 30%는 10~40% 할인
+        Integer discountPrice = random.nextDouble() < 0.3
+                ? (int) Math.round(price * (0.6 + random.nextDouble() * 0.3) / 100.0) * 100
+                : null;
+
+        // 리뷰 수: 파레토 롱테일, 평점: 4점대 중심
+        int reviewCount = (int) Math.min(50_000, Math.floor(5 / Math.pow(1 - random.nextDouble(), 1.3)) - 5);
+        double averageRating = reviewCount == 0 ? 0.0
+                : Math.round(clamp(4.3 + random.nextGaussian() * 0.45, 1.0, 5.0) * 10.0) / 10.0;
+
+        // 최근 2년 내 등록, 최근 30일 등록 상품은 신상품
+        long minutesAgo = random.nextLong(2L * 365 * 24 * 60);
+        LocalDateTime createdAt = baseTime.minusMinutes(minutesAgo);
+        boolean newArrival = minutesAgo < 30L * 24 * 60;
+        boolean bestSeller = reviewCount >= 300 && averageRating >= 4.0 && random.nextDouble() < 0.5;
+
+        String id = uuid(index, 0).toString();
+        List<String> imageUrls = new ArrayList<>();
+        int imageCount = 2 + random.nextInt(4);
+        for (int i = 0; i < imageCount; i++) {
+            imageUrls.add(IMAGE_BASE + id + "/" + i + ".jpg");
+        }
+
+        Set<String> materials = new LinkedHashSet<>();
+        int materialCount = 1 + random.nextInt(3);
+        while (materials.size() < materialCount) {
+            materials.add(MATERIALS[random.nextInt(MATERIALS.length)]);
+        }
+
+        Set<String> colors = new LinkedHashSet<>();
+        int colorCount = 1 + Math.min(3, (int) Math.floor(-Math.log(1 - random.nextDouble()) * 1.2));
+        while (colors.size() < colorCount) {
+            colors.add(pick(COLORS, COLOR_WEIGHTS, random));
+        }
+
+        // 연속된 사이즈 구간 (예: 240~280)
+        int[] sizeScale = kids ? KIDS_SIZES : ADULT_SIZES;
+        int sizeCount = Math.min(sizeScale.length, 4 + random.nextInt(6));
+        int sizeStart = random.nextInt(sizeScale.length - sizeCount + 1);
+        List<Integer> sizes = new ArrayList<>(sizeCount);
+        for (int i = 0; i < sizeCount; i++) {
+            sizes.add(sizeScale[sizeStart + i]);
+        }
+
+        // 변형: 색상 × 사이즈 중 약 85%, 재고는 중간 사이즈에 많고 일부 품절
+        List<SeedProduct.Variant> variants = new ArrayList<>();
+        int variantNo = 0;
+        for (String color : colors) {
+            for (int s = 0; s < sizes.size(); s++) {
+                variantNo++;
+                if (random.nextDouble() >= 0.85) {
+                    continue;
+                }
+                double centrality = 1 - Math.abs(s - (sizes.size() - 1) / 2.0) / sizes.size();
+                int stock = random.nextDouble() < 0.07 ? 0 : (int) Math.round(centrality * (5 + random.nextInt(120)));
+                variants.add(new SeedProduct.Variant(uuid(index, variantNo).toString(), color, sizes.get(s), stock));
+            }
+        }
+
+        String description = "최고급 소재로 제작된 " + brand + "의 " + category + "입니다. 착화감이 뛰어나며 스타일을 완성해줍니다.";
+        return new SeedProduct(id, name, brand, price, discountPrice,
+                "이 제품은 StepBy " + name + "의 상세 정보입니다.", category, gender, description, imageUrls.getFirst(),
+                List.copyOf(imageUrls), List.copyOf(materials), List.copyOf(colors), List.copyOf(sizes),
+                averageRating, reviewCount, bestSeller, newArrival, kids, createdAt, List.copyOf(variants));
+    }
+
+    // (seed, index, n)으로 정해지는 시간순 UUID(v7). 시각은 기준 시각 + index 밀리초라서 적재 순서대로 PK 오른쪽 끝에 붙고,
+    // 한 상품의 변형은 같은 시각에 n(변형 번호)만 다름
+    private UUID uuid(long index, int n) {
+        return Uuids.timeOrdered(baseMillis + index, n, mix(mix(seed, index), n));
+    }
+
+    // SplitMix64 최종 단계로 (seed, index) 섞기
+    private static long mix(long seed, long index) {
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String pick(String[] values, double[] weights, SplittableRandom random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < values.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static double[] zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+            sum += weights[i];
+        }
+        for (int i = 0; i < n; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
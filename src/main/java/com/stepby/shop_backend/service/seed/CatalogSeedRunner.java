@@ -0,0 +1,73 @@
+package com.stepby.shop_backend.service.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * app.seed.products가 지정되면 기동 시(ApplicationReadyEvent 이전) 카탈로그를 적재합니다.
+ * <p>
+ * 예) 개발용 기본값: app.seed.products=20
+ *     부하 테스트용 CLI: --spring.profiles.active=seed --app.seed.products=1000000 --app.seed.seed=7
+ *     (seed 프로필은 웹 서버 없이 적재 후 종료)
+ */
+@Component
+@ConditionalOnProperty(name = "app.seed.products")
+public class CatalogSeedRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSeedRunner.class);
+
+    private final CatalogSeeder catalogSeeder;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${app.seed.products}")
+    private long products;
+
+    @Value("${app.seed.seed:42}")
+    private long seed;
+
+    // 생성 시각 기준점도 고정해야 같은 시드가 같은 created_at/신상품 여부를 만듦
+    @Value("${app.seed.base-time:2026-01-01T00:00:00}")
+    private LocalDateTime baseTime;
+
+    @Value("${app.seed.threads:0}")
+    private int threads;
+
+    @Value("${app.seed.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.seed.only-if-empty:true}")
+    private boolean onlyIfEmpty;
+
+    @Value("${app.seed.exit:false}")
+    private boolean exitAfterSeeding;
+
+    public CatalogSeedRunner(CatalogSeeder catalogSeeder, ConfigurableApplicationContext applicationContext) {
+        this.catalogSeeder = catalogSeeder;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (products <= 0) {
+            return;
+        }
+        if (onlyIfEmpty && catalogSeeder.countProducts() > 0) {
+            logger.info("Products already exist; skipping catalog seeding.");
+        } else {
+            int workerCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            catalogSeeder.seed(products, seed, baseTime, workerCount, batchSize);
+        }
+        if (exitAfterSeeding) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
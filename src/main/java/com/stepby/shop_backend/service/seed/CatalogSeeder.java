@@ -0,0 +1,114 @@
+package com.stepby.shop_backend.service.seed;
+
+import com.stepby.shop_backend.repository.CatalogSeedRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결정적 카탈로그 시드 적재.
+ * <p>
+ * 워커들이 [0, count) 구간을 batchSize 단위 블록으로 나눠 가져가며, 블록마다 생성 → JDBC 배치 INSERT → 커밋합니다.
+ * 상품 i의 내용은 (seed, i)로만 정해지므로 워커 수가 달라도 결과 카탈로그는 같습니다.
+ */
+@Service
+public class CatalogSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSeeder.class);
+    private static final long PROGRESS_INTERVAL_NANOS = 5_000_000_000L;
+
+    public record Result(long products, long rows, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+        }
+
+        public double productsPerSecond() {
+            return elapsedMillis == 0 ? products : products * 1000.0 / elapsedMillis;
+        }
+    }
+
+    private final CatalogSeedRepository catalogSeedRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public CatalogSeeder(CatalogSeedRepository catalogSeedRepository, TransactionTemplate transactionTemplate) {
+        this.catalogSeedRepository = catalogSeedRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public long countProducts() {
+        return catalogSeedRepository.countProducts();
+    }
+
+    public Result seed(long count, long seed, LocalDateTime baseTime, int threads, int batchSize) {
+        CatalogGenerator generator = new CatalogGenerator(seed, baseTime);
+        AtomicLong nextIndex = new AtomicLong();
+        AtomicLong products = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        long start = System.nanoTime();
+        AtomicLong lastReport = new AtomicLong(start);
+
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> new Thread(r, "catalog-seed-" + sequence.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(workers.submit(() -> {
+                    List<SeedProduct> batch = new ArrayList<>(batchSize);
+                    long from;
+                    while ((from = nextIndex.getAndAdd(batchSize)) < count) {
+                        long to = Math.min(count, from + batchSize);
+                        batch.clear();
+                        long childRows = 0;
+                        for (long i = from; i < to; i++) {
+                            SeedProduct product = generator.product(i);
+                            childRows += product.childRowCount();
+                            batch.add(product);
+                        }
+                        transactionTemplate.executeWithoutResult(status -> catalogSeedRepository.insertBatch(batch));
+                        long done = products.addAndGet(batch.size());
+                        rows.addAndGet(batch.size() + childRows);
+                        reportProgress(done, count, rows.get(), start, lastReport);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Catalog seeding interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Catalog seeding failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        Result result = new Result(products.get(), rows.get(), (System.nanoTime() - start) / 1_000_000);
+        logger.info("Catalog seeded: {} products, {} rows in {} ms ({} rows/s, {} products/s, seed {}, {} threads)",
+                result.products(), result.rows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()),
+                Math.round(result.productsPerSecond()), seed, threads);
+        return result;
+    }
+
+    private static void reportProgress(long done, long total, long rows, long start, AtomicLong lastReport) {
+        long now = System.nanoTime();
+        long last = lastReport.get();
+        if (now - last >= PROGRESS_INTERVAL_NANOS && lastReport.compareAndSet(last, now)) {
+            long elapsedMillis = Math.max(1, (now - start) / 1_000_000);
+            logger.info("Catalog seeding: {}/{} products ({} rows/s)", done, total, rows * 1000 / elapsedMillis);
+        }
+    }
+}
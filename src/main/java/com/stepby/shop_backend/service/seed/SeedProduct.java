@@ -0,0 +1,27 @@
+package com.stepby.shop_backend.service.seed;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시드 생성기가 만든 상품 한 건 (products 행 + 컬렉션 테이블 + 변형 행).
+ */
+public record SeedProduct(String id, String name, String brand, int price, Integer discountPrice, String details,
+                          String category, String gender, String description, String mainImageUrl,
+                          List<String> imageUrls, List<String> materials, List<String> colors,
+                          List<Integer> availableSizes, double averageRating, int reviewCount,
+                          boolean bestSeller, boolean newArrival, boolean kids, LocalDateTime createdAt,
+                          List<Variant> variants) {
+
+    public record Variant(String id, String color, int size, int stockQuantity) {
+    }
+
+    public int effectivePrice() {
+        return discountPrice != null ? discountPrice : price;
+    }
+
+    // products 외 테이블에 들어가는 행 수 (컬렉션 + 변형)
+    public int childRowCount() {
+        return imageUrls.size() + materials.size() + colors.size() + availableSizes.size() + variants.size();
+    }
+}
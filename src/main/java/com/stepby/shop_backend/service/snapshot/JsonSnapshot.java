@@ -0,0 +1,94 @@
+package com.stepby.shop_backend.service.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 JSON 응답 본문과 강한 ETag.
+ * <p>
+ * 같은 ETag는 항상 같은 바이트를 가리킵니다 (스냅샷을 만들 때마다 새 일련번호를 받음).
+ * gzip 본문은 처음 요청될 때 한 번만 만들어 보관합니다 (동시에 만들어져도 결과는 같음).
+ */
+public final class JsonSnapshot {
+
+    private final byte[] body;
+    private final String etag;
+    private final long catalogVersion;
+    private final long generation;
+    private final Object source;
+    private final int gzipMinBytes;
+    private volatile byte[] gzipped;
+
+    JsonSnapshot(byte[] body, String etag, long catalogVersion, long generation, Object source, int gzipMinBytes) {
+        this.body = body;
+        this.etag = etag;
+        this.catalogVersion = catalogVersion;
+        this.generation = generation;
+        this.source = source;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    public byte[] body() {
+        return body;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    long catalogVersion() {
+        return catalogVersion;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    Object source() {
+        return source;
+    }
+
+    // 압축하지 않는 설정이거나 본문이 작으면 null
+    public byte[] gzipped() {
+        if (gzipMinBytes < 0 || body.length < gzipMinBytes) {
+            return null;
+        }
+        byte[] compressed = gzipped;
+        if (compressed == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            compressed = out.toByteArray();
+            gzipped = compressed;
+        }
+        return compressed;
+    }
+
+    /**
+     * If-None-Match 헤더 값과 비교합니다. 목록("a", "b")과 *를 지원하며,
+     * RFC 9110에 따라 약한 비교(W/ 접두사 무시)를 사용합니다.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
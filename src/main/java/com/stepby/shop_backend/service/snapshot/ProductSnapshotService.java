@@ -0,0 +1,214 @@
+package com.stepby.shop_backend.service.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepby.shop_backend.datasource.PrimaryReadTransactionTemplate;
+import com.stepby.shop_backend.dto.admin.SnapshotStatsResponse;
+import com.stepby.shop_backend.dto.product.ProductSort;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.event.StockSyncedEvent;
+import com.stepby.shop_backend.service.ProductService;
+import com.stepby.shop_backend.service.cache.CallerLoadingCache;
+import com.stepby.shop_backend.service.cache.CatalogGeneration;
+import com.stepby.shop_backend.service.cache.CuratedList;
+import com.stepby.shop_backend.service.cache.CuratedProductCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 목록/상세 응답을 직렬화된 바이트로 보관해 두고 그대로 내려보내는 스냅샷 저장소.
+ * <p>
+ * - 카탈로그 버전: 상품 변경이 커밋될 때마다 1 증가. 목록 페이지 스냅샷은 만들 당시의 버전과 다르면 다시 만듦
+ *   (조회 전에 버전을 읽으므로 조회 중 커밋된 변경도 다음 요청에서 반영됨)
+ * - 베스트셀러/신상품: CuratedProductCache가 새 목록을 내놓았을 때만 다시 직렬화
+ * - 상세: 상품 id별로 하나 (ProductDetailDto를 쿼리 3번으로 조립해 직렬화, 크기 상한을 넘으면 Caffeine W-TinyLFU로 축출).
+ *   해당 상품이나 그 변형이 변경되거나 재고 원장이 DB와 동기화(StockSyncedEvent)했을 때만 제거
+ * - 일괄 가격 변경: 스냅샷마다 만들 당시의 세대(CatalogGeneration)를 기록해 두고, 세대가 공개되면 그 세대에서 바뀐
+ *   상품의 상세와 그 전 세대의 목록 페이지만 다시 만듦 (나머지 상세는 그대로 둠)
+ * <p>
+ * 스냅샷은 모든 요청이 함께 쓰므로 조회는 복제본이 아니라 기본 DB에서 합니다 (PrimaryReadTransactionTemplate).
+ * <p>
+ * ETag는 "기동 시각-카탈로그 버전-일련번호" 형식의 강한 ETag라서 재기동 후에도 다른 내용에 같은 ETag가
+ * 붙지 않습니다. 인스턴스가 여러 대면 인스턴스마다 ETag가 달라 304 대신 200이 나갈 수는 있지만 틀린 304는 없습니다.
+ */
+@Service
+public class ProductSnapshotService {
+
+    private final ProductService productService;
+    private final CuratedProductCache curatedProductCache;
+    private final ObjectMapper objectMapper;
+    private final CatalogGeneration catalogGeneration;
+    private final PrimaryReadTransactionTemplate primaryRead;
+    private final int gzipMinBytes;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<PageKey, JsonSnapshot> pages;
+    private final CallerLoadingCache<String, JsonSnapshot> details;
+    // 일괄 가격 변경으로 바뀐 상품 → 바뀐 세대 (세대 공개 후 evictChanged가 상세를 지울 때까지만 보관)
+    private final Map<String, Long> changedInGeneration = new ConcurrentHashMap<>();
+    private final Map<CuratedList, JsonSnapshot> curated = new EnumMap<>(CuratedList.class);
+    // 새 큐레이션 목록을 요청 여러 개가 동시에 받아도 한 번만 직렬화하도록 잡음
+    private final ReentrantLock curatedLock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    private record PageKey(ProductSort sort, String cursor, int size) {
+    }
+
+    @Autowired
+    public ProductSnapshotService(ProductService productService, CuratedProductCache curatedProductCache,
+                                  ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                  CatalogGeneration catalogGeneration,
+                                  @Value("${app.snapshot.page-max-size:1000}") int pageMaxSize,
+                                  @Value("${app.snapshot.detail-max-size:10000}") int detailMaxSize,
+                                  @Value("${app.snapshot.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.productService = productService;
+        this.curatedProductCache = curatedProductCache;
+        this.objectMapper = objectMapper;
+        this.catalogGeneration = catalogGeneration;
+        this.primaryRead = new PrimaryReadTransactionTemplate(transactionManager);
+        this.gzipMinBytes = gzipMinBytes;
+        this.pages = Caffeine.newBuilder().maximumSize(pageMaxSize).build();
+        this.details = new CallerLoadingCache<>(Caffeine.newBuilder().maximumSize(detailMaxSize));
+    }
+
+    // GET /api/products (size는 ProductService와 같은 범위로 맞춰 키로 사용)
+    public JsonSnapshot page(ProductSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), ProductService.MAX_PAGE_SIZE);
+        PageKey key = new PageKey(sort, cursor == null || cursor.isBlank() ? null : cursor, pageSize);
+        long version = catalogVersion.get();
+        long generation = catalogGeneration.current();
+        JsonSnapshot snapshot = pages.getIfPresent(key);
+        if (snapshot != null && snapshot.catalogVersion() == version && snapshot.generation() == generation) {
+            hits.incrementAndGet();
+            return snapshot;
+        }
+        snapshot = build(primaryRead.execute(status -> productService.getProductPage(sort, key.cursor(), pageSize)),
+                version, generation, null);
+        pages.put(key, snapshot);
+        return snapshot;
+    }
+
+    public JsonSnapshot curated(CuratedList list) {
+        List<?> source = curatedProductCache.get(list);
+        curatedLock.lock();
+        try {
+            JsonSnapshot snapshot = curated.get(list);
+            if (snapshot != null && snapshot.source() == source) {
+                hits.incrementAndGet();
+                return snapshot;
+            }
+            snapshot = build(source, catalogVersion.get(), catalogGeneration.current(), source);
+            curated.put(list, snapshot);
+            return snapshot;
+        } finally {
+            curatedLock.unlock();
+        }
+    }
+
+    // 없는 상품은 캐시하지 않음. 생성 중에 제거(invalidate)되면 그 결과는 캐시에 남지 않으므로 이전 내용이 남지 않음
+    public Optional<JsonSnapshot> detail(String productId) {
+        JsonSnapshot snapshot = details.getIfPresent(productId);
+        if (snapshot != null && !changedSince(productId, snapshot.generation())) {
+            hits.incrementAndGet();
+            return Optional.of(snapshot);
+        }
+        if (snapshot != null) {
+            details.invalidate(productId);
+        }
+        return Optional.ofNullable(details.get(productId, id -> {
+            long generation = catalogGeneration.current();
+            return primaryRead.execute(status -> productService.getProductDetail(id)
+                    .map(product -> build(product, catalogVersion.get(), generation, null))
+                    .orElse(null));
+        }));
+    }
+
+    /**
+     * 일괄 가격 변경으로 바뀐 상품을 generation 세대의 변경으로 기록합니다. 그 세대가 공개되기 전까지는 기존 상세를 그대로 씁니다.
+     */
+    public void stageChanges(List<String> productIds, long generation) {
+        productIds.forEach(productId -> changedInGeneration.merge(productId, generation, Math::max));
+    }
+
+    /**
+     * generation 세대를 공개한 뒤 호출합니다. 바뀐 상품의 상세만 지우고 기록을 정리합니다
+     * (지우는 동안 만들어지던 이전 내용은 CallerLoadingCache가 캐시에 남기지 않음).
+     */
+    public void evictChanged(List<String> productIds, long generation) {
+        productIds.forEach(productId -> {
+            details.invalidate(productId);
+            changedInGeneration.remove(productId, generation);
+        });
+    }
+
+    public void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        catalogVersion.incrementAndGet();
+        details.invalidate(event.productId());
+    }
+
+    // 상세 응답의 변형 재고는 원장이 DB에 반영을 마친 뒤에만 다시 읽음
+    @EventListener
+    public void onStockSynced(StockSyncedEvent event) {
+        details.invalidate(event.productId());
+    }
+
+    // 시더/대량 적재처럼 이벤트 없이 DB를 바꾼 뒤 호출
+    public void invalidateAll() {
+        catalogVersion.incrementAndGet();
+        details.invalidateAll();
+        curatedLock.lock();
+        try {
+            curated.clear();
+        } finally {
+            curatedLock.unlock();
+        }
+    }
+
+    public SnapshotStatsResponse stats() {
+        return SnapshotStatsResponse.builder()
+                .catalogVersion(catalogVersion.get())
+                .catalogGeneration(catalogGeneration.current())
+                .pageSnapshots(pages.estimatedSize())
+                .detailSnapshots(details.estimatedSize())
+                .hits(hits.get())
+                .builds(builds.get())
+                .notModified(notModified.get())
+                .build();
+    }
+
+    // 공개된 세대에서 바뀐 상품인데 상세가 그 전 세대에 만들어졌는지
+    private boolean changedSince(String productId, long snapshotGeneration) {
+        Long changed = changedInGeneration.get(productId);
+        return changed != null && changed > snapshotGeneration && catalogGeneration.isPublished(changed);
+    }
+
+    private JsonSnapshot build(Object value, long version, long generation, Object source) {
+        builds.incrementAndGet();
+        byte[] body = objectMapper.writeValueAsBytes(value);
+        String etag = "\"" + epoch + "-" + version + "-" + sequence.incrementAndGet() + "\"";
+        return new JsonSnapshot(body, etag, version, generation, source, gzipMinBytes);
+    }
+}
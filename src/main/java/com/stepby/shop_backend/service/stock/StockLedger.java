@@ -0,0 +1,373 @@
+package com.stepby.shop_backend.service.stock;
+
+import com.stepby.shop_backend.dto.admin.StockLedgerStatsResponse;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.event.StockSyncedEvent;
+import com.stepby.shop_backend.repository.StockRepository;
+import com.stepby.shop_backend.repository.StockRepository.StockDecrement;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플래시 세일용 재고 보류 원장 (reserve → commit / release, 미처리 보류는 TTL 후 자동 해제).
+ * <p>
+ * - 요청이 들어온 변형만 DB에서 한 번 적재해 메모리(VariantStock)에서 CAS로 차감하므로, 같은 SKU에 몰려도
+ *   행 잠금 대기 없이 처리되고 초과 판매가 생기지 않음
+ * - 보류는 DB에 쓰지 않고, 확정된 수량만 백그라운드에서 모아 조건부 UPDATE 배치로 반영 (쓰기 지연)
+ * - 재시작 시 메모리의 보류는 사라지지만 DB에는 확정분만 반영되어 있으므로 해제된 것과 같음
+ * - 원장은 인스턴스 단위입니다. 여러 인스턴스가 같은 SKU를 팔면 조건부 UPDATE가 충돌(flushConflicts)로 드러나며,
+ *   그 경우 SKU별로 한 인스턴스에 라우팅해야 함
+ */
+@Component
+public class StockLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockLedger.class);
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Duration reservationTtl;
+    private final int maxQuantity;
+    private final int flushBatchSize;
+    private final Duration idleEvictAfter;
+    private final ScheduledExecutorService writer;
+
+    private final Map<String, VariantStock> stocks = new ConcurrentHashMap<>();
+    private final Map<String, Set<VariantStock>> stocksByProduct = new ConcurrentHashMap<>();
+    private final Map<String, StockReservation> reservations = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    // 변형별 진행 중인 DB 적재 (같은 키의 동시 요청은 이 future를 기다림)
+    private final Map<String, CompletableFuture<VariantStock>> loading = new ConcurrentHashMap<>();
+    // 주기 반영과 종료 시 반영이 겹치지 않도록 (잠근 채로 DB 배치를 실행하므로 모니터가 아닌 ReentrantLock)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushConflicts = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    @Autowired
+    public StockLedger(StockRepository stockRepository, TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.stock.reservation-ttl:PT10M}") Duration reservationTtl,
+                       @Value("${app.stock.max-quantity:10}") int maxQuantity,
+                       @Value("${app.stock.flush-interval:PT0.2S}") Duration flushInterval,
+                       @Value("${app.stock.flush-batch-size:500}") int flushBatchSize,
+                       @Value("${app.stock.idle-evict-after:PT10M}") Duration idleEvictAfter) {
+        this(stockRepository, transactionTemplate, eventPublisher, Clock.systemUTC(), reservationTtl, maxQuantity, flushInterval,
+                flushBatchSize, idleEvictAfter);
+    }
+
+    StockLedger(StockRepository stockRepository, TransactionTemplate transactionTemplate,
+                ApplicationEventPublisher eventPublisher, Clock clock, Duration reservationTtl, int maxQuantity, Duration flushInterval, int flushBatchSize,
+                Duration idleEvictAfter) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.reservationTtl = reservationTtl;
+        this.maxQuantity = maxQuantity;
+        this.flushBatchSize = flushBatchSize;
+        this.idleEvictAfter = idleEvictAfter;
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stock-ledger-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        writer.scheduleWithFixedDelay(this::maintain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public StockReservation reserve(String variantId, String userId, int quantity) {
+        if (quantity < 1 || quantity > maxQuantity) {
+            throw new IllegalArgumentException("Error: 한 번에 1~" + maxQuantity + "개까지 보류할 수 있습니다.");
+        }
+        while (true) {
+            // 처음 요청된 변형은 DB에서 적재 (같은 키의 동시 적재는 한 번만 실행)
+            VariantStock stock = stocks.get(variantId);
+            if (stock == null) {
+                stock = loadOnce(variantId);
+            }
+            if (stock == null) {
+                throw new StockReservationException(StockReservationException.Reason.UNKNOWN_VARIANT,
+                        "Error: 존재하지 않는 상품 옵션입니다.");
+            }
+            switch (stock.tryReserve(quantity)) {
+                case RESERVED -> {
+                    StockReservation reservation = new StockReservation(newReservationId(), variantId, userId, quantity,
+                            clock.instant().plus(reservationTtl));
+                    reservations.put(reservation.id(), reservation);
+                    reserved.increment();
+                    return reservation;
+                }
+                case INSUFFICIENT -> {
+                    rejected.increment();
+                    throw new StockReservationException(StockReservationException.Reason.INSUFFICIENT_STOCK,
+                            "Error: 재고가 부족합니다.");
+                }
+                // 원장에서 내려가는 중인 항목 → 제거 후 DB에서 다시 적재
+                case RETIRED -> stocks.remove(variantId, stock);
+            }
+        }
+    }
+
+    public StockReservation commit(String reservationId, String userId) {
+        StockReservation reservation = claim(reservationId, userId);
+        VariantStock stock = stocks.get(reservation.variantId());
+        if (reservation.isExpired(clock.instant())) {
+            stock.releaseHeld(reservation.quantity());
+            expired.increment();
+            throw new StockReservationException(StockReservationException.Reason.RESERVATION_NOT_FOUND,
+                    "Error: 보류 시간이 만료되었습니다.");
+        }
+        stock.commitHeld(reservation.quantity());
+        dirty.add(reservation.variantId());
+        committed.increment();
+        return reservation;
+    }
+
+    public void release(String reservationId, String userId) {
+        StockReservation reservation = claim(reservationId, userId);
+        stocks.get(reservation.variantId()).releaseHeld(reservation.quantity());
+        released.increment();
+    }
+
+    // 확정된 미반영분을 DB에 반영. 배치가 실패하면 다음 주기에 다시 시도
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushDirty();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushDirty() {
+        List<VariantStock> batch = new ArrayList<>();
+        List<StockDecrement> decrements = new ArrayList<>();
+        for (String variantId : dirty) {
+            dirty.remove(variantId);
+            VariantStock stock = stocks.get(variantId);
+            int quantity = stock == null ? 0 : stock.pending();
+            if (quantity > 0) {
+                batch.add(stock);
+                decrements.add(new StockDecrement(variantId, stock.productId(), quantity));
+            }
+        }
+        for (int from = 0; from < batch.size(); from += flushBatchSize) {
+            int to = Math.min(batch.size(), from + flushBatchSize);
+            if (!flushChunk(batch.subList(from, to), decrements.subList(from, to))) {
+                batch.subList(from, batch.size()).forEach(stock -> dirty.add(stock.variantId()));
+                return;
+            }
+        }
+    }
+
+    // 상품의 변형 중 원장에 올라와 있는 것들의 현재 판매 가능 수량 (DB 값보다 최신)
+    public List<TrackedStock> trackedStock(String productId) {
+        Set<VariantStock> tracked = stocksByProduct.get(productId);
+        if (tracked == null) {
+            return List.of();
+        }
+        List<TrackedStock> result = new ArrayList<>(tracked.size());
+        for (VariantStock stock : tracked) {
+            if (!stock.isRetired()) {
+                result.add(new TrackedStock(stock.variantId(), stock.color(), stock.size(), stock.available()));
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // 상품이 직접 수정되면(재입고 등) 해당 변형은 보류가 없어지는 대로 내렸다가 DB에서 다시 적재
+        for (VariantStock stock : stocks.values()) {
+            if (stock.productId().equals(event.productId())) {
+                stock.requestResync();
+            }
+        }
+    }
+
+    public StockLedgerStatsResponse stats() {
+        long pendingUnits = 0;
+        for (VariantStock stock : stocks.values()) {
+            pendingUnits += stock.pending();
+        }
+        return StockLedgerStatsResponse.builder()
+                .trackedVariants(stocks.size())
+                .activeReservations(reservations.size())
+                .pendingUnits(pendingUnits)
+                .reserved(reserved.sum())
+                .rejected(rejected.sum())
+                .committed(committed.sum())
+                .released(released.sum())
+                .expired(expired.sum())
+                .flushes(flushes.get())
+                .flushedRows(flushedRows.get())
+                .flushConflicts(flushConflicts.get())
+                .evicted(evicted.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    // 주기 작업: 만료 보류 해제 → 확정분 반영 → 유휴/재적재 요청 항목 내리기
+    void maintain() {
+        try {
+            expireDue(clock.instant());
+            flush();
+            evictIdle();
+        } catch (RuntimeException e) {
+            logger.warn("Stock ledger maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    void expireDue(Instant now) {
+        for (StockReservation reservation : reservations.values()) {
+            if (reservation.isExpired(now) && reservations.remove(reservation.id(), reservation)) {
+                stocks.get(reservation.variantId()).releaseHeld(reservation.quantity());
+                expired.increment();
+            }
+        }
+    }
+
+    void evictIdle() {
+        long idleBefore = System.nanoTime() - idleEvictAfter.toNanos();
+        for (VariantStock stock : stocks.values()) {
+            // 내린 항목은 reserve가 먼저 맵에서 지웠을 수도 있으므로 remove 결과와 관계없이 정리
+            if ((stock.resyncRequested() || stock.idleSince(idleBefore)) && stock.tryRetire()) {
+                stocks.remove(stock.variantId(), stock);
+                stocksByProduct.computeIfPresent(stock.productId(), (productId, tracked) -> {
+                    tracked.remove(stock);
+                    return tracked.isEmpty() ? null : tracked;
+                });
+                evicted.incrementAndGet();
+                eventPublisher.publishEvent(new StockSyncedEvent(stock.productId(), stock.variantId()));
+            }
+        }
+    }
+
+    private boolean flushChunk(List<VariantStock> stocksInChunk, List<StockDecrement> decrements) {
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> stockRepository.decrementBatch(decrements));
+        } catch (DataAccessException e) {
+            logger.warn("Stock write-behind failed for {} variants, will retry: {}", decrements.size(), e.getMessage());
+            return false;
+        }
+        flushes.incrementAndGet();
+        for (int i = 0; i < decrements.size(); i++) {
+            StockDecrement decrement = decrements.get(i);
+            VariantStock stock = stocksInChunk.get(i);
+            // 행 수를 알 수 없으면(SUCCESS_NO_INFO 등) 반영된 것으로 봄
+            if (counts != null && i < counts.length && counts[i] == 0) {
+                flushConflicts.incrementAndGet();
+                stock.requestResync();
+                logger.error("Stock conflict on variant {}: database has less than {} units; ledger will reload it",
+                        decrement.variantId(), decrement.quantity());
+            } else {
+                flushedRows.incrementAndGet();
+            }
+            stock.flushed(decrement.quantity());
+        }
+        return true;
+    }
+
+    private StockReservation claim(String reservationId, String userId) {
+        StockReservation reservation = reservations.get(reservationId);
+        // 다른 사용자의 보류는 존재 여부도 드러내지 않음. remove가 실패하면 해제/만료가 먼저 처리한 것
+        if (reservation == null || !reservation.userId().equals(userId)
+                || !reservations.remove(reservationId, reservation)) {
+            throw new StockReservationException(StockReservationException.Reason.RESERVATION_NOT_FOUND,
+                    "Error: 보류 내역을 찾을 수 없습니다.");
+        }
+        return reservation;
+    }
+
+    // computeIfAbsent와 달리 DB 조회를 맵 잠금(synchronized) 밖에서 실행 → 다른 키를 막지 않고 가상 스레드도 고정되지 않음
+    private VariantStock loadOnce(String variantId) {
+        CompletableFuture<VariantStock> pending = new CompletableFuture<>();
+        CompletableFuture<VariantStock> inFlight = loading.putIfAbsent(variantId, pending);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            // 이전 적재가 방금 끝났을 수 있으므로 다시 확인
+            VariantStock stock = stocks.get(variantId);
+            if (stock == null) {
+                stock = load(variantId);
+                if (stock != null) {
+                    stocks.put(variantId, stock);
+                }
+            }
+            pending.complete(stock);
+            return stock;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(variantId, pending);
+        }
+    }
+
+    private VariantStock load(String variantId) {
+        return stockRepository.findStock(variantId).map(row -> {
+            VariantStock stock = new VariantStock(row.variantId(), row.productId(), row.color(), row.size(),
+                    row.stockQuantity());
+            stocksByProduct.compute(row.productId(), (productId, tracked) -> {
+                Set<VariantStock> set = tracked != null ? tracked : ConcurrentHashMap.newKeySet();
+                set.add(stock);
+                return set;
+            });
+            return stock;
+        }).orElse(null);
+    }
+
+    // 보류 ID는 소유자 확인을 거치므로 추측 가능해도 무방 → 공유 SecureRandom 경합을 피함
+    private static String newReservationId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
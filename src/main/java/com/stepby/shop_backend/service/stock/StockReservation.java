@@ -0,0 +1,11 @@
+package com.stepby.shop_backend.service.stock;
+
+import java.time.Instant;
+
+// 재고 보류 한 건. 확정/해제/만료 중 하나가 원장에서 이 항목을 먼저 제거한 쪽만 반영됨
+public record StockReservation(String id, String variantId, String userId, int quantity, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
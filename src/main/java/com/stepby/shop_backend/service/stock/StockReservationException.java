@@ -0,0 +1,19 @@
+package com.stepby.shop_backend.service.stock;
+
+import lombok.Getter;
+
+// 보류/확정 요청을 처리할 수 없는 경우 (컨트롤러에서 reason별 상태 코드로 변환)
+@Getter
+public class StockReservationException extends RuntimeException {
+
+    public enum Reason {
+        UNKNOWN_VARIANT, INSUFFICIENT_STOCK, RESERVATION_NOT_FOUND
+    }
+
+    private final Reason reason;
+
+    public StockReservationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,5 @@
+package com.stepby.shop_backend.service.stock;
+
+// 원장에 올라와 있는 변형의 현재 판매 가능 수량 (보류분 제외)
+public record TrackedStock(String variantId, String color, int size, int available) {
+}
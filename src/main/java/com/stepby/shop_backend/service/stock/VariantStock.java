@@ -0,0 +1,153 @@
+package com.stepby.shop_backend.service.stock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변형(상품/색상/사이즈) 한 건의 메모리 재고.
+ * <p>
+ * 판매 가능 수량(available)과 보류 수량(held)을 long 하나에 묶어 CAS 한 번으로 함께 바꿉니다.
+ * 락이 없으므로 같은 SKU에 요청이 몰려도 DB 행 잠금처럼 직렬화되지 않고, available이 음수가 되는 갱신은
+ * CAS 자체가 거부하므로 초과 판매가 생기지 않습니다.
+ * <p>
+ * pending은 확정(commit)되었지만 아직 DB에 반영되지 않은 수량입니다. 보류도 미반영분도 없을 때만
+ * 원장에서 내릴 수 있으며(retire), 내린 뒤에는 DB 값이 최신이므로 다음 요청이 DB에서 다시 적재합니다.
+ */
+final class VariantStock {
+
+    enum ReserveResult {
+        RESERVED, INSUFFICIENT, RETIRED
+    }
+
+    private static final long RETIRED = pack(-1, 0);
+
+    private final String variantId;
+    private final String productId;
+    private final String color;
+    private final int size;
+    private final AtomicLong state;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long lastAccessNanos;
+    private volatile boolean resyncRequested;
+
+    VariantStock(String variantId, String productId, String color, int size, int stockQuantity) {
+        this.variantId = variantId;
+        this.productId = productId;
+        this.color = color;
+        this.size = size;
+        this.state = new AtomicLong(pack(Math.max(0, stockQuantity), 0));
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    String variantId() {
+        return variantId;
+    }
+
+    String productId() {
+        return productId;
+    }
+
+    String color() {
+        return color;
+    }
+
+    int size() {
+        return size;
+    }
+
+    ReserveResult tryReserve(int quantity) {
+        lastAccessNanos = System.nanoTime();
+        while (true) {
+            long current = state.get();
+            if (current < 0) {
+                return ReserveResult.RETIRED;
+            }
+            int available = available(current);
+            if (available < quantity) {
+                return ReserveResult.INSUFFICIENT;
+            }
+            if (state.compareAndSet(current, pack(available - quantity, held(current) + quantity))) {
+                return ReserveResult.RESERVED;
+            }
+        }
+    }
+
+    // 보류 → 판매 확정. 미반영분을 먼저 늘려야 retire가 "보류 0, 미반영 0"을 잘못 보지 않음
+    void commitHeld(int quantity) {
+        pending.addAndGet(quantity);
+        update(0, -quantity);
+    }
+
+    // 보류 → 다시 판매 가능
+    void releaseHeld(int quantity) {
+        update(quantity, -quantity);
+    }
+
+    // 쓰기 지연 반영 성공(또는 충돌로 버림) 후 미반영분 차감
+    void flushed(int quantity) {
+        pending.addAndGet(-quantity);
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    int available() {
+        long current = state.get();
+        return current < 0 ? 0 : available(current);
+    }
+
+    int held() {
+        long current = state.get();
+        return current < 0 ? 0 : held(current);
+    }
+
+    boolean isRetired() {
+        return state.get() < 0;
+    }
+
+    boolean idleSince(long nanos) {
+        return lastAccessNanos - nanos < 0;
+    }
+
+    void requestResync() {
+        resyncRequested = true;
+    }
+
+    boolean resyncRequested() {
+        return resyncRequested;
+    }
+
+    // 보류와 미반영분이 모두 0일 때만 성공. 상태를 먼저 읽고 pending을 나중에 읽어야 commitHeld와 경합해도 안전
+    boolean tryRetire() {
+        long current = state.get();
+        if (current < 0) {
+            return true;
+        }
+        if (held(current) != 0 || pending.get() != 0) {
+            return false;
+        }
+        return state.compareAndSet(current, RETIRED);
+    }
+
+    private void update(int availableDelta, int heldDelta) {
+        while (true) {
+            long current = state.get();
+            if (state.compareAndSet(current, pack(available(current) + availableDelta, held(current) + heldDelta))) {
+                return;
+            }
+        }
+    }
+
+    private static long pack(int available, int held) {
+        return ((long) available << 32) | (held & 0xFFFFFFFFL);
+    }
+
+    private static int available(long state) {
+        return (int) (state >> 32);
+    }
+
+    private static int held(long state) {
+        return (int) state;
+    }
+}
@@ -1,48 +1,80 @@
 package com.stepby.shop_backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.metrics.Histogram;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-    private final String jwtSecretSting; // Base64 인코딩된 시크릿 키 문자열
-    private final Key signingKey; // 토큰 서명에 사용될 Key 객체 (한번만 사용)
-
-    @Value("${app.jwtExpirationMs}") // application.properties에서 만료 시간을 주입받음
-    private int jwtExpirationMs;
-
-    public JwtUtil(@Value("${app.jwtSecret}") String jwtSecretSting) {
-        this.jwtSecretSting = jwtSecretSting;
-
-        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretSting));
+    private final SecretKey signingKey; // 토큰 서명에 사용될 Key 객체 (한번만 생성)
+    private final JwtParser jwtParser; // 불변·스레드 안전 파서 (요청마다 새로 만들지 않음)
+    private final int jwtExpirationMs;
+
+    // 서명 검증을 통과한 토큰 캐시: 키는 토큰의 SHA-256 다이제스트, 항목은 토큰 자체의 exp 시각에 만료
+    private final Cache<String, Claims> verifiedTokens;
+
+    // 검증 소요 시간: 캐시 적중 / 서명 검증 통과 / 거부 (GET /api/admin/metrics)
+    private final Histogram cachedVerifyLatency = Histogram.latency();
+    private final Histogram signedVerifyLatency = Histogram.latency();
+    private final Histogram rejectedVerifyLatency = Histogram.latency();
+
+    @Autowired
+    public JwtUtil(@Value("${app.jwtSecret}") String jwtSecretString,
+                   @Value("${app.jwtExpirationMs}") int jwtExpirationMs,
+                   @Value("${app.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretString));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) ->
+                        Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
     }
 
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
     // JWT 토큰 생성
     public String generateJwtToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal(); //인증된 사용자 정보
+        return generateJwtToken((User) authentication.getPrincipal()); //인증된 사용자 정보
+    }
 
+    // 요청마다 DB를 조회하지 않도록 id/권한/보안 버전을 토큰에 포함
+    public String generateJwtToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
                 .claims() // playload 설정
-                .subject(userPrincipal.getUsername()) // subject는 email
+                .subject(user.getUsername()) // subject는 email
+                .add(CLAIM_USER_ID, user.getId())
+                .add(CLAIM_ROLE, user.getRole().name())
+                .add(CLAIM_SECURITY_VERSION, user.getSecurityVersion())
                 .issuedAt(now) // 토큰 발행 시간
                 .expiration(expiryDate) // 토큰 만료 시간
                 .and() // 다시 Jwts.builder()로
@@ -50,38 +82,88 @@ public class JwtUtil {
                 .compact(); // 토큰 생성
     }
 
+    /**
+     * 토큰을 한 번만 파싱·검증하고 클레임을 반환합니다. 유효하지 않으면 null.
+     * 같은 토큰이 다시 오면 캐시된 클레임을 반환해 HMAC 재계산과 JSON 파싱을 건너뜁니다.
+     */
+    public Claims verifyJwtToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            return verifyOrThrow(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * verifyJwtToken과 같지만 실패 사유를 예외로 알려 줍니다 (감사 로그에 사유를 남기는 AuthTokenFilter용).
+     * 만료: ExpiredJwtException, 서명 불일치: SecurityException, 형식 오류: MalformedJwtException/IllegalArgumentException
+     */
+    public Claims verifyOrThrow(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            cachedVerifyLatency.recordSince(start);
+            // 만료 처리는 Caffeine이 지연 수행하므로 경계 시점은 직접 한 번 더 확인
+            if (cached.getExpiration().getTime() <= System.currentTimeMillis()) {
+                throw new ExpiredJwtException(null, cached, "JWT token is expired");
+            }
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectedVerifyLatency.recordSince(start);
+            throw e;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        signedVerifyLatency.recordSince(start);
+        return claims;
+    }
+
     // JWT 토큰에서 사용자 이름 추출
     public String getUserNameFromJwtToken(String token) {
-        Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith((SecretKey) signingKey)
-                .build()
-                .parseSignedClaims(token);
-
-                return claimsJws.getPayload().getSubject();
+        Claims claims = verifyJwtToken(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     // JWT 토큰 유효성 검사
     public boolean validateJwtToken(String authToken) {
+        return verifyJwtToken(authToken) != null;
+    }
+
+    public long verifiedTokenCacheSize() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    public Histogram cachedVerifyLatency() {
+        return cachedVerifyLatency;
+    }
+
+    public Histogram signedVerifyLatency() {
+        return signedVerifyLatency;
+    }
+
+    public Histogram rejectedVerifyLatency() {
+        return rejectedVerifyLatency;
+    }
+
+    private static String digest(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) signingKey)
-                    .build()
-                    .parseSignedClaims(authToken);
-
-            return true;
-        } catch (SignatureException e) {
-            logger.error("Invalid JWT signature: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성 (생성 비용은 해시 계산에 비해 무시할 수준)
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-
-        return false;
     }
 }
-
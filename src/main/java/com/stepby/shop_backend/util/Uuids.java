@@ -0,0 +1,103 @@
+package com.stepby.shop_backend.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 UUID(v7, RFC 9562) 생성과 BINARY(16) 저장 형식 변환.
+ * <p>
+ * - 상위 48비트가 밀리초 시각이라 새 id가 항상 인덱스 오른쪽 끝에 붙음 (무작위 v4는 B-트리 전체에 흩어짐)
+ * - 같은 밀리초 안에서는 12비트 rand_a를 카운터로 써서 한 프로세스 안에서 단조 증가 (넘치면 다음 밀리초로 당겨 씀)
+ * - 바이트 순서 = 소문자 16진 문자열 순서이므로, DB의 BINARY 정렬과 API의 문자열 id 정렬(키셋 커서)이 같음
+ * <p>
+ * id는 권한 확인에 쓰지 않으므로(JWT 서명으로 확인) 나머지 62비트는 ThreadLocalRandom으로 채웁니다.
+ */
+public final class Uuids {
+
+    private static final byte[] NO_MATCH = new byte[0];
+
+    // (밀리초 << 12) | 카운터. 마지막으로 내준 값보다 항상 큼
+    private static final AtomicLong lastTick = new AtomicLong();
+
+    private Uuids() {
+    }
+
+    public static UUID timeOrdered() {
+        long now = System.currentTimeMillis() << 12;
+        long tick = lastTick.updateAndGet(last -> Math.max(last + 1, now));
+        return compose(tick >>> 12, (int) (tick & 0xFFF), ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 정해진 값으로 만드는 v7 UUID (시드 데이터처럼 재현 가능해야 할 때). sequence는 하위 12비트, random은 하위 62비트만 씁니다.
+     */
+    public static UUID timeOrdered(long epochMillis, int sequence, long random) {
+        return compose(epochMillis, sequence & 0xFFF, random);
+    }
+
+    /**
+     * 표준 문자열(8-4-4-4-12 16진) → 16바이트. 형식이 다르면 어떤 id와도 같지 않은 빈 배열을 돌려주므로
+     * 잘못된 경로 변수/커서로 조회해도 예외 대신 "없음"이 됩니다.
+     */
+    public static byte[] toBytes(String id) {
+        if (id == null) {
+            return null;
+        }
+        if (!isCanonical(id)) {
+            return NO_MATCH;
+        }
+        UUID uuid = UUID.fromString(id);
+        byte[] bytes = new byte[16];
+        putLong(bytes, 0, uuid.getMostSignificantBits());
+        putLong(bytes, 8, uuid.getLeastSignificantBits());
+        return bytes;
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID는 16바이트여야 합니다: " + Arrays.toString(bytes));
+        }
+        return new UUID(getLong(bytes, 0), getLong(bytes, 8)).toString();
+    }
+
+    private static UUID compose(long epochMillis, int sequence, long random) {
+        long msb = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16 | 0x7000 | sequence;
+        long lsb = random & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static boolean isCanonical(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            boolean hex = c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+            if (dash ? c != '-' : !hex) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = value << 8 | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
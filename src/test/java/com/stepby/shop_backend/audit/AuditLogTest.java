@@ -0,0 +1,204 @@
+package com.stepby.shop_backend.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 감사 로그 저장 계층: 링 버퍼 포화/순서, 세그먼트 교체와 조회 필터, 쓰다 만 세그먼트 복구.
+ */
+class AuditLogTest {
+
+    private static final Instant START = Instant.parse("2026-03-01T00:00:00Z");
+    private static final byte FAILURE = AuditEventType.LOGIN_FAILURE.code();
+    private static final byte SUCCESS = AuditEventType.LOGIN_SUCCESS.code();
+    private static final byte BAD_CREDENTIALS = AuditReason.BAD_CREDENTIALS.code();
+    private static final byte NONE = AuditReason.NONE.code();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ringBufferDropsWhenFullAndKeepsOrder() {
+        AuditRingBuffer ring = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(FAILURE, BAD_CREDENTIALS, i, "user" + i, null)).isTrue();
+        }
+        assertThat(ring.offer(FAILURE, BAD_CREDENTIALS, 4, "user4", null)).isFalse();
+        assertThat(ring.droppedCount()).isEqualTo(1);
+
+        List<Long> timestamps = new ArrayList<>();
+        assertThat(ring.drain((type, reason, ts, email, ip) -> timestamps.add(ts), 10)).isEqualTo(4);
+        assertThat(timestamps).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(ring.drained()).isTrue();
+        assertThat(ring.offer(FAILURE, BAD_CREDENTIALS, 5, "user5", null)).isTrue();
+    }
+
+    @Test
+    void ringBufferDeliversEveryAcceptedEventOnceInProducerOrder() throws Exception {
+        AuditRingBuffer ring = new AuditRingBuffer(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String email = "p" + p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    if (ring.offer(FAILURE, BAD_CREDENTIALS, i, email, null)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long[] last = {-1, -1, -1, -1};
+        int[] received = new int[producers];
+        boolean[] ordered = {true};
+        AuditRingBuffer.Handler handler = (type, reason, ts, email, ip) -> {
+            int p = email.charAt(1) - '0';
+            ordered[0] &= ts > last[p];
+            last[p] = ts;
+            received[p]++;
+        };
+        start.countDown();
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            ring.drain(handler, 256);
+        }
+        ring.drain(handler, Integer.MAX_VALUE);
+
+        int total = 0;
+        for (int count : received) {
+            total += count;
+        }
+        assertThat(ordered[0]).isTrue();
+        assertThat(total).isEqualTo(accepted.get());
+        assertThat(total + ring.droppedCount()).isEqualTo((long) producers * perProducer);
+        assertThat(ring.drained()).isTrue();
+    }
+
+    @Test
+    void rotatesBySizeAndAgeAndQueriesByEmailTypeAndTime() throws Exception {
+        MutableClock clock = new MutableClock(START);
+        AuditSegmentWriter writer = new AuditSegmentWriter(directory, segmentBytes(4), Duration.ofHours(1), clock);
+        for (int i = 0; i < 10; i++) {
+            writer.append(FAILURE, BAD_CREDENTIALS, clock.millis(), i % 2 == 0 ? "a@stepby.com" : "b@stepby.com",
+                    "10.0.0." + i);
+            clock.advance(Duration.ofMinutes(1));
+        }
+        assertThat(AuditSegmentWriter.segments(directory)).hasSize(3); // 4 + 4 + 2
+
+        clock.advance(Duration.ofHours(1));
+        writer.rotateIfExpired();
+        writer.append(SUCCESS, NONE, clock.millis(), "A@stepby.com", "::1");
+        writer.close();
+        assertThat(AuditSegmentWriter.segments(directory)).hasSize(4);
+        assertThat(writer.currentSegment().getFileName().toString()).isEqualTo("audit-00000000000000000011.seg");
+
+        AuditLogReader reader = new AuditLogReader(directory);
+        List<AuditRecord> forA = reader.query("a@stepby.com", 0, Long.MAX_VALUE, null, 100);
+        assertThat(forA).extracting(AuditRecord::sequence).containsExactly(11L, 9L, 7L, 5L, 3L, 1L);
+        assertThat(forA.get(0).type()).isEqualTo(AuditEventType.LOGIN_SUCCESS);
+        assertThat(forA.get(0).ip()).isEqualTo("0:0:0:0:0:0:0:1");
+        assertThat(forA.get(5).ip()).isEqualTo("10.0.0.0");
+        assertThat(forA.get(5).reason()).isEqualTo(AuditReason.BAD_CREDENTIALS);
+
+        assertThat(reader.query("a@stepby.com", 0, Long.MAX_VALUE, AuditEventType.LOGIN_FAILURE, 100))
+                .extracting(AuditRecord::sequence).containsExactly(9L, 7L, 5L, 3L, 1L);
+        long from = START.plus(Duration.ofMinutes(2)).toEpochMilli();
+        long to = START.plus(Duration.ofMinutes(5)).toEpochMilli();
+        assertThat(reader.query(null, from, to, null, 100))
+                .extracting(AuditRecord::sequence).containsExactly(5L, 4L, 3L);
+        assertThat(reader.query(null, 0, Long.MAX_VALUE, null, 2))
+                .extracting(AuditRecord::sequence).containsExactly(11L, 10L);
+    }
+
+    @Test
+    void recoversTornTailAndContinuesSequence() throws Exception {
+        MutableClock clock = new MutableClock(START);
+        AuditSegmentWriter crashed = new AuditSegmentWriter(directory, segmentBytes(8), Duration.ofHours(1), clock);
+        for (int i = 0; i < 3; i++) {
+            crashed.append(FAILURE, BAD_CREDENTIALS, clock.millis(), "u" + i + "@stepby.com", null);
+        }
+        crashed.force();
+        Path segment = crashed.currentSegment();
+
+        // 크래시 흉내: 세 번째 레코드의 이메일 한 바이트가 바뀌고(CRC 불일치) 뒤쪽 칸에 쓰다 만 바이트가 남음,
+        // 다음 세그먼트는 헤더를 쓰기 전에 멈춤
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), AuditRecordFormat.offset(2) + 40);
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), AuditRecordFormat.offset(5));
+        }
+        Files.write(directory.resolve("audit-00000000000000000004.seg"), new byte[100]);
+
+        AuditSegmentWriter recovered = new AuditSegmentWriter(directory, segmentBytes(8), Duration.ofHours(1), clock);
+        assertThat(recovered.nextSequence()).isEqualTo(3);
+        assertThat(recovered.currentSegment()).isEqualTo(segment);
+        assertThat(directory.resolve("audit-00000000000000000004.seg.corrupt")).exists();
+
+        recovered.append(SUCCESS, NONE, clock.millis(), "after@stepby.com", "127.0.0.1");
+        recovered.close();
+
+        List<AuditRecord> records = new AuditLogReader(directory).query(null, 0, Long.MAX_VALUE, null, 10);
+        assertThat(records).extracting(AuditRecord::sequence).containsExactly(3L, 2L, 1L);
+        assertThat(records).extracting(AuditRecord::email)
+                .containsExactly("after@stepby.com", "u1@stepby.com", "u0@stepby.com");
+        assertThat(records.get(0).ip()).isEqualTo("127.0.0.1");
+        assertThat(AuditSegmentWriter.segments(directory)).containsExactly(segment);
+    }
+
+    private static long segmentBytes(int records) {
+        return AuditRecordFormat.HEADER_SIZE + (long) records * AuditRecordFormat.RECORD_SIZE;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.entity.Gender;
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.security.AdaptiveBCryptPasswordEncoder;
+import com.stepby.shop_backend.security.PasswordHashingExecutor;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인/회원가입은 전용 해싱 풀에서 처리되며, 풀이 가득 차면 즉시 503으로 응답해야 합니다.
+ * (풀 1스레드, 대기열 없음) 로그인 성공/실패는 감사 로그에 남아야 합니다.
+ */
+@SpringBootTest(properties = {
+        "app.password-hashing.threads=1",
+        "app.password-hashing.queue-capacity=0",
+        "app.password-hashing.retry-after-seconds=2"
+})
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Test
+    void rejectsWithServiceUnavailableWhenHashingPoolIsSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        passwordHashingExecutor.submit(() -> {
+            started.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        started.await();
+        try {
+            MvcResult pending = mockMvc.perform(login("busy@stepby.com", "password1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(pending))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"));
+        } finally {
+            release.countDown();
+        }
+        assertThat(passwordHashingExecutor.rejectedCount()).isPositive();
+    }
+
+    @Test
+    void rehashesStoredPasswordOnLoginWhenCostChanged() throws Exception {
+        User user = new User();
+        user.setEmail("rehash@stepby.com");
+        user.setPassword(new AdaptiveBCryptPasswordEncoder(5).encode("password1"));
+        user.setRole(Role.USER);
+        user.setRealName("테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(Gender.OTHER);
+        user.setPhoneNumber("010-1234-5678");
+        user.setZonecode("12345");
+        user.setAddress("서울");
+        user.setDetailAddress("101호");
+        user = userRepository.save(user);
+        int securityVersion = user.getSecurityVersion();
+
+        MvcResult pending = mockMvc.perform(login("rehash@stepby.com", "password1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending)).andExpect(status().isOk());
+
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf(stored.getPassword())).isEqualTo(4);
+        assertThat(stored.getSecurityVersion()).isEqualTo(securityVersion);
+    }
+
+    @Test
+    void wrongPasswordIsStillUnauthorized() throws Exception {
+        MvcResult pending = mockMvc.perform(login("nobody@stepby.com", "password1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void recordsLoginOutcomesInAuditLog() throws Exception {
+        User user = new User();
+        user.setEmail("audited@stepby.com");
+        user.setPassword(new AdaptiveBCryptPasswordEncoder(4).encode("password1"));
+        user.setRole(Role.USER);
+        user.setRealName("테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(Gender.OTHER);
+        user.setPhoneNumber("010-1234-5678");
+        user.setZonecode("12345");
+        user.setAddress("서울");
+        user.setDetailAddress("101호");
+        userRepository.save(user);
+
+        MvcResult success = mockMvc.perform(login("audited@stepby.com", "password1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(success)).andExpect(status().isOk());
+        MvcResult failure = mockMvc.perform(login("audited@stepby.com", "wrong-password"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(failure)).andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/admin/audit").param("email", "audited@stepby.com")
+                        .header(HttpHeaders.AUTHORIZATION, testAuthTokens.admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("LOGIN_FAILURE"))
+                .andExpect(jsonPath("$[0].reason").value("BAD_CREDENTIALS"))
+                .andExpect(jsonPath("$[0].ip").value("127.0.0.1"))
+                .andExpect(jsonPath("$[1].type").value("LOGIN_SUCCESS"))
+                .andExpect(jsonPath("$[1].reason").value("NONE"));
+        mockMvc.perform(get("/api/admin/audit").param("email", "audited@stepby.com").param("type", "LOGIN_SUCCESS")
+                        .header(HttpHeaders.AUTHORIZATION, testAuthTokens.admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private static RequestBuilder login(String email, String password) {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+    }
+}
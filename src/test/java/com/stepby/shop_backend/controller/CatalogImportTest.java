@@ -0,0 +1,223 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import com.stepby.shop_backend.util.Uuids;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카탈로그 일괄 등록: SKU 기준 upsert, 변형/요소 컬렉션은 삭제 후 재삽입이 아니라 차이만 반영,
+ * 실패한 배치는 같은 jobId로 다시 실행하면 그 배치만 처리되어야 합니다.
+ */
+@SpringBootTest(properties = "app.catalog-import.batch-size=2")
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class CatalogImportTest {
+
+    private static final String FAILING_SKU = "FAIL-" + UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void upsertsBySkuAndDiffsVariantsAndCollections() throws Exception {
+        String a = sku();
+        String b = sku();
+        String c = sku();
+        List<String> lines = importCatalog(null, "application/x-ndjson", String.join("\n",
+                record(a, "상품 A", 10, "블랙:250:5", "블랙:260:0"),
+                record(b, "상품 B", 20, "화이트:240:3", "화이트:250:4"),
+                record(sku(), "", 30, "블랙:250:1"),                     // 상품명 누락
+                record(c, "상품 C", 30, "블랙:250:1", "블랙:250:2")));    // 변형 중복
+
+        assertThat((String) JsonPath.read(lines.getFirst(), "$.type")).isEqualTo("started");
+        assertThat(errorLines(lines)).containsExactly(3, 4);
+        assertThat(lines).filteredOn(l -> l.contains("\"type\":\"progress\"")).hasSize(2);
+        String summary = lines.getLast();
+        assertThat((Integer) JsonPath.read(summary, "$.inserted")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(summary, "$.failed")).isEqualTo(2);
+        assertThat((List<String>) JsonPath.read(summary, "$.stages[*].name")).containsExactly("parse", "validate", "upsert");
+        assertThat((List<Integer>) JsonPath.read(summary, "$.stages[*].records")).containsExactly(4, 4, 2);
+
+        String keptVariantId = variantId(b, "화이트", 240);
+        Timestamp aUpdatedAt = updatedAt(a);
+        Thread.sleep(5);
+
+        // A는 그대로, B는 가격/재고 변경 + 변형 하나 삭제/하나 추가 + 소재 변경
+        lines = importCatalog(null, "application/x-ndjson", String.join("\n",
+                record(a, "상품 A", 10, "블랙:250:5", "블랙:260:0"),
+                record(b, "상품 B", 25, "화이트:240:7", "화이트:270:1").replace("\"메시\"", "\"가죽\"")));
+
+        summary = lines.getLast();
+        assertThat((Integer) JsonPath.read(summary, "$.updated")).isEqualTo(1);
+        assertThat((Integer) JsonPath.read(summary, "$.unchanged")).isEqualTo(1);
+        assertThat(updatedAt(a)).isEqualTo(aUpdatedAt);
+        assertThat(variantId(b, "화이트", 240)).isEqualTo(keptVariantId);
+        assertThat(jdbcTemplate.queryForList("select v.size, v.stock_quantity from product_variants v "
+                + "join products p on p.id = v.product_id where p.sku = ? order by v.size", b))
+                .containsExactly(Map.of("size", 240, "stock_quantity", 7), Map.of("size", 270, "stock_quantity", 1));
+        assertThat(jdbcTemplate.queryForList("select m.material from product_materials m "
+                + "join products p on p.id = m.product_id where p.sku = ?", String.class, b)).containsExactly("가죽");
+        assertThat(jdbcTemplate.queryForObject("select effective_price from products where sku = ?", Integer.class, b))
+                .isEqualTo(25);
+    }
+
+    @Test
+    void importsCsvWithListAndVariantColumns() throws Exception {
+        String sku = sku();
+        String body = """
+                sku,name,brand,price,discountPrice,details,category,gender,description,mainImageUrl,imageUrls,materials,colors,availableSizes,bestSeller,variants
+                %s,"러닝화, 경량",스텝바이,89000,79000,상세,running,공용,설명,https://example.com/m.jpg,https://example.com/1.jpg|https://example.com/2.jpg,메시,블랙|화이트,250|260,true,블랙:250:3|화이트:260:0
+                """.formatted(sku);
+
+        List<String> lines = importCatalog(null, "text/csv", body);
+
+        assertThat((Integer) JsonPath.read(lines.getLast(), "$.inserted")).isEqualTo(1);
+        Map<String, Object> product = jdbcTemplate.queryForMap(
+                "select name, effective_price, is_best_seller from products where sku = ?", sku);
+        assertThat(product).containsEntry("name", "러닝화, 경량").containsEntry("effective_price", 79000)
+                .containsEntry("is_best_seller", true);
+        assertThat(jdbcTemplate.queryForList("select count(*) from product_image_urls i join products p "
+                + "on p.id = i.product_id where p.sku = ?", Integer.class, sku)).containsExactly(2);
+        assertThat(variantId(sku, "화이트", 260)).isNotNull();
+    }
+
+    @Test
+    void failedBatchIsRetriedAloneWhenRerunWithJobId() throws Exception {
+        List<String> skus = List.of(sku(), sku(), FAILING_SKU, sku(), sku());
+        String feed = String.join("\n", skus.stream().map(sku -> record(sku, "재실행 " + sku, 10, "블랙:250:1")).toList());
+
+        jdbcTemplate.execute("create trigger fail_catalog_import before insert on products for each row call \""
+                + FailingSkuTrigger.class.getName() + "\"");
+        List<String> lines;
+        try {
+            lines = importCatalog(null, "application/x-ndjson", feed);
+        } finally {
+            jdbcTemplate.execute("drop trigger fail_catalog_import");
+        }
+        String jobId = JsonPath.read(lines.getFirst(), "$.jobId");
+        assertThat(lines).filteredOn(l -> l.contains("\"type\":\"batch-error\"")).hasSize(1);
+        assertThat((List<Integer>) JsonPath.read(lines.getLast(), "$.failedBatches")).containsExactly(1);
+        assertThat((Integer) JsonPath.read(lines.getLast(), "$.inserted")).isEqualTo(3);
+        assertThat(countBySku(skus.get(3))).isZero(); // 실패한 배치는 통째로 롤백
+
+        lines = importCatalog(jobId, "application/x-ndjson", feed);
+
+        String summary = lines.getLast();
+        assertThat((Integer) JsonPath.read(lines.getFirst(), "$.skippedBatches")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(summary, "$.inserted")).isEqualTo(2);
+        assertThat((List<Integer>) JsonPath.read(summary, "$.failedBatches")).isEmpty();
+        assertThat((Integer) JsonPath.read(summary, "$.stages[2].records")).isEqualTo(2);
+        for (String sku : skus) {
+            assertThat(countBySku(sku)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void requiresAdminRole() throws Exception {
+        mockMvc.perform(post("/api/admin/catalog/import")
+                        .header("Authorization", testAuthTokens.user())
+                        .contentType("application/x-ndjson")
+                        .content(record(sku(), "권한", 10, "블랙:250:1")))
+                .andExpect(status().isForbidden());
+    }
+
+    // FAILING_SKU 상품 INSERT를 DB에서 거부 (검증은 통과하고 쓰기에서 실패하는 배치 재현)
+    public static class FailingSkuTrigger implements Trigger {
+        @Override
+        public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+            for (Object value : newRow) {
+                if (FAILING_SKU.equals(value)) {
+                    throw new SQLException("rejected by test trigger");
+                }
+            }
+        }
+    }
+
+    private List<String> importCatalog(String jobId, String contentType, String body) throws Exception {
+        MockHttpServletRequestBuilder request = post("/api/admin/catalog/import")
+                .header("Authorization", testAuthTokens.admin())
+                .contentType(contentType)
+                .content(body.getBytes(StandardCharsets.UTF_8));
+        if (jobId != null) {
+            request.param("jobId", jobId);
+        }
+        MvcResult pending = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return response.lines().toList();
+    }
+
+    private String variantId(String sku, String color, int size) {
+        return jdbcTemplate.queryForList("select v.id from product_variants v join products p on p.id = v.product_id "
+                + "where p.sku = ? and v.color = ? and v.size = ?", byte[].class, sku, color, size).stream()
+                .findFirst().map(Uuids::fromBytes).orElse(null);
+    }
+
+    private Timestamp updatedAt(String sku) {
+        return jdbcTemplate.queryForObject("select updated_at from products where sku = ?", Timestamp.class, sku);
+    }
+
+    private int countBySku(String sku) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from products where sku = ?", Integer.class, sku);
+        return count != null ? count : 0;
+    }
+
+    private static List<Integer> errorLines(List<String> lines) {
+        return lines.stream()
+                .filter(l -> l.contains("\"type\":\"error\""))
+                .map(l -> (Integer) JsonPath.read(l, "$.line"))
+                .toList();
+    }
+
+    private static String sku() {
+        return "SKU-" + UUID.randomUUID();
+    }
+
+    // variants: "색상:사이즈:재고"
+    private static String record(String sku, String name, int price, String... variants) {
+        StringBuilder json = new StringBuilder("{\"sku\":\"" + sku + "\",\"name\":\"" + name + "\",\"brand\":\"스텝바이\","
+                + "\"price\":" + price + ",\"details\":\"상세\",\"category\":\"sneakers\",\"gender\":\"공용\","
+                + "\"description\":\"설명\",\"mainImageUrl\":\"https://example.com/main.jpg\","
+                + "\"imageUrls\":[\"https://example.com/1.jpg\"],\"materials\":[\"메시\"],\"colors\":[\"블랙\"],"
+                + "\"availableSizes\":[250,260],\"variants\":[");
+        for (int i = 0; i < variants.length; i++) {
+            String[] parts = variants[i].split(":");
+            json.append(i > 0 ? "," : "").append("{\"color\":\"").append(parts[0]).append("\",\"size\":")
+                    .append(parts[1]).append(",\"stockQuantity\":").append(parts[2]).append('}');
+        }
+        return json.append("]}").toString();
+    }
+}
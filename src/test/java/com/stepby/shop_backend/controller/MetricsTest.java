@@ -0,0 +1,123 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.support.TestAuthTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/admin/metrics: 요청을 보낸 엔드포인트의 지연 시간/SQL 문 수, JWT·BCrypt 시간, 커넥션 풀 대기 시간이
+ * Prometheus 텍스트 형식으로 나와야 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class MetricsTest {
+
+    private static final String PRODUCT_DETAIL =
+            "{handler=\"ProductController.getProductById\",method=\"GET\",uri=\"/api/products/{id}\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportsEndpointSqlAuthAndPoolMetrics() throws Exception {
+        double detailRequestsBefore = value(scrape(), "http_server_request_duration_seconds_count" + PRODUCT_DETAIL);
+
+        // 없는 상품: 스냅샷 캐시를 거쳐 DB 조회 1회 후 404
+        mockMvc.perform(get("/api/products/" + UUID.randomUUID())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/user/me").header(HttpHeaders.AUTHORIZATION, testAuthTokens.user()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/user/me").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"metrics-nobody@stepby.com\",\"password\":\"password1\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(login)).andExpect(status().isUnauthorized());
+
+        String metrics = scrape();
+
+        assertThat(metrics).contains("# TYPE http_server_request_duration_seconds histogram");
+        assertThat(value(metrics, "http_server_request_duration_seconds_count" + PRODUCT_DETAIL))
+                .isEqualTo(detailRequestsBefore + 1);
+        assertThat(metrics).contains("http_server_request_duration_seconds_bucket{handler=\"ProductController"
+                + ".getProductById\",method=\"GET\",uri=\"/api/products/{id}\",le=\"+Inf\"}");
+        assertThat(value(metrics, "http_server_responses_total{handler=\"ProductController.getProductById\","
+                + "method=\"GET\",uri=\"/api/products/{id}\",status=\"4xx\"}")).isPositive();
+        assertThat(value(metrics, "http_server_request_db_statements_sum" + PRODUCT_DETAIL)).isPositive();
+        assertThat(value(metrics, "http_server_request_db_seconds_sum" + PRODUCT_DETAIL)).isPositive();
+        assertThat(value(metrics, "http_server_request_duration_seconds_count{handler=\"UserController.getCurrentUser\","
+                + "method=\"GET\",uri=\"/api/user/me\"}")).isPositive();
+        assertThat(value(metrics, "http_server_request_duration_seconds_count{handler=\"AuthController.authenticateUser\","
+                + "method=\"POST\",uri=\"/api/auth/login\"}")).isPositive();
+        assertThat(value(metrics, "db_statement_duration_seconds_count")).isPositive();
+
+        assertThat(value(metrics, "jwt_verify_duration_seconds_count{result=\"rejected\"}")).isPositive();
+        assertThat(value(metrics, "jwt_verify_duration_seconds_count{result=\"verified\"}")
+                + value(metrics, "jwt_verify_duration_seconds_count{result=\"cached\"}")).isPositive();
+        assertThat(value(metrics, "password_hash_duration_seconds_count{operation=\"matches\"}")).isPositive();
+
+        assertThat(metrics).containsPattern("hikari_connection_acquire_duration_seconds_count\\{pool=\"[^\"]+\"} [1-9]");
+        assertThat(metrics).containsPattern("hikari_connections\\{pool=\"[^\"]+\",state=\"max\"} [1-9]");
+    }
+
+    @Test
+    void countsStatementsIssuedThroughJdbcTemplate() throws Exception {
+        double statementsBefore = value(scrape(), "db_statement_duration_seconds_count");
+
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.queryForObject("select count(*) from products", Long.class);
+        }
+
+        // 백그라운드 작업의 SQL도 함께 세므로 하한만 확인
+        assertThat(value(scrape(), "db_statement_duration_seconds_count")).isGreaterThanOrEqualTo(statementsBefore + 3);
+    }
+
+    @Test
+    void requiresAdminRole() throws Exception {
+        mockMvc.perform(get("/api/admin/metrics").header(HttpHeaders.AUTHORIZATION, testAuthTokens.user()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/metrics")).andExpect(status().isUnauthorized());
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/api/admin/metrics").header(HttpHeaders.AUTHORIZATION, testAuthTokens.admin()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    // "이름{라벨} 값" 줄의 값 (줄이 없으면 0)
+    private static double value(String metrics, String series) {
+        return metrics.lines()
+                .filter(line -> line.startsWith(series + " "))
+                .mapToDouble(line -> Double.parseDouble(line.substring(series.length() + 1)))
+                .findFirst()
+                .orElse(0);
+    }
+}
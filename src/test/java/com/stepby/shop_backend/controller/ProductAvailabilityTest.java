@@ -0,0 +1,143 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.service.availability.ProductAvailabilityService;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.CatalogSeeder;
+import com.stepby.shop_backend.service.seed.SeedProduct;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import com.stepby.shop_backend.service.stock.StockReservation;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 재고 현황은 메모리 인덱스에서 제공되어야 하며(DB를 직접 바꿔도 응답이 그대로), 원장의 보류는 바로 반영되어야 합니다.
+ */
+@SpringBootTest(properties = "app.availability.low-stock-threshold=5")
+@AutoConfigureMockMvc
+class ProductAvailabilityTest {
+
+    private static final long SEED = 6_161L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+
+    @Autowired
+    private ProductAvailabilityService productAvailabilityService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SeedProduct product;
+
+    @BeforeEach
+    void setUp() {
+        product = new CatalogGenerator(SEED, BASE_TIME).product(0);
+        if (jdbcTemplate.queryForObject("select count(*) from products where id = ?", Integer.class,
+                Uuids.toBytes(product.id())) == 0) {
+            catalogSeeder.seed(1, SEED, BASE_TIME, 1, 10);
+        }
+        // 시더는 엔티티 이벤트를 거치지 않으므로 직접 다시 읽음
+        productAvailabilityService.reload(product.id());
+    }
+
+    @Test
+    void returnsCompactColorBySizeGrid() throws Exception {
+        String body = mockMvc.perform(get("/api/products/" + product.id() + "/availability"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> colors = JsonPath.read(body, "$.colors");
+        List<Integer> sizes = JsonPath.read(body, "$.sizes");
+        List<String> grid = JsonPath.read(body, "$.grid");
+        // 행/열은 실제 변형이 있는 색상/사이즈만
+        assertThat(colors).isSorted().containsExactlyInAnyOrderElementsOf(
+                product.variants().stream().map(SeedProduct.Variant::color).distinct().toList());
+        assertThat(sizes).isSorted().containsExactlyInAnyOrderElementsOf(
+                product.variants().stream().map(SeedProduct.Variant::size).distinct().toList());
+        assertThat(String.join("", grid).chars().filter(c -> c != '-').count()).isEqualTo(product.variants().size());
+        for (SeedProduct.Variant variant : product.variants()) {
+            char expected = variant.stockQuantity() == 0 ? 'O' : variant.stockQuantity() <= 5 ? 'L' : 'I';
+            assertThat(grid.get(colors.indexOf(variant.color())).charAt(sizes.indexOf(variant.size())))
+                    .as(variant.color() + "/" + variant.size())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void servesFromMemoryAndReflectsLedgerHolds() throws Exception {
+        SeedProduct.Variant variant = product.variants().getLast();
+        jdbcTemplate.update("update product_variants set stock_quantity = 7 where id = ?", Uuids.toBytes(variant.id()));
+        productAvailabilityService.reload(product.id());
+        String cell = "$.grid[" + colorIndex(variant) + "]";
+
+        // DB를 직접 바꿔도 인덱스 값으로 응답 (variant 테이블을 조회하지 않음)
+        jdbcTemplate.update("update product_variants set stock_quantity = 0 where id = ?", Uuids.toBytes(variant.id()));
+        assertThat(charAt(cell, variant)).isEqualTo('I');
+        jdbcTemplate.update("update product_variants set stock_quantity = 7 where id = ?", Uuids.toBytes(variant.id()));
+
+        StockReservation first = stockLedger.reserve(variant.id(), "buyer", 2);
+        assertThat(charAt(cell, variant)).isEqualTo('L');
+        StockReservation second = stockLedger.reserve(variant.id(), "buyer", 5);
+        assertThat(charAt(cell, variant)).isEqualTo('O');
+
+        stockLedger.release(first.id(), "buyer");
+        stockLedger.release(second.id(), "buyer");
+        assertThat(charAt(cell, variant)).isEqualTo('I');
+
+        jdbcTemplate.update("update product_variants set stock_quantity = ? where id = ?", variant.stockQuantity(),
+                Uuids.toBytes(variant.id()));
+    }
+
+    @Test
+    void batchLookupSkipsUnknownProductsAndLimitsSize() throws Exception {
+        mockMvc.perform(get("/api/products/availability").param("ids", product.id() + ",no-such-product"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$['" + product.id() + "'].productId").value(product.id()));
+
+        String tooMany = IntStream.range(0, ProductAvailabilityService.MAX_BATCH + 1)
+                .mapToObj(i -> "p" + i).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/products/availability").param("ids", tooMany))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/no-such-product/availability"))
+                .andExpect(status().isNotFound());
+    }
+
+    private int colorIndex(SeedProduct.Variant variant) {
+        return product.variants().stream().map(SeedProduct.Variant::color).distinct().sorted().toList()
+                .indexOf(variant.color());
+    }
+
+    private char charAt(String cellPath, SeedProduct.Variant variant) throws Exception {
+        String body = mockMvc.perform(get("/api/products/" + product.id() + "/availability"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> sizes = JsonPath.read(body, "$.sizes");
+        String row = JsonPath.read(body, cellPath);
+        return row.charAt(sizes.indexOf(variant.size()));
+    }
+}
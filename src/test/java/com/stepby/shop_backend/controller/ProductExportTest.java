@@ -0,0 +1,146 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.entity.ProductVariant;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카탈로그 내보내기: 작은 청크로 나눠 읽어도 모든 상품이 (updatedAt, id) 순으로 한 번씩, 변형/요소 컬렉션과 함께 나와야 합니다.
+ * since를 주면 그 이후 수정된 상품만 나옵니다.
+ */
+@SpringBootTest(properties = "app.export.chunk-size=3")
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class ProductExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void exportsEveryProductOnceInUpdatedAtOrderWithVariantsAndCollections() throws Exception {
+        Product saved = productRepository.save(product("내보내기 전체"));
+
+        List<String> lines = lines(export(get("/api/products/export")));
+
+        assertThat(lines).hasSize((int) productRepository.count());
+        List<String> ids = lines.stream().map(line -> (String) JsonPath.read(line, "$.id")).toList();
+        assertThat(new HashSet<>(ids)).hasSameSizeAs(ids);
+        for (int i = 1; i < lines.size(); i++) {
+            String previous = JsonPath.read(lines.get(i - 1), "$.updatedAt");
+            String current = JsonPath.read(lines.get(i), "$.updatedAt");
+            assertThat(LocalDateTime.parse(previous)).isBeforeOrEqualTo(LocalDateTime.parse(current));
+            if (previous.equals(current)) {
+                assertThat(ids.get(i - 1)).isLessThan(ids.get(i));
+            }
+        }
+
+        String line = lines.get(ids.indexOf(saved.getId()));
+        assertThat((List<String>) JsonPath.read(line, "$.colors")).containsExactly("블랙");
+        assertThat((List<Integer>) JsonPath.read(line, "$.availableSizes")).containsExactlyInAnyOrder(250, 260);
+        assertThat((List<String>) JsonPath.read(line, "$.materials")).containsExactly("가죽");
+        assertThat((List<Integer>) JsonPath.read(line, "$.variants[*].size")).containsExactly(250, 260);
+        assertThat((List<Integer>) JsonPath.read(line, "$.variants[*].stockQuantity")).containsExactly(10, 0);
+    }
+
+    @Test
+    void sinceReturnsOnlyProductsChangedAfterThePreviousExport() throws Exception {
+        Product unchanged = productRepository.save(product("내보내기 그대로"));
+        Product changed = productRepository.save(product("내보내기 수정 전"));
+        MockHttpServletResponse first = export(get("/api/products/export"));
+        String watermark = first.getHeader("X-Export-Started-At");
+        assertThat(watermark).isNotNull();
+
+        Thread.sleep(5);
+        changed.setName("내보내기 수정 후");
+        productRepository.save(changed);
+        Product created = productRepository.save(product("내보내기 새 상품"));
+
+        List<String> lines = lines(export(get("/api/products/export").param("since", watermark)));
+
+        List<String> ids = lines.stream().map(line -> (String) JsonPath.read(line, "$.id")).toList();
+        assertThat(ids).contains(changed.getId(), created.getId()).doesNotContain(unchanged.getId());
+        assertThat(lines).allSatisfy(line -> assertThat(LocalDateTime.parse(JsonPath.read(line, "$.updatedAt")))
+                .isAfterOrEqualTo(LocalDateTime.parse(watermark)));
+    }
+
+    @Test
+    void gzipsWhenAcceptedAndRequiresLoginAndValidSince() throws Exception {
+        productRepository.save(product("내보내기 압축"));
+        MockHttpServletResponse response = export(get("/api/products/export")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(body.lines().count()).isEqualTo(productRepository.count());
+
+        mockMvc.perform(get("/api/products/export")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/products/export").param("since", "yesterday")
+                        .header(HttpHeaders.AUTHORIZATION, testAuthTokens.user()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletResponse export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult pending = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, testAuthTokens.user()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static List<String> lines(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("스텝바이브랜드");
+        product.setPrice(1_000);
+        product.setDetails("details");
+        product.setCategory("sneakers");
+        product.setGender("공용");
+        product.setDescription("내보내기 테스트용 상품");
+        product.setMainImageUrl("https://example.com/export.jpg");
+        product.setMaterials(List.of("가죽"));
+        product.setColors(List.of("블랙"));
+        product.setAvailableSizes(List.of(250, 260));
+        product.getVariants().add(new ProductVariant(null, product, "블랙", 250, 10));
+        product.getVariants().add(new ProductVariant(null, product, "블랙", 260, 0));
+        return product;
+    }
+}
@@ -0,0 +1,81 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.entity.ProductVariant;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 API는 결과 크기와 무관하게 SQL 한 번 이하로 응답해야 하며, 관리 엔티티를 만들지 않아야 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductListQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeAll
+    void addProductsWithCollectionsAndVariants() {
+        for (int i = 0; i < 150; i++) {
+            Product product = new Product();
+            product.setName("카운트 테스트 " + i);
+            product.setBrand("스텝바이브랜드");
+            product.setPrice(50000 + i);
+            product.setDetails("details");
+            product.setCategory("sneakers");
+            product.setGender("공용");
+            product.setDescription("description");
+            product.setMainImageUrl("https://example.com/" + i + ".jpg");
+            product.setImageUrls(List.of("a.jpg", "b.jpg"));
+            product.setMaterials(List.of("가죽"));
+            product.setColors(List.of("블랙", "화이트"));
+            product.setAvailableSizes(List.of(250, 260));
+            product.setBestSeller(true);
+            product.setNewArrival(true);
+            ProductVariant variant = new ProductVariant(null, product, "블랙", 250, 10);
+            product.getVariants().add(variant);
+            productRepository.save(product);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/products?size=100",
+            "/api/products?sort=price_asc&size=100",
+            "/api/products/bestsellers",
+            "/api/products/new-arrivals",
+            "/api/products/search?q=스텝바이&limit=500"
+    })
+    void listEndpointRunsAtMostOneStatement(String uri) throws Exception {
+        SqlStatementCounter.Result result = sqlStatementCounter.count(() ->
+                mockMvc.perform(get(uri)).andExpect(status().isOk()));
+
+        assertThat(result.statements()).as("SQL statements for %s", uri).isLessThanOrEqualTo(1);
+        assertThat(result.entitiesLoaded()).as("entities loaded for %s", uri).isZero();
+        assertThat(result.collectionsLoaded()).as("collections loaded for %s", uri).isZero();
+    }
+}
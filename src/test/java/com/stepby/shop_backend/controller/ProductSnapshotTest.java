@@ -0,0 +1,201 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.entity.ProductVariant;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록/상세는 직렬화된 스냅샷으로 응답하고, ETag가 같으면 DB 조회 없이 304를 돌려줘야 합니다.
+ * 스냅샷은 관련 상품이 바뀔 때만 새 ETag로 다시 만들어지고, 상세는 변형 수와 관계없이 쿼리 3번으로 만들어집니다.
+ */
+@SpringBootTest(properties = "app.snapshot.gzip-min-bytes=256")
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+class ProductSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Product product;
+    private Product other;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(product("스냅샷 테스트"));
+        other = productRepository.save(product("스냅샷 다른 상품"));
+    }
+
+    @Test
+    void unchangedListIsServedAsNotModifiedWithoutQueries() throws Exception {
+        String etag = mockMvc.perform(get("/api/products?sort=price_asc&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        SqlStatementCounter.Result result = sqlStatementCounter.count(() ->
+                mockMvc.perform(get("/api/products?sort=price_asc&size=5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                        .andExpect(status().isNotModified())
+                        .andExpect(header().string(HttpHeaders.ETAG, etag)));
+        assertThat(result.statements()).isZero();
+
+        // 아무 상품이나 바뀌면 목록은 새 ETag
+        other.setPrice(other.getPrice() + 1);
+        productRepository.save(other);
+        mockMvc.perform(get("/api/products?sort=price_asc&size=5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void detailSnapshotChangesOnlyWhenThatProductChanges() throws Exception {
+        String uri = "/api/products/" + product.getId();
+        MockHttpServletResponse first = mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        SqlStatementCounter.Result result = sqlStatementCounter.count(() ->
+                mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + etag))
+                        .andExpect(status().isNotModified()));
+        assertThat(result.statements()).isZero();
+
+        // 다른 상품 변경은 이 상품의 상세 스냅샷에 영향 없음
+        other.setName("스냅샷 다른 상품 (수정)");
+        productRepository.save(other);
+        mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+        product.setName("스냅샷 테스트 (수정)");
+        productRepository.save(product);
+        MockHttpServletResponse changed = mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changed.getContentAsString()).contains("스냅샷 테스트 (수정)").contains("\"variants\"");
+    }
+
+    @Test
+    void detailIsBuiltWithFixedQueriesRegardlessOfVariantCount() throws Exception {
+        Product large = product("스냅샷 변형 많은 상품");
+        large.getVariants().clear();
+        large.setImageUrls(List.of("https://example.com/1.jpg", "https://example.com/2.jpg"));
+        large.setMaterials(List.of("가죽", "고무"));
+        large.setColors(List.of("블랙", "화이트", "레드", "블루"));
+        large.setAvailableSizes(List.of(230, 240, 250, 260, 270, 280, 290, 300, 310, 320));
+        for (String color : large.getColors()) {
+            for (int size : large.getAvailableSizes()) {
+                large.getVariants().add(new ProductVariant(null, large, color, size, size % 3));
+            }
+        }
+        large = productRepository.save(large);
+        String uri = "/api/products/" + large.getId();
+
+        MockHttpServletResponse[] response = new MockHttpServletResponse[1];
+        SqlStatementCounter.Result result = sqlStatementCounter.count(() ->
+                response[0] = mockMvc.perform(get(uri))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.variants.length()").value(40))
+                        .andExpect(jsonPath("$.variants[0].color").value("레드"))
+                        .andExpect(jsonPath("$.variants[0].size").value(230))
+                        .andExpect(jsonPath("$.imageUrls[1]").value("https://example.com/2.jpg"))
+                        .andExpect(jsonPath("$.materials.length()").value(2))
+                        .andExpect(jsonPath("$.colors.length()").value(4))
+                        .andExpect(jsonPath("$.availableSizes[9]").value(320))
+                        .andExpect(jsonPath("$.effectivePrice").value(1_000))
+                        .andReturn().getResponse());
+        assertThat(result.statements()).isEqualTo(3);
+        assertThat(result.entitiesLoaded()).isZero();
+        assertThat(result.collectionsLoaded()).isZero();
+
+        // 이전에 직렬화하던 엔티티와 같은 속성 이름
+        String id = large.getId();
+        JsonNode entity = transactionTemplate.execute(status ->
+                objectMapper.readTree(objectMapper.writeValueAsBytes(productRepository.findById(id).orElseThrow())));
+        JsonNode detail = objectMapper.readTree(response[0].getContentAsByteArray());
+        assertThat(detail.propertyNames()).containsExactlyInAnyOrderElementsOf(entity.propertyNames());
+        assertThat(detail.get("variants").get(0).propertyNames())
+                .containsExactlyInAnyOrderElementsOf(entity.get("variants").get(0).propertyNames());
+
+        mockMvc.perform(get("/api/products/no-such-product")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void gzipClientsReceivePreCompressedBody() throws Exception {
+        String uri = "/api/products/" + product.getId();
+        byte[] plain = mockMvc.perform(get(uri)).andReturn().getResponse().getContentAsByteArray();
+
+        MockHttpServletResponse gzipped = mockMvc.perform(get(uri).header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+
+        mockMvc.perform(get(uri).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void curatedListsAndMissingProducts() throws Exception {
+        String etag = mockMvc.perform(get("/api/products/bestsellers"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/products/bestsellers").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/products/no-such-product")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/products?sort=unknown")).andExpect(status().isBadRequest());
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("스텝바이브랜드");
+        product.setPrice(1_000);
+        product.setDetails("details");
+        product.setCategory("sneakers");
+        product.setGender("공용");
+        product.setDescription("스냅샷 응답 테스트용 상품입니다. ".repeat(10));
+        product.setMainImageUrl("https://example.com/snapshot.jpg");
+        product.setColors(List.of("블랙"));
+        product.setAvailableSizes(List.of(250, 260));
+        product.getVariants().add(new ProductVariant(null, product, "블랙", 250, 10));
+        product.getVariants().add(new ProductVariant(null, product, "블랙", 260, 0));
+        return product;
+    }
+}
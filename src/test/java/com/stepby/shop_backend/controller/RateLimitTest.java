@@ -0,0 +1,82 @@
+package com.stepby.shop_backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 경로별 IP 한도와 이메일별 로그인 한도를 넘은 요청은 429 + Retry-After로 거부되어야 합니다.
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.routes=GET /api/products/search=3/1h,/api/auth/**=100/1h",
+        "app.rate-limit.login-email=2/1h"
+})
+@AutoConfigureMockMvc
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectsSearchBeyondPerIpLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/products/search").param("q", "셔츠").with(from("10.1.0.1")))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/products/search").param("q", "셔츠").with(from("10.1.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1200"));
+
+        // 다른 IP, 규칙이 없는 경로는 영향 없음
+        mockMvc.perform(get("/api/products/search").param("q", "셔츠").with(from("10.1.0.2")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/products").with(from("10.1.0.1"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsLoginBeyondPerEmailLimitAcrossAddresses() throws Exception {
+        login("stuffed@stepby.com", "10.2.0.1").andExpect(status().isUnauthorized());
+        login("STUFFED@stepby.com", "10.2.0.2").andExpect(status().isUnauthorized());
+        login("stuffed@stepby.com", "10.2.0.3")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1800"));
+
+        login("someone-else@stepby.com", "10.2.0.3").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String email, String remoteAddress) throws Exception {
+        MvcResult pending = mockMvc.perform(loginRequest(email).with(from(remoteAddress)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+
+    private static MockHttpServletRequestBuilder loginRequest(String email) {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"password1\"}");
+    }
+
+    private static RequestPostProcessor from(String remoteAddress) {
+        return request -> {
+            request.setRemoteAddr(remoteAddress);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.datasource.ReadReplicaRouter;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 복제본이 뒤처져 있어도, 상품을 바꾼 직후의 상세 조회가 복제본의 이전 값으로 상세 스냅샷을 다시 채우면 안 됩니다.
+ * (테스트의 복제본은 기본 DB를 특정 시점에 복사해 두고 이후 변경을 받지 않는 별도 H2 DB)
+ */
+@SpringBootTest(properties = {
+        "app.read-replicas.urls=" + ReadReplicaLagTest.REPLICA,
+        "app.read-replicas.pool-size=2"
+})
+@AutoConfigureMockMvc
+class ReadReplicaLagTest {
+
+    static final String REPLICA = "jdbc:h2:mem:stepby_lagging_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA, "sa", ""));
+
+    @Test
+    void detailAfterUpdateIsNotReloadedFromLaggingReplica() throws Exception {
+        Product product = productRepository.save(product("복제 지연 전"));
+        catchUpReplica();
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("복제 지연 전"));
+
+        product.setName("복제 지연 후");
+        productRepository.save(product);
+        assertThat(replica.queryForObject("select name from products where id = ?", String.class,
+                Uuids.toBytes(product.getId()))).as("replica lags").isEqualTo("복제 지연 전");
+
+        long replicaReads = readReplicaRouter.stats().getReplicas().getFirst().getReads();
+        long pinnedReads = readReplicaRouter.stats().getPrimaryPinnedReads();
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("복제 지연 후"));
+        assertThat(readReplicaRouter.stats().getReplicas().getFirst().getReads()).isEqualTo(replicaReads);
+        assertThat(readReplicaRouter.stats().getPrimaryPinnedReads()).isGreaterThan(pinnedReads);
+    }
+
+    // 복제본을 지금의 기본 DB와 같게 맞춤 (이후 변경은 다음 호출 전까지 복제본에 없음)
+    private void catchUpReplica() {
+        List<String> script = jdbcTemplate.queryForList("script", String.class);
+        replica.execute("drop all objects");
+        script.forEach(replica::execute);
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("지연복제본");
+        product.setPrice(10_000);
+        product.setDetails("details");
+        product.setCategory("sneakers");
+        product.setGender("공용");
+        product.setDescription("복제 지연 테스트용 상품입니다.");
+        product.setMainImageUrl("https://example.com/lag.jpg");
+        return product;
+    }
+}
@@ -0,0 +1,80 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.datasource.ReadReplicaRouter;
+import com.stepby.shop_backend.dto.product.ProductSort;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.service.ProductService;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 복제본 URL을 설정하면 읽기 전용 JPA 트랜잭션은 복제본 풀에서, 쓰기는 기본 DB에서 커넥션을 얻어야 합니다.
+ * (테스트의 복제본은 같은 H2 DB를 가리키는 별도 풀)
+ */
+@SpringBootTest(properties = {
+        "app.read-replicas.urls=jdbc:h2:mem:stepby_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.read-replicas.pool-size=2"
+})
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class ReadReplicaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void routesReadOnlyTransactionsToReplicaPool() throws Exception {
+        long reads = replicaReads();
+        Product product = new Product();
+        product.setName("복제본 라우팅");
+        product.setBrand("레플리카" + UUID.randomUUID().toString().substring(0, 8));
+        product.setPrice(10_000);
+        product.setDetails("details");
+        product.setCategory("sneakers");
+        product.setGender("공용");
+        product.setDescription("복제본 라우팅 테스트용 상품입니다.");
+        product.setMainImageUrl("https://example.com/replica.jpg");
+        productRepository.save(product);
+        assertThat(replicaReads()).isEqualTo(reads);
+
+        assertThat(productService.getProductPage(ProductSort.NEWEST, null, 5).getContent()).isNotEmpty();
+        assertThat(replicaReads()).isEqualTo(reads + 1);
+
+        mockMvc.perform(get("/api/admin/db/replicas").header(HttpHeaders.AUTHORIZATION, testAuthTokens.admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.replicas[0].name").value("replica-1"))
+                .andExpect(jsonPath("$.replicas[0].healthy").value(true))
+                .andExpect(jsonPath("$.primaryFallbacks").value(0));
+    }
+
+    private long replicaReads() {
+        return readReplicaRouter.stats().getReplicas().getFirst().getReads();
+    }
+}
@@ -0,0 +1,158 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 가격 변경: 청크 단위 UPDATE로 바뀌는 상품만 갱신(updatedAt 포함)하고,
+ * 커밋 후 검색/패싯 인덱스와 상세 스냅샷이 상품별 이벤트 없이 한 세대로 함께 새 가격으로 바뀌어야 합니다.
+ * 바뀌지 않은 상품의 상세 스냅샷은 그대로 남아야 합니다.
+ */
+@SpringBootTest(properties = "app.repricing.chunk-size=2")
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class RepricingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void appliesRulesAndPricesInChunksAndSwapsCaches() throws Exception {
+        String brand = "리프라이싱" + UUID.randomUUID().toString().substring(0, 8);
+        List<Product> sneakers = List.of(save(brand, "sneakers", 10_000), save(brand, "sneakers", 20_000),
+                save(brand, "sneakers", 30_000), save(brand, "sneakers", 40_000));
+        Product boots = save(brand, "boots", 50_000);
+        Product listed = save(brand, "boots", 60_000);
+        // 바뀐 상품은 updated_at을 초 단위로 내려 찾으므로, 바뀌지 않는 상품은 그보다 앞선 시각으로 둠
+        jdbcTemplate.update("update products set updated_at = ? where id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), Uuids.toBytes(boots.getId()));
+        Timestamp bootsUpdatedAt = updatedAt(boots.getId());
+        String detailEtag = mockMvc.perform(get("/api/products/" + sneakers.getFirst().getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String unchangedEtag = mockMvc.perform(get("/api/products/" + boots.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Thread.sleep(5);
+
+        String body = """
+                {"rules":[{"brand":"%s","category":"sneakers","percentOff":25}],
+                 "prices":[{"id":"%s","price":55000,"discountPrice":49000},{"id":"no-such-product","price":1}]}
+                """.formatted(brand, listed.getId());
+        String response = reprice(body).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat((List<Integer>) JsonPath.read(response, "$.ruleAffected")).containsExactly(4);
+        assertThat((Integer) JsonPath.read(response, "$.pricesRequested")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(response, "$.pricesAffected")).isEqualTo(1);
+        // 규칙: 범위 (-, 2번째], (2번째, 4번째], (4번째, -) + id별 가격 한 청크
+        assertThat((Integer) JsonPath.read(response, "$.statements")).isEqualTo(4);
+        assertThat(prices(sneakers.getFirst().getId())).containsEntry("discount_price", 7_500)
+                .containsEntry("effective_price", 7_500);
+        assertThat(prices(sneakers.getLast().getId())).containsEntry("effective_price", 30_000);
+        assertThat(prices(listed.getId())).containsEntry("price", 55_000).containsEntry("effective_price", 49_000);
+        assertThat(updatedAt(boots.getId())).isEqualTo(bootsUpdatedAt);
+        assertThat(updatedAt(sneakers.getFirst().getId())).isAfter(bootsUpdatedAt);
+
+        mockMvc.perform(get("/api/products/search").param("q", brand).param("limit", "10"))
+                .andExpect(jsonPath("$[?(@.id == '%s')].discountPrice", sneakers.getFirst().getId()).value(7_500));
+        // 패싯 인덱스도 전체 재구성 없이 바뀐 상품만 새 판매가로
+        mockMvc.perform(get("/api/products/facets").param("brand", brand).param("maxPrice", "8000").param("limit", "0"))
+                .andExpect(jsonPath("$.total").value(1));
+        mockMvc.perform(get("/api/products/" + sneakers.getFirst().getId()).header(HttpHeaders.IF_NONE_MATCH, detailEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.effectivePrice").value(7_500));
+        mockMvc.perform(get("/api/products/" + boots.getId()).header(HttpHeaders.IF_NONE_MATCH, unchangedEtag))
+                .andExpect(status().isNotModified());
+
+        // 같은 요청을 다시 보내면 바뀌는 상품이 없으므로 updatedAt/세대 그대로
+        Timestamp repricedAt = updatedAt(sneakers.getFirst().getId());
+        long generation = ((Number) JsonPath.read(response, "$.catalogGeneration")).longValue();
+        String again = reprice(body).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat((Integer) JsonPath.read(again, "$.affected")).isZero();
+        assertThat(((Number) JsonPath.read(again, "$.catalogGeneration")).longValue()).isEqualTo(generation);
+        assertThat(updatedAt(sneakers.getFirst().getId())).isEqualTo(repricedAt);
+
+        // 할인율 0은 할인 해제
+        reprice("{\"rules\":[{\"brand\":\"" + brand + "\",\"percentOff\":0}]}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ruleAffected[0]").value(5));
+        assertThat(prices(listed.getId())).containsEntry("discount_price", null).containsEntry("effective_price", 55_000);
+    }
+
+    @Test
+    void rejectsInvalidRequests() throws Exception {
+        reprice("{\"rules\":[{\"percentOff\":10}]}").andExpect(status().isBadRequest());
+        reprice("{\"rules\":[{\"brand\":\"스텝바이\",\"percentOff\":100}]}").andExpect(status().isBadRequest());
+        reprice("{\"prices\":[{\"id\":\"x\",\"price\":100,\"discountPrice\":200}]}").andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/admin/products/reprice")
+                        .header("Authorization", testAuthTokens.user())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rules\":[{\"brand\":\"스텝바이\",\"percentOff\":10}]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions reprice(String body) throws Exception {
+        return mockMvc.perform(post("/api/admin/products/reprice")
+                .header("Authorization", testAuthTokens.admin())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Product save(String brand, String category, int price) {
+        Product product = new Product();
+        product.setName(brand + " " + category + " " + price);
+        product.setBrand(brand);
+        product.setPrice(price);
+        product.setDetails("details");
+        product.setCategory(category);
+        product.setGender("공용");
+        product.setDescription("일괄 가격 변경 테스트용 상품입니다.");
+        product.setMainImageUrl("https://example.com/reprice.jpg");
+        return productRepository.save(product);
+    }
+
+    private Map<String, Object> prices(String id) {
+        return jdbcTemplate.queryForMap("select price, discount_price, effective_price from products where id = ?",
+                Uuids.toBytes(id));
+    }
+
+    private Timestamp updatedAt(String id) {
+        return jdbcTemplate.queryForObject("select updated_at from products where id = ?", Timestamp.class,
+                Uuids.toBytes(id));
+    }
+}
@@ -0,0 +1,118 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.entity.Gender;
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증된 요청은 토큰 클레임만으로 처리되어야 하며, 비밀번호/권한 변경 전 토큰은 거부되어야 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+class StatelessAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void repeatedMeRequestsRunNoSql() throws Exception {
+        createUser("stateless@stepby.com", "password1");
+        String token = login("stateless@stepby.com", "password1");
+
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("stateless@stepby.com"));
+
+        SqlStatementCounter.Result result = sqlStatementCounter.count(() ->
+                mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk()));
+
+        assertThat(result.statements()).isZero();
+    }
+
+    @Test
+    void passwordOrRoleChangeRevokesEarlierTokens() throws Exception {
+        User user = createUser("revoke@stepby.com", "password1");
+        String oldToken = login("revoke@stepby.com", "password1");
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isOk());
+
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setPassword(passwordEncoder.encode("password2"));
+        userRepository.save(loaded);
+
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isUnauthorized());
+
+        String newToken = login("revoke@stepby.com", "password2");
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("USER"));
+
+        loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setRole(Role.ADMIN);
+        userRepository.save(loaded);
+
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User createUser(String email, String password) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode(password));
+        user.setRole(Role.USER);
+        user.setRealName("테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(Gender.OTHER);
+        user.setPhoneNumber("010-1234-5678");
+        user.setZonecode("12345");
+        user.setAddress("서울");
+        user.setDetailAddress("101호");
+        return userRepository.save(user);
+    }
+
+    private String login(String email, String password) throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.accessToken");
+    }
+}
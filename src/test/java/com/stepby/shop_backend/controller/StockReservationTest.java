@@ -0,0 +1,123 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.CatalogSeeder;
+import com.stepby.shop_backend.service.stock.StockLedger;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 보류 → 확정/해제 API의 상태 코드와, 확정분이 DB 재고에 반영되는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class StockReservationTest {
+
+    private static final long SEED = 5_151L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reserveCommitAndReleaseFlow() throws Exception {
+        String variantId = seedVariant(0, 3);
+        String user = testAuthTokens.user();
+
+        String first = reserve(user, variantId, 2);
+        mockMvc.perform(post("/api/stock/reservations").header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variantId\":\"" + variantId + "\",\"quantity\":2}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/stock/reservations/" + first + "/commit").header("Authorization", user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMMITTED"));
+        mockMvc.perform(post("/api/stock/reservations/" + first + "/commit").header("Authorization", user))
+                .andExpect(status().isNotFound());
+
+        String second = reserve(user, variantId, 1);
+        mockMvc.perform(delete("/api/stock/reservations/" + second).header("Authorization", testAuthTokens.admin()))
+                .andExpect(status().isNotFound()); // 다른 사용자의 보류
+        mockMvc.perform(delete("/api/stock/reservations/" + second).header("Authorization", user))
+                .andExpect(status().isNoContent());
+
+        stockLedger.flush();
+        assertThat(jdbcTemplate.queryForObject("select stock_quantity from product_variants where id = ?",
+                Integer.class, Uuids.toBytes(variantId))).isEqualTo(1);
+        mockMvc.perform(get("/api/admin/stock/ledger").header("Authorization", testAuthTokens.admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pendingUnits").value(0));
+    }
+
+    @Test
+    void rejectsInvalidRequests() throws Exception {
+        String user = testAuthTokens.user();
+        mockMvc.perform(post("/api/stock/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variantId\":\"x\",\"quantity\":1}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/stock/reservations").header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variantId\":\"no-such-variant\",\"quantity\":1}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/stock/reservations").header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variantId\":\"" + seedVariant(1, 100) + "\",\"quantity\":50}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String reserve(String authorization, String variantId, int quantity) throws Exception {
+        String body = mockMvc.perform(post("/api/stock/reservations").header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variantId\":\"" + variantId + "\",\"quantity\":" + quantity + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("HELD"))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.reservationId");
+    }
+
+    // 테스트마다 다른 변형을 써서 원장 상태가 섞이지 않게 함
+    private String seedVariant(int variantIndex, int stock) {
+        CatalogGenerator generator = new CatalogGenerator(SEED, BASE_TIME);
+        String productId = generator.product(0).id();
+        if (jdbcTemplate.queryForObject("select count(*) from products where id = ?", Integer.class,
+                Uuids.toBytes(productId)) == 0) {
+            catalogSeeder.seed(1, SEED, BASE_TIME, 1, 10);
+        }
+        String variantId = generator.product(0).variants().get(variantIndex).id();
+        jdbcTemplate.update("update product_variants set stock_quantity = ? where id = ?", stock, Uuids.toBytes(variantId));
+        return variantId;
+    }
+}
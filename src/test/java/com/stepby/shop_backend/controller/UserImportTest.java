@@ -0,0 +1,135 @@
+package com.stepby.shop_backend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.support.TestAuthTokens;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 일괄 등록: 행 단위 오류/중복 보고, 청크별 진행 현황, 저장된 비밀번호 해시 검증.
+ */
+@SpringBootTest(properties = "app.user-import.chunk-size=2")
+@AutoConfigureMockMvc
+@Import(TestAuthTokens.class)
+class UserImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestAuthTokens testAuthTokens;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void importsNdjsonReportingRowErrorsAndProgress() throws Exception {
+        String admin = testAuthTokens.admin();
+        String body = String.join("\n",
+                record("import1@stepby.com", "male"),
+                record("import2@stepby.com", "female"),
+                record("import1@stepby.com", "male"),       // 파일 내 중복
+                record("admin@stepby.com", "male"),         // 이미 존재
+                record("not-an-email", "male"),             // 검증 실패
+                "{\"email\": broken",                        // 해석 불가
+                "",
+                record("import3@stepby.com", "남성"));       // 성별 매핑 불가
+
+        List<String> lines = importUsers(admin, "application/x-ndjson", body);
+
+        assertThat(lines).filteredOn(l -> l.contains("\"type\":\"progress\"")).hasSize(3);
+        assertThat(errorLines(lines)).containsExactly(3, 4, 5, 6, 8);
+        String summary = lines.getLast();
+        assertThat((Integer) JsonPath.read(summary, "$.processed")).isEqualTo(7);
+        assertThat((Integer) JsonPath.read(summary, "$.imported")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(summary, "$.duplicates")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(summary, "$.failed")).isEqualTo(3);
+
+        assertThat(passwordEncoder.matches("password1",
+                userRepository.findByEmail("import2@stepby.com").orElseThrow().getPassword())).isTrue();
+    }
+
+    @Test
+    void importsCsvWithHeader() throws Exception {
+        String body = """
+                email,password,realName,birthDate,gender,phoneNumber,zonecode,address,detailAddress
+                csv1@stepby.com,password1,"홍, 길동",1990-01-01,male,010-1234-5678,12345,"서울 \"\"강남\"\"",101호
+                csv2@stepby.com,password1,김철수,1991-02-03,female,010-1234-5678,12345,부산,202호
+                """;
+
+        List<String> lines = importUsers(testAuthTokens.admin(), "text/csv", body);
+
+        assertThat((Integer) JsonPath.read(lines.getLast(), "$.imported")).isEqualTo(2);
+        assertThat(userRepository.findByEmail("csv1@stepby.com").orElseThrow().getRealName()).isEqualTo("홍, 길동");
+        assertThat(userRepository.findByEmail("csv1@stepby.com").orElseThrow().getAddress()).isEqualTo("서울 \"강남\"");
+    }
+
+    @Test
+    void treatsEmailsDifferingOnlyInCaseAsDuplicates() throws Exception {
+        String admin = testAuthTokens.admin();
+        String body = String.join("\n",
+                record("Admin@StepBy.com", "male"),          // 기존 admin@stepby.com과 대소문자만 다름
+                record("case1@stepby.com", "male"),
+                record("CASE1@stepby.com", "female"));       // 파일 내 중복
+
+        List<String> lines = importUsers(admin, "application/x-ndjson", body);
+
+        assertThat(errorLines(lines)).containsExactly(1, 3);
+        assertThat((Integer) JsonPath.read(lines.getLast(), "$.imported")).isEqualTo(1);
+        assertThat((Integer) JsonPath.read(lines.getLast(), "$.duplicates")).isEqualTo(2);
+    }
+
+    @Test
+    void requiresAdminRole() throws Exception {
+        mockMvc.perform(post("/api/admin/users/import")
+                        .header("Authorization", testAuthTokens.user())
+                        .contentType("application/x-ndjson")
+                        .content(record("nope@stepby.com", "male")))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<String> importUsers(String authorization, String contentType, String body) throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/admin/users/import")
+                        .header("Authorization", authorization)
+                        .contentType(contentType)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return response.lines().toList();
+    }
+
+    private static List<Integer> errorLines(List<String> lines) {
+        return lines.stream()
+                .filter(l -> l.contains("\"type\":\"error\""))
+                .map(l -> (Integer) JsonPath.read(l, "$.line"))
+                .toList();
+    }
+
+    private static String record(String email, String gender) {
+        return "{\"email\":\"" + email + "\",\"password\":\"password1\",\"realName\":\"이관\",\"birthDate\":\"1990-01-01\","
+                + "\"gender\":\"" + gender + "\",\"phoneNumber\":\"010-1234-5678\",\"zonecode\":\"12345\","
+                + "\"address\":\"서울\",\"detailAddress\":\"101호\"}";
+    }
+}
@@ -0,0 +1,225 @@
+package com.stepby.shop_backend.controller;
+
+import com.stepby.shop_backend.datasource.AdmissionControlDataSource;
+import com.stepby.shop_backend.datasource.DatabaseAdmissionGate;
+import com.stepby.shop_backend.dto.admin.VirtualThreadPinningReport;
+import com.stepby.shop_backend.entity.Gender;
+import com.stepby.shop_backend.entity.Product;
+import com.stepby.shop_backend.entity.ProductVariant;
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.metrics.MeteredDataSource;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.service.diagnostics.VirtualThreadPinningMonitor;
+import com.stepby.shop_backend.service.snapshot.ProductSnapshotService;
+import com.stepby.shop_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가상 스레드 모드: 요청이 몰려도 DB는 허가 수만큼만 쓰고, 인증 필터/JPA 경로에서 가상 스레드가 고정되지 않아야 합니다.
+ * 허가 대기가 max-wait를 넘으면 503 + Retry-After로 응답합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "app.db-admission.permits=3",
+        "app.db-admission.max-wait=PT2S",
+        "app.virtual-threads.pinning.threshold=PT0S"})
+@AutoConfigureMockMvc
+class VirtualThreadRequestTest {
+
+    private static final int USERS = 20;
+    private static final int PRODUCTS = 20;
+
+    private final Object monitor = new Object();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DatabaseAdmissionGate gate;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private ProductSnapshotService productSnapshotService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void concurrentRequestsStayWithinPermitsAndDoNotPinInOurCode() throws Exception {
+        // 바깥은 SQL 지표 프록시, 그 안이 입장 제어
+        assertThat(dataSource).isInstanceOf(MeteredDataSource.class);
+        assertThat(((MeteredDataSource) dataSource).getTargetDataSource()).isInstanceOf(AdmissionControlDataSource.class);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            tokens.add("Bearer " + jwtUtil.generateJwtToken(createUser()));
+        }
+        List<String> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(productRepository.save(product("가상 스레드 " + i)).getId());
+        }
+        productSnapshotService.invalidateAll();
+        pinningMonitor.reset();
+        long rejectedBefore = gate.stats().getRejected();
+        long admittedBefore = gate.stats().getAdmitted();
+
+        // 허가를 모두 잡아 둔 채 요청을 보내면, 사용자/상품별 첫 요청은 캐시 적재 중에 허가를 기다리며 park
+        List<Future<Integer>> statuses = new ArrayList<>();
+        List<Connection> held = holdAllPermits();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                statuses.add(executor.submit(() -> n % 2 == 0
+                        ? mockMvc.perform(get("/api/user/me").header(HttpHeaders.AUTHORIZATION, tokens.get(n % USERS)))
+                        .andReturn().getResponse().getStatus()
+                        : mockMvc.perform(get("/api/products/" + productIds.get(n % PRODUCTS)))
+                        .andReturn().getResponse().getStatus()));
+            }
+            Thread.sleep(300);
+            assertThat(gate.stats().getWaiting()).isPositive();
+            closeAll(held);
+        }
+        for (Future<Integer> status : statuses) {
+            assertThat(status.get()).isEqualTo(200);
+        }
+        awaitPermitsReturned();
+        assertThat(gate.stats().getRejected()).isEqualTo(rejectedBefore);
+        assertThat(gate.stats().getAdmitted() - admittedBefore).isPositive();
+
+        // 대조군: 이 클래스의 synchronized 안에서 sleep → 반드시 기록되어야 함 (JFR 스트림은 약 1초 단위로 전달)
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+        VirtualThreadPinningReport report = awaitPinningAt("sleepWhileHoldingMonitor");
+        assertThat(report.getSites())
+                .filteredOn(site -> !site.getBlockingFrame().contains("sleepWhileHoldingMonitor"))
+                .flatExtracting(VirtualThreadPinningReport.Site::getAppFrames)
+                .allMatch(frame -> frame.startsWith(VirtualThreadRequestTest.class.getName()));
+    }
+
+    @Test
+    void waitingLongerThanMaxWaitIsServiceUnavailable() throws Exception {
+        String productId = productRepository.save(product("입장 대기")).getId();
+        productSnapshotService.invalidateAll();
+        long rejectedBefore = gate.stats().getRejected();
+        List<Connection> held = holdAllPermits();
+        try {
+            mockMvc.perform(get("/api/products/" + productId))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            closeAll(held);
+        }
+        mockMvc.perform(get("/api/products/" + productId)).andExpect(status().isOk());
+        assertThat(gate.stats().getRejected()).isGreaterThan(rejectedBefore);
+    }
+
+    private List<Connection> holdAllPermits() throws SQLException {
+        List<Connection> held = new ArrayList<>();
+        for (int i = 0; i < gate.stats().getPermits(); i++) {
+            held.add(dataSource.getConnection());
+        }
+        return held;
+    }
+
+    private static void closeAll(List<Connection> connections) throws SQLException {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 백그라운드 작업(큐레이션 갱신, 재고 반영)이 잠깐 커넥션을 잡고 있을 수 있으므로 반납될 때까지 기다림
+    private void awaitPermitsReturned() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (gate.stats().getInUse() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(gate.stats().getInUse()).isZero();
+    }
+
+    private VirtualThreadPinningReport awaitPinningAt(String method) throws InterruptedException {
+        long deadline = System.nanoTime() + 15_000_000_000L;
+        while (true) {
+            VirtualThreadPinningReport report = pinningMonitor.report();
+            boolean found = report.getSites().stream().anyMatch(site -> site.getBlockingFrame().contains(method)
+                    && site.isOwnCode());
+            if (found || System.nanoTime() > deadline) {
+                assertThat(found).as("pinning at " + method + " recorded").isTrue();
+                return report;
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setEmail("vt-" + UUID.randomUUID() + "@stepby.com");
+        user.setPassword("{noop}unused");
+        user.setRole(Role.USER);
+        user.setRealName("테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(Gender.OTHER);
+        user.setPhoneNumber("010-0000-0000");
+        user.setZonecode("00000");
+        user.setAddress("서울");
+        user.setDetailAddress("1층");
+        return userRepository.save(user);
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("스텝바이브랜드");
+        product.setPrice(1_000);
+        product.setDetails("details");
+        product.setCategory("sneakers");
+        product.setGender("공용");
+        product.setDescription("가상 스레드 테스트용 상품");
+        product.setMainImageUrl("https://example.com/vt.jpg");
+        product.setColors(List.of("블랙"));
+        product.setAvailableSizes(List.of(250));
+        product.getVariants().add(new ProductVariant(null, product, "블랙", 250, 5));
+        return product;
+    }
+}
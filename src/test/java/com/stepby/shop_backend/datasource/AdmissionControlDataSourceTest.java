@@ -0,0 +1,91 @@
+package com.stepby.shop_backend.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가상 스레드가 한꺼번에 몰려도 허가 수 이상은 커넥션을 잡지 못하고, 허가는 커넥션을 닫을 때 정확히 한 번 반납되어야 합니다.
+ */
+class AdmissionControlDataSourceTest {
+
+    private static final String URL = "jdbc:h2:mem:admission;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void virtualThreadStampedeNeverExceedsPermits() throws Exception {
+        DatabaseAdmissionGate gate = new DatabaseAdmissionGate(true, 4, 10, Duration.ofSeconds(30), 1);
+        AdmissionControlDataSource dataSource = new AdmissionControlDataSource(new DriverManagerDataSource(URL), gate);
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger maxOpen = new AtomicInteger();
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2_000; i++) {
+                results.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                        Thread.sleep(1);
+                        int value = connection.createStatement().executeQuery("select 1").next() ? 1 : 0;
+                        open.decrementAndGet();
+                        return value;
+                    }
+                }));
+            }
+        }
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isEqualTo(1);
+        }
+        assertThat(maxOpen.get()).isLessThanOrEqualTo(4);
+        assertThat(gate.stats().getAdmitted()).isEqualTo(2_000);
+        assertThat(gate.stats().getInUse()).isZero();
+        assertThat(gate.stats().getRejected()).isZero();
+    }
+
+    @Test
+    void timesOutWithBusyExceptionAndReleasesExactlyOnce() throws Exception {
+        DatabaseAdmissionGate gate = new DatabaseAdmissionGate(true, 1, 10, Duration.ofMillis(50), 3);
+        AdmissionControlDataSource dataSource = new AdmissionControlDataSource(new DriverManagerDataSource(URL), gate);
+
+        Connection held = dataSource.getConnection();
+        assertThat(held).isInstanceOf(ConnectionProxy.class);
+        assertThat(((ConnectionProxy) held).getTargetConnection()).isNotSameAs(held);
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(DatabaseBusyException.class)
+                .extracting(e -> ((DatabaseBusyException) e).getRetryAfterSeconds()).isEqualTo(3L);
+
+        held.close();
+        held.close();
+        assertThat(held.isClosed()).isTrue();
+        assertThat(gate.stats().getInUse()).isZero();
+
+        try (Connection first = dataSource.getConnection()) {
+            assertThat(gate.stats().getInUse()).isEqualTo(1);
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+        }
+        assertThat(gate.stats().getRejected()).isEqualTo(2);
+    }
+
+    @Test
+    void failedConnectAttemptReturnsPermit() {
+        DatabaseAdmissionGate gate = new DatabaseAdmissionGate(true, 1, 10, Duration.ofMillis(50), 1);
+        AdmissionControlDataSource dataSource = new AdmissionControlDataSource(
+                new DriverManagerDataSource("jdbc:no-such-driver:x"), gate);
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class)
+                .isNotInstanceOf(DatabaseBusyException.class);
+        assertThat(gate.stats().getInUse()).isZero();
+    }
+}
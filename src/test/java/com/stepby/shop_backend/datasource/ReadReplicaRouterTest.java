@@ -0,0 +1,162 @@
+package com.stepby.shop_backend.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인스턴스 여러 개를 기본 DB/복제본으로 두고, 읽기 전용 트랜잭션만 복제본으로 가는지,
+ * 죽은 복제본은 건너뛰는지, 최근에 쓴 사용자의 읽기는 기본 DB로 가는지 확인합니다.
+ */
+class ReadReplicaRouterTest {
+
+    private static final String PRIMARY = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_A = "jdbc:h2:mem:routing-replica-a;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_B = "jdbc:h2:mem:routing-replica-b;DB_CLOSE_DELAY=-1";
+    // 아무것도 듣지 않는 포트라 바로 연결 거부
+    private static final String DEAD = "jdbc:h2:tcp://127.0.0.1:1/mem:nowhere";
+
+    private final List<ReadReplicaRouter> routers = new ArrayList<>();
+
+    @BeforeAll
+    static void createMarkers() {
+        marker(PRIMARY, "primary");
+        marker(REPLICA_A, "replica-a");
+        marker(REPLICA_B, "replica-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routers.forEach(ReadReplicaRouter::shutdown);
+    }
+
+    @Test
+    void routesOnlyReadOnlyTransactionsToReplica() {
+        ReadReplicaRouter router = router("round-robin", Duration.ZERO, REPLICA_A);
+        DataSource routed = router.route(primary());
+
+        assertThat(read(routed, true)).isEqualTo("replica-a");
+        assertThat(read(routed, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(routed).queryForObject("select name from marker", String.class)).isEqualTo("primary");
+        assertThat(router.stats().getReplicas().getFirst().getReads()).isEqualTo(1);
+        assertThat(router.stats().getPrimaryFallbacks()).isZero();
+    }
+
+    @Test
+    void skipsDownReplicaAndFallsBackToPrimaryWhenNoneLeft() {
+        ReadReplicaRouter router = router("round-robin", Duration.ZERO, DEAD, REPLICA_A);
+        DataSource routed = router.route(primary());
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(read(routed, true)).isEqualTo("replica-a");
+        }
+        assertThat(router.stats().getReplicas().getFirst().isHealthy()).isFalse();
+        assertThat(router.stats().getReplicas().getFirst().getFailures()).isEqualTo(1);
+        router.checkHealth();
+        assertThat(router.stats().getReplicas()).extracting(r -> r.isHealthy()).containsExactly(false, true);
+
+        ReadReplicaRouter deadOnly = router("round-robin", Duration.ZERO, DEAD);
+        DataSource fallback = deadOnly.route(primary());
+        assertThat(read(fallback, true)).isEqualTo("primary");
+        assertThat(read(fallback, true)).isEqualTo("primary");
+        assertThat(deadOnly.stats().getPrimaryFallbacks()).isEqualTo(2);
+    }
+
+    @Test
+    void leastConnectionsAvoidsBusyReplica() throws Exception {
+        ReadReplicaRouter router = router("least-connections", Duration.ZERO, REPLICA_A, REPLICA_B);
+        DataSource routed = router.route(primary());
+
+        try (Connection held = routed.getConnection()) {
+            held.setReadOnly(true);
+            String busy;
+            try (ResultSet rs = held.createStatement().executeQuery("select name from marker")) {
+                rs.next();
+                busy = rs.getString(1);
+            }
+            for (int i = 0; i < 4; i++) {
+                assertThat(read(routed, true)).isNotEqualTo(busy).startsWith("replica-");
+            }
+        }
+    }
+
+    @Test
+    void readsOwnWritesFromPrimaryWithinWindow() throws Exception {
+        ReadReplicaRouter router = router("round-robin", Duration.ofMillis(500), REPLICA_A);
+        DataSource routed = router.route(primary());
+
+        login("writer@stepby.com");
+        write(routed, false);
+        assertThat(read(routed, true)).isEqualTo("primary");
+        login("reader@stepby.com");
+        assertThat(read(routed, true)).isEqualTo("replica-a");
+
+        // 롤백된 쓰기와 익명 요청의 쓰기는 기록하지 않음
+        login("rolled-back@stepby.com");
+        write(routed, true);
+        assertThat(read(routed, true)).isEqualTo("replica-a");
+        SecurityContextHolder.clearContext();
+        write(routed, false);
+        assertThat(read(routed, true)).isEqualTo("replica-a");
+        assertThat(router.stats().getReadYourWritesReads()).isEqualTo(1);
+
+        login("writer@stepby.com");
+        Thread.sleep(700);
+        assertThat(read(routed, true)).isEqualTo("replica-a");
+    }
+
+    private ReadReplicaRouter router(String selection, Duration readYourWrites, String... urls) {
+        ReadReplicaRouter router = new ReadReplicaRouter(urls, "sa", "", "", 2, selection, Duration.ofMillis(250),
+                Duration.ZERO, readYourWrites, null, null);
+        routers.add(router);
+        return router;
+    }
+
+    private static DataSource primary() {
+        return new DriverManagerDataSource(PRIMARY, "sa", "");
+    }
+
+    private static String read(DataSource routed, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routed));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(routed).queryForObject("select name from marker", String.class));
+    }
+
+    private static void write(DataSource routed, boolean rollback) {
+        new TransactionTemplate(new DataSourceTransactionManager(routed)).executeWithoutResult(status -> {
+            new JdbcTemplate(routed).update("update marker set name = name");
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+
+    private static void marker(String url, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("create table if not exists marker (name varchar(32))");
+        jdbcTemplate.update("delete from marker");
+        jdbcTemplate.update("insert into marker values (?)", name);
+    }
+}
@@ -0,0 +1,141 @@
+package com.stepby.shop_backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷: 용량만큼 몰아 쓰고 시간이 지나면 다시 차며, 가득 찬 버킷은 정리되고 추적 키 수는 max-keys를 넘지 않아야 합니다.
+ * 표가 차면 새 키는 키 해시로 나뉜 공용 버킷을 쓰므로 한 키가 공용 버킷을 비워도 다른 새 키들이 모두 막히지 않아야 합니다.
+ */
+class RateLimiterTest {
+
+    private static final String[] ROUTES = {"GET /api/products/search=3/1m", "/api/auth/**=100/1m"};
+
+    // 단조 시계 (System.nanoTime 대신, 음수에서 시작해도 동작해야 함)
+    private final AtomicLong nanos = new AtomicLong(-Duration.ofDays(1).toNanos());
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        RateLimiter limiter = new RateLimiter(true, ROUTES, "", 1000, Duration.ZERO, nanos::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.acquire(search("10.0.0.1"))).isZero();
+        }
+        long wait = limiter.acquire(search("10.0.0.1"));
+        assertThat(wait).isEqualTo(Duration.ofSeconds(20).toNanos());
+        assertThat(RateLimiter.retryAfterSeconds(wait)).isEqualTo(20);
+        assertThat(limiter.acquire(search("10.0.0.2"))).isZero(); // 다른 IP는 별도 버킷
+
+        advance(Duration.ofSeconds(20));
+        assertThat(limiter.acquire(search("10.0.0.1"))).isZero();
+        assertThat(limiter.acquire(search("10.0.0.1"))).isPositive();
+
+        // 규칙이 없는 경로와 다른 메서드는 세지 않음
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/products/search");
+        post.setRemoteAddr("10.0.0.1");
+        assertThat(limiter.acquire(post)).isZero();
+        assertThat(limiter.acquire(new MockHttpServletRequest("GET", "/api/products"))).isZero();
+        assertThat(limiter.stats().get(0).rejected()).isEqualTo(2);
+    }
+
+    @Test
+    void sweepsFullBucketsAndShardsOverflowBeyondMaxKeys() {
+        RateLimiter limiter = new RateLimiter(true, ROUTES, "", 2, Duration.ZERO, nanos::get);
+
+        assertThat(limiter.acquire(search("10.0.0.1"))).isZero();
+        assertThat(limiter.acquire(search("10.0.0.2"))).isZero();
+        // 추적 키 2개가 찼으므로 새 IP는 키 해시로 고른 공용 버킷(용량 3)을 씀
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.acquire(search("10.0.0.3"))).isZero();
+        }
+        assertThat(limiter.acquire(search("10.0.0.3"))).isPositive();
+        RateLimiter.Stats stats = limiter.stats().get(0);
+        assertThat(stats.buckets()).isEqualTo(2);
+        assertThat(stats.overflowed()).isEqualTo(4);
+        // 공용 버킷 하나를 비워도 다른 조각으로 가는 새 IP는 허용됨
+        assertThat(IntStream.range(10, 40).anyMatch(i -> limiter.acquire(search("10.0.1." + i)) == 0)).isTrue();
+
+        advance(Duration.ofSeconds(19));
+        assertThat(limiter.sweep()).isZero(); // 아직 다시 차는 중
+        advance(Duration.ofSeconds(1));
+        assertThat(limiter.sweep()).isEqualTo(2);
+        assertThat(limiter.acquire(search("10.0.0.7"))).isZero();
+        assertThat(limiter.stats().get(0).buckets()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsFullBucketsWhenTableIsFullBeforeFallingBackToOverflow() {
+        RateLimiter limiter = new RateLimiter(true, ROUTES, "", 2, Duration.ZERO, nanos::get);
+
+        assertThat(limiter.acquire(search("10.0.0.1"))).isZero();
+        assertThat(limiter.acquire(search("10.0.0.2"))).isZero();
+        assertThat(limiter.acquire(search("10.0.0.3"))).isZero();
+        assertThat(limiter.stats().get(0).overflowed()).isEqualTo(1);
+
+        // 두 버킷이 다시 가득 차면 주기 sweep을 기다리지 않고 새 키가 자리를 얻음
+        advance(Duration.ofSeconds(20));
+        assertThat(limiter.acquire(search("10.0.0.4"))).isZero();
+        RateLimiter.Stats stats = limiter.stats().get(0);
+        assertThat(stats.buckets()).isEqualTo(1);
+        assertThat(stats.overflowed()).isEqualTo(1);
+    }
+
+    @Test
+    void loginEmailLimitIgnoresCaseAndConcurrentCallersNeverExceedCapacity() throws Exception {
+        RateLimiter limiter = new RateLimiter(true, ROUTES, "50/1m", 1000, Duration.ZERO, nanos::get);
+
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] callers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            String email = t % 2 == 0 ? "victim@stepby.com" : "VICTIM@stepby.com";
+            callers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.acquireLoginEmail(email) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            callers[t].start();
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        assertThat(allowed.get()).isEqualTo(50);
+        assertThat(limiter.acquireLoginEmail("other@stepby.com")).isZero();
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        RateLimiter limiter = new RateLimiter(false, ROUTES, "1/1m", 1000, Duration.ZERO, nanos::get);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.acquire(search("10.0.0.1"))).isZero();
+            assertThat(limiter.acquireLoginEmail("a@stepby.com")).isZero();
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static MockHttpServletRequest search(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/search");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
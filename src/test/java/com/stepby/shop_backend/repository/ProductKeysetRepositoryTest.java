@@ -0,0 +1,70 @@
+package com.stepby.shop_backend.repository;
+
+import com.stepby.shop_backend.dto.product.ProductCursor;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.dto.product.ProductSort;
+import com.stepby.shop_backend.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ProductKeysetRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 25; i++) {
+            Product product = new Product();
+            product.setName("상품 " + i);
+            product.setBrand("브랜드");
+            product.setPrice(10000 + (i % 5) * 1000); // 정렬 키 중복을 만들어 id 타이브레이크 검증
+            product.setDiscountPrice(i % 3 == 0 ? 5000 : null);
+            product.setDetails("details");
+            product.setCategory("sneakers");
+            product.setGender("공용");
+            product.setDescription("description");
+            product.setMainImageUrl("https://example.com/" + i + ".jpg");
+            product.setReviewCount(i % 4);
+            productRepository.save(product);
+        }
+        productRepository.flush();
+    }
+
+    @Test
+    void walksEveryProductExactlyOnceInKeyOrder() {
+        for (ProductSort sort : ProductSort.values()) {
+            List<ProductResponseDto> all = new ArrayList<>();
+            ProductCursor cursor = null;
+            while (true) {
+                List<ProductResponseDto> page = productRepository.findPage(sort, cursor, 7);
+                all.addAll(page);
+                if (page.size() < 7) {
+                    break;
+                }
+                // 커서 인코딩/디코딩을 거쳐 다음 페이지 조회
+                cursor = ProductCursor.decode(ProductCursor.after(sort, page.get(page.size() - 1)).encode(), sort);
+            }
+
+            assertThat(all).extracting(ProductResponseDto::getId).doesNotHaveDuplicates().hasSize(25);
+            Comparator<ProductResponseDto> byKey = Comparator
+                    .comparing((ProductResponseDto p) -> sortKey(sort, p))
+                    .thenComparing(ProductResponseDto::getId);
+            assertThat(all).isSortedAccordingTo(sort.ascending() ? byKey : byKey.reversed());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortKey(ProductSort sort, ProductResponseDto product) {
+        return (Comparable<Object>) sort.parseKey(sort.keyOf(product));
+    }
+}
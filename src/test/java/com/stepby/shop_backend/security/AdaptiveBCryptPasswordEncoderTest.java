@@ -0,0 +1,27 @@
+package com.stepby.shop_backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    void requestsRehashWhenStoredCostDiffers() {
+        AdaptiveBCryptPasswordEncoder cost4 = new AdaptiveBCryptPasswordEncoder(4);
+        AdaptiveBCryptPasswordEncoder cost5 = new AdaptiveBCryptPasswordEncoder(5);
+        String hashedAt5 = cost5.encode("password1");
+
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf(hashedAt5)).isEqualTo(5);
+        assertThat(cost4.matches("password1", hashedAt5)).isTrue();
+        assertThat(cost4.upgradeEncoding(hashedAt5)).isTrue();
+        assertThat(cost5.upgradeEncoding(hashedAt5)).isFalse();
+        assertThat(cost4.upgradeEncoding("{noop}plain")).isFalse();
+    }
+
+    @Test
+    void calibrationStaysWithinConfiguredBounds() {
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrated(1, 4, 6).getStrength()).isEqualTo(4);
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrated(60_000, 4, 6).getStrength()).isEqualTo(6);
+    }
+}
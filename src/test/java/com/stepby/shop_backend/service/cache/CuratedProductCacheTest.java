@@ -0,0 +1,78 @@
+package com.stepby.shop_backend.service.cache;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CuratedProductCacheTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger version = new AtomicInteger(1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    private final CuratedProductCache cache = new CuratedProductCache(list -> {
+        awaitGate();
+        loads.incrementAndGet();
+        return List.of(ProductResponseDto.builder().id(list + "-v" + version.get()).build());
+    }, new CatalogGeneration(), Duration.ofHours(1), executor);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void servesStaleSnapshotWhileInvalidationReloadsInBackground() {
+        assertThat(ids(CuratedList.BEST_SELLERS)).containsExactly("BEST_SELLERS-v1");
+
+        gate = new CountDownLatch(1);
+        version.set(2);
+        cache.invalidate();
+
+        // 갱신이 막혀 있는 동안에도 이전 스냅샷을 즉시 반환
+        assertThat(ids(CuratedList.BEST_SELLERS)).containsExactly("BEST_SELLERS-v1");
+
+        gate.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(ids(CuratedList.BEST_SELLERS)).containsExactly("BEST_SELLERS-v2"));
+        assertThat(cache.stats().getHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void coalescesInvalidationBurstsIntoFewLoads() {
+        cache.get(CuratedList.NEW_ARRIVALS);
+        gate = new CountDownLatch(1);
+        for (int i = 0; i < 100; i++) {
+            cache.invalidate();
+        }
+        gate.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> cache.stats().getRefreshCount() >= 3);
+        // 최초 적재 1 + (목록별 진행 중 갱신 1 + 재갱신 1) 이내로 합쳐짐
+        assertThat(loads.get()).isLessThanOrEqualTo(5);
+    }
+
+    private List<String> ids(CuratedList list) {
+        return cache.get(list).stream().map(ProductResponseDto::getId).toList();
+    }
+
+    private void awaitGate() {
+        try {
+            gate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.stepby.shop_backend.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationalReferenceTest {
+
+    private final CatalogGeneration catalogGeneration = new CatalogGeneration();
+    private final GenerationalReference<List<String>> search =
+            new GenerationalReference<>(catalogGeneration, new ArrayList<>(List.of("search-v1")));
+    private final GenerationalReference<List<String>> facets =
+            new GenerationalReference<>(catalogGeneration, new ArrayList<>(List.of("facets-v1")));
+
+    @Test
+    void stagedValuesBecomeVisibleTogetherWhenGenerationIsPublished() {
+        long published = catalogGeneration.publish(next -> {
+            search.stage(next, new ArrayList<>(List.of("search-v2")));
+            // 한쪽만 준비된 동안에는 둘 다 이전 값
+            assertThat(search.get()).containsExactly("search-v1");
+            facets.stage(next, new ArrayList<>(List.of("facets-v2")));
+            assertThat(facets.get()).containsExactly("facets-v1");
+        });
+
+        assertThat(published).isEqualTo(1);
+        assertThat(search.get()).containsExactly("search-v2");
+        assertThat(facets.get()).containsExactly("facets-v2");
+    }
+
+    @Test
+    void changesAreAppliedToCurrentAndStagedValues() {
+        catalogGeneration.publish(next -> {
+            search.stage(next, new ArrayList<>(List.of("search-v2")));
+            search.forEach(value -> value.add("changed"));
+            assertThat(search.get()).containsExactly("search-v1", "changed");
+        });
+        assertThat(search.get()).containsExactly("search-v2", "changed");
+    }
+
+    @Test
+    void failedStagingIsNotPublished() {
+        assertThatThrownBy(() -> catalogGeneration.publish(next -> {
+            search.stage(next, new ArrayList<>(List.of("search-v2")));
+            throw new IllegalStateException("facet load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(catalogGeneration.current()).isZero();
+        assertThat(search.get()).containsExactly("search-v1");
+
+        // 재구성 결과는 바로 내놓고, 준비 중이던 값은 버림
+        search.set(new ArrayList<>(List.of("search-rebuilt")));
+        catalogGeneration.publish(next -> {
+        });
+        assertThat(search.get()).containsExactly("search-rebuilt");
+    }
+}
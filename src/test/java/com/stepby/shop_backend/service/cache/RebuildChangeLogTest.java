@@ -0,0 +1,45 @@
+package com.stepby.shop_backend.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RebuildChangeLogTest {
+
+    private final RebuildChangeLog changeLog = new RebuildChangeLog();
+
+    @Test
+    void replaysChangesCommittedDuringRebuildBeforePublishing() {
+        AtomicReference<List<String>> published = new AtomicReference<>();
+        List<String> replayed = new ArrayList<>();
+
+        changeLog.record("before-rebuild");
+        changeLog.rebuild(() -> {
+            // 전체를 읽는 도중에 커밋된 변경
+            changeLog.record("p1");
+            changeLog.record("p2");
+            return new ArrayList<String>();
+        }, (fresh, productId) -> {
+            assertThat(published.get()).isNull();
+            fresh.add(productId);
+            replayed.add(productId);
+            if (productId.equals("p1")) {
+                // 다시 반영하는 도중에 들어온 변경은 다음 바퀴에
+                changeLog.record("p3");
+            }
+        }, published::set);
+
+        assertThat(published.get()).containsExactlyInAnyOrder("p1", "p2", "p3");
+        assertThat(replayed).doesNotContain("before-rebuild");
+
+        // 교체 뒤의 변경은 기록하지 않음 (이벤트가 새 인덱스에 바로 적용)
+        changeLog.record("after");
+        List<String> next = changeLog.rebuild(ArrayList::new, (fresh, productId) -> fresh.add(productId), fresh -> {
+        });
+        assertThat(next).isEmpty();
+    }
+}
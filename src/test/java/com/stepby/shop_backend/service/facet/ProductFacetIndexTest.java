@@ -0,0 +1,215 @@
+package com.stepby.shop_backend.service.facet;
+
+import com.stepby.shop_backend.dto.product.ProductFacetResponse;
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.repository.ProductFacetRepository.ProductFacetRow;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.SeedProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비트맵 교집합 결과와 패싯 개수가 상품 목록을 직접 거른 결과와 같아야 합니다.
+ */
+class ProductFacetIndexTest {
+
+    private static final int[] PRICE_BANDS = {50_000, 100_000, 150_000, 200_000};
+
+    private final Map<String, ProductFacetRow> catalog = new HashMap<>();
+    private ProductFacetIndex index;
+    // 같은 카탈로그, 패싯 개수를 항상 비트맵 교집합(andCardinality)으로 세는 인덱스
+    private ProductFacetIndex bitmapCounting;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex(PRICE_BANDS);
+        bitmapCounting = new ProductFacetIndex(PRICE_BANDS, 0);
+        CatalogGenerator generator = new CatalogGenerator(7_007L, LocalDateTime.of(2026, 1, 1, 0, 0));
+        for (int i = 0; i < 400; i++) {
+            ProductFacetRow row = row(generator.product(i));
+            catalog.put(row.summary().getId(), row);
+            index.upsert(row);
+            bitmapCounting.upsert(row);
+        }
+        index.optimize();
+    }
+
+    @Test
+    void filtersAndCountsMatchBruteForce() {
+        Random random = new Random(1);
+        List<ProductFacetRow> rows = List.copyOf(catalog.values());
+        for (int i = 0; i < 200; i++) {
+            ProductFacetRow a = rows.get(random.nextInt(rows.size()));
+            ProductFacetRow b = rows.get(random.nextInt(rows.size()));
+            Map<Facet, List<String>> selected = new EnumMap<>(Facet.class);
+            if (random.nextBoolean()) {
+                selected.put(Facet.CATEGORY, List.of(a.summary().getCategory(), b.summary().getCategory()));
+            }
+            if (random.nextBoolean()) {
+                selected.put(Facet.BRAND, List.of(a.summary().getBrand()));
+            }
+            if (random.nextBoolean() && !a.colors().isEmpty()) {
+                selected.put(Facet.COLOR, List.of(a.colors().getFirst()));
+            }
+            if (random.nextBoolean() && !b.sizes().isEmpty()) {
+                selected.put(Facet.SIZE, List.of(String.valueOf(b.sizes().getLast())));
+            }
+            if (random.nextInt(4) == 0) {
+                selected.put(Facet.DISCOUNTED, List.of(String.valueOf(random.nextBoolean())));
+            }
+            if (random.nextInt(4) == 0) {
+                selected.put(Facet.KIDS, List.of("false"));
+            }
+            Integer minPrice = random.nextBoolean() ? 20_000 + random.nextInt(100_000) : null;
+            Integer maxPrice = random.nextBoolean() ? 120_000 + random.nextInt(200_000) : null;
+            FacetQuery query = FacetQuery.of(selected, minPrice, maxPrice);
+
+            ProductFacetResponse response = index.query(query, 10);
+            assertThat(bitmapCounting.query(query, 10)).usingRecursiveComparison().isEqualTo(response);
+
+            List<ProductFacetRow> expected = catalog.values().stream().filter(matcher(query, null)).toList();
+            assertThat(response.getTotal()).isEqualTo(expected.size());
+            for (Facet facet : Facet.values()) {
+                // 각 차원의 개수는 자기 차원의 선택을 뺀 조건으로 셈
+                List<ProductFacetRow> base = catalog.values().stream().filter(matcher(query, facet)).toList();
+                response.getFacets().get(facet.param()).forEach((value, count) ->
+                        assertThat(count).as(facet + "=" + value).isEqualTo(
+                                (int) base.stream().filter(r -> values(r, facet).contains(value)).count()));
+            }
+            assertThat(response.getItems()).hasSize(Math.min(10, expected.size()));
+            int leastShown = response.getItems().isEmpty() ? 0 : response.getItems().getLast().getReviewCount();
+            assertThat(expected.stream().filter(r -> r.summary().getReviewCount() > leastShown).count())
+                    .isLessThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    void countsEveryOptionIncludingPriceBands() {
+        ProductFacetResponse response = index.query(FacetQuery.of(Map.of(), null, null), 5);
+
+        assertThat(response.getTotal()).isEqualTo(400);
+        assertThat(response.getItems()).extracting(ProductResponseDto::getReviewCount)
+                .isSortedAccordingTo((x, y) -> Integer.compare(y, x));
+        assertThat(response.getFacets().get("price"))
+                .containsOnlyKeys("0-49999", "50000-99999", "100000-149999", "150000-199999", "200000-");
+        assertThat(response.getFacets().get("price").values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(400);
+        assertThat(response.getFacets().get("kids").values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(400);
+        // 사이즈는 숫자 순서
+        List<Integer> sizes = response.getFacets().get("size").keySet().stream().map(Integer::parseInt).toList();
+        assertThat(sizes).isSorted();
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovalsAndReusesOrdinals() {
+        ProductFacetRow original = catalog.values().iterator().next();
+        String id = original.summary().getId();
+        ProductFacetRow moved = new ProductFacetRow(ProductResponseDto.builder()
+                .id(id).brand("새브랜드").category("running").gender("공용").reviewCount(1).build(),
+                300_000, List.of("퍼플"), List.of(300), false);
+
+        index.upsert(moved);
+        ProductFacetResponse byBrand = index.query(FacetQuery.of(Map.of(Facet.BRAND, List.of("새브랜드")), null, null), 5);
+        assertThat(byBrand.getTotal()).isEqualTo(1);
+        assertThat(byBrand.getItems()).extracting(ProductResponseDto::getId).containsExactly(id);
+        assertThat(byBrand.getFacets().get("color")).containsEntry("퍼플", 1);
+        assertThat(index.query(FacetQuery.of(Map.of(Facet.BRAND, List.of(original.summary().getBrand())), null, null), 0)
+                .getItems()).isEmpty();
+
+        index.remove(id);
+        assertThat(index.size()).isEqualTo(399);
+        ProductFacetResponse all = index.query(FacetQuery.of(Map.of(), null, null), 0);
+        assertThat(all.getTotal()).isEqualTo(399);
+        assertThat(all.getFacets().get("brand")).doesNotContainKey("새브랜드");
+        assertThat(all.getFacets().get("color")).doesNotContainKey("퍼플");
+
+        index.upsert(original);
+        assertThat(index.query(FacetQuery.of(Map.of(), null, null), 0).getTotal()).isEqualTo(400);
+    }
+
+    @Test
+    void rejectsInvalidQueries() {
+        assertThatThrownBy(() -> FacetQuery.of(Map.of(), 100_000, 50_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FacetQuery.of(Map.of(Facet.SIZE, List.of("large")), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.query(FacetQuery.of(Map.of(Facet.COLOR, List.of("없는색")), null, null), 5).getTotal())
+                .isZero();
+    }
+
+    // skip 차원의 조건은 무시하고 나머지 조건으로 거름
+    private static Predicate<ProductFacetRow> matcher(FacetQuery query, Facet skip) {
+        return row -> {
+            for (Map.Entry<Facet, Set<String>> entry : query.selected().entrySet()) {
+                if (entry.getKey() != skip && values(row, entry.getKey()).stream().noneMatch(entry.getValue()::contains)) {
+                    return false;
+                }
+            }
+            if (skip != Facet.PRICE) {
+                if (query.minPrice() != null && row.effectivePrice() < query.minPrice()) {
+                    return false;
+                }
+                if (query.maxPrice() != null && row.effectivePrice() > query.maxPrice()) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static List<String> values(ProductFacetRow row, Facet facet) {
+        ProductResponseDto p = row.summary();
+        return switch (facet) {
+            case CATEGORY -> List.of(p.getCategory());
+            case GENDER -> List.of(p.getGender());
+            case BRAND -> List.of(p.getBrand());
+            case KIDS -> List.of(String.valueOf(p.isKids()));
+            case DISCOUNTED -> List.of(String.valueOf(p.getDiscountPrice() != null));
+            case PRICE -> List.of(priceBand(row.effectivePrice()));
+            case COLOR -> row.colors();
+            case SIZE -> row.sizes().stream().map(String::valueOf).toList();
+            case IN_STOCK -> List.of(String.valueOf(row.inStock()));
+        };
+    }
+
+    private static String priceBand(int price) {
+        int lower = 0;
+        for (int bound : PRICE_BANDS) {
+            if (price < bound) {
+                return lower + "-" + (bound - 1);
+            }
+            lower = bound;
+        }
+        return lower + "-";
+    }
+
+    private static ProductFacetRow row(SeedProduct p) {
+        ProductResponseDto summary = ProductResponseDto.builder()
+                .id(p.id())
+                .name(p.name())
+                .brand(p.brand())
+                .price(p.price())
+                .discountPrice(p.discountPrice())
+                .category(p.category())
+                .gender(p.gender())
+                .reviewCount(p.reviewCount())
+                .isKids(p.kids())
+                .build();
+        boolean inStock = p.variants().stream().anyMatch(v -> v.stockQuantity() > 0);
+        return new ProductFacetRow(summary, p.effectivePrice(), new ArrayList<>(p.colors()),
+                new ArrayList<>(p.availableSizes()), inStock);
+    }
+}
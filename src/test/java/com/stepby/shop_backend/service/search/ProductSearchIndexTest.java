@@ -0,0 +1,69 @@
+package com.stepby.shop_backend.service.search;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.upsert(product("1", "에어맥스 270", "나이키", "sneakers", "가벼운 러닝화입니다."));
+        index.upsert(product("2", "StepBy 러닝 부츠", "스텝바이브랜드", "boots", "겨울용 Air 쿠션 부츠"));
+        index.upsert(product("3", "Ｓｕｐｅｒｓｔａｒ", "아디다스", "shoes", "클래식 스니커즈"));
+    }
+
+    @Test
+    void matchesSubstringsLikeTheRepositoryQuery() {
+        assertThat(ids(index.search("러닝", 10))).containsExactly("2", "1");
+        assertThat(ids(index.search("AIR", 10))).containsExactly("2");
+        assertThat(ids(index.search("superstar", 10))).containsExactly("3");
+        assertThat(ids(index.search("없는상품", 10))).isEmpty();
+    }
+
+    @Test
+    void matchesHangulWhileTyping() {
+        // 자모 입력 중: "나ㅇ" → 나이키
+        assertThat(ids(index.search("나ㅇ", 10))).containsExactly("1");
+        // 받침으로 잘못 붙은 입력 중: "낭" → 나이키
+        assertThat(ids(index.search("낭", 10))).containsExactly("1");
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        index.upsert(product("4", "부츠 클리너", "워커월드", "care", "가죽 관리용"));
+        assertThat(ids(index.search("부츠", 10))).containsExactly("4", "2");
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        index.upsert(product("1", "줌 플라이", "나이키", "sneakers", "레이싱화"));
+        assertThat(ids(index.search("에어맥스", 10))).isEmpty();
+        assertThat(ids(index.search("줌", 10))).containsExactly("1");
+
+        index.remove("1");
+        assertThat(ids(index.search("나이키", 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<String> ids(List<ProductResponseDto> results) {
+        return results.stream().map(ProductResponseDto::getId).toList();
+    }
+
+    private static ProductResponseDto product(String id, String name, String brand, String category, String description) {
+        return ProductResponseDto.builder()
+                .id(id)
+                .name(name)
+                .brand(brand)
+                .category(category)
+                .description(description)
+                .build();
+    }
+}
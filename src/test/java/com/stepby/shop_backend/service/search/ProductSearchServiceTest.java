@@ -0,0 +1,98 @@
+package com.stepby.shop_backend.service.search;
+
+import com.stepby.shop_backend.dto.product.ProductResponseDto;
+import com.stepby.shop_backend.event.ProductChangedEvent;
+import com.stepby.shop_backend.repository.ProductRepository;
+import com.stepby.shop_backend.service.cache.CatalogGeneration;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.CatalogSeeder;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재구성이 전체 상품을 읽은 뒤, 교체하기 전에 커밋된 변경도 새 인덱스에 반영되어야 합니다.
+ */
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    private static final long SEED = 7_171L;
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String productId;
+    private String originalName;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 0, 0);
+        productId = new CatalogGenerator(SEED, baseTime).product(0).id();
+        if (jdbcTemplate.queryForObject("select count(*) from products where id = ?", Integer.class,
+                Uuids.toBytes(productId)) == 0) {
+            catalogSeeder.seed(1, SEED, baseTime, 1, 10);
+        }
+        originalName = jdbcTemplate.queryForObject("select name from products where id = ?", String.class,
+                Uuids.toBytes(productId));
+    }
+
+    @Test
+    void changeCommittedDuringRebuildIsInPublishedIndex() {
+        String renamed = "재구성중변경 러너";
+        ProductSearchService[] service = new ProductSearchService[1];
+        // 전체 스트림을 다 읽고 닫을 때 다른 스레드에서 이름을 바꿔 커밋하고 변경 이벤트를 보냄
+        ProductRepository renamingDuringBuild = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(productRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (!method.getName().equals("streamAllSummaries")) {
+                        return result;
+                    }
+                    return ((Stream<?>) result).onClose(() -> CompletableFuture.runAsync(() -> {
+                        rename(renamed);
+                        service[0].onProductChanged(ProductChangedEvent.upsert(productId, false));
+                    }).join());
+                });
+        service[0] = new ProductSearchService(renamingDuringBuild, transactionManager, new CatalogGeneration());
+
+        try {
+            service[0].rebuild();
+
+            assertThat(service[0].search(renamed, 10)).extracting(ProductResponseDto::getId).containsExactly(productId);
+            assertThat(service[0].search(originalName, 10)).extracting(ProductResponseDto::getId)
+                    .doesNotContain(productId);
+        } finally {
+            rename(originalName);
+        }
+    }
+
+    private void rename(String name) {
+        jdbcTemplate.update("update products set name = ? where id = ?", name, Uuids.toBytes(productId));
+    }
+}
@@ -0,0 +1,59 @@
+package com.stepby.shop_backend.service.seed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogGeneratorTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void sameSeedProducesIdenticalProductsInAnyOrder() {
+        CatalogGenerator forward = new CatalogGenerator(7, BASE_TIME);
+        CatalogGenerator backward = new CatalogGenerator(7, BASE_TIME);
+
+        SeedProduct[] reversed = new SeedProduct[500];
+        for (int i = reversed.length - 1; i >= 0; i--) {
+            reversed[i] = backward.product(i);
+        }
+        for (int i = 0; i < reversed.length; i++) {
+            assertThat(forward.product(i)).isEqualTo(reversed[i]);
+        }
+        assertThat(new CatalogGenerator(8, BASE_TIME).product(123)).isNotEqualTo(forward.product(123));
+    }
+
+    @Test
+    void generatesConsistentProducts() {
+        CatalogGenerator generator = new CatalogGenerator(42, BASE_TIME);
+        Set<String> ids = new HashSet<>();
+        long bestSellers = 0;
+        long newArrivals = 0;
+
+        for (long i = 0; i < 10_000; i++) {
+            SeedProduct product = generator.product(i);
+            assertThat(ids.add(product.id())).isTrue();
+            assertThat(product.effectivePrice()).isLessThanOrEqualTo(product.price());
+            assertThat(product.name().length()).isLessThanOrEqualTo(100);
+            assertThat(product.createdAt()).isBefore(BASE_TIME.plusSeconds(1));
+            assertThat(product.variants()).allSatisfy(v -> {
+                assertThat(product.colors()).contains(v.color());
+                assertThat(product.availableSizes()).contains(v.size());
+            });
+            assertThat(product.variants().stream().map(v -> v.color() + v.size()).distinct().count())
+                    .isEqualTo(product.variants().size());
+            bestSellers += product.bestSeller() ? 1 : 0;
+            newArrivals += product.newArrival() ? 1 : 0;
+        }
+
+        assertThat(bestSellers).isBetween(10L, 1_000L);
+        assertThat(newArrivals).isBetween(100L, 1_000L);
+        assertThat(LongStream.range(0, 10_000).mapToObj(generator::product).map(SeedProduct::brand).distinct().count())
+                .isGreaterThan(10);
+    }
+}
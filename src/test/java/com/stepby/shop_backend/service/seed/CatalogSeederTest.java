@@ -0,0 +1,51 @@
+package com.stepby.shop_backend.service.seed;
+
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 병렬 워커로 적재한 결과가 생성기 출력과 행 단위로 같아야 합니다.
+ */
+@SpringBootTest
+class CatalogSeederTest {
+
+    private static final long SEED = 20_260_101L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelSeedingWritesExactlyTheGeneratedCatalog() {
+        int count = 250;
+        CatalogSeeder.Result result = catalogSeeder.seed(count, SEED, BASE_TIME, 3, 40);
+
+        assertThat(result.products()).isEqualTo(count);
+        CatalogGenerator generator = new CatalogGenerator(SEED, BASE_TIME);
+        long expectedRows = 0;
+        for (long i = 0; i < count; i++) {
+            SeedProduct expected = generator.product(i);
+            expectedRows += 1 + expected.childRowCount();
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "select name || '|' || effective_price || '|' || review_count from products where id = ?",
+                    String.class, Uuids.toBytes(expected.id())))
+                    .isEqualTo(expected.name() + "|" + expected.effectivePrice() + "|" + expected.reviewCount());
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from product_variants where product_id = ?", Integer.class,
+                    Uuids.toBytes(expected.id())))
+                    .isEqualTo(expected.variants().size());
+        }
+        assertThat(result.rows()).isEqualTo(expectedRows);
+    }
+}
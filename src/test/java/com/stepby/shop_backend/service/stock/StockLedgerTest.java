@@ -0,0 +1,234 @@
+package com.stepby.shop_backend.service.stock;
+
+import com.stepby.shop_backend.event.StockSyncedEvent;
+import com.stepby.shop_backend.repository.StockRepository;
+import com.stepby.shop_backend.service.seed.CatalogGenerator;
+import com.stepby.shop_backend.service.seed.CatalogSeeder;
+import com.stepby.shop_backend.util.Uuids;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재고 원장은 동시 요청에도 초과 판매하지 않고, 확정분만 DB에 반영하며, 만료된 보류는 재고로 돌려야 합니다.
+ * (백그라운드 주기 작업 대신 flush/expireDue/evictIdle을 직접 호출)
+ */
+@SpringBootTest
+class StockLedgerTest {
+
+    private static final long SEED = 4_242L;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private CatalogSeeder catalogSeeder;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Object> syncedEvents = new CopyOnWriteArrayList<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+    private StockLedger ledger;
+    private String productId;
+    private String variantId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 0, 0);
+        productId = new CatalogGenerator(SEED, baseTime).product(0).id();
+        if (jdbcTemplate.queryForObject("select count(*) from products where id = ?", Integer.class,
+                Uuids.toBytes(productId)) == 0) {
+            catalogSeeder.seed(1, SEED, baseTime, 1, 10);
+        }
+        variantId = new CatalogGenerator(SEED, baseTime).product(0).variants().getFirst().id();
+        setDatabaseStock(50);
+        ledger = new StockLedger(stockRepository, transactionTemplate, syncedEvents::add, clock, TTL, 10,
+                Duration.ofHours(1), 500, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ledger.shutdown();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversellAndOnlyCommitsReachTheDatabase() throws Exception {
+        int threads = 16;
+        Queue<StockReservation> held = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < 20; i++) {
+                        try {
+                            held.add(ledger.reserve(variantId, "buyer", 1));
+                        } catch (StockReservationException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(held).hasSize(50);
+        assertThat(rejected.get()).isEqualTo(16 * 20 - 50);
+        assertThat(databaseStock()).as("holds are not written").isEqualTo(50);
+        Timestamp updatedAtBeforeFlush = productUpdatedAt();
+
+        List<StockReservation> reservations = List.copyOf(held);
+        reservations.subList(0, 30).forEach(r -> ledger.commit(r.id(), "buyer"));
+        reservations.subList(30, 50).forEach(r -> ledger.release(r.id(), "buyer"));
+        ledger.flush();
+
+        assertThat(databaseStock()).isEqualTo(20);
+        // 증분 내보내기(since)가 재고 변경을 놓치지 않도록 부모 상품의 updated_at도 갱신
+        assertThat(productUpdatedAt()).isAfter(updatedAtBeforeFlush);
+        assertThat(ledger.stats().getPendingUnits()).isZero();
+        assertThat(ledger.stats().getFlushedRows()).isEqualTo(1);
+        // 해제된 20개는 다시 보류 가능, 그 이상은 불가
+        for (int i = 0; i < 20; i++) {
+            ledger.reserve(variantId, "buyer", 1);
+        }
+        assertThatThrownBy(() -> ledger.reserve(variantId, "buyer", 1))
+                .isInstanceOf(StockReservationException.class)
+                .extracting("reason").isEqualTo(StockReservationException.Reason.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    void expiredHoldsReturnToStockAndCannotBeCommitted() {
+        StockReservation late = ledger.reserve(variantId, "buyer", 10);
+        StockReservation swept = ledger.reserve(variantId, "buyer", 5);
+        assertThat(ledger.stats().getActiveReservations()).isEqualTo(2);
+
+        clock.advance(TTL);
+        assertThatThrownBy(() -> ledger.commit(late.id(), "buyer"))
+                .extracting("reason").isEqualTo(StockReservationException.Reason.RESERVATION_NOT_FOUND);
+        ledger.expireDue(clock.instant());
+
+        assertThat(ledger.stats().getExpired()).isEqualTo(2);
+        assertThat(ledger.stats().getActiveReservations()).isZero();
+        assertThatThrownBy(() -> ledger.release(swept.id(), "buyer")).isInstanceOf(StockReservationException.class);
+        assertThat(ledger.reserve(variantId, "buyer", 10)).isNotNull();
+        assertThat(ledger.reserve(variantId, "buyer", 10)).isNotNull();
+    }
+
+    @Test
+    void reservationsBelongToTheirOwner() {
+        StockReservation reservation = ledger.reserve(variantId, "buyer", 1);
+
+        assertThatThrownBy(() -> ledger.commit(reservation.id(), "someone-else"))
+                .extracting("reason").isEqualTo(StockReservationException.Reason.RESERVATION_NOT_FOUND);
+        assertThat(ledger.commit(reservation.id(), "buyer").quantity()).isEqualTo(1);
+    }
+
+    @Test
+    void conditionalUpdateConflictReloadsStockFromDatabase() {
+        StockReservation reservation = ledger.reserve(variantId, "buyer", 5);
+        ledger.commit(reservation.id(), "buyer");
+        setDatabaseStock(2); // 원장 밖에서 재고가 줄어든 경우
+        Timestamp updatedAtBeforeFlush = productUpdatedAt();
+
+        ledger.flush();
+        assertThat(ledger.stats().getFlushConflicts()).isEqualTo(1);
+        assertThat(databaseStock()).isEqualTo(2);
+        assertThat(productUpdatedAt()).isEqualTo(updatedAtBeforeFlush);
+
+        ledger.evictIdle();
+        assertThat(ledger.stats().getEvicted()).isEqualTo(1);
+        assertThat(syncedEvents).hasSize(1);
+        assertThat(ledger.trackedStock(((StockSyncedEvent) syncedEvents.getFirst()).productId())).isEmpty();
+        ledger.reserve(variantId, "buyer", 2);
+        assertThatThrownBy(() -> ledger.reserve(variantId, "buyer", 1))
+                .extracting("reason").isEqualTo(StockReservationException.Reason.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    void unknownVariantAndInvalidQuantityAreRejected() {
+        assertThatThrownBy(() -> ledger.reserve("no-such-variant", "buyer", 1))
+                .extracting("reason").isEqualTo(StockReservationException.Reason.UNKNOWN_VARIANT);
+        assertThatThrownBy(() -> ledger.reserve(variantId, "buyer", 11)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ledger.reserve(variantId, "buyer", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void setDatabaseStock(int quantity) {
+        jdbcTemplate.update("update product_variants set stock_quantity = ? where id = ?", quantity,
+                Uuids.toBytes(variantId));
+    }
+
+    private int databaseStock() {
+        return jdbcTemplate.queryForObject("select stock_quantity from product_variants where id = ?", Integer.class,
+                Uuids.toBytes(variantId));
+    }
+
+    private Timestamp productUpdatedAt() {
+        return jdbcTemplate.queryForObject("select updated_at from products where id = ?", Timestamp.class,
+                Uuids.toBytes(productId));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
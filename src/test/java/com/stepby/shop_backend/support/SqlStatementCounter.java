@@ -0,0 +1,36 @@
+package com.stepby.shop_backend.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 통계로 요청 하나가 실행한 SQL 문 수와 엔티티/컬렉션 로딩 수를 측정하는 테스트 도구.
+ * (hibernate.generate_statistics=true 필요)
+ */
+@Component
+public class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Result count(ThrowingRunnable action) throws Exception {
+        statistics.clear();
+        action.run();
+        return new Result(statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getCollectionLoadCount());
+    }
+
+    public record Result(long statements, long entitiesLoaded, long collectionsLoaded) {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
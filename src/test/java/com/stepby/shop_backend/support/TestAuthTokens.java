@@ -0,0 +1,51 @@
+package com.stepby.shop_backend.support;
+
+import com.stepby.shop_backend.entity.Gender;
+import com.stepby.shop_backend.entity.Role;
+import com.stepby.shop_backend.entity.User;
+import com.stepby.shop_backend.repository.UserRepository;
+import com.stepby.shop_backend.util.JwtUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 테스트용 사용자를 만들고 Authorization 헤더 값("Bearer ...")을 발급하는 도구.
+ */
+@Component
+public class TestAuthTokens {
+
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    public TestAuthTokens(UserRepository userRepository, JwtUtil jwtUtil) {
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    public String admin() {
+        return bearer("admin@stepby.com", Role.ADMIN);
+    }
+
+    public String user() {
+        return bearer("user@stepby.com", Role.USER);
+    }
+
+    private String bearer(String email, Role role) {
+        User user = userRepository.findByEmail(email).orElseGet(() -> {
+            User created = new User();
+            created.setEmail(email);
+            created.setPassword("{noop}unused");
+            created.setRole(role);
+            created.setRealName("테스트");
+            created.setBirthDate(LocalDate.of(1990, 1, 1));
+            created.setGender(Gender.OTHER);
+            created.setPhoneNumber("010-0000-0000");
+            created.setZonecode("00000");
+            created.setAddress("서울");
+            created.setDetailAddress("1층");
+            return userRepository.save(created);
+        });
+        return "Bearer " + jwtUtil.generateJwtToken(user);
+    }
+}
@@ -0,0 +1,66 @@
+package com.stepby.shop_backend.util;
+
+import com.stepby.shop_backend.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "YourSuperSecretKeyThatIsAtLeast32BytesLongAndBase64EncodedForProductionEnvironment";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+
+    @Test
+    void verifiesOnceAndServesRepeatedTokenFromCache() {
+        String token = issue("user@stepby.com");
+
+        Claims first = jwtUtil.verifyJwtToken(token);
+        Claims second = jwtUtil.verifyJwtToken(token);
+
+        assertThat(first.getSubject()).isEqualTo("user@stepby.com");
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.verifiedTokenCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredTokensWithoutCaching() {
+        String token = issue("user@stepby.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .subject("user@stepby.com")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        assertThat(jwtUtil.verifyJwtToken(tampered)).isNull();
+        assertThat(jwtUtil.verifyJwtToken(expired)).isNull();
+        assertThat(jwtUtil.verifyJwtToken("not-a-jwt")).isNull();
+        assertThat(jwtUtil.verifiedTokenCacheSize()).isZero();
+    }
+
+    @Test
+    void carriesUserIdRoleAndSecurityVersion() {
+        Claims claims = jwtUtil.verifyJwtToken(issue("admin@stepby.com"));
+
+        assertThat(claims.get(JwtUtil.CLAIM_USER_ID, String.class)).isEqualTo("user-1");
+        assertThat(claims.get(JwtUtil.CLAIM_ROLE, String.class)).isEqualTo("USER");
+        assertThat(claims.get(JwtUtil.CLAIM_SECURITY_VERSION, Integer.class)).isZero();
+    }
+
+    private String issue(String email) {
+        User user = new User();
+        user.setId("user-1");
+        user.setEmail(email);
+        user.setPassword("encoded");
+        return jwtUtil.generateJwtToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
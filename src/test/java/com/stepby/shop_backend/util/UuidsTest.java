@@ -0,0 +1,49 @@
+package com.stepby.shop_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class UuidsTest {
+
+    @Test
+    void generatesMonotonicVersion7Ids() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(Uuids.timeOrdered().toString());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        UUID uuid = UUID.fromString(ids.getLast());
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isCloseTo(System.currentTimeMillis(),
+                within(60_000L));
+    }
+
+    @Test
+    void byteOrderMatchesStringOrder() {
+        String earlier = Uuids.timeOrdered(1_700_000_000_000L, 5, -1L).toString();
+        String later = Uuids.timeOrdered(1_700_000_000_000L, 6, 0L).toString();
+
+        assertThat(earlier).isLessThan(later);
+        assertThat(Arrays.compareUnsigned(Uuids.toBytes(earlier), Uuids.toBytes(later))).isNegative();
+        assertThat(Uuids.fromBytes(Uuids.toBytes(earlier))).isEqualTo(earlier);
+        assertThat(Uuids.fromBytes(Uuids.toBytes(earlier.toUpperCase()))).isEqualTo(earlier);
+    }
+
+    @Test
+    void nonCanonicalIdsMatchNothing() {
+        assertThat(Uuids.toBytes("no-such-product")).isEmpty();
+        assertThat(Uuids.toBytes("1-1-1-1-1")).isEmpty();
+        assertThat(Uuids.toBytes(null)).isNull();
+        assertThatThrownBy(() -> Uuids.fromBytes(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+}